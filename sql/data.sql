@@ -99,3 +99,10 @@ insert into PRIZE_ENTITY (id, description, name, premiation_date, author_id, org
 insert into PRIZE_ENTITY (id, description, name, premiation_date, author_id, organization_id) values (4, 'prize4 desc', 'prize4', '2010-01-01', 1, 2);
 insert into PRIZE_ENTITY (id, description, name, premiation_date, author_id, organization_id) values (5, 'prize5 desc', 'prize5', '2010-01-01', 1, 1);
 insert into PRIZE_ENTITY (id, description, name, premiation_date, author_id, organization_id) values (6, 'prize6 desc', 'prize6', '2010-01-01', 1, 2);
+
+alter sequence EDITORIAL_ENTITY_SEQ restart with 1001;
+alter sequence BOOK_ENTITY_SEQ restart with 1001;
+alter sequence AUTHOR_ENTITY_SEQ restart with 1001;
+alter sequence REVIEW_ENTITY_SEQ restart with 1001;
+alter sequence PRIZE_ENTITY_SEQ restart with 1001;
+alter sequence ORGANIZATION_ENTITY_SEQ restart with 1001;
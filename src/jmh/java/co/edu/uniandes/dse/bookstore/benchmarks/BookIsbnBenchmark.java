@@ -0,0 +1,128 @@
+/*
+MIT License
+
+Copyright (c) 2021 Universidad de los Andes - ISIS2603
+
+Permission is hereby granted, free of charge, to any person obtaining a copy
+of this software and associated documentation files (the "Software"), to deal
+in the Software without restriction, including without limitation the rights
+to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+copies of the Software, and to permit persons to whom the Software is
+furnished to do so, subject to the following conditions:
+
+The above copyright notice and this permission notice shall be included in all
+copies or substantial portions of the Software.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+SOFTWARE.
+*/
+package co.edu.uniandes.dse.bookstore.benchmarks;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import co.edu.uniandes.dse.bookstore.BookstoreApplication;
+import co.edu.uniandes.dse.bookstore.entities.BookEntity;
+import co.edu.uniandes.dse.bookstore.entities.EditorialEntity;
+import co.edu.uniandes.dse.bookstore.repositories.EditorialRepository;
+import co.edu.uniandes.dse.bookstore.services.BookService;
+
+/**
+ * Mide la creación y la consulta por ISBN de libros sobre catálogos de distinto
+ * tamaño. Como la validación del ISBN usa el índice único, el tiempo de
+ * {@code createBook} no debe crecer con {@code catalogSize}.
+ *
+ * @author ISIS2603
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class BookIsbnBenchmark {
+
+	@Param({ "1000", "10000", "100000" })
+	private int catalogSize;
+
+	private ConfigurableApplicationContext context;
+
+	private BookService bookService;
+
+	private EditorialEntity editorial;
+
+	private int created;
+
+	private int next;
+
+	@Setup(Level.Trial)
+	public void setup() throws Exception {
+		context = new SpringApplicationBuilder(BookstoreApplication.class).web(WebApplicationType.NONE)
+				.properties("spring.datasource.url=jdbc:h2:mem:bench-" + UUID.randomUUID(),
+						"logging.level.root=WARN", "logging.level.co.edu.uniandes=WARN")
+				.run();
+		bookService = context.getBean(BookService.class);
+
+		EditorialEntity stored = new EditorialEntity();
+		stored.setName("Editorial");
+		editorial = context.getBean(EditorialRepository.class).save(stored);
+
+		List<BookEntity> batch = new ArrayList<>(BookService.MAX_BATCH_SIZE);
+		for (int i = 0; i < catalogSize; i++) {
+			batch.add(newBook("isbn-" + i));
+			if (batch.size() == BookService.MAX_BATCH_SIZE || i == catalogSize - 1) {
+				bookService.createBooks(batch);
+				batch.clear();
+			}
+		}
+	}
+
+	@TearDown(Level.Trial)
+	public void tearDown() {
+		context.close();
+	}
+
+	private BookEntity newBook(String isbn) {
+		BookEntity book = new BookEntity();
+		book.setName("Book " + isbn);
+		book.setIsbn(isbn);
+		book.setDescription("Description " + isbn);
+		book.setEditorial(editorial);
+		return book;
+	}
+
+	@Benchmark
+	public BookEntity createBook() throws Exception {
+		return bookService.createBook(newBook("new-" + created++));
+	}
+
+	@Benchmark
+	public BookEntity getBookByIsbn() throws Exception {
+		next = (next + 1) % catalogSize;
+		return bookService.getBookByIsbn("isbn-" + next);
+	}
+}
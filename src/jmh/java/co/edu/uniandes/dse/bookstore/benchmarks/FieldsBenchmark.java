@@ -0,0 +1,260 @@
+/*
+MIT License
+
+Copyright (c) 2021 Universidad de los Andes - ISIS2603
+
+Permission is hereby granted, free of charge, to any person obtaining a copy
+of this software and associated documentation files (the "Software"), to deal
+in the Software without restriction, including without limitation the rights
+to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+copies of the Software, and to permit persons to whom the Software is
+furnished to do so, subject to the following conditions:
+
+The above copyright notice and this permission notice shall be included in all
+copies or substantial portions of the Software.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+SOFTWARE.
+*/
+package co.edu.uniandes.dse.bookstore.benchmarks;
+
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import javax.persistence.EntityManager;
+
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.data.domain.Sort;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import co.edu.uniandes.dse.bookstore.BookstoreApplication;
+import co.edu.uniandes.dse.bookstore.dto.AuthorDTO;
+import co.edu.uniandes.dse.bookstore.dto.BookDTO;
+import co.edu.uniandes.dse.bookstore.dto.BookFilter;
+import co.edu.uniandes.dse.bookstore.dto.Fields;
+import co.edu.uniandes.dse.bookstore.entities.AuthorEntity;
+import co.edu.uniandes.dse.bookstore.entities.BookEntity;
+import co.edu.uniandes.dse.bookstore.entities.EditorialEntity;
+import co.edu.uniandes.dse.bookstore.entities.ReviewEntity;
+import co.edu.uniandes.dse.bookstore.mappers.AuthorMapper;
+import co.edu.uniandes.dse.bookstore.mappers.BookMapper;
+import co.edu.uniandes.dse.bookstore.services.AuthorService;
+import co.edu.uniandes.dse.bookstore.services.BookService;
+
+/**
+ * Compara el listado completo de libros y autores, tal como lo devuelven hoy
+ * GET /books y GET /authors, con el listado de los campos id, name, isbn e
+ * image pedidos con fields. Cada operación consulta el listado y lo serializa
+ * a JSON con el ObjectMapper de la aplicación.
+ *
+ * El puntaje es el número de respuestas por segundo. Los contadores rows y
+ * bytes dan las filas y los bytes de JSON por segundo; los bytes por respuesta
+ * son bytes dividido por el puntaje.
+ *
+ * @author ISIS2603
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Fork(1)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class FieldsBenchmark {
+
+	private static final long SEED = 2603L;
+
+	private static final int AUTHORS_PER_BOOK = 3;
+
+	private static final int REVIEWS_PER_BOOK = 5;
+
+	/**
+	 * Largo de la columna description.
+	 */
+	private static final int DESCRIPTION_LENGTH = 255;
+
+	@Param({ "100", "1000" })
+	private int catalogSize;
+
+	private ConfigurableApplicationContext context;
+
+	private BookService bookService;
+
+	private AuthorService authorService;
+
+	private ObjectMapper objectMapper;
+
+	private TransactionTemplate readOnly;
+
+	private Fields bookFields;
+
+	private Fields authorFields;
+
+	/**
+	 * Filas y bytes de JSON producidos, reportados por segundo.
+	 */
+	@State(Scope.Thread)
+	@AuxCounters(AuxCounters.Type.OPERATIONS)
+	public static class Counters {
+		public long rows;
+		public long bytes;
+
+		@Setup(Level.Iteration)
+		public void reset() {
+			rows = 0;
+			bytes = 0;
+		}
+
+		byte[] count(int size, byte[] json) {
+			rows += size;
+			bytes += json.length;
+			return json;
+		}
+	}
+
+	@Setup(Level.Trial)
+	public void setup() throws Exception {
+		context = new SpringApplicationBuilder(BookstoreApplication.class).web(WebApplicationType.NONE)
+				.properties("spring.datasource.url=jdbc:h2:mem:bench-" + UUID.randomUUID(),
+						"logging.level.root=WARN", "logging.level.co.edu.uniandes=WARN")
+				.run();
+		bookService = context.getBean(BookService.class);
+		authorService = context.getBean(AuthorService.class);
+		objectMapper = context.getBean(ObjectMapper.class);
+		bookFields = Fields.parse(List.of("name", "isbn", "image"), BookDTO.FIELDS);
+		authorFields = Fields.parse(List.of("name", "image"), AuthorDTO.FIELDS);
+
+		PlatformTransactionManager transactionManager = context.getBean(PlatformTransactionManager.class);
+		readOnly = new TransactionTemplate(transactionManager);
+		readOnly.setReadOnly(true);
+		new TransactionTemplate(transactionManager).executeWithoutResult(status -> seed());
+	}
+
+	@TearDown(Level.Trial)
+	public void tearDown() {
+		context.close();
+	}
+
+	/**
+	 * Crea el catálogo con descripciones del largo máximo de la columna, para que
+	 * se note el costo de leer columnas que el listado no usa.
+	 */
+	private void seed() {
+		EntityManager entityManager = context.getBean(EntityManager.class);
+		Random random = new Random(SEED);
+		List<EditorialEntity> editorials = new ArrayList<>();
+		for (int i = 0; i < Math.max(1, catalogSize / 10); i++) {
+			EditorialEntity editorial = new EditorialEntity();
+			editorial.setName("Editorial " + i);
+			entityManager.persist(editorial);
+			editorials.add(editorial);
+		}
+
+		List<AuthorEntity> authors = new ArrayList<>(catalogSize);
+		for (int i = 0; i < catalogSize; i++) {
+			AuthorEntity author = new AuthorEntity();
+			author.setName("Author " + i);
+			author.setDescription(text(random));
+			author.setImage("https://images.example.com/authors/" + i + ".jpg");
+			author.setBirthDate(new Date(random.nextInt()));
+			entityManager.persist(author);
+			authors.add(author);
+		}
+
+		for (int i = 0; i < catalogSize; i++) {
+			BookEntity book = new BookEntity();
+			book.setName("Book " + i);
+			book.setIsbn("isbn-" + i);
+			book.setImage("https://images.example.com/books/" + i + ".jpg");
+			book.setDescription(text(random));
+			book.setPublishingDate(new Date(random.nextInt()));
+			book.setEditorial(editorials.get(random.nextInt(editorials.size())));
+			for (int j = 0; j < AUTHORS_PER_BOOK; j++) {
+				AuthorEntity author = authors.get(random.nextInt(authors.size()));
+				if (!book.getAuthors().contains(author))
+					book.getAuthors().add(author);
+			}
+			entityManager.persist(book);
+			for (int j = 0; j < REVIEWS_PER_BOOK; j++) {
+				ReviewEntity review = new ReviewEntity();
+				review.setName("Review " + j);
+				review.setSource("Source " + random.nextInt(100));
+				review.setDescription("Description " + random.nextLong());
+				review.setBook(book);
+				entityManager.persist(review);
+			}
+		}
+	}
+
+	private static String text(Random random) {
+		StringBuilder text = new StringBuilder(DESCRIPTION_LENGTH);
+		while (text.length() < DESCRIPTION_LENGTH)
+			text.append(Long.toString(random.nextLong(), 36)).append(' ');
+		return text.substring(0, DESCRIPTION_LENGTH);
+	}
+
+	private byte[] json(Object value) {
+		try {
+			return objectMapper.writeValueAsBytes(value);
+		} catch (JsonProcessingException e) {
+			throw new IllegalStateException(e);
+		}
+	}
+
+	@Benchmark
+	public byte[] bookDetails(Counters counters) {
+		return readOnly.execute(status -> {
+			List<BookEntity> books = bookService.getBooks();
+			return counters.count(books.size(), json(BookMapper.toDetailDTOs(books)));
+		});
+	}
+
+	@Benchmark
+	public byte[] bookFields(Counters counters) throws Exception {
+		List<Map<String, Object>> books = bookService.getBookFields(new BookFilter(), Sort.unsorted(), bookFields);
+		return counters.count(books.size(), json(books));
+	}
+
+	@Benchmark
+	public byte[] authorDetails(Counters counters) {
+		return readOnly.execute(status -> {
+			List<AuthorEntity> authors = authorService.getAuthors();
+			return counters.count(authors.size(), json(AuthorMapper.toDetailDTOs(authors)));
+		});
+	}
+
+	@Benchmark
+	public byte[] authorFields(Counters counters) {
+		List<Map<String, Object>> authors = authorService.getAuthorFields(authorFields);
+		return counters.count(authors.size(), json(authors));
+	}
+}
@@ -0,0 +1,154 @@
+/*
+MIT License
+
+Copyright (c) 2021 Universidad de los Andes - ISIS2603
+
+Permission is hereby granted, free of charge, to any person obtaining a copy
+of this software and associated documentation files (the "Software"), to deal
+in the Software without restriction, including without limitation the rights
+to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+copies of the Software, and to permit persons to whom the Software is
+furnished to do so, subject to the following conditions:
+
+The above copyright notice and this permission notice shall be included in all
+copies or substantial portions of the Software.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+SOFTWARE.
+*/
+package co.edu.uniandes.dse.bookstore.benchmarks;
+
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.modelmapper.ModelMapper;
+import org.modelmapper.TypeToken;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import co.edu.uniandes.dse.bookstore.dto.AuthorDetailDTO;
+import co.edu.uniandes.dse.bookstore.dto.BookDetailDTO;
+import co.edu.uniandes.dse.bookstore.entities.AuthorEntity;
+import co.edu.uniandes.dse.bookstore.entities.BookEntity;
+import co.edu.uniandes.dse.bookstore.entities.EditorialEntity;
+import co.edu.uniandes.dse.bookstore.entities.OrganizationEntity;
+import co.edu.uniandes.dse.bookstore.entities.PrizeEntity;
+import co.edu.uniandes.dse.bookstore.entities.ReviewEntity;
+import co.edu.uniandes.dse.bookstore.mappers.AuthorMapper;
+import co.edu.uniandes.dse.bookstore.mappers.BookMapper;
+
+/**
+ * Compara ModelMapper con los mappers escritos a mano al convertir listas de
+ * libros y autores con sus asociaciones a DTOs de detalle.
+ *
+ * @author ISIS2603
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class MapperBenchmark {
+
+	@Param({ "10", "100", "1000" })
+	private int size;
+
+	private final ModelMapper modelMapper = new ModelMapper();
+
+	private List<BookEntity> books;
+
+	private List<AuthorEntity> authors;
+
+	@Setup
+	public void setup() {
+		books = new ArrayList<>(size);
+		authors = new ArrayList<>(size);
+		EditorialEntity editorial = new EditorialEntity();
+		editorial.setId(1L);
+		editorial.setName("Editorial");
+
+		for (long i = 0; i < size; i++) {
+			BookEntity book = new BookEntity();
+			book.setId(i);
+			book.setName("Book " + i);
+			book.setIsbn("isbn-" + i);
+			book.setImage("image-" + i);
+			book.setDescription("Description " + i);
+			book.setPublishingDate(new Date(i));
+			book.setEditorial(editorial);
+
+			AuthorEntity author = new AuthorEntity();
+			author.setId(i);
+			author.setName("Author " + i);
+			author.setDescription("Description " + i);
+			author.setImage("image-" + i);
+			author.setBirthDate(new Date(i));
+
+			OrganizationEntity organization = new OrganizationEntity();
+			organization.setId(i);
+			organization.setName("Organization " + i);
+			organization.setTipo(OrganizationEntity.TIPO_ORGANIZACION.PUBLICA);
+
+			PrizeEntity prize = new PrizeEntity();
+			prize.setId(i);
+			prize.setName("Prize " + i);
+			prize.setPremiationDate(new Date(i));
+			prize.setOrganization(organization);
+			prize.setAuthor(author);
+			author.getPrizes().add(prize);
+
+			for (long j = 0; j < 3; j++) {
+				ReviewEntity review = new ReviewEntity();
+				review.setId(i * 3 + j);
+				review.setName("Review " + j);
+				review.setSource("Source " + j);
+				review.setBook(book);
+				book.getReviews().add(review);
+			}
+
+			book.getAuthors().add(author);
+			author.getBooks().add(book);
+			books.add(book);
+			authors.add(author);
+		}
+	}
+
+	@Benchmark
+	public List<BookDetailDTO> booksModelMapper() {
+		return modelMapper.map(books, new TypeToken<List<BookDetailDTO>>() {
+		}.getType());
+	}
+
+	@Benchmark
+	public List<BookDetailDTO> booksMapper() {
+		return BookMapper.toDetailDTOs(books);
+	}
+
+	@Benchmark
+	public List<AuthorDetailDTO> authorsModelMapper() {
+		return modelMapper.map(authors, new TypeToken<List<AuthorDetailDTO>>() {
+		}.getType());
+	}
+
+	@Benchmark
+	public List<AuthorDetailDTO> authorsMapper() {
+		return AuthorMapper.toDetailDTOs(authors);
+	}
+}
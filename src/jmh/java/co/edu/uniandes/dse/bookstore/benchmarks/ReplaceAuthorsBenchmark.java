@@ -0,0 +1,142 @@
+/*
+MIT License
+
+Copyright (c) 2021 Universidad de los Andes - ISIS2603
+
+Permission is hereby granted, free of charge, to any person obtaining a copy
+of this software and associated documentation files (the "Software"), to deal
+in the Software without restriction, including without limitation the rights
+to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+copies of the Software, and to permit persons to whom the Software is
+furnished to do so, subject to the following conditions:
+
+The above copyright notice and this permission notice shall be included in all
+copies or substantial portions of the Software.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+SOFTWARE.
+*/
+package co.edu.uniandes.dse.bookstore.benchmarks;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import co.edu.uniandes.dse.bookstore.BookstoreApplication;
+import co.edu.uniandes.dse.bookstore.entities.AuthorEntity;
+import co.edu.uniandes.dse.bookstore.entities.BookEntity;
+import co.edu.uniandes.dse.bookstore.entities.EditorialEntity;
+import co.edu.uniandes.dse.bookstore.repositories.AuthorRepository;
+import co.edu.uniandes.dse.bookstore.repositories.BookRepository;
+import co.edu.uniandes.dse.bookstore.repositories.EditorialRepository;
+import co.edu.uniandes.dse.bookstore.services.BookAuthorService;
+
+/**
+ * Mide el reemplazo de los autores de un libro con listas de 10 a 1.000
+ * autores. Cada llamada alterna entre dos listas que comparten la mitad de los
+ * autores, así que en cada reemplazo se quita la mitad de las asociaciones y se
+ * agrega otra mitad.
+ *
+ * @author ISIS2603
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class ReplaceAuthorsBenchmark {
+
+	@Param({ "10", "100", "1000" })
+	private int authorCount;
+
+	private ConfigurableApplicationContext context;
+
+	private BookAuthorService bookAuthorService;
+
+	private Long bookId;
+
+	private List<AuthorEntity> first;
+
+	private List<AuthorEntity> second;
+
+	private boolean useFirst;
+
+	@Setup(Level.Trial)
+	public void setup() throws Exception {
+		context = new SpringApplicationBuilder(BookstoreApplication.class).web(WebApplicationType.NONE)
+				.properties("spring.datasource.url=jdbc:h2:mem:bench-" + UUID.randomUUID(),
+						"logging.level.root=WARN", "logging.level.co.edu.uniandes=WARN")
+				.run();
+		bookAuthorService = context.getBean(BookAuthorService.class);
+
+		EditorialEntity editorial = new EditorialEntity();
+		editorial.setName("Editorial");
+		editorial = context.getBean(EditorialRepository.class).save(editorial);
+
+		BookEntity book = new BookEntity();
+		book.setName("Anthology");
+		book.setIsbn("anthology");
+		book.setEditorial(editorial);
+		bookId = context.getBean(BookRepository.class).save(book).getId();
+
+		int half = authorCount / 2;
+		List<AuthorEntity> authors = new ArrayList<>();
+		for (int i = 0; i < authorCount + half; i++) {
+			AuthorEntity author = new AuthorEntity();
+			author.setName("Author " + i);
+			authors.add(author);
+		}
+		List<AuthorEntity> stored = context.getBean(AuthorRepository.class).saveAll(authors);
+		first = references(stored.subList(0, authorCount));
+		second = references(stored.subList(half, authorCount + half));
+		bookAuthorService.replaceAuthors(bookId, first);
+	}
+
+	@TearDown(Level.Trial)
+	public void tearDown() {
+		context.close();
+	}
+
+	/**
+	 * Copia solo el id de cada autor, como llegan en el cuerpo de la petición.
+	 */
+	private static List<AuthorEntity> references(List<AuthorEntity> authors) {
+		List<AuthorEntity> references = new ArrayList<>(authors.size());
+		for (AuthorEntity author : authors) {
+			AuthorEntity reference = new AuthorEntity();
+			reference.setId(author.getId());
+			references.add(reference);
+		}
+		return references;
+	}
+
+	@Benchmark
+	public List<AuthorEntity> replaceAuthors() throws Exception {
+		useFirst = !useFirst;
+		return bookAuthorService.replaceAuthors(bookId, useFirst ? second : first);
+	}
+}
@@ -0,0 +1,229 @@
+/*
+MIT License
+
+Copyright (c) 2021 Universidad de los Andes - ISIS2603
+
+Permission is hereby granted, free of charge, to any person obtaining a copy
+of this software and associated documentation files (the "Software"), to deal
+in the Software without restriction, including without limitation the rights
+to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+copies of the Software, and to permit persons to whom the Software is
+furnished to do so, subject to the following conditions:
+
+The above copyright notice and this permission notice shall be included in all
+copies or substantial portions of the Software.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+SOFTWARE.
+*/
+package co.edu.uniandes.dse.bookstore.benchmarks;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.GZIPOutputStream;
+
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+
+import co.edu.uniandes.dse.bookstore.dto.AuthorDetailDTO;
+import co.edu.uniandes.dse.bookstore.dto.BookDetailDTO;
+import co.edu.uniandes.dse.bookstore.entities.AuthorEntity;
+import co.edu.uniandes.dse.bookstore.entities.BookEntity;
+import co.edu.uniandes.dse.bookstore.entities.EditorialEntity;
+import co.edu.uniandes.dse.bookstore.entities.OrganizationEntity;
+import co.edu.uniandes.dse.bookstore.entities.PrizeEntity;
+import co.edu.uniandes.dse.bookstore.entities.ReviewEntity;
+import co.edu.uniandes.dse.bookstore.mappers.AuthorMapper;
+import co.edu.uniandes.dse.bookstore.mappers.BookMapper;
+
+/**
+ * Mide la serialización de listas de {@link BookDetailDTO} y
+ * {@link AuthorDetailDTO} en cada formato que ofrece la API: JSON, JSON
+ * comprimido con gzip, Smile y CBOR. Los DTOs se arman en memoria antes de
+ * medir, así que solo se mide Jackson (y gzip).
+ *
+ * El puntaje es el número de listas serializadas por segundo. El contador
+ * bytes da los bytes producidos por segundo; el tamaño de cada respuesta es
+ * bytes dividido por el puntaje.
+ *
+ * @author ISIS2603
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Fork(1)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class SerializationBenchmark {
+
+	private static final long SEED = 2603L;
+
+	private static final int AUTHORS_PER_BOOK = 3;
+
+	private static final int REVIEWS_PER_BOOK = 5;
+
+	private static final int PRIZES_PER_AUTHOR = 2;
+
+	@Param({ "100", "1000", "10000" })
+	private int catalogSize;
+
+	@Param({ "json", "json-gzip", "smile", "cbor" })
+	private String format;
+
+	private ObjectMapper mapper;
+
+	private boolean gzip;
+
+	private List<BookDetailDTO> books;
+
+	private List<AuthorDetailDTO> authors;
+
+	/**
+	 * Bytes producidos, reportados por segundo.
+	 */
+	@State(Scope.Thread)
+	@AuxCounters(AuxCounters.Type.OPERATIONS)
+	public static class Counters {
+		public long bytes;
+
+		@Setup(Level.Iteration)
+		public void reset() {
+			bytes = 0;
+		}
+	}
+
+	@Setup(Level.Trial)
+	public void setup() {
+		Jackson2ObjectMapperBuilder builder;
+		switch (format) {
+		case "smile":
+			builder = Jackson2ObjectMapperBuilder.smile();
+			break;
+		case "cbor":
+			builder = Jackson2ObjectMapperBuilder.cbor();
+			break;
+		default:
+			builder = Jackson2ObjectMapperBuilder.json();
+		}
+		mapper = builder.featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS).build();
+		gzip = format.equals("json-gzip");
+
+		Random random = new Random(SEED);
+		List<EditorialEntity> editorials = new ArrayList<>();
+		for (int i = 0; i < Math.max(1, catalogSize / 10); i++) {
+			EditorialEntity editorial = new EditorialEntity();
+			editorial.setId((long) i);
+			editorial.setVersion(0L);
+			editorial.setName("Editorial " + i);
+			editorials.add(editorial);
+		}
+
+		List<AuthorEntity> authorEntities = new ArrayList<>(catalogSize);
+		for (int i = 0; i < catalogSize; i++) {
+			AuthorEntity author = new AuthorEntity();
+			author.setId((long) i);
+			author.setVersion(0L);
+			author.setName("Author " + i);
+			author.setDescription("Description " + random.nextLong());
+			author.setBirthDate(new Date(random.nextInt()));
+			for (int j = 0; j < PRIZES_PER_AUTHOR; j++) {
+				OrganizationEntity organization = new OrganizationEntity();
+				organization.setId((long) (i * PRIZES_PER_AUTHOR + j));
+				organization.setVersion(0L);
+				organization.setName("Organization " + random.nextInt(100));
+				organization.setTipo(OrganizationEntity.TIPO_ORGANIZACION.FUNDACION);
+				PrizeEntity prize = new PrizeEntity();
+				prize.setId(organization.getId());
+				prize.setVersion(0L);
+				prize.setName("Prize " + j);
+				prize.setDescription("Description " + random.nextLong());
+				prize.setPremiationDate(new Date(random.nextInt()));
+				prize.setOrganization(organization);
+				prize.setAuthor(author);
+				author.getPrizes().add(prize);
+			}
+			authorEntities.add(author);
+		}
+
+		List<BookEntity> bookEntities = new ArrayList<>(catalogSize);
+		for (int i = 0; i < catalogSize; i++) {
+			BookEntity book = new BookEntity();
+			book.setId((long) i);
+			book.setVersion(0L);
+			book.setName("Book " + i);
+			book.setIsbn("isbn-" + i);
+			book.setDescription("Description " + random.nextLong());
+			book.setPublishingDate(new Date(random.nextInt()));
+			book.setEditorial(editorials.get(random.nextInt(editorials.size())));
+			for (int j = 0; j < AUTHORS_PER_BOOK; j++) {
+				AuthorEntity author = authorEntities.get(random.nextInt(authorEntities.size()));
+				if (!book.getAuthors().contains(author)) {
+					book.getAuthors().add(author);
+					author.getBooks().add(book);
+				}
+			}
+			for (int j = 0; j < REVIEWS_PER_BOOK; j++) {
+				ReviewEntity review = new ReviewEntity();
+				review.setId((long) (i * REVIEWS_PER_BOOK + j));
+				review.setVersion(0L);
+				review.setName("Review " + j);
+				review.setSource("Source " + random.nextInt(100));
+				review.setDescription("Description " + random.nextLong());
+				review.setBook(book);
+				book.getReviews().add(review);
+			}
+			bookEntities.add(book);
+		}
+		books = BookMapper.toDetailDTOs(bookEntities);
+		authors = AuthorMapper.toDetailDTOs(authorEntities);
+	}
+
+	private byte[] write(Object value, Counters counters) throws IOException {
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+		if (gzip) {
+			try (GZIPOutputStream compressed = new GZIPOutputStream(out)) {
+				mapper.writeValue(compressed, value);
+			}
+		} else {
+			mapper.writeValue(out, value);
+		}
+		byte[] bytes = out.toByteArray();
+		counters.bytes += bytes.length;
+		return bytes;
+	}
+
+	@Benchmark
+	public byte[] books(Counters counters) throws IOException {
+		return write(books, counters);
+	}
+
+	@Benchmark
+	public byte[] authors(Counters counters) throws IOException {
+		return write(authors, counters);
+	}
+}
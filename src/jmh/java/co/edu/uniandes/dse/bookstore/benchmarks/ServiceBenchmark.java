@@ -0,0 +1,253 @@
+/*
+MIT License
+
+Copyright (c) 2021 Universidad de los Andes - ISIS2603
+
+Permission is hereby granted, free of charge, to any person obtaining a copy
+of this software and associated documentation files (the "Software"), to deal
+in the Software without restriction, including without limitation the rights
+to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+copies of the Software, and to permit persons to whom the Software is
+furnished to do so, subject to the following conditions:
+
+The above copyright notice and this permission notice shall be included in all
+copies or substantial portions of the Software.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+SOFTWARE.
+*/
+package co.edu.uniandes.dse.bookstore.benchmarks;
+
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.Random;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import javax.persistence.EntityManager;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import co.edu.uniandes.dse.bookstore.BookstoreApplication;
+import co.edu.uniandes.dse.bookstore.dto.AuthorDetailDTO;
+import co.edu.uniandes.dse.bookstore.dto.BookDetailDTO;
+import co.edu.uniandes.dse.bookstore.entities.AuthorEntity;
+import co.edu.uniandes.dse.bookstore.entities.BookEntity;
+import co.edu.uniandes.dse.bookstore.entities.EditorialEntity;
+import co.edu.uniandes.dse.bookstore.entities.ReviewEntity;
+import co.edu.uniandes.dse.bookstore.mappers.AuthorMapper;
+import co.edu.uniandes.dse.bookstore.mappers.BookMapper;
+import co.edu.uniandes.dse.bookstore.services.AuthorService;
+import co.edu.uniandes.dse.bookstore.services.BookAuthorService;
+import co.edu.uniandes.dse.bookstore.services.BookService;
+import co.edu.uniandes.dse.bookstore.services.ReviewService;
+
+/**
+ * Mide los servicios más usados sobre una base de datos H2 en memoria poblada
+ * con un catálogo del tamaño indicado en {@code catalogSize}. Los datos se
+ * generan con una semilla fija para que los resultados sean comparables entre
+ * ejecuciones.
+ *
+ * @author ISIS2603
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class ServiceBenchmark {
+
+	private static final long SEED = 2603L;
+
+	private static final int AUTHORS_PER_BOOK = 3;
+
+	private static final int REVIEWS_PER_BOOK = 5;
+
+	private static final int REPLACED_AUTHORS = 10;
+
+	@Param({ "100", "1000" })
+	private int catalogSize;
+
+	private ConfigurableApplicationContext context;
+
+	private BookService bookService;
+
+	private AuthorService authorService;
+
+	private BookAuthorService bookAuthorService;
+
+	private ReviewService reviewService;
+
+	private TransactionTemplate readOnly;
+
+	private List<Long> bookIds;
+
+	private List<Long> authorIds;
+
+	private List<AuthorEntity> replacement;
+
+	private int next;
+
+	@Setup(Level.Trial)
+	public void setup() {
+		context = new SpringApplicationBuilder(BookstoreApplication.class).web(WebApplicationType.NONE)
+				.properties("spring.datasource.url=jdbc:h2:mem:bench-" + UUID.randomUUID(),
+						"logging.level.root=WARN", "logging.level.co.edu.uniandes=WARN")
+				.run();
+		bookService = context.getBean(BookService.class);
+		authorService = context.getBean(AuthorService.class);
+		bookAuthorService = context.getBean(BookAuthorService.class);
+		reviewService = context.getBean(ReviewService.class);
+
+		PlatformTransactionManager transactionManager = context.getBean(PlatformTransactionManager.class);
+		readOnly = new TransactionTemplate(transactionManager);
+		readOnly.setReadOnly(true);
+		new TransactionTemplate(transactionManager).executeWithoutResult(status -> seed());
+
+		replacement = new ArrayList<>(REPLACED_AUTHORS);
+		for (int i = 0; i < REPLACED_AUTHORS; i++) {
+			AuthorEntity author = new AuthorEntity();
+			author.setId(authorIds.get(i));
+			replacement.add(author);
+		}
+	}
+
+	@TearDown(Level.Trial)
+	public void tearDown() {
+		context.close();
+	}
+
+	private void seed() {
+		EntityManager entityManager = context.getBean(EntityManager.class);
+		Random random = new Random(SEED);
+		List<EditorialEntity> editorials = new ArrayList<>();
+		for (int i = 0; i < Math.max(1, catalogSize / 10); i++) {
+			EditorialEntity editorial = new EditorialEntity();
+			editorial.setName("Editorial " + i);
+			entityManager.persist(editorial);
+			editorials.add(editorial);
+		}
+
+		List<AuthorEntity> authors = new ArrayList<>(catalogSize);
+		authorIds = new ArrayList<>(catalogSize);
+		for (int i = 0; i < catalogSize; i++) {
+			AuthorEntity author = new AuthorEntity();
+			author.setName("Author " + i);
+			author.setDescription("Description " + random.nextLong());
+			author.setBirthDate(new Date(random.nextInt()));
+			entityManager.persist(author);
+			authors.add(author);
+			authorIds.add(author.getId());
+		}
+
+		bookIds = new ArrayList<>(catalogSize);
+		for (int i = 0; i < catalogSize; i++) {
+			BookEntity book = new BookEntity();
+			book.setName("Book " + i);
+			book.setIsbn("isbn-" + i);
+			book.setDescription("Description " + random.nextLong());
+			book.setPublishingDate(new Date(random.nextInt()));
+			book.setEditorial(editorials.get(random.nextInt(editorials.size())));
+			for (int j = 0; j < AUTHORS_PER_BOOK; j++) {
+				AuthorEntity author = authors.get(random.nextInt(authors.size()));
+				if (!book.getAuthors().contains(author))
+					book.getAuthors().add(author);
+			}
+			entityManager.persist(book);
+			for (int j = 0; j < REVIEWS_PER_BOOK; j++) {
+				ReviewEntity review = new ReviewEntity();
+				review.setName("Review " + j);
+				review.setSource("Source " + random.nextInt(100));
+				review.setDescription("Description " + random.nextLong());
+				review.setBook(book);
+				entityManager.persist(review);
+			}
+			bookIds.add(book.getId());
+		}
+	}
+
+	/**
+	 * Recorre los identificadores en orden para que cada ejecución consulte la
+	 * misma secuencia de libros.
+	 */
+	private Long nextBookId() {
+		next = (next + 1) % bookIds.size();
+		return bookIds.get(next);
+	}
+
+	private Long nextAuthorId() {
+		next = (next + 1) % authorIds.size();
+		return authorIds.get(next);
+	}
+
+	@Benchmark
+	public BookEntity getBook() throws Exception {
+		return bookService.getBook(nextBookId());
+	}
+
+	@Benchmark
+	public List<BookEntity> getBooks() {
+		return bookService.getBooks();
+	}
+
+	@Benchmark
+	public List<ReviewEntity> getReviews() throws Exception {
+		return reviewService.getReviews(nextBookId());
+	}
+
+	@Benchmark
+	public List<AuthorEntity> replaceAuthors() throws Exception {
+		return bookAuthorService.replaceAuthors(nextBookId(), replacement);
+	}
+
+	@Benchmark
+	public BookDetailDTO getBookDetailDTO() {
+		return readOnly.execute(status -> {
+			try {
+				return BookMapper.toDetailDTO(bookService.getBook(nextBookId()));
+			} catch (Exception e) {
+				throw new IllegalStateException(e);
+			}
+		});
+	}
+
+	@Benchmark
+	public List<BookDetailDTO> getBookDetailDTOs() {
+		return readOnly.execute(status -> BookMapper.toDetailDTOs(bookService.getBooks()));
+	}
+
+	@Benchmark
+	public AuthorDetailDTO getAuthorDetailDTO() {
+		return readOnly.execute(status -> {
+			try {
+				return AuthorMapper.toDetailDTO(authorService.getAuthor(nextAuthorId()));
+			} catch (Exception e) {
+				throw new IllegalStateException(e);
+			}
+		});
+	}
+}
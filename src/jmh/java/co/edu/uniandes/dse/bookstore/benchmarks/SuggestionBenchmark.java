@@ -0,0 +1,88 @@
+/*
+MIT License
+
+Copyright (c) 2021 Universidad de los Andes - ISIS2603
+
+Permission is hereby granted, free of charge, to any person obtaining a copy
+of this software and associated documentation files (the "Software"), to deal
+in the Software without restriction, including without limitation the rights
+to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+copies of the Software, and to permit persons to whom the Software is
+furnished to do so, subject to the following conditions:
+
+The above copyright notice and this permission notice shall be included in all
+copies or substantial portions of the Software.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+SOFTWARE.
+*/
+package co.edu.uniandes.dse.bookstore.benchmarks;
+
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import co.edu.uniandes.dse.bookstore.search.NameSuggestionIndex;
+import co.edu.uniandes.dse.bookstore.search.NameSuggestionIndex.Suggestion;
+import co.edu.uniandes.dse.bookstore.search.NameSuggestionIndex.Type;
+
+/**
+ * Mide el autocompletado de nombres de autores sobre un índice con
+ * {@code size} nombres generados con una semilla fija.
+ *
+ * @author ISIS2603
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class SuggestionBenchmark {
+
+	private static final long SEED = 2603L;
+
+	private static final String[] FIRST_NAMES = { "Gabriel", "Gabriela", "Isabel", "Jorge", "Julio", "Laura",
+			"Mario", "Octavio", "Rosario", "Stephen" };
+
+	private static final String[] PREFIXES = { "g", "gab", "isa", "jor", "ju", "lau", "mar", "oct", "ros", "st" };
+
+	@Param({ "1000", "100000" })
+	private int size;
+
+	private final NameSuggestionIndex index = new NameSuggestionIndex();
+
+	private int next;
+
+	@Setup
+	public void setup() {
+		Random random = new Random(SEED);
+		for (long id = 0; id < size; id++) {
+			String name = FIRST_NAMES[random.nextInt(FIRST_NAMES.length)] + " " + Long.toString(random.nextLong(), 36);
+			index.index(Type.AUTHOR, id, name);
+		}
+	}
+
+	@Benchmark
+	public List<Suggestion> suggest() {
+		next = (next + 1) % PREFIXES.length;
+		return index.suggest(Type.AUTHOR, PREFIXES[next], 10);
+	}
+}
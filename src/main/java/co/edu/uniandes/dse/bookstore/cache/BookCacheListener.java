@@ -0,0 +1,85 @@
+/*
+MIT License
+
+Copyright (c) 2021 Universidad de los Andes - ISIS2603
+
+Permission is hereby granted, free of charge, to any person obtaining a copy
+of this software and associated documentation files (the "Software"), to deal
+in the Software without restriction, including without limitation the rights
+to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+copies of the Software, and to permit persons to whom the Software is
+furnished to do so, subject to the following conditions:
+
+The above copyright notice and this permission notice shall be included in all
+copies or substantial portions of the Software.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+SOFTWARE.
+*/
+package co.edu.uniandes.dse.bookstore.cache;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import co.edu.uniandes.dse.bookstore.config.CacheConfig;
+import co.edu.uniandes.dse.bookstore.events.AuthorChangedEvent;
+import co.edu.uniandes.dse.bookstore.events.BookChangedEvent;
+import co.edu.uniandes.dse.bookstore.events.EditorialChangedEvent;
+import co.edu.uniandes.dse.bookstore.services.BookDocumentService;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Saca del caché los documentos JSON de los libros que cambiaron y descarta los
+ * conteos por faceta con cualquier cambio de libros, autores o editoriales,
+ * porque también incluyen sus nombres. La eliminación se hace después del
+ * commit, pero eso no impide que una consulta que leyó los datos antes del
+ * commit los guarde después. Por eso los cachés no dependen de este listener:
+ * cada entrada lleva la versión de los datos con la que se generó, la del libro
+ * o la de las listas de libros, y solo se usa para esa versión. El caché
+ * {@link CacheConfig#BOOKS} ni siquiera se vacía; sus versiones anteriores
+ * expiran.
+ *
+ * @author ISIS2603
+ */
+@Slf4j
+@Component
+public class BookCacheListener {
+
+	@Autowired
+	private CacheManager cacheManager;
+
+	@Autowired
+	private BookDocumentService bookDocumentService;
+
+	@TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+	public void onBookChanged(BookChangedEvent event) {
+		log.debug("Se sacan del caché los documentos de los libros {}", event.getBookIds());
+		bookDocumentService.evict(event.getBookIds());
+		clearFacets();
+	}
+
+	@TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+	public void onAuthorChanged(AuthorChangedEvent event) {
+		clearFacets();
+	}
+
+	@TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+	public void onEditorialChanged(EditorialChangedEvent event) {
+		clearFacets();
+	}
+
+	private void clearFacets() {
+		Cache cache = cacheManager.getCache(CacheConfig.BOOK_FACETS);
+		if (cache != null)
+			cache.clear();
+	}
+}
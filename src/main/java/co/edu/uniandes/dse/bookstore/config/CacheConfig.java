@@ -0,0 +1,52 @@
+/*
+MIT License
+
+Copyright (c) 2021 Universidad de los Andes - ISIS2603
+
+Permission is hereby granted, free of charge, to any person obtaining a copy
+of this software and associated documentation files (the "Software"), to deal
+in the Software without restriction, including without limitation the rights
+to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+copies of the Software, and to permit persons to whom the Software is
+furnished to do so, subject to the following conditions:
+
+The above copyright notice and this permission notice shall be included in all
+copies or substantial portions of the Software.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+SOFTWARE.
+*/
+package co.edu.uniandes.dse.bookstore.config;
+
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Habilita los cachés de la aplicación. El proveedor, los tamaños y los tiempos
+ * de expiración se configuran en application.properties.
+ *
+ * @author ISIS2603
+ */
+@Configuration
+@EnableCaching
+public class CacheConfig {
+
+	/**
+	 * Caché de {@link co.edu.uniandes.dse.bookstore.dto.BookDetailDTO} por id y
+	 * versión agregada de libro. Las entradas de versiones anteriores ya no se
+	 * consultan y salen del caché cuando expiran.
+	 */
+	public static final String BOOKS = "books";
+
+	/**
+	 * Caché de {@link co.edu.uniandes.dse.bookstore.dto.BookFacetsDTO} por versión
+	 * de las listas de libros. Se vacía con cualquier cambio de libros, autores o
+	 * editoriales.
+	 */
+	public static final String BOOK_FACETS = "bookFacets";
+}
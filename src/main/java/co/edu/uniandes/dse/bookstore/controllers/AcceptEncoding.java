@@ -0,0 +1,95 @@
+/*
+MIT License
+
+Copyright (c) 2021 Universidad de los Andes - ISIS2603
+
+Permission is hereby granted, free of charge, to any person obtaining a copy
+of this software and associated documentation files (the "Software"), to deal
+in the Software without restriction, including without limitation the rights
+to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+copies of the Software, and to permit persons to whom the Software is
+furnished to do so, subject to the following conditions:
+
+The above copyright notice and this permission notice shall be included in all
+copies or substantial portions of the Software.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+SOFTWARE.
+*/
+package co.edu.uniandes.dse.bookstore.controllers;
+
+/**
+ * Lee el encabezado Accept-Encoding de una petición. Cada codificación puede
+ * llevar una calidad, por ejemplo "gzip;q=0.5, br"; una calidad de cero la
+ * rechaza. Una codificación nombrada explícitamente tiene prioridad sobre el
+ * comodín *.
+ *
+ * @author ISIS2603
+ */
+final class AcceptEncoding {
+
+	private static final String GZIP = "gzip";
+
+	/**
+	 * Alias de gzip que algunos clientes todavía envían (RFC 7230, sección
+	 * 4.2.3).
+	 */
+	private static final String X_GZIP = "x-gzip";
+
+	private static final String ANY = "*";
+
+	private AcceptEncoding() {
+		throw new IllegalStateException("Utility class");
+	}
+
+	/**
+	 * Indica si el cliente acepta una respuesta comprimida con gzip.
+	 *
+	 * @param acceptEncoding El valor del encabezado Accept-Encoding, puede ser
+	 *                       null
+	 * @return true si gzip, o el comodín cuando gzip no aparece, tiene una
+	 *         calidad mayor que cero
+	 */
+	static boolean acceptsGzip(String acceptEncoding) {
+		if (acceptEncoding == null)
+			return false;
+		Double gzip = null;
+		Double any = null;
+		for (String element : acceptEncoding.split(",")) {
+			String[] parts = element.split(";");
+			String coding = parts[0].trim();
+			if (coding.equalsIgnoreCase(GZIP) || coding.equalsIgnoreCase(X_GZIP))
+				gzip = Math.max(gzip == null ? 0 : gzip, quality(parts));
+			else if (coding.equals(ANY))
+				any = quality(parts);
+		}
+		if (gzip != null)
+			return gzip > 0;
+		return any != null && any > 0;
+	}
+
+	/**
+	 * Lee la calidad de una codificación. Si no tiene el parámetro q es 1; si el
+	 * valor no es un número entre 0 y 1 se toma como 0, de modo que ante un
+	 * encabezado inválido la respuesta se envía sin comprimir.
+	 */
+	private static double quality(String[] parts) {
+		for (int i = 1; i < parts.length; i++) {
+			String[] param = parts[i].split("=", 2);
+			if (param.length < 2 || !param[0].trim().equalsIgnoreCase("q"))
+				continue;
+			try {
+				double q = Double.parseDouble(param[1].trim());
+				return q >= 0 && q <= 1 ? q : 0;
+			} catch (NumberFormatException e) {
+				return 0;
+			}
+		}
+		return 1;
+	}
+}
@@ -25,9 +25,8 @@ package co.edu.uniandes.dse.bookstore.controllers;
 
 import java.util.List;
 
-import org.modelmapper.ModelMapper;
-import org.modelmapper.TypeToken;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -35,6 +34,7 @@ import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.ResponseStatus;
 import org.springframework.web.bind.annotation.RestController;
@@ -44,6 +44,7 @@ import co.edu.uniandes.dse.bookstore.dto.BookDetailDTO;
 import co.edu.uniandes.dse.bookstore.entities.BookEntity;
 import co.edu.uniandes.dse.bookstore.exceptions.EntityNotFoundException;
 import co.edu.uniandes.dse.bookstore.exceptions.IllegalOperationException;
+import co.edu.uniandes.dse.bookstore.mappers.BookMapper;
 import co.edu.uniandes.dse.bookstore.services.AuthorBookService;
 
 /**
@@ -58,9 +59,6 @@ public class AuthorBookController {
 	@Autowired
 	private AuthorBookService authorBookService;
 
-	@Autowired
-	private ModelMapper modelMapper;
-
 	/**
 	 * Busca y devuelve el libro con el ID recibido en la URL, relativo a un autor.
 	 *
@@ -73,7 +71,7 @@ public class AuthorBookController {
 	public BookDetailDTO getBook(@PathVariable("authorId") Long authorId, @PathVariable("bookId") Long bookId)
 			throws EntityNotFoundException, IllegalOperationException {
 		BookEntity bookEntity = authorBookService.getBook(authorId, bookId);
-		return modelMapper.map(bookEntity, BookDetailDTO.class);
+		return BookMapper.toDetailDTO(bookEntity);
 	}
 
 	/**
@@ -87,8 +85,7 @@ public class AuthorBookController {
 	@ResponseStatus(code = HttpStatus.OK)
 	public List<BookDetailDTO> getBooks(@PathVariable("authorId") Long authorId) throws EntityNotFoundException {
 		List<BookEntity> bookEntity = authorBookService.getBooks(authorId);
-		return modelMapper.map(bookEntity, new TypeToken<List<BookDetailDTO>>() {
-		}.getType());
+		return BookMapper.toDetailDTOs(bookEntity);
 	}
 
 	/**
@@ -103,7 +100,7 @@ public class AuthorBookController {
 	public BookDetailDTO addBook(@PathVariable("authorId") Long authorId, @PathVariable("bookId") Long bookId)
 			throws EntityNotFoundException {
 		BookEntity bookEntity = authorBookService.addBook(authorId, bookId);
-		return modelMapper.map(bookEntity, BookDetailDTO.class);
+		return BookMapper.toDetailDTO(bookEntity);
 	}
 
 	/**
@@ -113,17 +110,18 @@ public class AuthorBookController {
 	 * @param authorId El ID del autor al cual se le va a asociar el libro
 	 * @param books    JSONArray {@link BookDTO} - La lista de libros que se desea
 	 *                 guardar.
+	 * @param ifMatch  El ETag de la versión del autor que el cliente leyó. Si no
+	 *                 coincide con la actual se responde 412.
 	 * @return JSONArray {@link BookDetailDTO} - La lista actualizada.
 	 */
 	@PutMapping(value = "/{authorId}/books")
 	@ResponseStatus(code = HttpStatus.OK)
-	public List<BookDetailDTO> replaceBooks(@PathVariable("authorId") Long authorId, @RequestBody List<BookDTO> books)
-			throws EntityNotFoundException {
-		List<BookEntity> entities = modelMapper.map(books, new TypeToken<List<BookEntity>>() {
-		}.getType());
-		List<BookEntity> booksList = authorBookService.addBooks(authorId, entities);
-		return modelMapper.map(booksList, new TypeToken<List<BookDetailDTO>>() {
-		}.getType());
+	public List<BookDetailDTO> replaceBooks(@PathVariable("authorId") Long authorId, @RequestBody List<BookDTO> books,
+			@RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch)
+			throws EntityNotFoundException, IllegalOperationException {
+		List<BookEntity> entities = BookMapper.toEntities(books);
+		List<BookEntity> booksList = authorBookService.addBooks(authorId, entities, ETags.ifMatch(ifMatch));
+		return BookMapper.toDetailDTOs(booksList);
 
 	}
 
@@ -24,10 +24,14 @@ SOFTWARE.
 package co.edu.uniandes.dse.bookstore.controllers;
 
 import java.util.List;
+import java.util.Map;
+
+import javax.servlet.http.HttpServletResponse;
 
-import org.modelmapper.ModelMapper;
-import org.modelmapper.TypeToken;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -35,16 +39,28 @@ import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.ResponseStatus;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
 
 import co.edu.uniandes.dse.bookstore.dto.AuthorDTO;
 import co.edu.uniandes.dse.bookstore.dto.AuthorDetailDTO;
+import co.edu.uniandes.dse.bookstore.dto.BatchDTO;
+import co.edu.uniandes.dse.bookstore.dto.Fields;
+import co.edu.uniandes.dse.bookstore.dto.Include;
+import co.edu.uniandes.dse.bookstore.dto.PageDTO;
+import co.edu.uniandes.dse.bookstore.dto.SuggestionDTO;
 import co.edu.uniandes.dse.bookstore.entities.AuthorEntity;
 import co.edu.uniandes.dse.bookstore.exceptions.EntityNotFoundException;
 import co.edu.uniandes.dse.bookstore.exceptions.IllegalOperationException;
+import co.edu.uniandes.dse.bookstore.mappers.AuthorMapper;
+import co.edu.uniandes.dse.bookstore.mappers.SuggestionMapper;
 import co.edu.uniandes.dse.bookstore.services.AuthorService;
+import co.edu.uniandes.dse.bookstore.services.ResourceVersionService;
+import co.edu.uniandes.dse.bookstore.services.SuggestionService;
 
 /**
  * Clase que implementa el recurso "authors".
@@ -59,20 +75,109 @@ public class AuthorController {
 	private AuthorService authorService;
 
 	@Autowired
-	private ModelMapper modelMapper;
+	private ResourceVersionService resourceVersionService;
+
+	@Autowired
+	private SuggestionService suggestionService;
 
 	/**
-	 * Busca y devuelve todos los autores que existen en la aplicacion.
+	 * Busca y devuelve todos los autores que existen en la aplicacion. Si el
+	 * If-None-Match de la petición coincide con la versión actual se responde 304
+	 * sin consultar los autores.
 	 *
+	 * @param include Las asociaciones a incluir (books, prizes). Si no se envía
+	 *                se incluyen todas.
+	 * @param request La petición, con el encabezado If-None-Match.
 	 * @return JSONArray {@link AuthorDetailDTO} - Los autores encontrados en la
 	 *         aplicación. Si no hay ninguno retorna una lista vacía.
 	 */
 	@GetMapping
+	public List<AuthorDetailDTO> findAll(@RequestParam(value = "include", required = false) List<String> include,
+			WebRequest request) throws IllegalOperationException {
+		Include associations = Include.parse(include, AuthorDetailDTO.ASSOCIATIONS);
+		if (request.checkNotModified(ETags.of(resourceVersionService.getAuthorsVersion())))
+			return null;
+		List<AuthorEntity> authors = authorService.getAuthors(associations);
+		return AuthorMapper.toDetailDTOs(authors, associations);
+	}
+
+	/**
+	 * Busca y devuelve una página de los autores. Se activa cuando la petición
+	 * incluye el parámetro page y no incluye ids; también se pueden enviar size
+	 * y sort.
+	 *
+	 * @param pageable La página solicitada
+	 * @param include  Las asociaciones a incluir. Si no se envía se incluyen
+	 *                 todas.
+	 * @param request  La petición, con el encabezado If-None-Match.
+	 * @return JSON {@link PageDTO} - La página de autores, su número y el total de
+	 *         elementos.
+	 */
+	@GetMapping(params = { "page", "!ids" })
+	public PageDTO<AuthorDetailDTO> findAll(Pageable pageable,
+			@RequestParam(value = "include", required = false) List<String> include, WebRequest request)
+			throws IllegalOperationException {
+		Include associations = Include.parse(include, AuthorDetailDTO.ASSOCIATIONS);
+		if (request.checkNotModified(ETags.of(resourceVersionService.getAuthorsVersion())))
+			return null;
+		Page<AuthorEntity> authors = authorService.getAuthors(pageable, associations);
+		List<AuthorDetailDTO> items = AuthorMapper.toDetailDTOs(authors.getContent(), associations);
+		return PageDTO.of(authors, items);
+	}
+
+	/**
+	 * Busca y devuelve solo los campos pedidos de todos los autores, por ejemplo
+	 * /authors?fields=name,image. Las columnas que no se piden no se leen de la
+	 * base de datos. El id se incluye siempre.
+	 *
+	 * @param fields  Los campos a devolver (id, version, birthDate, name,
+	 *                description, image).
+	 * @param request La petición, con el encabezado If-None-Match.
+	 * @return JSONArray - Un objeto por autor con los campos pedidos.
+	 */
+	@GetMapping(params = { "fields", "!page", "!ids" })
+	public List<Map<String, Object>> findFields(@RequestParam("fields") List<String> fields, WebRequest request)
+			throws IllegalOperationException {
+		Fields selected = Fields.parse(fields, AuthorDTO.FIELDS);
+		if (request.checkNotModified(ETags.of(resourceVersionService.getAuthorsVersion())))
+			return null;
+		return authorService.getAuthorFields(selected);
+	}
+
+	/**
+	 * Busca y devuelve una página con solo los campos pedidos de los autores.
+	 *
+	 * @param pageable La página solicitada.
+	 * @param fields   Los campos a devolver.
+	 * @param request  La petición, con el encabezado If-None-Match.
+	 * @return JSON {@link PageDTO} - La página, su número y el total de
+	 *         elementos.
+	 */
+	@GetMapping(params = { "fields", "page", "!ids" })
+	public PageDTO<Map<String, Object>> findFields(Pageable pageable, @RequestParam("fields") List<String> fields, WebRequest request)
+			throws IllegalOperationException {
+		Fields selected = Fields.parse(fields, AuthorDTO.FIELDS);
+		if (request.checkNotModified(ETags.of(resourceVersionService.getAuthorsVersion())))
+			return null;
+		Page<Map<String, Object>> authors = authorService.getAuthorFields(pageable, selected);
+		return PageDTO.of(authors, authors.getContent());
+	}
+
+	/**
+	 * Busca y devuelve los autores con los ids recibidos, por ejemplo
+	 * /authors?ids=1,2,3. Todos se leen con una sola consulta. Si la petición
+	 * también incluye page o fields, estos se ignoran.
+	 *
+	 * @param ids Los ids de los autores, máximo 100.
+	 * @return JSON {@link BatchDTO} - Los autores encontrados en el orden de los
+	 *         ids y los ids que no existen.
+	 */
+	@GetMapping(params = "ids")
 	@ResponseStatus(code = HttpStatus.OK)
-	public List<AuthorDetailDTO> findAll() {
-		List<AuthorEntity> authors = authorService.getAuthors();
-		return modelMapper.map(authors, new TypeToken<List<AuthorDetailDTO>>() {
-		}.getType());
+	public BatchDTO<AuthorDetailDTO> findAllById(@RequestParam("ids") List<Long> ids)
+			throws IllegalOperationException {
+		List<AuthorEntity> authors = authorService.getAuthorsById(ids);
+		return BatchDTO.of(ids, AuthorMapper.toDetailDTOs(authors), AuthorDetailDTO::getId);
 	}
 
 	/**
@@ -80,13 +185,35 @@ public class AuthorController {
 	 *
 	 * @param id Identificador del autor que se esta buscando. Este debe ser una
 	 *           cadena de dígitos.
+	 * @param include Las asociaciones a incluir. Si no se envía se incluyen todas.
+	 * @param request La petición, con el encabezado If-None-Match. Si coincide con
+	 *                la versión agregada del autor se responde 304 sin cargarlo.
 	 * @return JSON {@link AuthorDetailDTO} - El autor buscado
 	 */
 	@GetMapping(value = "/{id}")
+	public AuthorDetailDTO findOne(@PathVariable("id") Long id, @RequestParam(value = "include", required = false) List<String> include,
+			WebRequest request) throws EntityNotFoundException, IllegalOperationException {
+		Include associations = Include.parse(include, AuthorDetailDTO.ASSOCIATIONS);
+		if (request.checkNotModified(ETags.of(resourceVersionService.getAuthorVersion(id))))
+			return null;
+		AuthorEntity authorEntity = authorService.getAuthor(id, associations);
+		return AuthorMapper.toDetailDTO(authorEntity, associations);
+	}
+
+	/**
+	 * Sugiere los autores cuyo nombre, o alguna de sus palabras, empieza por el
+	 * prefijo recibido. Pensado para autocompletar mientras se escribe.
+	 *
+	 * @param prefix El prefijo, sin importar mayúsculas ni tildes.
+	 * @param limit  Número máximo de resultados, 10 si no se envía.
+	 * @return JSONArray {@link SuggestionDTO} - El id y el nombre de los autores
+	 *         encontrados.
+	 */
+	@GetMapping(value = "/suggest")
 	@ResponseStatus(code = HttpStatus.OK)
-	public AuthorDetailDTO findOne(@PathVariable("id") Long id) throws EntityNotFoundException {
-		AuthorEntity authorEntity = authorService.getAuthor(id);
-		return modelMapper.map(authorEntity, AuthorDetailDTO.class);
+	public List<SuggestionDTO> suggest(@RequestParam("prefix") String prefix,
+			@RequestParam(value = "limit", defaultValue = "10") int limit) throws IllegalOperationException {
+		return SuggestionMapper.toDTOs(suggestionService.suggestAuthors(prefix, limit));
 	}
 
 	/**
@@ -95,6 +222,9 @@ public class AuthorController {
 	 * de datos.
 	 *
 	 * @param authorDTO {@link AuthorDTO} - EL autor que se desea guardar.
+	 * @param ifMatch  El ETag de la versión que el cliente leyó. Si no coincide
+	 *                 con la actual se responde 412.
+	 * @param response La respuesta en la que se envía el ETag de la nueva versión.
 	 * @return JSON {@link AuthorDTO} - El autor guardado con el atributo id
 	 *         autogenerado.
 	 * @throws IllegalOperationException 
@@ -102,8 +232,8 @@ public class AuthorController {
 	@PostMapping
 	@ResponseStatus(code = HttpStatus.CREATED)
 	public AuthorDTO create(@RequestBody AuthorDTO authorDTO) throws IllegalOperationException {
-		AuthorEntity authorEntity = authorService.createAuthor(modelMapper.map(authorDTO, AuthorEntity.class));
-		return modelMapper.map(authorEntity, AuthorDTO.class);
+		AuthorEntity authorEntity = authorService.createAuthor(AuthorMapper.toEntity(authorDTO));
+		return AuthorMapper.toDTO(authorEntity);
 	}
 
 	/**
@@ -116,10 +246,14 @@ public class AuthorController {
 	 */
 	@PutMapping(value = "/{id}")
 	@ResponseStatus(code = HttpStatus.OK)
-	public AuthorDTO update(@PathVariable("id") Long id, @RequestBody AuthorDTO authorDTO)
-			throws EntityNotFoundException {
-		AuthorEntity authorEntity = authorService.updateAuthor(id, modelMapper.map(authorDTO, AuthorEntity.class));
-		return modelMapper.map(authorEntity, AuthorDTO.class);
+	public AuthorDTO update(@PathVariable("id") Long id, @RequestBody AuthorDTO authorDTO,
+			@RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch,
+			HttpServletResponse response) throws EntityNotFoundException, IllegalOperationException {
+		AuthorEntity author = AuthorMapper.toEntity(authorDTO);
+		author.setVersion(ETags.ifMatch(ifMatch));
+		AuthorEntity authorEntity = authorService.updateAuthor(id, author);
+		response.setHeader(HttpHeaders.ETAG, ETags.of(authorEntity.getVersion()));
+		return AuthorMapper.toDTO(authorEntity);
 	}
 
 	/**
@@ -25,9 +25,8 @@ package co.edu.uniandes.dse.bookstore.controllers;
 
 import java.util.List;
 
-import org.modelmapper.ModelMapper;
-import org.modelmapper.TypeToken;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -35,6 +34,7 @@ import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.ResponseStatus;
 import org.springframework.web.bind.annotation.RestController;
@@ -44,6 +44,7 @@ import co.edu.uniandes.dse.bookstore.dto.AuthorDetailDTO;
 import co.edu.uniandes.dse.bookstore.entities.AuthorEntity;
 import co.edu.uniandes.dse.bookstore.exceptions.EntityNotFoundException;
 import co.edu.uniandes.dse.bookstore.exceptions.IllegalOperationException;
+import co.edu.uniandes.dse.bookstore.mappers.AuthorMapper;
 import co.edu.uniandes.dse.bookstore.services.BookAuthorService;
 
 /**
@@ -58,9 +59,6 @@ public class BookAuthorController {
 	@Autowired
 	private BookAuthorService bookAuthorService;
 
-	@Autowired
-	private ModelMapper modelMapper;
-
 	/**
 	 * Asocia un autor existente con un libro existente
 	 *
@@ -73,7 +71,7 @@ public class BookAuthorController {
 	public AuthorDetailDTO addAuthor(@PathVariable("authorId") Long authorId, @PathVariable("bookId") Long bookId)
 			throws EntityNotFoundException {
 		AuthorEntity authorEntity = bookAuthorService.addAuthor(bookId, authorId);
-		return modelMapper.map(authorEntity, AuthorDetailDTO.class);
+		return AuthorMapper.toDetailDTO(authorEntity);
 	}
 
 	/**
@@ -88,7 +86,7 @@ public class BookAuthorController {
 	public AuthorDetailDTO getAuthor(@PathVariable("authorId") Long authorId, @PathVariable("bookId") Long bookId)
 			throws EntityNotFoundException, IllegalOperationException {
 		AuthorEntity authorEntity = bookAuthorService.getAuthor(bookId, authorId);
-		return modelMapper.map(authorEntity, AuthorDetailDTO.class);
+		return AuthorMapper.toDetailDTO(authorEntity);
 	}
 
 	/**
@@ -98,17 +96,18 @@ public class BookAuthorController {
 	 * @param bookId  El ID del libro al cual se le va a asociar la lista de autores
 	 * @param authors JSONArray {@link AuthorDTO} - La lista de autores que se desea
 	 *                guardar.
+	 * @param ifMatch El ETag de la versión del libro que el cliente leyó. Si no
+	 *                coincide con la actual se responde 412.
 	 * @return JSONArray {@link AuthorDetailDTO} - La lista actualizada.
 	 */
 	@PutMapping(value = "/{bookId}/authors")
 	@ResponseStatus(code = HttpStatus.OK)
-	public List<AuthorDetailDTO> addAuthors(@PathVariable("bookId") Long bookId, @RequestBody List<AuthorDTO> authors)
-			throws EntityNotFoundException {
-		List<AuthorEntity> entities = modelMapper.map(authors, new TypeToken<List<AuthorEntity>>() {
-		}.getType());
-		List<AuthorEntity> authorsList = bookAuthorService.replaceAuthors(bookId, entities);
-		return modelMapper.map(authorsList, new TypeToken<List<AuthorDetailDTO>>() {
-		}.getType());
+	public List<AuthorDetailDTO> addAuthors(@PathVariable("bookId") Long bookId, @RequestBody List<AuthorDTO> authors,
+			@RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch)
+			throws EntityNotFoundException, IllegalOperationException {
+		List<AuthorEntity> entities = AuthorMapper.toEntities(authors);
+		List<AuthorEntity> authorsList = bookAuthorService.replaceAuthors(bookId, entities, ETags.ifMatch(ifMatch));
+		return AuthorMapper.toDetailDTOs(authorsList);
 	}
 
 	/**
@@ -122,8 +121,7 @@ public class BookAuthorController {
 	@ResponseStatus(code = HttpStatus.OK)
 	public List<AuthorDetailDTO> getAuthors(@PathVariable("bookId") Long bookId) throws EntityNotFoundException {
 		List<AuthorEntity> authorEntity = bookAuthorService.getAuthors(bookId);
-		return modelMapper.map(authorEntity, new TypeToken<List<AuthorDetailDTO>>() {
-		}.getType());
+		return AuthorMapper.toDetailDTOs(authorEntity);
 	}
 
 	/**
@@ -23,28 +23,66 @@ SOFTWARE.
 */
 package co.edu.uniandes.dse.bookstore.controllers;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+
+import javax.servlet.http.HttpServletResponse;
 
-import org.modelmapper.ModelMapper;
-import org.modelmapper.TypeToken;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.http.converter.smile.MappingJackson2SmileHttpMessageConverter;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.ResponseStatus;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SequenceWriter;
 
+import co.edu.uniandes.dse.bookstore.config.ResponseFormatConfig;
+import co.edu.uniandes.dse.bookstore.dto.BatchDTO;
+import co.edu.uniandes.dse.bookstore.dto.BookBatchItemDTO;
 import co.edu.uniandes.dse.bookstore.dto.BookDTO;
 import co.edu.uniandes.dse.bookstore.dto.BookDetailDTO;
+import co.edu.uniandes.dse.bookstore.dto.BookFacetsDTO;
+import co.edu.uniandes.dse.bookstore.dto.BookFilter;
+import co.edu.uniandes.dse.bookstore.dto.Fields;
+import co.edu.uniandes.dse.bookstore.dto.Include;
+import co.edu.uniandes.dse.bookstore.dto.PageDTO;
 import co.edu.uniandes.dse.bookstore.entities.BookEntity;
 import co.edu.uniandes.dse.bookstore.exceptions.EntityNotFoundException;
 import co.edu.uniandes.dse.bookstore.exceptions.IllegalOperationException;
+import co.edu.uniandes.dse.bookstore.mappers.BookMapper;
+import co.edu.uniandes.dse.bookstore.services.BookDocument;
+import co.edu.uniandes.dse.bookstore.services.BookDocumentService;
+import co.edu.uniandes.dse.bookstore.services.BookFacetService;
+import co.edu.uniandes.dse.bookstore.services.BookSearchService;
 import co.edu.uniandes.dse.bookstore.services.BookService;
+import co.edu.uniandes.dse.bookstore.services.ResourceVersionService;
 
 /**
  * Clase que implementa el recurso "books".
@@ -59,20 +97,270 @@ public class BookController {
 	private BookService bookService;
 
 	@Autowired
-	private ModelMapper modelMapper;
+	private BookSearchService bookSearchService;
+
+	@Autowired
+	private BookFacetService bookFacetService;
+
+	@Autowired
+	private BookDocumentService bookDocumentService;
+
+	@Autowired
+	private ResourceVersionService resourceVersionService;
+
+	@Autowired
+	private ObjectMapper objectMapper;
+
+	private static final List<MediaType> EXPORT_TYPES = List.of(MediaType.APPLICATION_NDJSON,
+			ResponseFormatConfig.APPLICATION_SMILE, MediaType.APPLICATION_CBOR);
+
+	private static final List<MediaType> DETAIL_TYPES = List.of(MediaType.APPLICATION_JSON,
+			ResponseFormatConfig.APPLICATION_SMILE, MediaType.APPLICATION_CBOR);
+
+	@Autowired
+	private MappingJackson2SmileHttpMessageConverter smileConverter;
+
+	@Autowired
+	private MappingJackson2CborHttpMessageConverter cborConverter;
 
 	/**
-	 * Busca y devuelve todos los libros que existen en la aplicacion.
+	 * Busca y devuelve todos los libros que existen en la aplicacion. Si la
+	 * petición incluye filtros (editorialId, authorId, publishedFrom,
+	 * publishedTo, namePrefix, isbn) o sort, solo se devuelven los libros que
+	 * los cumplen, en el orden pedido.
 	 *
+	 * @param filter  Los filtros de la consulta.
+	 * @param sort    El orden de los libros.
+	 * @param include Las asociaciones a incluir (editorial, authors, reviews).
+	 *                Si no se envía se incluyen todas.
+	 * @param request La petición, con el encabezado If-None-Match. Si coincide con
+	 *                la versión actual de los libros se responde 304 sin
+	 *                consultarlos.
 	 * @return JSONArray {@link BookDetailDTO} - Los libros encontrados en la
 	 *         aplicación. Si no hay ninguno retorna una lista vacía.
 	 */
 	@GetMapping
+	public List<BookDetailDTO> findAll(BookFilter filter, Sort sort,
+			@RequestParam(value = "include", required = false) List<String> include, WebRequest request)
+			throws IllegalOperationException {
+		Include associations = Include.parse(include, BookDetailDTO.ASSOCIATIONS);
+		if (request.checkNotModified(ETags.of(resourceVersionService.getBooksVersion())))
+			return null;
+		List<BookEntity> books = associations.isAll() && filter.isEmpty() && sort.isUnsorted()
+				? bookService.getBooks()
+				: bookService.getBooks(filter, sort, associations);
+		return BookMapper.toDetailDTOs(books, associations);
+	}
+
+	/**
+	 * Busca y devuelve una página de los libros que cumplen los filtros. Se
+	 * activa cuando la petición incluye el parámetro page y no incluye ids ni
+	 * limit; también se pueden enviar size y sort.
+	 *
+	 * @param filter   Los filtros de la consulta.
+	 * @param pageable La página solicitada.
+	 * @param include  Las asociaciones a incluir. Si no se envía se incluyen
+	 *                 todas.
+	 * @param request  La petición, con el encabezado If-None-Match.
+	 * @return JSON {@link PageDTO} - La página de libros, su número y el total de
+	 *         elementos.
+	 */
+	@GetMapping(params = { "page", "!ids", "!limit" })
+	public PageDTO<BookDetailDTO> findAll(BookFilter filter, Pageable pageable,
+			@RequestParam(value = "include", required = false) List<String> include, WebRequest request)
+			throws IllegalOperationException {
+		Include associations = Include.parse(include, BookDetailDTO.ASSOCIATIONS);
+		if (request.checkNotModified(ETags.of(resourceVersionService.getBooksVersion())))
+			return null;
+		Page<BookEntity> books = bookService.getBooks(filter, pageable, associations);
+		return PageDTO.of(books, BookMapper.toDetailDTOs(books.getContent(), associations));
+	}
+
+	/**
+	 * Busca y devuelve solo los campos pedidos de los libros que cumplen los
+	 * filtros, por ejemplo /books?fields=name,isbn,image. Las columnas que no se
+	 * piden no se leen de la base de datos. El id se incluye siempre.
+	 *
+	 * @param filter  Los filtros de la consulta.
+	 * @param sort    El orden de los libros.
+	 * @param fields  Los campos a devolver (id, version, name, isbn, image,
+	 *                publishingDate, description).
+	 * @param request La petición, con el encabezado If-None-Match.
+	 * @return JSONArray - Un objeto por libro con los campos pedidos.
+	 */
+	@GetMapping(params = { "fields", "!page", "!ids", "!limit" })
+	public List<Map<String, Object>> findFields(BookFilter filter, Sort sort, @RequestParam("fields") List<String> fields,
+			WebRequest request) throws IllegalOperationException {
+		Fields selected = Fields.parse(fields, BookDTO.FIELDS);
+		if (request.checkNotModified(ETags.of(resourceVersionService.getBooksVersion())))
+			return null;
+		return bookService.getBookFields(filter, sort, selected);
+	}
+
+	/**
+	 * Busca y devuelve una página con solo los campos pedidos de los libros que
+	 * cumplen los filtros, por ejemplo /books?fields=name,isbn&page=0.
+	 *
+	 * @param filter   Los filtros de la consulta.
+	 * @param pageable La página solicitada.
+	 * @param fields   Los campos a devolver.
+	 * @param request  La petición, con el encabezado If-None-Match.
+	 * @return JSON {@link PageDTO} - La página, su número y el total de
+	 *         elementos.
+	 */
+	@GetMapping(params = { "fields", "page", "!ids", "!limit" })
+	public PageDTO<Map<String, Object>> findFields(BookFilter filter, Pageable pageable, @RequestParam("fields") List<String> fields,
+			WebRequest request) throws IllegalOperationException {
+		Fields selected = Fields.parse(fields, BookDTO.FIELDS);
+		if (request.checkNotModified(ETags.of(resourceVersionService.getBooksVersion())))
+			return null;
+		Page<Map<String, Object>> books = bookService.getBookFields(filter, pageable, selected);
+		return PageDTO.of(books, books.getContent());
+	}
+
+	/**
+	 * Busca y devuelve los libros con los ids recibidos, por ejemplo
+	 * /books?ids=1,2,3. Todos se leen con una sola consulta. Si la petición
+	 * también incluye page, limit o fields, estos se ignoran.
+	 *
+	 * @param ids Los ids de los libros, máximo 100.
+	 * @return JSON {@link BatchDTO} - Los libros encontrados en el orden de los
+	 *         ids y los ids que no existen.
+	 */
+	@GetMapping(params = "ids")
 	@ResponseStatus(code = HttpStatus.OK)
-	public List<BookDetailDTO> findAll() {
-		List<BookEntity> books = bookService.getBooks();
-		return modelMapper.map(books, new TypeToken<List<BookDetailDTO>>() {
-		}.getType());
+	public BatchDTO<BookDetailDTO> findAllById(@RequestParam("ids") List<Long> ids) throws IllegalOperationException {
+		List<BookEntity> books = bookService.getBooksById(ids);
+		return BatchDTO.of(ids, BookMapper.toDetailDTOs(books), BookDetailDTO::getId);
+	}
+
+	/**
+	 * Busca y devuelve una página de libros ordenados por id. Si la petición
+	 * también incluye page o fields, estos se ignoran.
+	 *
+	 * @param limit Número máximo de libros de la página.
+	 * @param after Cursor recibido en la página anterior. Si no se envía se
+	 *              devuelve la primera página.
+	 * @return JSON {@link PageDTO} - La página de libros y el cursor de la
+	 *         siguiente página, si existe.
+	 */
+	@GetMapping(params = { "limit", "!ids" })
+	@ResponseStatus(code = HttpStatus.OK)
+	public PageDTO<BookDetailDTO> findAll(@RequestParam("limit") int limit,
+			@RequestParam(value = "after", required = false) String after) throws IllegalOperationException {
+		Slice<BookEntity> books = bookService.getBooks(CursorCodec.decode(after), limit);
+		PageDTO<BookDetailDTO> page = new PageDTO<>();
+		page.setItems(BookMapper.toDetailDTOs(books.getContent()));
+		page.setSize(limit);
+		if (books.hasNext())
+			page.setNextCursor(CursorCodec.encode(books.getContent().get(books.getNumberOfElements() - 1).getId()));
+		return page;
+	}
+
+	/**
+	 * Busca libros por texto en su nombre, descripción y autores.
+	 *
+	 * @param q        Las palabras a buscar.
+	 * @param pageable La página solicitada.
+	 * @return JSON {@link PageDTO} - Los libros encontrados, del más al menos
+	 *         relevante.
+	 */
+	@GetMapping("/search")
+	@ResponseStatus(code = HttpStatus.OK)
+	public PageDTO<BookDTO> search(@RequestParam("q") String q, Pageable pageable) throws IllegalOperationException {
+		Page<BookEntity> books = bookSearchService.searchBooks(q, pageable);
+		return PageDTO.of(books, BookMapper.toDTOs(books.getContent()));
+	}
+
+	/**
+	 * Devuelve el número de libros por editorial, por año de publicación y por
+	 * autor.
+	 *
+	 * @return JSON {@link BookFacetsDTO} - Los conteos de cada faceta.
+	 */
+	@GetMapping("/facets")
+	@ResponseStatus(code = HttpStatus.OK)
+	public BookFacetsDTO facets() {
+		return bookFacetService.getFacets(resourceVersionService.getBooksVersion());
+	}
+
+	/**
+	 * Exporta todos los libros, un {@link BookDetailDTO} tras otro, en el formato
+	 * que pida el encabezado Accept: NDJSON (por defecto, un libro por línea),
+	 * Smile o CBOR. Cada libro se escribe en la respuesta apenas se lee, sin
+	 * cargar el catálogo completo en memoria.
+	 *
+	 * @param accept   El encabezado Accept de la petición.
+	 * @param response La respuesta en la que se escriben los libros.
+	 */
+	@GetMapping(value = "/export", produces = { MediaType.APPLICATION_NDJSON_VALUE,
+			ResponseFormatConfig.APPLICATION_SMILE_VALUE, MediaType.APPLICATION_CBOR_VALUE })
+	public void export(@RequestHeader(value = HttpHeaders.ACCEPT, defaultValue = MediaType.ALL_VALUE) String accept,
+			HttpServletResponse response) throws IOException {
+		MediaType type = preferredType(accept, EXPORT_TYPES);
+		if (ResponseFormatConfig.APPLICATION_SMILE.equals(type)) {
+			exportSequence(response, type, smileConverter.getObjectMapper());
+			return;
+		}
+		if (MediaType.APPLICATION_CBOR.equals(type)) {
+			exportSequence(response, type, cborConverter.getObjectMapper());
+			return;
+		}
+
+		response.setContentType(MediaType.APPLICATION_NDJSON_VALUE);
+		ObjectWriter writer = objectMapper.writerFor(BookDetailDTO.class);
+		OutputStream out = response.getOutputStream();
+		try {
+			bookService.exportBooks(book -> {
+				try {
+					out.write(writer.writeValueAsBytes(book));
+					out.write('\n');
+				} catch (IOException e) {
+					throw new UncheckedIOException(e);
+				}
+			});
+		} catch (UncheckedIOException e) {
+			throw e.getCause();
+		}
+	}
+
+	/**
+	 * Elige el formato de la respuesta: el primero de los tipos aceptados, en
+	 * orden de preferencia, que esté entre los tipos posibles. Ante un comodín se
+	 * elige el primero de los tipos posibles. Devuelve null si no se acepta
+	 * ninguno.
+	 */
+	private static MediaType preferredType(String accept, List<MediaType> producibleTypes) {
+		List<MediaType> accepted = MediaType.parseMediaTypes(accept);
+		MediaType.sortBySpecificityAndQuality(accepted);
+		for (MediaType type : accepted) {
+			for (MediaType producible : producibleTypes) {
+				if (type.isCompatibleWith(producible))
+					return producible;
+			}
+		}
+		return null;
+	}
+
+	/**
+	 * Escribe los libros como una secuencia de valores en un formato binario. Los
+	 * nombres de los campos que se repiten se escriben una sola vez para toda la
+	 * secuencia en Smile; en CBOR la secuencia sigue el RFC 8742.
+	 */
+	private void exportSequence(HttpServletResponse response, MediaType contentType, ObjectMapper mapper)
+			throws IOException {
+		response.setContentType(contentType.toString());
+		try (SequenceWriter writer = mapper.writerFor(BookDetailDTO.class).writeValues(response.getOutputStream())) {
+			bookService.exportBooks(book -> {
+				try {
+					writer.write(book);
+				} catch (IOException e) {
+					throw new UncheckedIOException(e);
+				}
+			});
+		} catch (UncheckedIOException e) {
+			throw e.getCause();
+		}
 	}
 
 	/**
@@ -80,13 +368,50 @@ public class BookController {
 	 *
 	 * @param bookId Identificador del libro que se esta buscando. Este debe ser una
 	 *               cadena de dígitos.
+	 * @param include Las asociaciones a incluir. Si no se envía se incluyen todas
+	 *                y el detalle se toma del caché; en JSON se escribe el
+	 *                documento ya serializado, comprimido con gzip si el cliente
+	 *                lo acepta.
+	 * @param accept         El encabezado Accept de la petición.
+	 * @param acceptEncoding El encabezado Accept-Encoding de la petición.
+	 * @param request La petición, con el encabezado If-None-Match. Si coincide con
+	 *                la versión agregada del libro se responde 304 sin cargarlo.
+	 *                El ETag es débil, así que es el mismo para el documento con
+	 *                y sin gzip.
 	 * @return JSON {@link BookDetailDTO} - El libro buscado
 	 */
 	@GetMapping(value = "/{id}")
+	public ResponseEntity<?> findOne(@PathVariable("id") Long id, @RequestParam(value = "include", required = false) List<String> include,
+			@RequestHeader(value = HttpHeaders.ACCEPT, defaultValue = MediaType.ALL_VALUE) String accept,
+			@RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding,
+			WebRequest request) throws EntityNotFoundException, IllegalOperationException {
+		Include associations = Include.parse(include, BookDetailDTO.ASSOCIATIONS);
+		String version = resourceVersionService.getBookVersion(id);
+		if (request.checkNotModified(ETags.of(version)))
+			return null;
+		if (!associations.isAll())
+			return ResponseEntity.ok(BookMapper.toDetailDTO(bookService.getBook(id, associations), associations));
+		if (!MediaType.APPLICATION_JSON.equals(preferredType(accept, DETAIL_TYPES)))
+			return ResponseEntity.ok(bookService.getBookDetail(id, version));
+
+		BookDocument document = bookDocumentService.getBookDocument(id, version);
+		ResponseEntity.BodyBuilder response = ResponseEntity.ok().contentType(MediaType.APPLICATION_JSON)
+				.varyBy(HttpHeaders.ACCEPT_ENCODING);
+		if (document.getGzip() != null && AcceptEncoding.acceptsGzip(acceptEncoding))
+			return response.header(HttpHeaders.CONTENT_ENCODING, "gzip").body(document.getGzip());
+		return response.body(document.getJson());
+	}
+
+	/**
+	 * Busca el libro con el ISBN recibido en la URL y lo devuelve.
+	 *
+	 * @param isbn ISBN del libro que se esta buscando.
+	 * @return JSON {@link BookDetailDTO} - El libro buscado
+	 */
+	@GetMapping(value = "/isbn/{isbn}")
 	@ResponseStatus(code = HttpStatus.OK)
-	public BookDetailDTO findOne(@PathVariable("id") Long id) throws EntityNotFoundException {
-		BookEntity bookEntity = bookService.getBook(id);
-		return modelMapper.map(bookEntity, BookDetailDTO.class);
+	public BookDetailDTO findByIsbn(@PathVariable("isbn") String isbn) throws EntityNotFoundException {
+		return BookMapper.toDetailDTO(bookService.getBookByIsbn(isbn));
 	}
 
 	/**
@@ -101,8 +426,69 @@ public class BookController {
 	@PostMapping
 	@ResponseStatus(code = HttpStatus.CREATED)
 	public BookDTO create(@RequestBody BookDTO bookDTO) throws IllegalOperationException, EntityNotFoundException {
-		BookEntity bookEntity = bookService.createBook(modelMapper.map(bookDTO, BookEntity.class));
-		return modelMapper.map(bookEntity, BookDTO.class);
+		BookEntity bookEntity = bookService.createBook(BookMapper.toEntity(bookDTO));
+		return BookMapper.toDTO(bookEntity);
+	}
+
+	/**
+	 * Crea varios libros a partir de una lista JSON.
+	 *
+	 * @param books {@link BookDTO} - Los libros que se desean guardar.
+	 * @return JSONArray {@link BookBatchItemDTO} - El resultado de cada libro, en
+	 *         el mismo orden en que se recibieron.
+	 * @throws IllegalOperationException Si la lista está vacía o es demasiado
+	 *                                   grande.
+	 */
+	@PostMapping(value = "/batch", consumes = MediaType.APPLICATION_JSON_VALUE)
+	@ResponseStatus(code = HttpStatus.OK)
+	public List<BookBatchItemDTO> createBatch(@RequestBody List<BookDTO> books) throws IllegalOperationException {
+		return createBooks(books);
+	}
+
+	/**
+	 * Crea varios libros a partir de un cuerpo NDJSON, con un libro por línea.
+	 *
+	 * @param body El cuerpo de la petición.
+	 * @return JSONArray {@link BookBatchItemDTO} - El resultado de cada libro, en
+	 *         el mismo orden en que se recibieron.
+	 * @throws IllegalOperationException Si alguna línea no es un libro válido o
+	 *                                   si hay demasiados libros.
+	 */
+	@PostMapping(value = "/batch", consumes = MediaType.APPLICATION_NDJSON_VALUE)
+	@ResponseStatus(code = HttpStatus.OK)
+	public List<BookBatchItemDTO> createBatch(InputStream body) throws IllegalOperationException, IOException {
+		List<BookDTO> books = new ArrayList<>();
+		try (MappingIterator<BookDTO> lines = objectMapper.readerFor(BookDTO.class).readValues(body)) {
+			while (lines.hasNextValue()) {
+				if (books.size() == BookService.MAX_BATCH_SIZE)
+					throw new IllegalOperationException("Batch size is not valid");
+				books.add(lines.nextValue());
+			}
+		} catch (JsonProcessingException e) {
+			throw new IllegalOperationException("Batch line " + e.getLocation().getLineNr() + " is not valid");
+		}
+		return createBooks(books);
+	}
+
+	private List<BookBatchItemDTO> createBooks(List<BookDTO> books) throws IllegalOperationException {
+		List<BookEntity> entities = BookMapper.toEntities(books);
+		List<String> errors = bookService.createBooks(entities);
+		List<BookBatchItemDTO> items = new ArrayList<>(entities.size());
+		for (int i = 0; i < entities.size(); i++) {
+			BookBatchItemDTO item = new BookBatchItemDTO();
+			item.setIndex(i);
+			if (entities.get(i) != null)
+				item.setIsbn(entities.get(i).getIsbn());
+			if (errors.get(i) == null) {
+				item.setId(entities.get(i).getId());
+				item.setStatus(BookBatchItemDTO.Status.CREATED);
+			} else {
+				item.setStatus(BookBatchItemDTO.Status.REJECTED);
+				item.setMessage(errors.get(i));
+			}
+			items.add(item);
+		}
+		return items;
 	}
 
 	/**
@@ -112,14 +498,21 @@ public class BookController {
 	 * @param bookId Identificador del libro que se desea actualizar. Este debe ser
 	 *               una cadena de dígitos.
 	 * @param book   {@link BookDTO} El libro que se desea guardar.
+	 * @param ifMatch  El ETag de la versión que el cliente leyó. Si no coincide
+	 *                 con la actual se responde 412.
+	 * @param response La respuesta en la que se envía el ETag de la nueva versión.
 	 * @return JSON {@link BookDTO} - El libro guardada.
 	 */
 	@PutMapping(value = "/{id}")
 	@ResponseStatus(code = HttpStatus.OK)
-	public BookDTO update(@PathVariable("id") Long id, @RequestBody BookDTO bookDTO)
-			throws EntityNotFoundException, IllegalOperationException {
-		BookEntity bookEntity = bookService.updateBook(id, modelMapper.map(bookDTO, BookEntity.class));
-		return modelMapper.map(bookEntity, BookDTO.class);
+	public BookDTO update(@PathVariable("id") Long id, @RequestBody BookDTO bookDTO,
+			@RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch,
+			HttpServletResponse response) throws EntityNotFoundException, IllegalOperationException {
+		BookEntity book = BookMapper.toEntity(bookDTO);
+		book.setVersion(ETags.ifMatch(ifMatch));
+		BookEntity bookEntity = bookService.updateBook(id, book);
+		response.setHeader(HttpHeaders.ETAG, ETags.of(bookEntity.getVersion()));
+		return BookMapper.toDTO(bookEntity);
 	}
 
 	/**
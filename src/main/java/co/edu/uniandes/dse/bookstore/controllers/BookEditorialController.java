@@ -23,7 +23,6 @@ SOFTWARE.
 */
 package co.edu.uniandes.dse.bookstore.controllers;
 
-import org.modelmapper.ModelMapper;
 
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.HttpStatus;
@@ -38,6 +37,7 @@ import co.edu.uniandes.dse.bookstore.dto.BookDetailDTO;
 import co.edu.uniandes.dse.bookstore.dto.EditorialDTO;
 import co.edu.uniandes.dse.bookstore.entities.BookEntity;
 import co.edu.uniandes.dse.bookstore.exceptions.EntityNotFoundException;
+import co.edu.uniandes.dse.bookstore.mappers.BookMapper;
 import co.edu.uniandes.dse.bookstore.services.BookEditorialService;
 
 /**
@@ -53,9 +53,6 @@ public class BookEditorialController {
 	@Autowired
 	private BookEditorialService bookEditorialService;
 
-	@Autowired
-	private ModelMapper modelMapper;
-
 	/**
 	 * Remplaza la instancia de Editorial asociada a un Book.
 	 *
@@ -70,7 +67,7 @@ public class BookEditorialController {
 	public BookDetailDTO replaceEditorial(@PathVariable("bookId") Long bookId, @RequestBody EditorialDTO editorialDTO)
 			throws EntityNotFoundException {
 		BookEntity bookEntity = bookEditorialService.replaceEditorial(bookId, editorialDTO.getId());
-		return modelMapper.map(bookEntity, BookDetailDTO.class);
+		return BookMapper.toDetailDTO(bookEntity);
 	}
 
 }
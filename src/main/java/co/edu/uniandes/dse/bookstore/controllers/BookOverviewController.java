@@ -0,0 +1,70 @@
+/*
+MIT License
+
+Copyright (c) 2021 Universidad de los Andes - ISIS2603
+
+Permission is hereby granted, free of charge, to any person obtaining a copy
+of this software and associated documentation files (the "Software"), to deal
+in the Software without restriction, including without limitation the rights
+to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+copies of the Software, and to permit persons to whom the Software is
+furnished to do so, subject to the following conditions:
+
+The above copyright notice and this permission notice shall be included in all
+copies or substantial portions of the Software.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+SOFTWARE.
+*/
+package co.edu.uniandes.dse.bookstore.controllers;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Pageable;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.ResponseStatus;
+import org.springframework.web.bind.annotation.RestController;
+
+import co.edu.uniandes.dse.bookstore.dto.BookOverviewDTO;
+import co.edu.uniandes.dse.bookstore.exceptions.EntityNotFoundException;
+import co.edu.uniandes.dse.bookstore.exceptions.IllegalOperationException;
+import co.edu.uniandes.dse.bookstore.services.BookOverviewService;
+
+/**
+ * Clase que implementa el recurso "books/{id}/overview".
+ *
+ * @author ISIS2603
+ * @version 1.0
+ */
+@RestController
+@RequestMapping("/books")
+public class BookOverviewController {
+
+	@Autowired
+	private BookOverviewService bookOverviewService;
+
+	/**
+	 * Devuelve en una sola respuesta lo que muestra la página de un libro: el
+	 * libro con su editorial, una página de reseñas, los autores con sus premios y
+	 * otros libros de los mismos autores. Los parámetros page, size y sort aplican
+	 * a las reseñas.
+	 *
+	 * @param bookId   Identificador del libro. Este debe ser una cadena de
+	 *                 dígitos.
+	 * @param pageable La página de reseñas solicitada.
+	 * @return JSON {@link BookOverviewDTO} - La página del libro.
+	 */
+	@GetMapping(value = "/{bookId}/overview")
+	@ResponseStatus(code = HttpStatus.OK)
+	public BookOverviewDTO getOverview(@PathVariable("bookId") Long bookId, Pageable pageable)
+			throws EntityNotFoundException, IllegalOperationException {
+		return bookOverviewService.getBookOverview(bookId, pageable);
+	}
+}
@@ -0,0 +1,76 @@
+/*
+MIT License
+
+Copyright (c) 2021 Universidad de los Andes - ISIS2603
+
+Permission is hereby granted, free of charge, to any person obtaining a copy
+of this software and associated documentation files (the "Software"), to deal
+in the Software without restriction, including without limitation the rights
+to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+copies of the Software, and to permit persons to whom the Software is
+furnished to do so, subject to the following conditions:
+
+The above copyright notice and this permission notice shall be included in all
+copies or substantial portions of the Software.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+SOFTWARE.
+*/
+package co.edu.uniandes.dse.bookstore.controllers;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+import co.edu.uniandes.dse.bookstore.exceptions.IllegalOperationException;
+
+/**
+ * Codifica y decodifica los cursores opacos que se usan en la paginación por
+ * llave (keyset). El cliente solo debe reenviar el valor recibido en
+ * nextCursor, sin interpretarlo.
+ *
+ * @author ISIS2603
+ */
+final class CursorCodec {
+
+	private static final String PREFIX = "id:";
+
+	private CursorCodec() {
+		throw new IllegalStateException("Utility class");
+	}
+
+	/**
+	 * Genera el cursor que apunta al registro con el id dado.
+	 *
+	 * @param id El id del último registro de la página
+	 * @return El cursor opaco
+	 */
+	static String encode(Long id) {
+		return Base64.getUrlEncoder().withoutPadding()
+				.encodeToString((PREFIX + id).getBytes(StandardCharsets.UTF_8));
+	}
+
+	/**
+	 * Obtiene el id al que apunta un cursor.
+	 *
+	 * @param cursor El cursor recibido del cliente, puede ser null
+	 * @return El id al que apunta el cursor o null si no se recibió cursor
+	 * @throws IllegalOperationException Si el cursor no es válido
+	 */
+	static Long decode(String cursor) throws IllegalOperationException {
+		if (cursor == null || cursor.isEmpty())
+			return null;
+		try {
+			String value = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+			if (!value.startsWith(PREFIX))
+				throw new IllegalOperationException("Cursor is not valid");
+			return Long.valueOf(value.substring(PREFIX.length()));
+		} catch (IllegalArgumentException e) {
+			throw new IllegalOperationException("Cursor is not valid");
+		}
+	}
+}
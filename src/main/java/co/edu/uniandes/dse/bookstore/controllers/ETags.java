@@ -0,0 +1,87 @@
+/*
+MIT License
+
+Copyright (c) 2021 Universidad de los Andes - ISIS2603
+
+Permission is hereby granted, free of charge, to any person obtaining a copy
+of this software and associated documentation files (the "Software"), to deal
+in the Software without restriction, including without limitation the rights
+to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+copies of the Software, and to permit persons to whom the Software is
+furnished to do so, subject to the following conditions:
+
+The above copyright notice and this permission notice shall be included in all
+copies or substantial portions of the Software.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+SOFTWARE.
+*/
+package co.edu.uniandes.dse.bookstore.controllers;
+
+import co.edu.uniandes.dse.bookstore.exceptions.IllegalOperationException;
+
+/**
+ * Convierte la versión de una entidad en el ETag de su recurso y lee la
+ * versión que el cliente envía en If-Match. El ETag es débil y contiene la
+ * versión, por ejemplo W/"3", o la versión agregada de un libro o un autor, por
+ * ejemplo W/"3-9f86d081884c7d65". Es débil porque identifica la versión del
+ * recurso y no los bytes de la respuesta: la misma versión se envía en JSON,
+ * Smile o CBOR, con o sin gzip. Además, Tomcat no comprime las respuestas con
+ * un ETag fuerte.
+ * <p>
+ * En If-Match el cliente envía el ETag que recibió en el GET o el PUT, débil o
+ * no, por ejemplo W/"3" o "3". No se compara como texto: de él se toma la
+ * versión de la entidad, que es la que se verifica al actualizar. Si es una
+ * versión agregada solo cuenta la versión de la entidad, no la de sus
+ * relaciones, que no cambian con el PUT.
+ *
+ * @author ISIS2603
+ */
+final class ETags {
+
+	private ETags() {
+		throw new IllegalStateException("Utility class");
+	}
+
+	/**
+	 * Genera el ETag débil de una versión.
+	 *
+	 * @param version La versión de la entidad o la versión agregada del recurso
+	 * @return El ETag entre comillas, con el prefijo W/
+	 */
+	static String of(Object version) {
+		return "W/\"" + version + "\"";
+	}
+
+	/**
+	 * Obtiene la versión que el cliente espera actualizar.
+	 *
+	 * @param ifMatch El valor del encabezado If-Match, puede ser null
+	 * @return La versión esperada, o null si no se envió If-Match o se envió *
+	 * @throws IllegalOperationException Si el valor no es un único ETag con una
+	 *                                   versión
+	 */
+	static Long ifMatch(String ifMatch) throws IllegalOperationException {
+		if (ifMatch == null || ifMatch.isBlank())
+			return null;
+		String value = ifMatch.trim();
+		if (value.equals("*"))
+			return null;
+		if (value.startsWith("W/"))
+			value = value.substring(2);
+		if (value.length() < 3 || !value.startsWith("\"") || !value.endsWith("\""))
+			throw new IllegalOperationException("If-Match is not valid");
+		String version = value.substring(1, value.length() - 1);
+		int separator = version.indexOf('-');
+		try {
+			return Long.valueOf(separator < 0 ? version : version.substring(0, separator));
+		} catch (NumberFormatException e) {
+			throw new IllegalOperationException("If-Match is not valid");
+		}
+	}
+}
@@ -25,15 +25,15 @@ package co.edu.uniandes.dse.bookstore.controllers;
 
 import java.util.List;
 
-import org.modelmapper.ModelMapper;
-import org.modelmapper.TypeToken;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.ResponseStatus;
 import org.springframework.web.bind.annotation.RestController;
@@ -43,6 +43,7 @@ import co.edu.uniandes.dse.bookstore.dto.BookDetailDTO;
 import co.edu.uniandes.dse.bookstore.entities.BookEntity;
 import co.edu.uniandes.dse.bookstore.exceptions.EntityNotFoundException;
 import co.edu.uniandes.dse.bookstore.exceptions.IllegalOperationException;
+import co.edu.uniandes.dse.bookstore.mappers.BookMapper;
 import co.edu.uniandes.dse.bookstore.services.EditorialBookService;
 
 /**
@@ -57,9 +58,6 @@ public class EditorialBookController {
 	@Autowired
 	private EditorialBookService editorialBookService;
 
-	@Autowired
-	private ModelMapper modelMapper;
-
 	/**
 	 * Guarda un libro dentro de una editorial con la informacion que recibe el la
 	 * URL. Se devuelve el libro que se guarda en la editorial.
@@ -75,7 +73,7 @@ public class EditorialBookController {
 	public BookDTO addBook(@PathVariable("editorialId") Long editorialId, @PathVariable("bookId") Long booklId)
 			throws EntityNotFoundException {
 		BookEntity bookEntity = editorialBookService.addBook(booklId, editorialId);
-		return modelMapper.map(bookEntity, BookDTO.class);
+		return BookMapper.toDTO(bookEntity);
 	}
 
 	/**
@@ -90,8 +88,7 @@ public class EditorialBookController {
 	@ResponseStatus(code = HttpStatus.OK)
 	public List<BookDetailDTO> getBooks(@PathVariable("editorialId") Long editorialId) throws EntityNotFoundException {
 		List<BookEntity> bookList = editorialBookService.getBooks(editorialId);
-		return modelMapper.map(bookList, new TypeToken<List<BookDetailDTO>>() {
-		}.getType());
+		return BookMapper.toDetailDTOs(bookList);
 	}
 
 	/**
@@ -108,7 +105,7 @@ public class EditorialBookController {
 	public BookDetailDTO getBook(@PathVariable("editorialId") Long editorialId, @PathVariable("bookId") Long bookId)
 			throws EntityNotFoundException, IllegalOperationException {
 		BookEntity bookEntity = editorialBookService.getBook(editorialId, bookId);
-		return modelMapper.map(bookEntity, BookDetailDTO.class);
+		return BookMapper.toDetailDTO(bookEntity);
 	}
 
 	/**
@@ -118,17 +115,19 @@ public class EditorialBookController {
 	 *                    Este debe ser una cadena de dígitos.
 	 * @param books       JSONArray {@link BookDTO} El arreglo de libros nuevo para
 	 *                    la editorial.
+	 * @param ifMatch     El ETag de la versión de la editorial que el cliente
+	 *                    leyó. Si no coincide con la actual se responde 412.
 	 * @return JSON {@link BookDetailDTO} - El arreglo de libros guardado en la
 	 *         editorial.
 	 */
 	@PutMapping(value = "/{editorialId}/books")
 	@ResponseStatus(code = HttpStatus.OK)
 	public List<BookDetailDTO> replaceBooks(@PathVariable("editorialId") Long editorialsId,
-			@RequestBody List<BookDetailDTO> books) throws EntityNotFoundException {
-		List<BookEntity> booksList = modelMapper.map(books, new TypeToken<List<BookEntity>>() {
-		}.getType());
-		List<BookEntity> result = editorialBookService.replaceBooks(editorialsId, booksList);
-		return modelMapper.map(result, new TypeToken<List<BookDetailDTO>>() {
-		}.getType());
+			@RequestBody List<BookDetailDTO> books,
+			@RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch)
+			throws EntityNotFoundException, IllegalOperationException {
+		List<BookEntity> booksList = BookMapper.toEntities(books);
+		List<BookEntity> result = editorialBookService.replaceBooks(editorialsId, booksList, ETags.ifMatch(ifMatch));
+		return BookMapper.toDetailDTOs(result);
 	}
 }
@@ -25,9 +25,12 @@ package co.edu.uniandes.dse.bookstore.controllers;
 
 import java.util.List;
 
-import org.modelmapper.ModelMapper;
-import org.modelmapper.TypeToken;
+import javax.servlet.http.HttpServletResponse;
+
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -35,16 +38,23 @@ import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.ResponseStatus;
 import org.springframework.web.bind.annotation.RestController;
 
 import co.edu.uniandes.dse.bookstore.dto.EditorialDTO;
 import co.edu.uniandes.dse.bookstore.dto.EditorialDetailDTO;
+import co.edu.uniandes.dse.bookstore.dto.PageDTO;
+import co.edu.uniandes.dse.bookstore.dto.SuggestionDTO;
 import co.edu.uniandes.dse.bookstore.entities.EditorialEntity;
 import co.edu.uniandes.dse.bookstore.exceptions.EntityNotFoundException;
 import co.edu.uniandes.dse.bookstore.exceptions.IllegalOperationException;
+import co.edu.uniandes.dse.bookstore.mappers.EditorialMapper;
+import co.edu.uniandes.dse.bookstore.mappers.SuggestionMapper;
 import co.edu.uniandes.dse.bookstore.services.EditorialService;
+import co.edu.uniandes.dse.bookstore.services.SuggestionService;
 
 /**
  * Clase que implementa el recurso "editorials".
@@ -59,20 +69,23 @@ public class EditorialController {
 	private EditorialService editorialService;
 
 	@Autowired
-	private ModelMapper modelMapper;
+	private SuggestionService suggestionService;
 
 	 /**
      * Busca la editorial con el id asociado recibido en la URL y la devuelve.
      *
      * @param editorialId Identificador de la editorial que se esta buscando.
      * Este debe ser una cadena de dígitos.
+     * @param response La respuesta en la que se envía el ETag con la versión.
      * @return JSON {@link EditorialDetailDTO} - La editorial buscada
      */
 	@GetMapping(value = "/{id}")
 	@ResponseStatus(code = HttpStatus.OK)
-	public EditorialDetailDTO findOne(@PathVariable("id") Long id) throws EntityNotFoundException {
+	public EditorialDetailDTO findOne(@PathVariable("id") Long id, HttpServletResponse response)
+			throws EntityNotFoundException {
 		EditorialEntity editorialEntity = editorialService.getEditorial(id);
-		return modelMapper.map(editorialEntity, EditorialDetailDTO.class);
+		response.setHeader(HttpHeaders.ETAG, ETags.of(editorialEntity.getVersion()));
+		return EditorialMapper.toDetailDTO(editorialEntity);
 	}
 
 	/**
@@ -85,8 +98,39 @@ public class EditorialController {
 	@ResponseStatus(code = HttpStatus.OK)
 	public List<EditorialDetailDTO> findAll() {
 		List<EditorialEntity> editorials = editorialService.getEditorials();
-		return modelMapper.map(editorials, new TypeToken<List<EditorialDetailDTO>>() {
-		}.getType());
+		return EditorialMapper.toDetailDTOs(editorials);
+	}
+
+	/**
+	 * Busca y devuelve una página de las editoriales. Se activa cuando la petición
+	 * incluye el parámetro page; también se pueden enviar size y sort.
+	 *
+	 * @param pageable La página solicitada
+	 * @return JSON {@link PageDTO} - La página de editoriales, su número y el total de
+	 *         elementos.
+	 */
+	@GetMapping(params = "page")
+	@ResponseStatus(code = HttpStatus.OK)
+	public PageDTO<EditorialDetailDTO> findAll(Pageable pageable) throws IllegalOperationException {
+		Page<EditorialEntity> editorials = editorialService.getEditorials(pageable);
+		List<EditorialDetailDTO> items = EditorialMapper.toDetailDTOs(editorials.getContent());
+		return PageDTO.of(editorials, items);
+	}
+
+	/**
+	 * Sugiere las editoriales cuyo nombre, o alguna de sus palabras, empieza por el
+	 * prefijo recibido. Pensado para autocompletar mientras se escribe.
+	 *
+	 * @param prefix El prefijo, sin importar mayúsculas ni tildes.
+	 * @param limit  Número máximo de resultados, 10 si no se envía.
+	 * @return JSONArray {@link SuggestionDTO} - El id y el nombre de las editoriales
+	 *         encontradas.
+	 */
+	@GetMapping(value = "/suggest")
+	@ResponseStatus(code = HttpStatus.OK)
+	public List<SuggestionDTO> suggest(@RequestParam("prefix") String prefix,
+			@RequestParam(value = "limit", defaultValue = "10") int limit) throws IllegalOperationException {
+		return SuggestionMapper.toDTOs(suggestionService.suggestEditorials(prefix, limit));
 	}
 
 	/**
@@ -103,8 +147,8 @@ public class EditorialController {
 	@ResponseStatus(code = HttpStatus.CREATED)
 	public EditorialDTO create(@RequestBody EditorialDTO editorialDTO) throws IllegalOperationException {
 		EditorialEntity editorialEntity = editorialService
-				.createEditorial(modelMapper.map(editorialDTO, EditorialEntity.class));
-		return modelMapper.map(editorialEntity, EditorialDTO.class);
+				.createEditorial(EditorialMapper.toEntity(editorialDTO));
+		return EditorialMapper.toDTO(editorialEntity);
 	}
 
 	 /**
@@ -115,16 +159,22 @@ public class EditorialController {
      * actualizar. Este debe ser una cadena de dígitos.
      * @param editorial {@link EditorialDTO} La editorial que se desea
      * guardar.
+     * @param ifMatch  El ETag de la versión que el cliente leyó. Si no coincide
+     *                 con la actual se responde 412.
+     * @param response La respuesta en la que se envía el ETag de la nueva versión.
      * @return JSON {@link EditorialDTO} - La editorial guardada.
      */
 	
 	@PutMapping(value = "/{id}")
 	@ResponseStatus(code = HttpStatus.OK)
-	public EditorialDTO update(@PathVariable("id") Long id, @RequestBody EditorialDTO editorialDTO)
-			throws EntityNotFoundException {
-		EditorialEntity editorialEntity = editorialService.updateEditorial(id,
-				modelMapper.map(editorialDTO, EditorialEntity.class));
-		return modelMapper.map(editorialEntity, EditorialDTO.class);
+	public EditorialDTO update(@PathVariable("id") Long id, @RequestBody EditorialDTO editorialDTO,
+			@RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch,
+			HttpServletResponse response) throws EntityNotFoundException, IllegalOperationException {
+		EditorialEntity editorial = EditorialMapper.toEntity(editorialDTO);
+		editorial.setVersion(ETags.ifMatch(ifMatch));
+		EditorialEntity editorialEntity = editorialService.updateEditorial(id, editorial);
+		response.setHeader(HttpHeaders.ETAG, ETags.of(editorialEntity.getVersion()));
+		return EditorialMapper.toDTO(editorialEntity);
 	}
 
 	/**
@@ -25,9 +25,12 @@ package co.edu.uniandes.dse.bookstore.controllers;
 
 import java.util.List;
 
-import org.modelmapper.ModelMapper;
-import org.modelmapper.TypeToken;
+import javax.servlet.http.HttpServletResponse;
+
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -35,15 +38,18 @@ import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.ResponseStatus;
 import org.springframework.web.bind.annotation.RestController;
 
 import co.edu.uniandes.dse.bookstore.dto.OrganizationDTO;
 import co.edu.uniandes.dse.bookstore.dto.OrganizationDetailDTO;
+import co.edu.uniandes.dse.bookstore.dto.PageDTO;
 import co.edu.uniandes.dse.bookstore.entities.OrganizationEntity;
 import co.edu.uniandes.dse.bookstore.exceptions.EntityNotFoundException;
 import co.edu.uniandes.dse.bookstore.exceptions.IllegalOperationException;
+import co.edu.uniandes.dse.bookstore.mappers.OrganizationMapper;
 import co.edu.uniandes.dse.bookstore.services.OrganizationService;
 
 /**
@@ -58,9 +64,6 @@ public class OrganizationController {
 	@Autowired
 	private OrganizationService organizationService;
 
-	@Autowired
-	private ModelMapper modelMapper;
-
 	/**
 	 * Busca y devuelve todos las organizaciones que existen en la aplicacion.
 	 *
@@ -71,8 +74,23 @@ public class OrganizationController {
 	@ResponseStatus(code = HttpStatus.OK)
 	public List<OrganizationDetailDTO> findAll() {
 		List<OrganizationEntity> organizations = organizationService.getOrganizations();
-		return modelMapper.map(organizations, new TypeToken<List<OrganizationDetailDTO>>() {
-		}.getType());
+		return OrganizationMapper.toDetailDTOs(organizations);
+	}
+
+	/**
+	 * Busca y devuelve una página de las organizaciones. Se activa cuando la
+	 * petición incluye el parámetro page; también se pueden enviar size y sort.
+	 *
+	 * @param pageable La página solicitada
+	 * @return JSON {@link PageDTO} - La página de organizaciones, su número y el
+	 *         total de elementos.
+	 */
+	@GetMapping(params = "page")
+	@ResponseStatus(code = HttpStatus.OK)
+	public PageDTO<OrganizationDetailDTO> findAll(Pageable pageable) throws IllegalOperationException {
+		Page<OrganizationEntity> organizations = organizationService.getOrganizations(pageable);
+		List<OrganizationDetailDTO> items = OrganizationMapper.toDetailDTOs(organizations.getContent());
+		return PageDTO.of(organizations, items);
 	}
 
 	/**
@@ -80,13 +98,16 @@ public class OrganizationController {
 	 *
 	 * @param organizationId Identificador de la organization que se esta buscando.
 	 *                       Este debe ser una cadena de dígitos.
+	 * @param response La respuesta en la que se envía el ETag con la versión.
 	 * @return JSON {@link OrganizationDetailDTO} - La organization buscada
 	 */
 	@GetMapping(value = "/{id}")
 	@ResponseStatus(code = HttpStatus.OK)
-	public OrganizationDetailDTO findOne(@PathVariable("id") Long id) throws EntityNotFoundException {
+	public OrganizationDetailDTO findOne(@PathVariable("id") Long id, HttpServletResponse response)
+			throws EntityNotFoundException {
 		OrganizationEntity organizationEntity = organizationService.getOrganization(id);
-		return modelMapper.map(organizationEntity, OrganizationDetailDTO.class);
+		response.setHeader(HttpHeaders.ETAG, ETags.of(organizationEntity.getVersion()));
+		return OrganizationMapper.toDetailDTO(organizationEntity);
 	}
 
 	/**
@@ -103,8 +124,8 @@ public class OrganizationController {
 	@ResponseStatus(code = HttpStatus.CREATED)
 	public OrganizationDTO create(@RequestBody OrganizationDTO organizationDTO) throws IllegalOperationException {
 		OrganizationEntity organizationEntity = organizationService
-				.createOrganization(modelMapper.map(organizationDTO, OrganizationEntity.class));
-		return modelMapper.map(organizationEntity, OrganizationDTO.class);
+				.createOrganization(OrganizationMapper.toEntity(organizationDTO));
+		return OrganizationMapper.toDTO(organizationEntity);
 	}
 
 	/**
@@ -115,15 +136,21 @@ public class OrganizationController {
 	 *                     Este debe ser una cadena de dígitos.
 	 * @param organization {@link OrganizationDTO} La organization que se desea
 	 *                     guardar.
+	 * @param ifMatch  El ETag de la versión que el cliente leyó. Si no coincide
+	 *                 con la actual se responde 412.
+	 * @param response La respuesta en la que se envía el ETag de la nueva versión.
 	 * @return JSON {@link OrganizationDTO} - La organization guardada.
 	 */
 	@PutMapping(value = "/{id}")
 	@ResponseStatus(code = HttpStatus.OK)
-	public OrganizationDTO update(@PathVariable("id") Long id, @RequestBody OrganizationDTO organizationDTO)
-			throws EntityNotFoundException {
-		OrganizationEntity organizationEntity = organizationService.updateOrganization(id,
-				modelMapper.map(organizationDTO, OrganizationEntity.class));
-		return modelMapper.map(organizationEntity, OrganizationDTO.class);
+	public OrganizationDTO update(@PathVariable("id") Long id, @RequestBody OrganizationDTO organizationDTO,
+			@RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch,
+			HttpServletResponse response) throws EntityNotFoundException, IllegalOperationException {
+		OrganizationEntity organization = OrganizationMapper.toEntity(organizationDTO);
+		organization.setVersion(ETags.ifMatch(ifMatch));
+		OrganizationEntity organizationEntity = organizationService.updateOrganization(id, organization);
+		response.setHeader(HttpHeaders.ETAG, ETags.of(organizationEntity.getVersion()));
+		return OrganizationMapper.toDTO(organizationEntity);
 	}
 
 	/**
@@ -23,7 +23,6 @@ SOFTWARE.
 */
 package co.edu.uniandes.dse.bookstore.controllers;
 
-import org.modelmapper.ModelMapper;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.HttpStatus;
 import org.springframework.web.bind.annotation.DeleteMapping;
@@ -39,6 +38,7 @@ import co.edu.uniandes.dse.bookstore.dto.AuthorDTO;
 import co.edu.uniandes.dse.bookstore.dto.AuthorDetailDTO;
 import co.edu.uniandes.dse.bookstore.entities.AuthorEntity;
 import co.edu.uniandes.dse.bookstore.exceptions.EntityNotFoundException;
+import co.edu.uniandes.dse.bookstore.mappers.AuthorMapper;
 import co.edu.uniandes.dse.bookstore.services.PrizeAuthorService;
 
 /**
@@ -53,9 +53,6 @@ public class PrizeAuthorController {
 	@Autowired
 	private PrizeAuthorService prizeAuthorService;
 
-	@Autowired
-	private ModelMapper modelMapper;
-
 	/**
 	 * Guarda un author dentro de un premio con la informacion que recibe el la URL.
 	 *
@@ -70,7 +67,7 @@ public class PrizeAuthorController {
 	public AuthorDTO addAuthor(@PathVariable("prizeId") Long prizeId, @PathVariable("authorId") Long authorId)
 			throws EntityNotFoundException {
 		AuthorEntity authorEntity = prizeAuthorService.addAuthor(authorId, prizeId);
-		return modelMapper.map(authorEntity, AuthorDTO.class);
+		return AuthorMapper.toDTO(authorEntity);
 	}
 
 	/**
@@ -84,7 +81,7 @@ public class PrizeAuthorController {
 	@ResponseStatus(code = HttpStatus.OK)
 	public AuthorDetailDTO getAuthor(@PathVariable("prizeId") Long prizeId) throws EntityNotFoundException {
 		AuthorEntity authorEntity = prizeAuthorService.getAuthor(prizeId);
-		return modelMapper.map(authorEntity, AuthorDetailDTO.class);
+		return AuthorMapper.toDetailDTO(authorEntity);
 	}
 
 	/**
@@ -101,7 +98,7 @@ public class PrizeAuthorController {
 	public AuthorDetailDTO replaceAuthor(@PathVariable("prizeId") Long prizeId, @PathVariable("authorId") Long authorId)
 			throws EntityNotFoundException {
 		AuthorEntity authorEntity = prizeAuthorService.replaceAuthor(prizeId, authorId);
-		return modelMapper.map(authorEntity, AuthorDetailDTO.class);
+		return AuthorMapper.toDetailDTO(authorEntity);
 	}
 
 	/**
@@ -24,10 +24,14 @@ SOFTWARE.
 package co.edu.uniandes.dse.bookstore.controllers;
 
 import java.util.List;
+import java.util.Map;
+
+import javax.servlet.http.HttpServletResponse;
 
-import org.modelmapper.ModelMapper;
-import org.modelmapper.TypeToken;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -35,15 +39,20 @@ import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.ResponseStatus;
 import org.springframework.web.bind.annotation.RestController;
 
+import co.edu.uniandes.dse.bookstore.dto.Fields;
+import co.edu.uniandes.dse.bookstore.dto.PageDTO;
 import co.edu.uniandes.dse.bookstore.dto.PrizeDTO;
 import co.edu.uniandes.dse.bookstore.dto.PrizeDetailDTO;
 import co.edu.uniandes.dse.bookstore.entities.PrizeEntity;
 import co.edu.uniandes.dse.bookstore.exceptions.EntityNotFoundException;
 import co.edu.uniandes.dse.bookstore.exceptions.IllegalOperationException;
+import co.edu.uniandes.dse.bookstore.mappers.PrizeMapper;
 import co.edu.uniandes.dse.bookstore.services.PrizeService;
 
 /**
@@ -58,9 +67,6 @@ public class PrizeController {
 	@Autowired
 	private PrizeService prizeService;
 
-	@Autowired
-	private ModelMapper modelMapper;
-
 	/**
 	 * Busca y devuelve todos los premios que existen en la aplicacion.
 	 *
@@ -71,8 +77,55 @@ public class PrizeController {
 	@ResponseStatus(code = HttpStatus.OK)
 	public List<PrizeDetailDTO> findAll() {
 		List<PrizeEntity> prizes = prizeService.getPrizes();
-		return modelMapper.map(prizes, new TypeToken<List<PrizeDetailDTO>>() {
-		}.getType());
+		return PrizeMapper.toDetailDTOs(prizes);
+	}
+
+	/**
+	 * Busca y devuelve una página de los premios. Se activa cuando la petición
+	 * incluye el parámetro page; también se pueden enviar size y sort.
+	 *
+	 * @param pageable La página solicitada
+	 * @return JSON {@link PageDTO} - La página de premios, su número y el total de
+	 *         elementos.
+	 */
+	@GetMapping(params = "page")
+	@ResponseStatus(code = HttpStatus.OK)
+	public PageDTO<PrizeDetailDTO> findAll(Pageable pageable) throws IllegalOperationException {
+		Page<PrizeEntity> prizes = prizeService.getPrizes(pageable);
+		List<PrizeDetailDTO> items = PrizeMapper.toDetailDTOs(prizes.getContent());
+		return PageDTO.of(prizes, items);
+	}
+
+	/**
+	 * Busca y devuelve solo los campos pedidos de todos los premios, por ejemplo
+	 * /prizes?fields=name,premiationDate. Las columnas que no se piden no se leen
+	 * de la base de datos. El id se incluye siempre.
+	 *
+	 * @param fields Los campos a devolver (id, version, premiationDate, name,
+	 *               description).
+	 * @return JSONArray - Un objeto por premio con los campos pedidos.
+	 */
+	@GetMapping(params = { "fields", "!page" })
+	@ResponseStatus(code = HttpStatus.OK)
+	public List<Map<String, Object>> findFields(@RequestParam("fields") List<String> fields) throws IllegalOperationException {
+		return prizeService.getPrizeFields(Fields.parse(fields, PrizeDTO.FIELDS));
+	}
+
+	/**
+	 * Busca y devuelve una página con solo los campos pedidos de los premios.
+	 *
+	 * @param pageable La página solicitada.
+	 * @param fields   Los campos a devolver.
+	 * @return JSON {@link PageDTO} - La página, su número y el total de
+	 *         elementos.
+	 */
+	@GetMapping(params = { "fields", "page" })
+	@ResponseStatus(code = HttpStatus.OK)
+	public PageDTO<Map<String, Object>> findFields(Pageable pageable, @RequestParam("fields") List<String> fields)
+			throws IllegalOperationException {
+		Fields selected = Fields.parse(fields, PrizeDTO.FIELDS);
+		Page<Map<String, Object>> prizes = prizeService.getPrizeFields(pageable, selected);
+		return PageDTO.of(prizes, prizes.getContent());
 	}
 
 	/**
@@ -80,6 +133,7 @@ public class PrizeController {
 	 *
 	 * @param id Identificador del premio que se esta buscando. Este debe ser una
 	 *           cadena de dígitos.
+	 * @param response La respuesta en la que se envía el ETag con la versión.
 	 * @return JSON {@link PrizeDetailDTO} - El premio buscado
 	 * @throws WebApplicationException {@link WebApplicationExceptionMapper} - Error
 	 *                                 de lógica que se genera cuando no se
@@ -87,9 +141,11 @@ public class PrizeController {
 	 */
 	@GetMapping(value = "/{id}")
 	@ResponseStatus(code = HttpStatus.OK)
-	public PrizeDetailDTO findOne(@PathVariable("id") Long id) throws EntityNotFoundException {
+	public PrizeDetailDTO findOne(@PathVariable("id") Long id, HttpServletResponse response)
+			throws EntityNotFoundException {
 		PrizeEntity prizeEntity = prizeService.getPrize(id);
-		return modelMapper.map(prizeEntity, PrizeDetailDTO.class);
+		response.setHeader(HttpHeaders.ETAG, ETags.of(prizeEntity.getVersion()));
+		return PrizeMapper.toDetailDTO(prizeEntity);
 	}
 
 	/**
@@ -104,8 +160,8 @@ public class PrizeController {
 	@PostMapping
 	@ResponseStatus(code = HttpStatus.CREATED)
 	public PrizeDTO create(@RequestBody PrizeDTO prizeDTO) throws IllegalOperationException {
-		PrizeEntity prizeEntity = prizeService.createPrize(modelMapper.map(prizeDTO, PrizeEntity.class));
-		return modelMapper.map(prizeEntity, PrizeDTO.class);
+		PrizeEntity prizeEntity = prizeService.createPrize(PrizeMapper.toEntity(prizeDTO));
+		return PrizeMapper.toDTO(prizeEntity);
 	}
 
 	/**
@@ -115,14 +171,21 @@ public class PrizeController {
 	 * @param id    Identificador del premio que se desea actualizar. Este debe ser
 	 *              una cadena de dígitos.
 	 * @param prize {@link PrizeDTO} El premio que se desea guardar.
+	 * @param ifMatch  El ETag de la versión que el cliente leyó. Si no coincide
+	 *                 con la actual se responde 412.
+	 * @param response La respuesta en la que se envía el ETag de la nueva versión.
 	 * @return JSON {@link PrizeDetailDTO} - El premio guardada.
 	 */
 	@PutMapping(value = "/{id}")
 	@ResponseStatus(code = HttpStatus.OK)
-	public PrizeDetailDTO update(@PathVariable("id") Long id, @RequestBody PrizeDTO prizeDTO)
-			throws EntityNotFoundException {
-		PrizeEntity prizeEntity = prizeService.updatePrize(id, modelMapper.map(prizeDTO, PrizeEntity.class));
-		return modelMapper.map(prizeEntity, PrizeDetailDTO.class);
+	public PrizeDetailDTO update(@PathVariable("id") Long id, @RequestBody PrizeDTO prizeDTO,
+			@RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch,
+			HttpServletResponse response) throws EntityNotFoundException, IllegalOperationException {
+		PrizeEntity prize = PrizeMapper.toEntity(prizeDTO);
+		prize.setVersion(ETags.ifMatch(ifMatch));
+		PrizeEntity prizeEntity = prizeService.updatePrize(id, prize);
+		response.setHeader(HttpHeaders.ETAG, ETags.of(prizeEntity.getVersion()));
+		return PrizeMapper.toDetailDTO(prizeEntity);
 	}
 
 	/**
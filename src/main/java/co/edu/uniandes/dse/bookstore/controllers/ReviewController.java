@@ -25,9 +25,10 @@ package co.edu.uniandes.dse.bookstore.controllers;
 
 import java.util.List;
 
-import org.modelmapper.ModelMapper;
-import org.modelmapper.TypeToken;
+import javax.servlet.http.HttpServletResponse;
+
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -35,13 +36,18 @@ import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.ResponseStatus;
 import org.springframework.web.bind.annotation.RestController;
 
+import co.edu.uniandes.dse.bookstore.dto.BatchDTO;
 import co.edu.uniandes.dse.bookstore.dto.ReviewDTO;
 import co.edu.uniandes.dse.bookstore.entities.ReviewEntity;
 import co.edu.uniandes.dse.bookstore.exceptions.EntityNotFoundException;
+import co.edu.uniandes.dse.bookstore.exceptions.IllegalOperationException;
+import co.edu.uniandes.dse.bookstore.mappers.ReviewMapper;
 import co.edu.uniandes.dse.bookstore.services.ReviewService;
 
 /**
@@ -57,9 +63,6 @@ public class ReviewController {
 	@Autowired
 	private ReviewService reviewService;
 
-	@Autowired
-	private ModelMapper modelMapper;
-
 	/**
 	 * Crea una nueva reseña con la informacion que se recibe en el cuerpo de la
 	 * petición y se regresa un objeto identico con un id auto-generado por la base
@@ -74,9 +77,9 @@ public class ReviewController {
 	@ResponseStatus(code = HttpStatus.CREATED)
 	public ReviewDTO createReview(@PathVariable("bookId") Long bookId, @RequestBody ReviewDTO review)
 			throws EntityNotFoundException {
-		ReviewEntity reviewEnity = modelMapper.map(review, ReviewEntity.class);
+		ReviewEntity reviewEnity = ReviewMapper.toEntity(review);
 		ReviewEntity newReview = reviewService.createReview(bookId, reviewEnity);
-		return modelMapper.map(newReview, ReviewDTO.class);
+		return ReviewMapper.toDTO(newReview);
 	}
 
 	/**
@@ -90,8 +93,24 @@ public class ReviewController {
 	@ResponseStatus(code = HttpStatus.OK)
 	public List<ReviewDTO> getReviews(@PathVariable("bookId") Long bookId) throws EntityNotFoundException {
 		List<ReviewEntity> reviews = reviewService.getReviews(bookId);
-		return modelMapper.map(reviews, new TypeToken<List<ReviewDTO>>() {
-		}.getType());
+		return ReviewMapper.toDTOs(reviews);
+	}
+
+	/**
+	 * Busca y devuelve las reseñas de un libro con los ids recibidos, por ejemplo
+	 * /books/1/reviews?ids=4,5. Todas se leen con una sola consulta.
+	 *
+	 * @param bookId El ID del libro del cual se buscan las reseñas
+	 * @param ids    Los ids de las reseñas, máximo 100.
+	 * @return JSON {@link BatchDTO} - Las reseñas del libro encontradas en el
+	 *         orden de los ids y los ids que no existen en el libro.
+	 */
+	@GetMapping(value = "/{bookId}/reviews", params = "ids")
+	@ResponseStatus(code = HttpStatus.OK)
+	public BatchDTO<ReviewDTO> getReviews(@PathVariable("bookId") Long bookId, @RequestParam("ids") List<Long> ids)
+			throws EntityNotFoundException, IllegalOperationException {
+		List<ReviewEntity> reviews = reviewService.getReviewsById(bookId, ids);
+		return BatchDTO.of(ids, ReviewMapper.toDTOs(reviews), ReviewDTO::getId);
 	}
 
 	/**
@@ -99,14 +118,16 @@ public class ReviewController {
 	 *
 	 * @param bookId   El ID del libro del cual se buscan las reseñas
 	 * @param reviewId El ID de la reseña que se busca
+	 * @param response La respuesta en la que se envía el ETag con la versión.
 	 * @return {@link ReviewDTO} - La reseña encontradas en el libro.
 	 */
 	@GetMapping(value = "/{bookId}/reviews/{reviewId}")
 	@ResponseStatus(code = HttpStatus.OK)
-	public ReviewDTO getReview(@PathVariable("bookId") Long bookId, @PathVariable("reviewId") Long reviewId)
-			throws EntityNotFoundException {
+	public ReviewDTO getReview(@PathVariable("bookId") Long bookId, @PathVariable("reviewId") Long reviewId,
+			HttpServletResponse response) throws EntityNotFoundException {
 		ReviewEntity entity = reviewService.getReview(bookId, reviewId);
-		return modelMapper.map(entity, ReviewDTO.class);
+		response.setHeader(HttpHeaders.ETAG, ETags.of(entity.getVersion()));
+		return ReviewMapper.toDTO(entity);
 	}
 
 	/**
@@ -116,15 +137,22 @@ public class ReviewController {
 	 * @param bookId   El ID del libro del cual se guarda la reseña
 	 * @param reviewId El ID de la reseña que se va a actualizar
 	 * @param review   {@link ReviewDTO} - La reseña que se desea guardar.
+	 * @param ifMatch  El ETag de la versión que el cliente leyó. Si no coincide
+	 *                 con la actual se responde 412.
+	 * @param response La respuesta en la que se envía el ETag de la nueva versión.
 	 * @return JSON {@link ReviewDTO} - La reseña actualizada.
 	 */
 	@PutMapping(value = "/{bookId}/reviews/{reviewsId}")
 	@ResponseStatus(code = HttpStatus.OK)
 	public ReviewDTO updateReview(@PathVariable("bookId") Long bookId, @PathVariable("reviewsId") Long reviewId,
-			@RequestBody ReviewDTO review) throws EntityNotFoundException {
-		ReviewEntity reviewEntity = modelMapper.map(review, ReviewEntity.class);
+			@RequestBody ReviewDTO review,
+			@RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch,
+			HttpServletResponse response) throws EntityNotFoundException, IllegalOperationException {
+		ReviewEntity reviewEntity = ReviewMapper.toEntity(review);
+		reviewEntity.setVersion(ETags.ifMatch(ifMatch));
 		ReviewEntity newEntity = reviewService.updateReview(bookId, reviewId, reviewEntity);
-		return modelMapper.map(newEntity, ReviewDTO.class);
+		response.setHeader(HttpHeaders.ETAG, ETags.of(newEntity.getVersion()));
+		return ReviewMapper.toDTO(newEntity);
 	}
 
 	/**
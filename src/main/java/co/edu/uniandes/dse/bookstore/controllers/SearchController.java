@@ -0,0 +1,68 @@
+/*
+MIT License
+
+Copyright (c) 2021 Universidad de los Andes - ISIS2603
+
+Permission is hereby granted, free of charge, to any person obtaining a copy
+of this software and associated documentation files (the "Software"), to deal
+in the Software without restriction, including without limitation the rights
+to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+copies of the Software, and to permit persons to whom the Software is
+furnished to do so, subject to the following conditions:
+
+The above copyright notice and this permission notice shall be included in all
+copies or substantial portions of the Software.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+SOFTWARE.
+*/
+package co.edu.uniandes.dse.bookstore.controllers;
+
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.ResponseStatus;
+import org.springframework.web.bind.annotation.RestController;
+
+import co.edu.uniandes.dse.bookstore.dto.FuzzyMatchDTO;
+import co.edu.uniandes.dse.bookstore.exceptions.IllegalOperationException;
+import co.edu.uniandes.dse.bookstore.mappers.SearchMapper;
+import co.edu.uniandes.dse.bookstore.services.FuzzySearchService;
+
+/**
+ * Clase que implementa el recurso "search".
+ *
+ * @author ISIS2603
+ */
+@RestController
+@RequestMapping("/search")
+public class SearchController {
+
+	@Autowired
+	private FuzzySearchService fuzzySearchService;
+
+	/**
+	 * Busca los libros y autores cuyo nombre se parece a la consulta, aunque
+	 * tenga errores de escritura.
+	 *
+	 * @param q     El nombre a buscar.
+	 * @param limit Número máximo de resultados, 10 si no se envía.
+	 * @return JSONArray {@link FuzzyMatchDTO} - Los libros y autores encontrados,
+	 *         del más al menos parecido.
+	 */
+	@GetMapping("/fuzzy")
+	@ResponseStatus(code = HttpStatus.OK)
+	public List<FuzzyMatchDTO> fuzzy(@RequestParam("q") String q,
+			@RequestParam(value = "limit", defaultValue = "10") int limit) throws IllegalOperationException {
+		return SearchMapper.toFuzzyMatchDTOs(fuzzySearchService.search(q, limit));
+	}
+}
@@ -24,12 +24,19 @@ SOFTWARE.
 package co.edu.uniandes.dse.bookstore.dto;
 
 import java.util.Date;
+import java.util.Set;
 
 import lombok.Data;
 
 @Data
 public class AuthorDTO {
+	/**
+	 * Atributos que se pueden pedir con el parámetro fields.
+	 */
+	public static final Set<String> FIELDS = Set.of("id", "version", "birthDate", "name", "description", "image");
+
 	private Long id;
+	private Long version;
 	private Date birthDate;
 	private String name;
 	private String description;
@@ -25,11 +25,23 @@ package co.edu.uniandes.dse.bookstore.dto;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Set;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
 
 import lombok.Data;
 
 @Data
 public class AuthorDetailDTO extends AuthorDTO {
+
+	/**
+	 * Asociaciones que se pueden pedir con el parámetro include.
+	 */
+	public static final Set<String> ASSOCIATIONS = Set.of("books", "prizes");
+
+	@JsonInclude(JsonInclude.Include.NON_NULL)
 	private List<BookDTO> books = new ArrayList<>();
+
+	@JsonInclude(JsonInclude.Include.NON_NULL)
 	private List<PrizeDTO> prizes = new ArrayList<>();
 }
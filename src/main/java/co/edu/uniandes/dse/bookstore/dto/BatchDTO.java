@@ -0,0 +1,66 @@
+/*
+MIT License
+
+Copyright (c) 2021 Universidad de los Andes - ISIS2603
+
+Permission is hereby granted, free of charge, to any person obtaining a copy
+of this software and associated documentation files (the "Software"), to deal
+in the Software without restriction, including without limitation the rights
+to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+copies of the Software, and to permit persons to whom the Software is
+furnished to do so, subject to the following conditions:
+
+The above copyright notice and this permission notice shall be included in all
+copies or substantial portions of the Software.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+SOFTWARE.
+*/
+package co.edu.uniandes.dse.bookstore.dto;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Function;
+
+import lombok.Data;
+
+/**
+ * Resultado de una consulta de varios elementos por una lista de ids. Los
+ * elementos van en el orden en que se pidieron sus ids; los ids que no se
+ * encontraron quedan en missing.
+ *
+ * @param <T> Tipo de los elementos
+ */
+@Data
+public class BatchDTO<T> {
+	private List<T> items = new ArrayList<>();
+	private List<Long> missing = new ArrayList<>();
+
+	/**
+	 * Crea el resultado a partir de los ids pedidos y los elementos encontrados.
+	 *
+	 * @param <T>   Tipo de los elementos
+	 * @param ids   Los ids solicitados
+	 * @param items Los elementos encontrados, en el orden de los ids
+	 * @param id    Función que devuelve el id de un elemento
+	 * @return El resultado con los elementos y los ids que faltan, sin repetir
+	 */
+	public static <T> BatchDTO<T> of(List<Long> ids, List<T> items, Function<T, Long> id) {
+		BatchDTO<T> dto = new BatchDTO<>();
+		dto.setItems(items);
+		Set<Long> found = new HashSet<>();
+		items.forEach(item -> found.add(id.apply(item)));
+		Set<Long> missing = new LinkedHashSet<>(ids);
+		missing.removeAll(found);
+		dto.setMissing(new ArrayList<>(missing));
+		return dto;
+	}
+}
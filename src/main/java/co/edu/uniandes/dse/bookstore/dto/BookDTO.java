@@ -24,16 +24,28 @@ SOFTWARE.
 package co.edu.uniandes.dse.bookstore.dto;
 
 import java.util.Date;
+import java.util.Set;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
 
 import lombok.Data;
 
 @Data
 public class BookDTO {
+	/**
+	 * Atributos que se pueden pedir con el parámetro fields.
+	 */
+	public static final Set<String> FIELDS = Set.of("id", "version", "name", "isbn", "image", "publishingDate",
+			"description");
+
 	private Long id;
+	private Long version;
 	private String name;
 	private String isbn;
 	private String image;
 	private Date publishingDate;
 	private String description;
+
+	@JsonInclude(JsonInclude.Include.NON_NULL)
 	private EditorialDTO editorial;
 }
@@ -25,11 +25,23 @@ package co.edu.uniandes.dse.bookstore.dto;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Set;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
 
 import lombok.Data;
 
 @Data
 public class BookDetailDTO extends BookDTO {
+
+	/**
+	 * Asociaciones que se pueden pedir con el parámetro include.
+	 */
+	public static final Set<String> ASSOCIATIONS = Set.of("editorial", "authors", "reviews");
+
+	@JsonInclude(JsonInclude.Include.NON_NULL)
 	private List<ReviewDTO> reviews = new ArrayList<>();
+
+	@JsonInclude(JsonInclude.Include.NON_NULL)
 	private List<AuthorDTO> authors = new ArrayList<>();
 }
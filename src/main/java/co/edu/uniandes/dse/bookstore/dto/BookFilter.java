@@ -0,0 +1,70 @@
+/*
+MIT License
+
+Copyright (c) 2021 Universidad de los Andes - ISIS2603
+
+Permission is hereby granted, free of charge, to any person obtaining a copy
+of this software and associated documentation files (the "Software"), to deal
+in the Software without restriction, including without limitation the rights
+to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+copies of the Software, and to permit persons to whom the Software is
+furnished to do so, subject to the following conditions:
+
+The above copyright notice and this permission notice shall be included in all
+copies or substantial portions of the Software.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+SOFTWARE.
+*/
+package co.edu.uniandes.dse.bookstore.dto;
+
+import java.util.Date;
+
+import org.springframework.format.annotation.DateTimeFormat;
+
+import lombok.Data;
+
+/**
+ * Filtros opcionales para consultar libros. Los filtros que no son null se
+ * combinan con "y".
+ *
+ * @author ISIS2603
+ */
+@Data
+public class BookFilter {
+	private Long editorialId;
+	private Long authorId;
+
+	/**
+	 * Fecha de publicación mínima, inclusive.
+	 */
+	@DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+	private Date publishedFrom;
+
+	/**
+	 * Fecha de publicación máxima, inclusive.
+	 */
+	@DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+	private Date publishedTo;
+
+	/**
+	 * Inicio del nombre del libro. Distingue mayúsculas para poder usar el
+	 * índice sobre el nombre.
+	 */
+	private String namePrefix;
+
+	private String isbn;
+
+	/**
+	 * Indica si no hay ningún filtro.
+	 */
+	public boolean isEmpty() {
+		return editorialId == null && authorId == null && publishedFrom == null && publishedTo == null
+				&& namePrefix == null && isbn == null;
+	}
+}
@@ -28,5 +28,6 @@ import lombok.Data;
 @Data
 public class EditorialDTO {
 	private Long id;
+	private Long version;
 	private String name;
 }
@@ -0,0 +1,86 @@
+/*
+MIT License
+
+Copyright (c) 2021 Universidad de los Andes - ISIS2603
+
+Permission is hereby granted, free of charge, to any person obtaining a copy
+of this software and associated documentation files (the "Software"), to deal
+in the Software without restriction, including without limitation the rights
+to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+copies of the Software, and to permit persons to whom the Software is
+furnished to do so, subject to the following conditions:
+
+The above copyright notice and this permission notice shall be included in all
+copies or substantial portions of the Software.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+SOFTWARE.
+*/
+package co.edu.uniandes.dse.bookstore.dto;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+
+import co.edu.uniandes.dse.bookstore.exceptions.IllegalOperationException;
+
+/**
+ * Campos que se devuelven de cada elemento de un listado, según el parámetro
+ * fields de la petición, por ejemplo fields=name,isbn,image. Solo se permiten
+ * los atributos simples del recurso y el id se incluye siempre, de primero,
+ * para que el cliente pueda pedir el detalle.
+ *
+ * @author ISIS2603
+ */
+public final class Fields {
+
+	public static final String ID = "id";
+
+	private final List<String> names;
+
+	private Fields(List<String> names) {
+		this.names = Collections.unmodifiableList(names);
+	}
+
+	/**
+	 * Lee el parámetro fields de una petición.
+	 *
+	 * @param fields  Los nombres de los campos pedidos
+	 * @param allowed Los nombres de los atributos simples del recurso
+	 * @return Los campos a devolver, sin repetir y en el orden pedido
+	 * @throws IllegalOperationException Si alguno de los nombres no es un
+	 *                                   atributo simple del recurso
+	 */
+	public static Fields parse(Collection<String> fields, Set<String> allowed) throws IllegalOperationException {
+		List<String> names = new ArrayList<>();
+		names.add(ID);
+		for (String name : fields) {
+			String trimmed = name.trim();
+			if (trimmed.isEmpty() || names.contains(trimmed))
+				continue;
+			if (!allowed.contains(trimmed))
+				throw new IllegalOperationException("Field " + trimmed + " is not valid");
+			names.add(trimmed);
+		}
+		return new Fields(names);
+	}
+
+	/**
+	 * @return Los nombres de los campos, empezando por el id
+	 */
+	public List<String> names() {
+		return names;
+	}
+
+	@Override
+	public String toString() {
+		return names.toString();
+	}
+}
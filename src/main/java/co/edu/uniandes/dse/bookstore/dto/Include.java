@@ -0,0 +1,103 @@
+/*
+MIT License
+
+Copyright (c) 2021 Universidad de los Andes - ISIS2603
+
+Permission is hereby granted, free of charge, to any person obtaining a copy
+of this software and associated documentation files (the "Software"), to deal
+in the Software without restriction, including without limitation the rights
+to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+copies of the Software, and to permit persons to whom the Software is
+furnished to do so, subject to the following conditions:
+
+The above copyright notice and this permission notice shall be included in all
+copies or substantial portions of the Software.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+SOFTWARE.
+*/
+package co.edu.uniandes.dse.bookstore.dto;
+
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Set;
+
+import co.edu.uniandes.dse.bookstore.exceptions.IllegalOperationException;
+
+/**
+ * Asociaciones que se cargan e incluyen en el detalle de un recurso, según el
+ * parámetro include de la petición, por ejemplo include=authors,editorial. Si
+ * la petición no tiene el parámetro se incluyen todas.
+ *
+ * @author ISIS2603
+ */
+public final class Include {
+
+	public static final Include ALL = new Include(null);
+
+	private final Set<String> names;
+
+	private Include(Set<String> names) {
+		this.names = names;
+	}
+
+	/**
+	 * Lee el parámetro include de una petición.
+	 *
+	 * @param include Los nombres de las asociaciones pedidas, o null si la
+	 *                petición no tiene el parámetro
+	 * @param allowed Los nombres de las asociaciones que tiene el recurso
+	 * @return Las asociaciones a incluir
+	 * @throws IllegalOperationException Si alguno de los nombres no es una
+	 *                                   asociación del recurso
+	 */
+	public static Include parse(Collection<String> include, Set<String> allowed) throws IllegalOperationException {
+		if (include == null)
+			return ALL;
+		Set<String> names = new HashSet<>();
+		for (String name : include) {
+			String trimmed = name.trim();
+			if (trimmed.isEmpty())
+				continue;
+			if (!allowed.contains(trimmed))
+				throw new IllegalOperationException("Include " + trimmed + " is not valid");
+			names.add(trimmed);
+		}
+		return new Include(names);
+	}
+
+	/**
+	 * Crea la selección de asociaciones fija que usa una consulta compuesta.
+	 *
+	 * @param names Los nombres de las asociaciones a incluir
+	 * @return Las asociaciones a incluir
+	 */
+	public static Include of(String... names) {
+		return new Include(Set.of(names));
+	}
+
+	/**
+	 * @return true si se incluyen todas las asociaciones
+	 */
+	public boolean isAll() {
+		return names == null;
+	}
+
+	/**
+	 * @param name El nombre de una asociación
+	 * @return true si la asociación se incluye
+	 */
+	public boolean has(String name) {
+		return names == null || names.contains(name);
+	}
+
+	@Override
+	public String toString() {
+		return names == null ? "all" : names.toString();
+	}
+}
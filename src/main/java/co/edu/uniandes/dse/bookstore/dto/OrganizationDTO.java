@@ -28,6 +28,7 @@ import lombok.Data;
 @Data
 public class OrganizationDTO {
 	private Long id;
+	private Long version;
 
 	public enum TIPO_ORGANIZACION {
 		PRIVADA, PUBLICA, FUNDACION
@@ -0,0 +1,69 @@
+/*
+MIT License
+
+Copyright (c) 2021 Universidad de los Andes - ISIS2603
+
+Permission is hereby granted, free of charge, to any person obtaining a copy
+of this software and associated documentation files (the "Software"), to deal
+in the Software without restriction, including without limitation the rights
+to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+copies of the Software, and to permit persons to whom the Software is
+furnished to do so, subject to the following conditions:
+
+The above copyright notice and this permission notice shall be included in all
+copies or substantial portions of the Software.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+SOFTWARE.
+*/
+package co.edu.uniandes.dse.bookstore.dto;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.springframework.data.domain.Page;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+import lombok.Data;
+
+/**
+ * Página de resultados de una colección. Contiene los elementos de la página y
+ * el tamaño solicitado. Las páginas por cursor incluyen, si existen más
+ * resultados, el cursor opaco que se debe enviar para obtener la siguiente
+ * página; las páginas por desplazamiento incluyen el número de la página y el
+ * total de elementos.
+ *
+ * @param <T> Tipo de los elementos de la página
+ */
+@Data
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class PageDTO<T> {
+	private List<T> items = new ArrayList<>();
+	private int size;
+	private String nextCursor;
+	private Integer page;
+	private Long total;
+
+	/**
+	 * Crea una página por desplazamiento a partir de una página de entidades.
+	 *
+	 * @param <T>   Tipo de los elementos de la página
+	 * @param page  La página de entidades consultada
+	 * @param items Los elementos de la página ya convertidos
+	 * @return La página con el número de página y el total de elementos
+	 */
+	public static <T> PageDTO<T> of(Page<?> page, List<T> items) {
+		PageDTO<T> dto = new PageDTO<>();
+		dto.setItems(items);
+		dto.setSize(page.getSize());
+		dto.setPage(page.getNumber());
+		dto.setTotal(page.getTotalElements());
+		return dto;
+	}
+}
@@ -28,6 +28,7 @@ import lombok.Data;
 @Data
 public class ReviewDTO {
     private Long id;
+    private Long version;
     private String name;
     private String source;
     private String description;
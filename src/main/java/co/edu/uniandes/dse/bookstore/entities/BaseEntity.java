@@ -28,6 +28,11 @@ import javax.persistence.GeneratedValue;
 import javax.persistence.GenerationType;
 import javax.persistence.Id;
 import javax.persistence.MappedSuperclass;
+import javax.persistence.Version;
+
+import org.hibernate.annotations.GenericGenerator;
+import org.hibernate.annotations.Parameter;
+import org.hibernate.id.enhanced.SequenceStyleGenerator;
 
 import lombok.Data;
 import uk.co.jemos.podam.common.PodamExclude;
@@ -36,6 +41,14 @@ import uk.co.jemos.podam.common.PodamExclude;
  * Entidad genérica de la que heredan todas las entidades. Contiene la
  * referencia al atributo id
  *
+ * Los ids salen de una secuencia por entidad que se reserva en bloques de
+ * {@value #ID_ALLOCATION_SIZE}, de modo que Hibernate puede agrupar varios
+ * INSERT en un mismo lote JDBC.
+ *
+ * La versión aumenta con cada actualización. Hibernate la incluye en el WHERE
+ * del UPDATE, así que una actualización hecha sobre una versión vieja falla en
+ * lugar de sobrescribir los cambios de otra petición.
+ *
  * @author ISIS2603
  */
 
@@ -43,8 +56,18 @@ import uk.co.jemos.podam.common.PodamExclude;
 @MappedSuperclass
 public abstract class BaseEntity {
 
+	static final int ID_ALLOCATION_SIZE = 50;
+
 	@PodamExclude
 	@Id
-	@GeneratedValue(strategy = GenerationType.IDENTITY)
+	@GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "entity-sequence")
+	@GenericGenerator(name = "entity-sequence", strategy = "org.hibernate.id.enhanced.SequenceStyleGenerator", parameters = {
+			@Parameter(name = SequenceStyleGenerator.CONFIG_PREFER_SEQUENCE_PER_ENTITY, value = "true"),
+			@Parameter(name = SequenceStyleGenerator.INCREMENT_PARAM, value = "" + ID_ALLOCATION_SIZE),
+			@Parameter(name = SequenceStyleGenerator.OPT_PARAM, value = "pooled-lo") })
 	private Long id;
+
+	@PodamExclude
+	@Version
+	private Long version;
 }
@@ -30,9 +30,13 @@ import java.util.List;
 
 import javax.persistence.CascadeType;
 import javax.persistence.Entity;
+import javax.persistence.Index;
+import javax.persistence.JoinColumn;
+import javax.persistence.JoinTable;
 import javax.persistence.ManyToMany;
 import javax.persistence.ManyToOne;
 import javax.persistence.OneToMany;
+import javax.persistence.Table;
 import javax.persistence.Temporal;
 import javax.persistence.TemporalType;
 
@@ -47,6 +51,10 @@ import uk.co.jemos.podam.common.PodamExclude;
 
 @Data
 @Entity
+@Table(indexes = { @Index(name = "UK_BOOK_ENTITY_ISBN", columnList = "isbn", unique = true),
+		@Index(name = "IX_BOOK_ENTITY_EDITORIAL_DATE", columnList = "editorial_id, publishingDate"),
+		@Index(name = "IX_BOOK_ENTITY_DATE", columnList = "publishingDate"),
+		@Index(name = "IX_BOOK_ENTITY_NAME", columnList = "name") })
 public class BookEntity extends BaseEntity {
 
 	private String name;
@@ -68,5 +76,8 @@ public class BookEntity extends BaseEntity {
 
 	@PodamExclude
 	@ManyToMany
+	@JoinTable(name = "BOOK_ENTITY_AUTHORS", joinColumns = @JoinColumn(name = "books_id"),
+			inverseJoinColumns = @JoinColumn(name = "authors_id"),
+			indexes = @Index(name = "IX_BOOK_ENTITY_AUTHORS_AUTHOR", columnList = "authors_id, books_id"))
 	private List<AuthorEntity> authors = new ArrayList<>();
 }
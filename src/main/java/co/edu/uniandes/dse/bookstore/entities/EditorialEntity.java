@@ -27,9 +27,13 @@ package co.edu.uniandes.dse.bookstore.entities;
 import java.util.ArrayList;
 import java.util.List;
 
+import javax.persistence.Cacheable;
 import javax.persistence.Entity;
 import javax.persistence.OneToMany;
 
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+
 import lombok.Data;
 import uk.co.jemos.podam.common.PodamExclude;
 
@@ -41,6 +45,8 @@ import uk.co.jemos.podam.common.PodamExclude;
 
 @Data
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
 public class EditorialEntity extends BaseEntity {
 
 	private String name;
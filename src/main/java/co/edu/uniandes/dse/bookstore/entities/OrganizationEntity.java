@@ -24,10 +24,14 @@ SOFTWARE.
 
 package co.edu.uniandes.dse.bookstore.entities;
 
+import javax.persistence.Cacheable;
 import javax.persistence.Entity;
 import javax.persistence.FetchType;
 import javax.persistence.OneToOne;
 
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+
 import lombok.Data;
 import uk.co.jemos.podam.common.PodamExclude;
 
@@ -39,9 +43,11 @@ import uk.co.jemos.podam.common.PodamExclude;
 
 @Data
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
 public class OrganizationEntity extends BaseEntity {
 
-	enum TIPO_ORGANIZACION {
+	public enum TIPO_ORGANIZACION {
 		PRIVADA, PUBLICA, FUNDACION
 	}
 
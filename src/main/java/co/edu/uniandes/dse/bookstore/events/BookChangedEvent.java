@@ -0,0 +1,52 @@
+/*
+MIT License
+
+Copyright (c) 2021 Universidad de los Andes - ISIS2603
+
+Permission is hereby granted, free of charge, to any person obtaining a copy
+of this software and associated documentation files (the "Software"), to deal
+in the Software without restriction, including without limitation the rights
+to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+copies of the Software, and to permit persons to whom the Software is
+furnished to do so, subject to the following conditions:
+
+The above copyright notice and this permission notice shall be included in all
+copies or substantial portions of the Software.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+SOFTWARE.
+*/
+package co.edu.uniandes.dse.bookstore.events;
+
+import java.util.Collection;
+import java.util.Set;
+
+import lombok.Getter;
+
+/**
+ * Evento que se publica cuando cambia la información que se muestra de uno o
+ * varios libros: sus datos, su editorial, sus autores o sus reseñas.
+ *
+ * @author ISIS2603
+ */
+@Getter
+public class BookChangedEvent {
+
+	/**
+	 * Identificadores de los libros que cambiaron.
+	 */
+	private final Set<Long> bookIds;
+
+	public BookChangedEvent(Long bookId) {
+		this.bookIds = Set.of(bookId);
+	}
+
+	public BookChangedEvent(Collection<Long> bookIds) {
+		this.bookIds = Set.copyOf(bookIds);
+	}
+}
@@ -25,11 +25,13 @@ package co.edu.uniandes.dse.bookstore.exceptions;
 
 public final class ErrorMessage {
 	public static final String BOOK_NOT_FOUND = "The book with the given id was not found";
+	public static final String BOOK_ISBN_NOT_FOUND = "The book with the given ISBN was not found";
 	public static final String REVIEW_NOT_FOUND = "The review with the given id was not found";
 	public static final String EDITORIAL_NOT_FOUND = "The editorial with the given id was not found";
 	public static final String PRIZE_NOT_FOUND = "The prize with the given id was not found";
 	public static final String AUTHOR_NOT_FOUND = "The author with the given id was not found";
 	public static final String ORGANIZATION_NOT_FOUND = "The organization with the given id was not found";
+	public static final String VERSION_CONFLICT = "The entity was modified by another request";
 
 	private ErrorMessage() {
 		throw new IllegalStateException("Utility class");
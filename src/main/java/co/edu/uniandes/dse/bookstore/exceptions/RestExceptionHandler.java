@@ -2,6 +2,7 @@ package co.edu.uniandes.dse.bookstore.exceptions;
 
 import org.springframework.core.Ordered;
 import org.springframework.core.annotation.Order;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.ControllerAdvice;
 import org.springframework.web.bind.annotation.ExceptionHandler;
@@ -42,6 +43,22 @@ public class RestExceptionHandler extends ResponseEntityExceptionHandler {
         return buildResponseEntity(apiError);
     }
 
+    /**
+     * Handles OptimisticLockingFailureException. It is thrown when an update is
+     * made over an old version of the entity, either because the If-Match header
+     * does not match or because another request updated it first.
+     *
+     * @param ex the OptimisticLockingFailureException
+     * @return the ApiError object
+     */
+    @ExceptionHandler(OptimisticLockingFailureException.class)
+    protected ResponseEntity<Object> handleOptimisticLockingFailure(
+    		OptimisticLockingFailureException ex) {
+        ApiError apiError = new ApiError(PRECONDITION_FAILED);
+        apiError.setMessage(ErrorMessage.VERSION_CONFLICT);
+        return buildResponseEntity(apiError);
+    }
+
     private ResponseEntity<Object> buildResponseEntity(ApiError apiError) {
         return new ResponseEntity<>(apiError, apiError.getStatus());
     }
@@ -0,0 +1,106 @@
+/*
+MIT License
+
+Copyright (c) 2021 Universidad de los Andes - ISIS2603
+
+Permission is hereby granted, free of charge, to any person obtaining a copy
+of this software and associated documentation files (the "Software"), to deal
+in the Software without restriction, including without limitation the rights
+to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+copies of the Software, and to permit persons to whom the Software is
+furnished to do so, subject to the following conditions:
+
+The above copyright notice and this permission notice shall be included in all
+copies or substantial portions of the Software.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+SOFTWARE.
+*/
+package co.edu.uniandes.dse.bookstore.mappers;
+
+import java.util.List;
+
+import co.edu.uniandes.dse.bookstore.dto.AuthorDTO;
+import co.edu.uniandes.dse.bookstore.dto.AuthorDetailDTO;
+import co.edu.uniandes.dse.bookstore.dto.Include;
+import co.edu.uniandes.dse.bookstore.entities.AuthorEntity;
+
+/**
+ * Convierte entre {@link AuthorEntity} y sus DTOs.
+ *
+ * @author ISIS2603
+ */
+public final class AuthorMapper {
+
+	private AuthorMapper() {
+		throw new IllegalStateException("Utility class");
+	}
+
+	public static AuthorDTO toDTO(AuthorEntity entity) {
+		if (entity == null)
+			return null;
+		AuthorDTO dto = new AuthorDTO();
+		copy(entity, dto);
+		return dto;
+	}
+
+	public static AuthorDetailDTO toDetailDTO(AuthorEntity entity) {
+		return toDetailDTO(entity, Include.ALL);
+	}
+
+	/**
+	 * Convierte un autor a su detalle con solo las asociaciones pedidas. Las
+	 * colecciones que no se piden no se recorren, así que no se cargan.
+	 */
+	public static AuthorDetailDTO toDetailDTO(AuthorEntity entity, Include include) {
+		if (entity == null)
+			return null;
+		AuthorDetailDTO dto = new AuthorDetailDTO();
+		copy(entity, dto);
+		dto.setBooks(include.has("books") ? BookMapper.toDTOs(entity.getBooks()) : null);
+		dto.setPrizes(include.has("prizes") ? PrizeMapper.toDTOs(entity.getPrizes()) : null);
+		return dto;
+	}
+
+	public static List<AuthorDTO> toDTOs(List<AuthorEntity> entities) {
+		return Mappers.mapList(entities, AuthorMapper::toDTO);
+	}
+
+	public static List<AuthorDetailDTO> toDetailDTOs(List<AuthorEntity> entities) {
+		return Mappers.mapList(entities, AuthorMapper::toDetailDTO);
+	}
+
+	public static List<AuthorDetailDTO> toDetailDTOs(List<AuthorEntity> entities, Include include) {
+		return Mappers.mapList(entities, entity -> toDetailDTO(entity, include));
+	}
+
+	public static AuthorEntity toEntity(AuthorDTO dto) {
+		if (dto == null)
+			return null;
+		AuthorEntity entity = new AuthorEntity();
+		entity.setId(dto.getId());
+		entity.setBirthDate(dto.getBirthDate());
+		entity.setName(dto.getName());
+		entity.setDescription(dto.getDescription());
+		entity.setImage(dto.getImage());
+		return entity;
+	}
+
+	public static List<AuthorEntity> toEntities(List<? extends AuthorDTO> dtos) {
+		return Mappers.mapList(dtos, AuthorMapper::toEntity);
+	}
+
+	private static void copy(AuthorEntity entity, AuthorDTO dto) {
+		dto.setId(entity.getId());
+		dto.setVersion(entity.getVersion());
+		dto.setBirthDate(entity.getBirthDate());
+		dto.setName(entity.getName());
+		dto.setDescription(entity.getDescription());
+		dto.setImage(entity.getImage());
+	}
+}
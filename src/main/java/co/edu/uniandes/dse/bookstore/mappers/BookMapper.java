@@ -0,0 +1,132 @@
+/*
+MIT License
+
+Copyright (c) 2021 Universidad de los Andes - ISIS2603
+
+Permission is hereby granted, free of charge, to any person obtaining a copy
+of this software and associated documentation files (the "Software"), to deal
+in the Software without restriction, including without limitation the rights
+to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+copies of the Software, and to permit persons to whom the Software is
+furnished to do so, subject to the following conditions:
+
+The above copyright notice and this permission notice shall be included in all
+copies or substantial portions of the Software.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+SOFTWARE.
+*/
+package co.edu.uniandes.dse.bookstore.mappers;
+
+import java.util.List;
+
+import org.springframework.data.domain.Page;
+
+import co.edu.uniandes.dse.bookstore.dto.BookDTO;
+import co.edu.uniandes.dse.bookstore.dto.BookDetailDTO;
+import co.edu.uniandes.dse.bookstore.dto.BookOverviewDTO;
+import co.edu.uniandes.dse.bookstore.dto.Include;
+import co.edu.uniandes.dse.bookstore.dto.PageDTO;
+import co.edu.uniandes.dse.bookstore.entities.BookEntity;
+import co.edu.uniandes.dse.bookstore.entities.ReviewEntity;
+
+/**
+ * Convierte entre {@link BookEntity} y sus DTOs.
+ *
+ * @author ISIS2603
+ */
+public final class BookMapper {
+
+	private BookMapper() {
+		throw new IllegalStateException("Utility class");
+	}
+
+	public static BookDTO toDTO(BookEntity entity) {
+		if (entity == null)
+			return null;
+		BookDTO dto = new BookDTO();
+		copy(entity, dto);
+		return dto;
+	}
+
+	public static BookDetailDTO toDetailDTO(BookEntity entity) {
+		return toDetailDTO(entity, Include.ALL);
+	}
+
+	/**
+	 * Convierte un libro a su detalle con solo las asociaciones pedidas. Las
+	 * colecciones que no se piden no se recorren, así que no se cargan.
+	 */
+	public static BookDetailDTO toDetailDTO(BookEntity entity, Include include) {
+		if (entity == null)
+			return null;
+		BookDetailDTO dto = new BookDetailDTO();
+		copy(entity, dto);
+		if (!include.has("editorial"))
+			dto.setEditorial(null);
+		dto.setReviews(include.has("reviews") ? ReviewMapper.toDTOs(entity.getReviews()) : null);
+		dto.setAuthors(include.has("authors") ? AuthorMapper.toDTOs(entity.getAuthors()) : null);
+		return dto;
+	}
+
+	/**
+	 * Arma la vista de la página de un libro: el libro con su editorial, la
+	 * página de reseñas, los autores con sus premios y otros libros de los
+	 * mismos autores.
+	 */
+	public static BookOverviewDTO toOverviewDTO(BookEntity entity, Page<ReviewEntity> reviews,
+			List<BookEntity> relatedBooks) {
+		BookOverviewDTO dto = new BookOverviewDTO();
+		copy(entity, dto);
+		dto.setReviews(PageDTO.of(reviews, ReviewMapper.toDTOs(reviews.getContent())));
+		dto.setAuthors(AuthorMapper.toDetailDTOs(entity.getAuthors(), Include.of("prizes")));
+		dto.setRelatedBooks(toDTOs(relatedBooks));
+		return dto;
+	}
+
+	public static List<BookDTO> toDTOs(List<BookEntity> entities) {
+		return Mappers.mapList(entities, BookMapper::toDTO);
+	}
+
+	public static List<BookDetailDTO> toDetailDTOs(List<BookEntity> entities) {
+		return Mappers.mapList(entities, BookMapper::toDetailDTO);
+	}
+
+	public static List<BookDetailDTO> toDetailDTOs(List<BookEntity> entities, Include include) {
+		return Mappers.mapList(entities, entity -> toDetailDTO(entity, include));
+	}
+
+	public static BookEntity toEntity(BookDTO dto) {
+		if (dto == null)
+			return null;
+		BookEntity entity = new BookEntity();
+		entity.setId(dto.getId());
+		entity.setName(dto.getName());
+		entity.setIsbn(dto.getIsbn());
+		entity.setImage(dto.getImage());
+		entity.setPublishingDate(dto.getPublishingDate());
+		entity.setDescription(dto.getDescription());
+		entity.setEditorial(EditorialMapper.toEntity(dto.getEditorial()));
+		return entity;
+	}
+
+	public static List<BookEntity> toEntities(List<? extends BookDTO> dtos) {
+		return Mappers.mapList(dtos, BookMapper::toEntity);
+	}
+
+	private static void copy(BookEntity entity, BookDTO dto) {
+		dto.setId(entity.getId());
+		dto.setVersion(entity.getVersion());
+		dto.setName(entity.getName());
+		dto.setIsbn(entity.getIsbn());
+		dto.setImage(entity.getImage());
+		dto.setPublishingDate(entity.getPublishingDate());
+		dto.setDescription(entity.getDescription());
+		dto.setEditorial(EditorialMapper.toDTO(entity.getEditorial()));
+	}
+}
@@ -0,0 +1,78 @@
+/*
+MIT License
+
+Copyright (c) 2021 Universidad de los Andes - ISIS2603
+
+Permission is hereby granted, free of charge, to any person obtaining a copy
+of this software and associated documentation files (the "Software"), to deal
+in the Software without restriction, including without limitation the rights
+to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+copies of the Software, and to permit persons to whom the Software is
+furnished to do so, subject to the following conditions:
+
+The above copyright notice and this permission notice shall be included in all
+copies or substantial portions of the Software.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+SOFTWARE.
+*/
+package co.edu.uniandes.dse.bookstore.mappers;
+
+import java.util.List;
+
+import co.edu.uniandes.dse.bookstore.dto.EditorialDTO;
+import co.edu.uniandes.dse.bookstore.dto.EditorialDetailDTO;
+import co.edu.uniandes.dse.bookstore.entities.EditorialEntity;
+
+/**
+ * Convierte entre {@link EditorialEntity} y sus DTOs.
+ *
+ * @author ISIS2603
+ */
+public final class EditorialMapper {
+
+	private EditorialMapper() {
+		throw new IllegalStateException("Utility class");
+	}
+
+	public static EditorialDTO toDTO(EditorialEntity entity) {
+		if (entity == null)
+			return null;
+		EditorialDTO dto = new EditorialDTO();
+		copy(entity, dto);
+		return dto;
+	}
+
+	public static EditorialDetailDTO toDetailDTO(EditorialEntity entity) {
+		if (entity == null)
+			return null;
+		EditorialDetailDTO dto = new EditorialDetailDTO();
+		copy(entity, dto);
+		dto.setBooks(BookMapper.toDTOs(entity.getBooks()));
+		return dto;
+	}
+
+	public static List<EditorialDetailDTO> toDetailDTOs(List<EditorialEntity> entities) {
+		return Mappers.mapList(entities, EditorialMapper::toDetailDTO);
+	}
+
+	public static EditorialEntity toEntity(EditorialDTO dto) {
+		if (dto == null)
+			return null;
+		EditorialEntity entity = new EditorialEntity();
+		entity.setId(dto.getId());
+		entity.setName(dto.getName());
+		return entity;
+	}
+
+	private static void copy(EditorialEntity entity, EditorialDTO dto) {
+		dto.setId(entity.getId());
+		dto.setVersion(entity.getVersion());
+		dto.setName(entity.getName());
+	}
+}
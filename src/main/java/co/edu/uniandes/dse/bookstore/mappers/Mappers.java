@@ -0,0 +1,59 @@
+/*
+MIT License
+
+Copyright (c) 2021 Universidad de los Andes - ISIS2603
+
+Permission is hereby granted, free of charge, to any person obtaining a copy
+of this software and associated documentation files (the "Software"), to deal
+in the Software without restriction, including without limitation the rights
+to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+copies of the Software, and to permit persons to whom the Software is
+furnished to do so, subject to the following conditions:
+
+The above copyright notice and this permission notice shall be included in all
+copies or substantial portions of the Software.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+SOFTWARE.
+*/
+package co.edu.uniandes.dse.bookstore.mappers;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * Utilidades comunes a los mappers entre entidades y DTOs.
+ *
+ * @author ISIS2603
+ */
+final class Mappers {
+
+	private Mappers() {
+		throw new IllegalStateException("Utility class");
+	}
+
+	/**
+	 * Convierte cada elemento de una lista con la función dada.
+	 *
+	 * @param <S>    Tipo de los elementos de origen
+	 * @param <T>    Tipo de los elementos de destino
+	 * @param source La lista de origen, puede ser null
+	 * @param mapper La función de conversión
+	 * @return Una nueva lista con los elementos convertidos, vacía si la lista de
+	 *         origen es null
+	 */
+	static <S, T> List<T> mapList(List<? extends S> source, Function<S, T> mapper) {
+		if (source == null)
+			return new ArrayList<>();
+		List<T> target = new ArrayList<>(source.size());
+		for (S element : source)
+			target.add(mapper.apply(element));
+		return target;
+	}
+}
@@ -0,0 +1,82 @@
+/*
+MIT License
+
+Copyright (c) 2021 Universidad de los Andes - ISIS2603
+
+Permission is hereby granted, free of charge, to any person obtaining a copy
+of this software and associated documentation files (the "Software"), to deal
+in the Software without restriction, including without limitation the rights
+to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+copies of the Software, and to permit persons to whom the Software is
+furnished to do so, subject to the following conditions:
+
+The above copyright notice and this permission notice shall be included in all
+copies or substantial portions of the Software.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+SOFTWARE.
+*/
+package co.edu.uniandes.dse.bookstore.mappers;
+
+import java.util.List;
+
+import co.edu.uniandes.dse.bookstore.dto.OrganizationDTO;
+import co.edu.uniandes.dse.bookstore.dto.OrganizationDetailDTO;
+import co.edu.uniandes.dse.bookstore.entities.OrganizationEntity;
+
+/**
+ * Convierte entre {@link OrganizationEntity} y sus DTOs.
+ *
+ * @author ISIS2603
+ */
+public final class OrganizationMapper {
+
+	private OrganizationMapper() {
+		throw new IllegalStateException("Utility class");
+	}
+
+	public static OrganizationDTO toDTO(OrganizationEntity entity) {
+		if (entity == null)
+			return null;
+		OrganizationDTO dto = new OrganizationDTO();
+		copy(entity, dto);
+		return dto;
+	}
+
+	public static OrganizationDetailDTO toDetailDTO(OrganizationEntity entity) {
+		if (entity == null)
+			return null;
+		OrganizationDetailDTO dto = new OrganizationDetailDTO();
+		copy(entity, dto);
+		dto.setPrize(PrizeMapper.toDTO(entity.getPrize()));
+		return dto;
+	}
+
+	public static List<OrganizationDetailDTO> toDetailDTOs(List<OrganizationEntity> entities) {
+		return Mappers.mapList(entities, OrganizationMapper::toDetailDTO);
+	}
+
+	public static OrganizationEntity toEntity(OrganizationDTO dto) {
+		if (dto == null)
+			return null;
+		OrganizationEntity entity = new OrganizationEntity();
+		entity.setId(dto.getId());
+		entity.setName(dto.getName());
+		if (dto.getTipo() != null)
+			entity.setTipo(OrganizationEntity.TIPO_ORGANIZACION.valueOf(dto.getTipo().name()));
+		return entity;
+	}
+
+	private static void copy(OrganizationEntity entity, OrganizationDTO dto) {
+		dto.setId(entity.getId());
+		dto.setVersion(entity.getVersion());
+		dto.setName(entity.getName());
+		if (entity.getTipo() != null)
+			dto.setTipo(OrganizationDTO.TIPO_ORGANIZACION.valueOf(entity.getTipo().name()));
+	}
+}
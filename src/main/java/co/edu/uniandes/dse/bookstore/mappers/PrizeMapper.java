@@ -0,0 +1,88 @@
+/*
+MIT License
+
+Copyright (c) 2021 Universidad de los Andes - ISIS2603
+
+Permission is hereby granted, free of charge, to any person obtaining a copy
+of this software and associated documentation files (the "Software"), to deal
+in the Software without restriction, including without limitation the rights
+to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+copies of the Software, and to permit persons to whom the Software is
+furnished to do so, subject to the following conditions:
+
+The above copyright notice and this permission notice shall be included in all
+copies or substantial portions of the Software.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+SOFTWARE.
+*/
+package co.edu.uniandes.dse.bookstore.mappers;
+
+import java.util.List;
+
+import co.edu.uniandes.dse.bookstore.dto.PrizeDTO;
+import co.edu.uniandes.dse.bookstore.dto.PrizeDetailDTO;
+import co.edu.uniandes.dse.bookstore.entities.PrizeEntity;
+
+/**
+ * Convierte entre {@link PrizeEntity} y sus DTOs.
+ *
+ * @author ISIS2603
+ */
+public final class PrizeMapper {
+
+	private PrizeMapper() {
+		throw new IllegalStateException("Utility class");
+	}
+
+	public static PrizeDTO toDTO(PrizeEntity entity) {
+		if (entity == null)
+			return null;
+		PrizeDTO dto = new PrizeDTO();
+		copy(entity, dto);
+		return dto;
+	}
+
+	public static PrizeDetailDTO toDetailDTO(PrizeEntity entity) {
+		if (entity == null)
+			return null;
+		PrizeDetailDTO dto = new PrizeDetailDTO();
+		copy(entity, dto);
+		dto.setAuthor(AuthorMapper.toDTO(entity.getAuthor()));
+		return dto;
+	}
+
+	public static List<PrizeDTO> toDTOs(List<PrizeEntity> entities) {
+		return Mappers.mapList(entities, PrizeMapper::toDTO);
+	}
+
+	public static List<PrizeDetailDTO> toDetailDTOs(List<PrizeEntity> entities) {
+		return Mappers.mapList(entities, PrizeMapper::toDetailDTO);
+	}
+
+	public static PrizeEntity toEntity(PrizeDTO dto) {
+		if (dto == null)
+			return null;
+		PrizeEntity entity = new PrizeEntity();
+		entity.setId(dto.getId());
+		entity.setPremiationDate(dto.getPremiationDate());
+		entity.setName(dto.getName());
+		entity.setDescription(dto.getDescription());
+		entity.setOrganization(OrganizationMapper.toEntity(dto.getOrganization()));
+		return entity;
+	}
+
+	private static void copy(PrizeEntity entity, PrizeDTO dto) {
+		dto.setId(entity.getId());
+		dto.setVersion(entity.getVersion());
+		dto.setPremiationDate(entity.getPremiationDate());
+		dto.setName(entity.getName());
+		dto.setDescription(entity.getDescription());
+		dto.setOrganization(OrganizationMapper.toDTO(entity.getOrganization()));
+	}
+}
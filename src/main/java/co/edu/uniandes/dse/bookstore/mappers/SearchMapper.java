@@ -0,0 +1,56 @@
+/*
+MIT License
+
+Copyright (c) 2021 Universidad de los Andes - ISIS2603
+
+Permission is hereby granted, free of charge, to any person obtaining a copy
+of this software and associated documentation files (the "Software"), to deal
+in the Software without restriction, including without limitation the rights
+to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+copies of the Software, and to permit persons to whom the Software is
+furnished to do so, subject to the following conditions:
+
+The above copyright notice and this permission notice shall be included in all
+copies or substantial portions of the Software.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+SOFTWARE.
+*/
+package co.edu.uniandes.dse.bookstore.mappers;
+
+import java.util.List;
+
+import co.edu.uniandes.dse.bookstore.dto.FuzzyMatchDTO;
+import co.edu.uniandes.dse.bookstore.search.FuzzyNameIndex.Match;
+
+/**
+ * Convierte los resultados de la búsqueda aproximada a {@link FuzzyMatchDTO}.
+ *
+ * @author ISIS2603
+ */
+public final class SearchMapper {
+
+	private SearchMapper() {
+		throw new IllegalStateException("Utility class");
+	}
+
+	public static FuzzyMatchDTO toFuzzyMatchDTO(Match match) {
+		if (match == null)
+			return null;
+		FuzzyMatchDTO dto = new FuzzyMatchDTO();
+		dto.setType(FuzzyMatchDTO.Type.valueOf(match.getType().name()));
+		dto.setId(match.getId());
+		dto.setName(match.getName());
+		dto.setSimilarity(match.getSimilarity());
+		return dto;
+	}
+
+	public static List<FuzzyMatchDTO> toFuzzyMatchDTOs(List<Match> matches) {
+		return Mappers.mapList(matches, SearchMapper::toFuzzyMatchDTO);
+	}
+}
@@ -24,7 +24,16 @@ SOFTWARE.
 
 package co.edu.uniandes.dse.bookstore.repositories;
 
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+import javax.persistence.QueryHint;
+
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import co.edu.uniandes.dse.bookstore.entities.AuthorEntity;
@@ -36,6 +45,44 @@ import co.edu.uniandes.dse.bookstore.entities.AuthorEntity;
  *
  */
 @Repository
-public interface AuthorRepository extends JpaRepository<AuthorEntity, Long> {
+public interface AuthorRepository extends JpaRepository<AuthorEntity, Long>, FieldProjectionRepository {
+	@Query("select a.id as id, a.name as name from AuthorEntity a")
+	List<NameView> findAllNames();
+
+	@Query("select a.id as id, a.name as name from AuthorEntity a where a.id in :ids")
+	List<NameView> findNamesByIdIn(@Param("ids") Collection<Long> ids);
+
+	@QueryHints(@QueryHint(name = "hibernate.query.passDistinctThrough", value = "false"))
+	@Query("select distinct a from AuthorEntity a left join fetch a.books where a in :authors")
+	List<AuthorEntity> fetchBooks(@Param("authors") Collection<AuthorEntity> authors);
+
+	@QueryHints(@QueryHint(name = "hibernate.query.passDistinctThrough", value = "false"))
+	@Query("select distinct a from AuthorEntity a left join fetch a.prizes p left join fetch p.organization "
+			+ "where a in :authors")
+	List<AuthorEntity> fetchPrizes(@Param("authors") Collection<AuthorEntity> authors);
+
+	/**
+	 * Loads only the requested collections of the given authors, one query per
+	 * collection. The other collections stay uninitialized.
+	 */
+	default void fetchDetails(Collection<AuthorEntity> authors, boolean books, boolean prizes) {
+		if (authors.isEmpty())
+			return;
+		if (books)
+			fetchBooks(authors);
+		if (prizes)
+			fetchPrizes(authors);
+	}
+
+	@Query("select a.id as id, a.version as version from AuthorEntity a where a.id = :id")
+	Optional<VersionView> findVersionById(@Param("id") Long id);
+
+	@Query("select b.id as id, b.version as version from AuthorEntity a join a.books b where a.id = :id order by b.id")
+	List<VersionView> findBookVersions(@Param("id") Long id);
+
+	@Query("select e.id as id, e.version as version from AuthorEntity a join a.books b join b.editorial e where a.id = :id order by b.id")
+	List<VersionView> findEditorialVersions(@Param("id") Long id);
 
+	@Query("select count(x) as count, max(x.id) as maxId, sum(x.version) as versionSum from AuthorEntity x")
+	VersionSummaryView summarizeVersions();
 }
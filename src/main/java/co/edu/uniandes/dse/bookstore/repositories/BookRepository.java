@@ -24,20 +24,196 @@ SOFTWARE.
 
 package co.edu.uniandes.dse.bookstore.repositories;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
 
+import javax.persistence.QueryHint;
+
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import co.edu.uniandes.dse.bookstore.entities.AuthorEntity;
 import co.edu.uniandes.dse.bookstore.entities.BookEntity;
+import co.edu.uniandes.dse.bookstore.entities.EditorialEntity;
 
 /**
- * Interface that persists a book
+ * Interface that persists a book.
+ *
+ * The *WithDetails methods load the books together with their editorial,
+ * authors and reviews in a fixed number of queries: one for the books and their
+ * editorial and one for each collection. Both collections are bags, so they
+ * cannot be fetched in the same join.
  *
  * @author ISIS2603
  *
  */
 @Repository
-public interface BookRepository extends JpaRepository<BookEntity, Long> {
-	List<BookEntity> findByIsbn(String isbn);
+public interface BookRepository
+		extends JpaRepository<BookEntity, Long>, JpaSpecificationExecutor<BookEntity>, FieldProjectionRepository {
+	boolean existsByIsbn(String isbn);
+
+	boolean existsByIsbnAndIdNot(String isbn, Long id);
+
+	@EntityGraph(attributePaths = "editorial")
+	Optional<BookEntity> findWithEditorialByIsbn(String isbn);
+
+	@Query("select b.id from BookEntity b where b.id in :ids")
+	List<Long> findIdsByIdIn(@Param("ids") Collection<Long> ids);
+
+	/**
+	 * Moves the given books to an editorial with a single bulk UPDATE. The
+	 * persistence context is flushed before and cleared after the statement, so
+	 * no managed book or editorial keeps the previous association. The statement
+	 * is versioned, so every moved book gets a new version.
+	 */
+	@Modifying(flushAutomatically = true, clearAutomatically = true)
+	@Query("update versioned BookEntity b set b.editorial = :editorial where b.id in :ids")
+	int updateEditorial(@Param("editorial") EditorialEntity editorial, @Param("ids") Collection<Long> ids);
+
+	@Query("select b.isbn from BookEntity b where b.isbn in :isbns")
+	List<String> findIsbnsIn(@Param("isbns") Collection<String> isbns);
+
+	@Query("select b.id as id, b.version as version from BookEntity b where b.id = :id")
+	Optional<VersionView> findVersionById(@Param("id") Long id);
+
+	@Query("select e.id as id, e.version as version from BookEntity b join b.editorial e where b.id = :id")
+	List<VersionView> findEditorialVersions(@Param("id") Long id);
+
+	@Query("select a.id as id, a.version as version from BookEntity b join b.authors a where b.id = :id order by a.id")
+	List<VersionView> findAuthorVersions(@Param("id") Long id);
+
+	@Query("select count(x) as count, max(x.id) as maxId, sum(x.version) as versionSum from BookEntity x")
+	VersionSummaryView summarizeVersions();
+
+	@Query("select a.id from BookEntity b join b.authors a where b.id = :bookId")
+	List<Long> findAuthorIds(@Param("bookId") Long bookId);
+
+	@Query("select b.id as id, b.name as name from BookEntity b")
+	List<NameView> findAllNames();
+
+	@Query("select b.id as id, b.name as name from BookEntity b where b.id in :ids")
+	List<NameView> findNamesByIdIn(@Param("ids") Collection<Long> ids);
+
+	/**
+	 * Number of books per editorial, per publishing year and per author. Each
+	 * query is one GROUP BY answered from the indexes of BOOK_ENTITY and
+	 * BOOK_ENTITY_AUTHORS.
+	 */
+	@Query("select b.editorial.id as key, count(b) as count from BookEntity b where b.editorial is not null group by b.editorial.id")
+	List<FacetCountView> countByEditorial();
+
+	@Query("select year(b.publishingDate) as key, count(b) as count from BookEntity b where b.publishingDate is not null group by year(b.publishingDate)")
+	List<FacetCountView> countByPublishingYear();
+
+	@Query("select a.id as key, count(b) as count from BookEntity b join b.authors a group by a.id")
+	List<FacetCountView> countByAuthor();
+
+	@Override
+	@EntityGraph(attributePaths = "editorial")
+	List<BookEntity> findAll(Specification<BookEntity> spec, Sort sort);
+
+	@Override
+	@EntityGraph(attributePaths = "editorial")
+	Page<BookEntity> findAll(Specification<BookEntity> spec, Pageable pageable);
+
+	@EntityGraph(attributePaths = "editorial")
+	Slice<BookEntity> findByIdGreaterThan(Long id, Pageable pageable);
+
+	@EntityGraph(attributePaths = "editorial")
+	@Query("select b from BookEntity b")
+	List<BookEntity> findAllWithEditorial();
+
+	@EntityGraph(attributePaths = "editorial")
+	Optional<BookEntity> findWithEditorialById(Long id);
+
+	@EntityGraph(attributePaths = "editorial")
+	List<BookEntity> findWithEditorialByIdIn(Collection<Long> ids);
+
+	/**
+	 * Reads all the books with their editorial, ordered by id, through a
+	 * forward-only cursor. The stream must be consumed and closed inside a
+	 * transaction.
+	 */
+	@QueryHints({ @QueryHint(name = "org.hibernate.fetchSize", value = "500"),
+			@QueryHint(name = "org.hibernate.readOnly", value = "true") })
+	@Query("select b from BookEntity b left join fetch b.editorial order by b.id")
+	Stream<BookEntity> streamAllWithEditorial();
+
+	@QueryHints(@QueryHint(name = "hibernate.query.passDistinctThrough", value = "false"))
+	@Query("select distinct b from BookEntity b left join fetch b.authors")
+	List<BookEntity> fetchAllAuthors();
+
+	@QueryHints(@QueryHint(name = "hibernate.query.passDistinctThrough", value = "false"))
+	@Query("select distinct b from BookEntity b left join fetch b.reviews")
+	List<BookEntity> fetchAllReviews();
+
+	@QueryHints(@QueryHint(name = "hibernate.query.passDistinctThrough", value = "false"))
+	@Query("select distinct b from BookEntity b left join fetch b.authors where b in :books")
+	List<BookEntity> fetchAuthors(@Param("books") Collection<BookEntity> books);
+
+	@QueryHints(@QueryHint(name = "hibernate.query.passDistinctThrough", value = "false"))
+	@Query("select distinct b from BookEntity b left join fetch b.reviews where b in :books")
+	List<BookEntity> fetchReviews(@Param("books") Collection<BookEntity> books);
+
+	/**
+	 * Returns other books written by any of the given authors, newest first,
+	 * with their editorial. The authors are matched through a subquery so each
+	 * book is returned once.
+	 */
+	@Query("select b from BookEntity b left join fetch b.editorial where b.id <> :bookId and b.id in "
+			+ "(select o.id from BookEntity o join o.authors a where a in :authors) "
+			+ "order by b.publishingDate desc, b.id")
+	List<BookEntity> findByAuthorsExcluding(@Param("bookId") Long bookId,
+			@Param("authors") Collection<AuthorEntity> authors, Pageable pageable);
+
+	default List<BookEntity> findAllWithDetails() {
+		List<BookEntity> books = findAllWithEditorial();
+		if (!books.isEmpty()) {
+			fetchAllAuthors();
+			fetchAllReviews();
+		}
+		return books;
+	}
+
+	default Optional<BookEntity> findByIdWithDetails(Long id) {
+		Optional<BookEntity> book = findWithEditorialById(id);
+		book.ifPresent(b -> fetchDetails(List.of(b)));
+		return book;
+	}
+
+	default Optional<BookEntity> findByIsbnWithDetails(String isbn) {
+		Optional<BookEntity> book = findWithEditorialByIsbn(isbn);
+		book.ifPresent(b -> fetchDetails(List.of(b)));
+		return book;
+	}
+
+	default void fetchDetails(Collection<BookEntity> books) {
+		fetchDetails(books, true, true);
+	}
+
+	/**
+	 * Loads only the requested collections of the given books, one query per
+	 * collection. The other collections stay uninitialized.
+	 */
+	default void fetchDetails(Collection<BookEntity> books, boolean authors, boolean reviews) {
+		if (books.isEmpty())
+			return;
+		if (authors)
+			fetchAuthors(books);
+		if (reviews)
+			fetchReviews(books);
+	}
 }
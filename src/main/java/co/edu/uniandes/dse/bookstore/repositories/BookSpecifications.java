@@ -0,0 +1,89 @@
+/*
+MIT License
+
+Copyright (c) 2021 Universidad de los Andes - ISIS2603
+
+Permission is hereby granted, free of charge, to any person obtaining a copy
+of this software and associated documentation files (the "Software"), to deal
+in the Software without restriction, including without limitation the rights
+to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+copies of the Software, and to permit persons to whom the Software is
+furnished to do so, subject to the following conditions:
+
+The above copyright notice and this permission notice shall be included in all
+copies or substantial portions of the Software.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+SOFTWARE.
+*/
+package co.edu.uniandes.dse.bookstore.repositories;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import javax.persistence.criteria.CriteriaBuilder;
+import javax.persistence.criteria.Join;
+import javax.persistence.criteria.Predicate;
+import javax.persistence.criteria.Root;
+import javax.persistence.criteria.Subquery;
+
+import org.springframework.data.jpa.domain.Specification;
+
+import co.edu.uniandes.dse.bookstore.dto.BookFilter;
+import co.edu.uniandes.dse.bookstore.entities.AuthorEntity;
+import co.edu.uniandes.dse.bookstore.entities.BookEntity;
+
+/**
+ * Builds the criteria queries behind {@link BookFilter}. Every filter is a
+ * plain comparison over an indexed column, so the database can resolve it
+ * through the BOOK_ENTITY and BOOK_ENTITY_AUTHORS indexes.
+ *
+ * The author filter is a subquery that starts from the author, so the join
+ * table is read through its (authors_id, books_id) index. Joining the authors
+ * from the book makes H2 scan BOOK_ENTITY instead.
+ *
+ * The name prefix is a range over the name instead of a LIKE, since H2 only
+ * uses an index for LIKE when the pattern is a literal.
+ *
+ * @author ISIS2603
+ */
+public final class BookSpecifications {
+
+	private BookSpecifications() {
+		throw new IllegalStateException("Utility class");
+	}
+
+	/**
+	 * Returns a specification with all the non null filters joined with "and".
+	 */
+	public static Specification<BookEntity> matching(BookFilter filter) {
+		return (root, query, cb) -> {
+			List<Predicate> predicates = new ArrayList<>();
+			if (filter.getEditorialId() != null)
+				predicates.add(cb.equal(root.get("editorial").get("id"), filter.getEditorialId()));
+			if (filter.getAuthorId() != null)
+				predicates.add(root.get("id").in(booksOf(query.subquery(Long.class), filter.getAuthorId(), cb)));
+			if (filter.getPublishedFrom() != null)
+				predicates.add(cb.greaterThanOrEqualTo(root.get("publishingDate"), filter.getPublishedFrom()));
+			if (filter.getPublishedTo() != null)
+				predicates.add(cb.lessThanOrEqualTo(root.get("publishingDate"), filter.getPublishedTo()));
+			if (filter.getNamePrefix() != null)
+				predicates.add(cb.and(cb.greaterThanOrEqualTo(root.get("name"), filter.getNamePrefix()),
+						cb.lessThan(root.get("name"), filter.getNamePrefix() + Character.MAX_VALUE)));
+			if (filter.getIsbn() != null)
+				predicates.add(cb.equal(root.get("isbn"), filter.getIsbn()));
+			return cb.and(predicates.toArray(new Predicate[0]));
+		};
+	}
+
+	private static Subquery<Long> booksOf(Subquery<Long> subquery, Long authorId, CriteriaBuilder cb) {
+		Root<AuthorEntity> author = subquery.from(AuthorEntity.class);
+		Join<AuthorEntity, BookEntity> books = author.join("books");
+		return subquery.select(books.get("id")).where(cb.equal(author.get("id"), authorId));
+	}
+}
@@ -24,9 +24,16 @@ SOFTWARE.
 
 package co.edu.uniandes.dse.bookstore.repositories;
 
+import java.util.Collection;
 import java.util.List;
 
+import javax.persistence.QueryHint;
+
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import co.edu.uniandes.dse.bookstore.entities.EditorialEntity;
@@ -39,5 +46,30 @@ import co.edu.uniandes.dse.bookstore.entities.EditorialEntity;
  */
 @Repository
 public interface EditorialRepository extends JpaRepository<EditorialEntity, Long> {
+	/**
+	 * Finds the editorials with the given name. The result is kept in the query
+	 * cache, which Hibernate invalidates whenever the editorial table changes.
+	 */
+	@QueryHints(@QueryHint(name = "org.hibernate.cacheable", value = "true"))
 	List<EditorialEntity> findByName(String name);
+
+	@Query("select e.id as id, e.name as name from EditorialEntity e")
+	List<NameView> findAllNames();
+
+	@Query("select e.id as id, e.name as name from EditorialEntity e where e.id in :ids")
+	List<NameView> findNamesByIdIn(@Param("ids") Collection<Long> ids);
+
+	@Query("select count(x) as count, max(x.id) as maxId, sum(x.version) as versionSum from EditorialEntity x")
+	VersionSummaryView summarizeVersions();
+
+	/**
+	 * Increments the version of an editorial if it still has the given one. As a
+	 * bulk statement it also evicts the editorial region of the second-level
+	 * cache, which a forced version increment would leave stale.
+	 *
+	 * @return 1 if the version was incremented, 0 if it changed since it was read
+	 */
+	@Modifying(flushAutomatically = true, clearAutomatically = true)
+	@Query("update EditorialEntity e set e.version = e.version + 1 where e.id = :id and e.version = :version")
+	int incrementVersion(@Param("id") Long id, @Param("version") Long version);
 }
@@ -0,0 +1,69 @@
+/*
+MIT License
+
+Copyright (c) 2021 Universidad de los Andes - ISIS2603
+
+Permission is hereby granted, free of charge, to any person obtaining a copy
+of this software and associated documentation files (the "Software"), to deal
+in the Software without restriction, including without limitation the rights
+to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+copies of the Software, and to permit persons to whom the Software is
+furnished to do so, subject to the following conditions:
+
+The above copyright notice and this permission notice shall be included in all
+copies or substantial portions of the Software.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+SOFTWARE.
+*/
+package co.edu.uniandes.dse.bookstore.repositories;
+
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+
+/**
+ * Repository fragment that reads only some columns of an entity. The query
+ * selects the requested attributes as a tuple, so the other columns are never
+ * read and no entity is created or added to the persistence context.
+ *
+ * @author ISIS2603
+ */
+public interface FieldProjectionRepository {
+
+	/**
+	 * Returns the given attributes of the entities that match the specification.
+	 *
+	 * @param domainClass The entity to read
+	 * @param fields      The names of the basic attributes to select
+	 * @param spec        The filter, or null to read every row
+	 * @param sort        The order of the rows
+	 * @return One map per row, from attribute name to value, in the order of
+	 *         the fields
+	 */
+	<T> List<Map<String, Object>> findFields(Class<T> domainClass, List<String> fields, Specification<T> spec,
+			Sort sort);
+
+	/**
+	 * Returns a page of the given attributes of the entities that match the
+	 * specification.
+	 *
+	 * @param domainClass The entity to read
+	 * @param fields      The names of the basic attributes to select
+	 * @param spec        The filter, or null to read every row
+	 * @param pageable    The page to read
+	 * @return One map per row, from attribute name to value, in the order of
+	 *         the fields
+	 */
+	<T> Page<Map<String, Object>> findFields(Class<T> domainClass, List<String> fields, Specification<T> spec,
+			Pageable pageable);
+}
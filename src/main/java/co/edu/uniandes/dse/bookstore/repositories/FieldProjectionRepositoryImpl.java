@@ -0,0 +1,118 @@
+/*
+MIT License
+
+Copyright (c) 2021 Universidad de los Andes - ISIS2603
+
+Permission is hereby granted, free of charge, to any person obtaining a copy
+of this software and associated documentation files (the "Software"), to deal
+in the Software without restriction, including without limitation the rights
+to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+copies of the Software, and to permit persons to whom the Software is
+furnished to do so, subject to the following conditions:
+
+The above copyright notice and this permission notice shall be included in all
+copies or substantial portions of the Software.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+SOFTWARE.
+*/
+package co.edu.uniandes.dse.bookstore.repositories;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import javax.persistence.EntityManager;
+import javax.persistence.PersistenceContext;
+import javax.persistence.Tuple;
+import javax.persistence.TypedQuery;
+import javax.persistence.criteria.CriteriaBuilder;
+import javax.persistence.criteria.CriteriaQuery;
+import javax.persistence.criteria.Predicate;
+import javax.persistence.criteria.Root;
+import javax.persistence.criteria.Selection;
+
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.query.QueryUtils;
+import org.springframework.data.support.PageableExecutionUtils;
+
+/**
+ * Criteria implementation of {@link FieldProjectionRepository}. The count
+ * query of a page is skipped when the page already tells the total, as
+ * {@link org.springframework.data.jpa.repository.support.SimpleJpaRepository}
+ * does.
+ *
+ * @author ISIS2603
+ */
+class FieldProjectionRepositoryImpl implements FieldProjectionRepository {
+
+	@PersistenceContext
+	private EntityManager entityManager;
+
+	@Override
+	public <T> List<Map<String, Object>> findFields(Class<T> domainClass, List<String> fields, Specification<T> spec,
+			Sort sort) {
+		return toMaps(createQuery(domainClass, fields, spec, sort).getResultList(), fields);
+	}
+
+	@Override
+	public <T> Page<Map<String, Object>> findFields(Class<T> domainClass, List<String> fields, Specification<T> spec,
+			Pageable pageable) {
+		TypedQuery<Tuple> query = createQuery(domainClass, fields, spec, pageable.getSort());
+		query.setFirstResult((int) pageable.getOffset());
+		query.setMaxResults(pageable.getPageSize());
+		List<Map<String, Object>> content = toMaps(query.getResultList(), fields);
+		return PageableExecutionUtils.getPage(content, pageable, () -> count(domainClass, spec));
+	}
+
+	private <T> TypedQuery<Tuple> createQuery(Class<T> domainClass, List<String> fields, Specification<T> spec,
+			Sort sort) {
+		CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+		CriteriaQuery<Tuple> query = cb.createTupleQuery();
+		Root<T> root = query.from(domainClass);
+		List<Selection<?>> selections = new ArrayList<>(fields.size());
+		for (String field : fields)
+			selections.add(root.get(field).alias(field));
+		query.multiselect(selections);
+		where(query, root, spec, cb);
+		query.orderBy(QueryUtils.toOrders(sort, root, cb));
+		return entityManager.createQuery(query);
+	}
+
+	private <T> long count(Class<T> domainClass, Specification<T> spec) {
+		CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+		CriteriaQuery<Long> query = cb.createQuery(Long.class);
+		Root<T> root = query.from(domainClass);
+		query.select(cb.count(root));
+		where(query, root, spec, cb);
+		return entityManager.createQuery(query).getSingleResult();
+	}
+
+	private static <T> void where(CriteriaQuery<?> query, Root<T> root, Specification<T> spec, CriteriaBuilder cb) {
+		if (spec == null)
+			return;
+		Predicate predicate = spec.toPredicate(root, query, cb);
+		if (predicate != null)
+			query.where(predicate);
+	}
+
+	private static List<Map<String, Object>> toMaps(List<Tuple> tuples, List<String> fields) {
+		List<Map<String, Object>> rows = new ArrayList<>(tuples.size());
+		for (Tuple tuple : tuples) {
+			Map<String, Object> row = new LinkedHashMap<>();
+			for (int i = 0; i < fields.size(); i++)
+				row.put(fields.get(i), tuple.get(i));
+			rows.add(row);
+		}
+		return rows;
+	}
+}
@@ -26,7 +26,11 @@ package co.edu.uniandes.dse.bookstore.repositories;
 
 import java.util.List;
 
+import javax.persistence.QueryHint;
+
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
 
 import co.edu.uniandes.dse.bookstore.entities.OrganizationEntity;
@@ -39,5 +43,13 @@ import co.edu.uniandes.dse.bookstore.entities.OrganizationEntity;
  */
 @Repository
 public interface OrganizationRepository extends JpaRepository<OrganizationEntity, Long> {
+	/**
+	 * Finds the organizations with the given name. The result is kept in the query
+	 * cache, which Hibernate invalidates whenever the organization table changes.
+	 */
+	@QueryHints(@QueryHint(name = "org.hibernate.cacheable", value = "true"))
 	List<OrganizationEntity> findByName(String name);
+
+	@Query("select count(x) as count, max(x.id) as maxId, sum(x.version) as versionSum from OrganizationEntity x")
+	VersionSummaryView summarizeVersions();
 }
@@ -24,7 +24,11 @@ SOFTWARE.
 
 package co.edu.uniandes.dse.bookstore.repositories;
 
+import java.util.List;
+
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import co.edu.uniandes.dse.bookstore.entities.PrizeEntity;
@@ -36,6 +40,13 @@ import co.edu.uniandes.dse.bookstore.entities.PrizeEntity;
  *
  */
 @Repository
-public interface PrizeRepository extends JpaRepository<PrizeEntity, Long> {
+public interface PrizeRepository extends JpaRepository<PrizeEntity, Long>, FieldProjectionRepository {
+	@Query("select p.id as id, p.version as version from PrizeEntity p where p.author.id = :authorId order by p.id")
+	List<VersionView> findVersionsByAuthorId(@Param("authorId") Long authorId);
+
+	@Query("select o.id as id, o.version as version from PrizeEntity p join p.organization o where p.author.id = :authorId order by p.id")
+	List<VersionView> findOrganizationVersionsByAuthorId(@Param("authorId") Long authorId);
 
+	@Query("select count(x) as count, max(x.id) as maxId, sum(x.version) as versionSum from PrizeEntity x")
+	VersionSummaryView summarizeVersions();
 }
@@ -24,7 +24,14 @@ SOFTWARE.
 
 package co.edu.uniandes.dse.bookstore.repositories;
 
+import java.util.Collection;
+import java.util.List;
+
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import co.edu.uniandes.dse.bookstore.entities.ReviewEntity;
@@ -38,4 +45,16 @@ import co.edu.uniandes.dse.bookstore.entities.ReviewEntity;
 @Repository
 public interface ReviewRepository extends JpaRepository<ReviewEntity, Long> {
 	ReviewEntity findByBookIdAndId(Long bookId, Long id);
+
+	@Query(value = "select r from ReviewEntity r where r.book.id = :bookId",
+			countQuery = "select count(r) from ReviewEntity r where r.book.id = :bookId")
+	Page<ReviewEntity> findByBookId(@Param("bookId") Long bookId, Pageable pageable);
+
+	List<ReviewEntity> findByBookIdAndIdIn(Long bookId, Collection<Long> ids);
+
+	@Query("select r.id as id, r.version as version from ReviewEntity r where r.book.id = :bookId order by r.id")
+	List<VersionView> findVersionsByBookId(@Param("bookId") Long bookId);
+
+	@Query("select count(x) as count, max(x.id) as maxId, sum(x.version) as versionSum from ReviewEntity x")
+	VersionSummaryView summarizeVersions();
 }
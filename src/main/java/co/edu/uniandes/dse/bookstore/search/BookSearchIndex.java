@@ -0,0 +1,227 @@
+/*
+MIT License
+
+Copyright (c) 2021 Universidad de los Andes - ISIS2603
+
+Permission is hereby granted, free of charge, to any person obtaining a copy
+of this software and associated documentation files (the "Software"), to deal
+in the Software without restriction, including without limitation the rights
+to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+copies of the Software, and to permit persons to whom the Software is
+furnished to do so, subject to the following conditions:
+
+The above copyright notice and this permission notice shall be included in all
+copies or substantial portions of the Software.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+SOFTWARE.
+*/
+package co.edu.uniandes.dse.bookstore.search;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+import org.springframework.stereotype.Component;
+
+/**
+ * Índice invertido en memoria sobre el nombre, la descripción y los nombres de
+ * los autores de los libros. Los resultados se ordenan con BM25. Las palabras
+ * del nombre pesan {@value #NAME_WEIGHT} veces, las de los autores
+ * {@value #AUTHOR_WEIGHT} veces y las de la descripción una vez.
+ *
+ * El índice admite lecturas concurrentes; las escrituras son exclusivas.
+ *
+ * @author ISIS2603
+ */
+@Component
+public class BookSearchIndex {
+
+	static final int NAME_WEIGHT = 3;
+	static final int AUTHOR_WEIGHT = 2;
+	static final int DESCRIPTION_WEIGHT = 1;
+
+	private static final double K1 = 1.2;
+	private static final double B = 0.75;
+
+	private static final Pattern MARKS = Pattern.compile("\\p{M}+");
+	private static final Pattern SEPARATORS = Pattern.compile("[^\\p{L}\\p{N}]+");
+	private static final Set<String> STOP_WORDS = Set.of("a", "an", "and", "the", "of", "in", "on", "to", "for",
+			"is", "el", "la", "los", "las", "de", "del", "y", "en", "un", "una", "por", "con");
+
+	/**
+	 * Para cada término, la frecuencia ponderada en cada libro que lo contiene.
+	 */
+	private final Map<String, Map<Long, Integer>> postings = new HashMap<>();
+
+	/**
+	 * Para cada libro, la frecuencia ponderada de cada uno de sus términos.
+	 */
+	private final Map<Long, Map<String, Integer>> documents = new HashMap<>();
+
+	private final Map<Long, Integer> lengths = new HashMap<>();
+
+	private long totalLength;
+
+	private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+	/**
+	 * Agrega un libro al índice o reemplaza lo que había de él.
+	 */
+	public void index(Long bookId, String name, String description, Collection<String> authorNames) {
+		Map<String, Integer> terms = new HashMap<>();
+		addTerms(terms, name, NAME_WEIGHT);
+		addTerms(terms, description, DESCRIPTION_WEIGHT);
+		for (String authorName : authorNames)
+			addTerms(terms, authorName, AUTHOR_WEIGHT);
+
+		lock.writeLock().lock();
+		try {
+			removeDocument(bookId);
+			if (terms.isEmpty())
+				return;
+			int length = terms.values().stream().mapToInt(Integer::intValue).sum();
+			documents.put(bookId, terms);
+			lengths.put(bookId, length);
+			totalLength += length;
+			terms.forEach((term, frequency) -> postings.computeIfAbsent(term, t -> new HashMap<>()).put(bookId,
+					frequency));
+		} finally {
+			lock.writeLock().unlock();
+		}
+	}
+
+	/**
+	 * Saca un libro del índice.
+	 */
+	public void remove(Long bookId) {
+		lock.writeLock().lock();
+		try {
+			removeDocument(bookId);
+		} finally {
+			lock.writeLock().unlock();
+		}
+	}
+
+	/**
+	 * Vacía el índice.
+	 */
+	public void clear() {
+		lock.writeLock().lock();
+		try {
+			postings.clear();
+			documents.clear();
+			lengths.clear();
+			totalLength = 0;
+		} finally {
+			lock.writeLock().unlock();
+		}
+	}
+
+	/**
+	 * Busca los libros que contienen alguno de los términos de la consulta.
+	 *
+	 * @param query El texto de la consulta
+	 * @return Los ids de los libros encontrados, del más al menos relevante
+	 */
+	public List<Long> search(String query) {
+		Set<String> terms = new LinkedHashSet<>(tokenize(query));
+		if (terms.isEmpty())
+			return List.of();
+
+		lock.readLock().lock();
+		try {
+			if (documents.isEmpty())
+				return List.of();
+			int count = documents.size();
+			double averageLength = (double) totalLength / count;
+			Map<Long, Double> scores = new HashMap<>();
+			for (String term : terms) {
+				Map<Long, Integer> posting = postings.get(term);
+				if (posting == null)
+					continue;
+				double idf = Math.log(1 + (count - posting.size() + 0.5) / (posting.size() + 0.5));
+				posting.forEach((bookId, frequency) -> {
+					double norm = K1 * (1 - B + B * lengths.get(bookId) / averageLength);
+					scores.merge(bookId, idf * frequency * (K1 + 1) / (frequency + norm), Double::sum);
+				});
+			}
+			return scores.entrySet().stream()
+					.sorted(Map.Entry.<Long, Double>comparingByValue(Comparator.reverseOrder())
+							.thenComparing(Map.Entry.comparingByKey()))
+					.map(Map.Entry::getKey).collect(Collectors.toList());
+		} finally {
+			lock.readLock().unlock();
+		}
+	}
+
+	/**
+	 * Devuelve el número de libros indexados.
+	 */
+	public int size() {
+		lock.readLock().lock();
+		try {
+			return documents.size();
+		} finally {
+			lock.readLock().unlock();
+		}
+	}
+
+	/**
+	 * Divide un texto en términos: sin tildes, en minúsculas y sin palabras vacías
+	 * ni términos de una sola letra.
+	 */
+	public static List<String> tokenize(String text) {
+		List<String> tokens = new ArrayList<>();
+		if (text == null)
+			return tokens;
+		for (String token : words(text)) {
+			if (token.length() > 1 && !STOP_WORDS.contains(token))
+				tokens.add(token);
+		}
+		return tokens;
+	}
+
+	/**
+	 * Divide un texto en palabras sin tildes y en minúsculas.
+	 */
+	static String[] words(String text) {
+		String normalized = MARKS.matcher(Normalizer.normalize(text, Normalizer.Form.NFD)).replaceAll("")
+				.toLowerCase(Locale.ROOT);
+		return SEPARATORS.split(normalized);
+	}
+
+	private static void addTerms(Map<String, Integer> terms, String text, int weight) {
+		for (String token : tokenize(text))
+			terms.merge(token, weight, Integer::sum);
+	}
+
+	private void removeDocument(Long bookId) {
+		Map<String, Integer> terms = documents.remove(bookId);
+		if (terms == null)
+			return;
+		totalLength -= lengths.remove(bookId);
+		for (String term : terms.keySet()) {
+			Map<Long, Integer> posting = postings.get(term);
+			posting.remove(bookId);
+			if (posting.isEmpty())
+				postings.remove(term);
+		}
+	}
+}
@@ -0,0 +1,241 @@
+/*
+MIT License
+
+Copyright (c) 2021 Universidad de los Andes - ISIS2603
+
+Permission is hereby granted, free of charge, to any person obtaining a copy
+of this software and associated documentation files (the "Software"), to deal
+in the Software without restriction, including without limitation the rights
+to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+copies of the Software, and to permit persons to whom the Software is
+furnished to do so, subject to the following conditions:
+
+The above copyright notice and this permission notice shall be included in all
+copies or substantial portions of the Software.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+SOFTWARE.
+*/
+package co.edu.uniandes.dse.bookstore.search;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+import org.springframework.stereotype.Component;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.Value;
+
+/**
+ * Índice de trigramas en memoria sobre los nombres de los libros y de los
+ * autores, para encontrar nombres parecidos a una consulta aunque tenga errores
+ * de escritura.
+ *
+ * Cada palabra se rellena con dos espacios al inicio y uno al final antes de
+ * partirla en trigramas, como lo hace pg_trgm. La similitud de un nombre es la
+ * fracción de los trigramas de la consulta que aparecen en él; los empates se
+ * resuelven a favor del nombre con menos trigramas que no están en la
+ * consulta.
+ *
+ * El índice admite lecturas concurrentes; las escrituras son exclusivas.
+ *
+ * @author ISIS2603
+ */
+@Component
+public class FuzzyNameIndex {
+
+	public enum Type {
+		BOOK, AUTHOR
+	}
+
+	/**
+	 * Similitud mínima para que un nombre se considere candidato.
+	 */
+	public static final double MIN_SIMILARITY = 0.5;
+
+	/**
+	 * Un nombre encontrado y su similitud con la consulta, entre 0 y 1.
+	 */
+	@Getter
+	@AllArgsConstructor
+	public static class Match {
+		private final Type type;
+		private final Long id;
+		private final String name;
+		private final double similarity;
+		@Getter(AccessLevel.NONE)
+		private final int trigramCount;
+	}
+
+	@Value
+	private static class Key {
+		Type type;
+		Long id;
+	}
+
+	@Value
+	private static class Entry {
+		String name;
+		Set<String> trigrams;
+	}
+
+	private final Map<Key, Entry> entries = new HashMap<>();
+
+	/**
+	 * Para cada trigrama, los nombres que lo contienen.
+	 */
+	private final Map<String, Set<Key>> postings = new HashMap<>();
+
+	private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+	/**
+	 * Agrega un nombre al índice o reemplaza el que había para el mismo libro o
+	 * autor.
+	 */
+	public void index(Type type, Long id, String name) {
+		Key key = new Key(type, id);
+		Set<String> trigrams = trigrams(name);
+		lock.writeLock().lock();
+		try {
+			removeEntry(key);
+			if (trigrams.isEmpty())
+				return;
+			entries.put(key, new Entry(name, trigrams));
+			for (String trigram : trigrams)
+				postings.computeIfAbsent(trigram, t -> new HashSet<>()).add(key);
+		} finally {
+			lock.writeLock().unlock();
+		}
+	}
+
+	/**
+	 * Saca del índice el nombre de un libro o autor.
+	 */
+	public void remove(Type type, Long id) {
+		lock.writeLock().lock();
+		try {
+			removeEntry(new Key(type, id));
+		} finally {
+			lock.writeLock().unlock();
+		}
+	}
+
+	/**
+	 * Saca del índice todos los nombres del tipo dado.
+	 */
+	public void clear(Type type) {
+		lock.writeLock().lock();
+		try {
+			List<Key> keys = new ArrayList<>();
+			for (Key key : entries.keySet()) {
+				if (key.getType() == type)
+					keys.add(key);
+			}
+			keys.forEach(this::removeEntry);
+		} finally {
+			lock.writeLock().unlock();
+		}
+	}
+
+	/**
+	 * Busca los nombres más parecidos a la consulta.
+	 *
+	 * @param query El texto de la consulta
+	 * @param limit El número máximo de resultados
+	 * @return Los nombres con similitud de al menos {@value #MIN_SIMILARITY}, del
+	 *         más al menos parecido
+	 */
+	public List<Match> search(String query, int limit) {
+		Set<String> trigrams = trigrams(query);
+		if (trigrams.isEmpty())
+			return List.of();
+
+		lock.readLock().lock();
+		try {
+			Map<Key, Integer> shared = new HashMap<>();
+			for (String trigram : trigrams) {
+				Set<Key> posting = postings.get(trigram);
+				if (posting != null)
+					posting.forEach(key -> shared.merge(key, 1, Integer::sum));
+			}
+
+			Comparator<Match> order = Comparator.comparingDouble(Match::getSimilarity).reversed()
+					.thenComparingInt(match -> match.trigramCount)
+					.thenComparing(Match::getName).thenComparing(Match::getId);
+			PriorityQueue<Match> best = new PriorityQueue<>(order.reversed());
+			int minShared = (int) Math.ceil(MIN_SIMILARITY * trigrams.size());
+			shared.forEach((key, count) -> {
+				if (count < minShared)
+					return;
+				Entry entry = entries.get(key);
+				best.add(new Match(key.getType(), key.getId(), entry.getName(), (double) count / trigrams.size(),
+						entry.getTrigrams().size()));
+				if (best.size() > limit)
+					best.poll();
+			});
+
+			List<Match> matches = new ArrayList<>(best);
+			matches.sort(order);
+			return matches;
+		} finally {
+			lock.readLock().unlock();
+		}
+	}
+
+	/**
+	 * Devuelve el número de nombres indexados.
+	 */
+	public int size() {
+		lock.readLock().lock();
+		try {
+			return entries.size();
+		} finally {
+			lock.readLock().unlock();
+		}
+	}
+
+	/**
+	 * Devuelve los trigramas de las palabras de un texto, sin tildes y en
+	 * minúsculas.
+	 */
+	public static Set<String> trigrams(String text) {
+		Set<String> trigrams = new HashSet<>();
+		if (text == null)
+			return trigrams;
+		for (String word : BookSearchIndex.words(text)) {
+			if (word.isEmpty())
+				continue;
+			String padded = "  " + word + " ";
+			for (int i = 0; i + 3 <= padded.length(); i++)
+				trigrams.add(padded.substring(i, i + 3));
+		}
+		return trigrams;
+	}
+
+	private void removeEntry(Key key) {
+		Entry entry = entries.remove(key);
+		if (entry == null)
+			return;
+		for (String trigram : entry.getTrigrams()) {
+			Set<Key> posting = postings.get(trigram);
+			posting.remove(key);
+			if (posting.isEmpty())
+				postings.remove(trigram);
+		}
+	}
+}
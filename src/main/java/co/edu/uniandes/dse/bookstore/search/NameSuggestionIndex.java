@@ -0,0 +1,222 @@
+/*
+MIT License
+
+Copyright (c) 2021 Universidad de los Andes - ISIS2603
+
+Permission is hereby granted, free of charge, to any person obtaining a copy
+of this software and associated documentation files (the "Software"), to deal
+in the Software without restriction, including without limitation the rights
+to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+copies of the Software, and to permit persons to whom the Software is
+furnished to do so, subject to the following conditions:
+
+The above copyright notice and this permission notice shall be included in all
+copies or substantial portions of the Software.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+SOFTWARE.
+*/
+package co.edu.uniandes.dse.bookstore.search;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+import org.springframework.stereotype.Component;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * Índice en memoria de los nombres de autores y editoriales para autocompletar.
+ * Los nombres se guardan sin tildes y en minúsculas en mapas ordenados, de modo
+ * que los nombres que empiezan por un prefijo forman un rango contiguo que se
+ * encuentra con una búsqueda binaria.
+ *
+ * Un nombre coincide si el nombre completo o alguna de sus palabras empieza por
+ * el prefijo; primero se devuelven los nombres completos que coinciden y luego
+ * los que coinciden por una palabra, cada grupo en orden alfabético.
+ *
+ * El índice admite lecturas concurrentes; las escrituras son exclusivas.
+ *
+ * @author ISIS2603
+ */
+@Component
+public class NameSuggestionIndex {
+
+	public enum Type {
+		AUTHOR, EDITORIAL
+	}
+
+	/**
+	 * Un nombre sugerido.
+	 */
+	@Getter
+	@AllArgsConstructor
+	public static class Suggestion {
+		private final Long id;
+		private final String name;
+	}
+
+	/**
+	 * Separa el texto de la llave del id, para que dos nombres iguales tengan
+	 * llaves distintas. Es menor que cualquier otro carácter, así que no altera
+	 * el orden alfabético.
+	 */
+	private static final char ID_SEPARATOR = '\0';
+
+	private static class Names {
+		/**
+		 * Nombres completos, por nombre normalizado.
+		 */
+		private final NavigableMap<String, Suggestion> names = new TreeMap<>();
+
+		/**
+		 * Nombres a partir de su segunda palabra, tercera palabra, etc.
+		 */
+		private final NavigableMap<String, Suggestion> words = new TreeMap<>();
+
+		/**
+		 * Las llaves de cada id en los dos mapas, para poder borrarlas.
+		 */
+		private final Map<Long, List<String>> keys = new HashMap<>();
+	}
+
+	private final Map<Type, Names> index = new EnumMap<>(Type.class);
+
+	private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+	public NameSuggestionIndex() {
+		for (Type type : Type.values())
+			index.put(type, new Names());
+	}
+
+	/**
+	 * Agrega un nombre al índice o reemplaza el que había para el mismo id.
+	 */
+	public void index(Type type, Long id, String name) {
+		List<String> words = normalize(name);
+		lock.writeLock().lock();
+		try {
+			Names names = index.get(type);
+			removeEntry(names, id);
+			if (words.isEmpty())
+				return;
+			Suggestion suggestion = new Suggestion(id, name);
+			List<String> keys = new ArrayList<>(words.size());
+			for (int i = 0; i < words.size(); i++) {
+				String key = String.join(" ", words.subList(i, words.size())) + ID_SEPARATOR + id;
+				(i == 0 ? names.names : names.words).put(key, suggestion);
+				keys.add(key);
+			}
+			names.keys.put(id, keys);
+		} finally {
+			lock.writeLock().unlock();
+		}
+	}
+
+	/**
+	 * Saca un nombre del índice.
+	 */
+	public void remove(Type type, Long id) {
+		lock.writeLock().lock();
+		try {
+			removeEntry(index.get(type), id);
+		} finally {
+			lock.writeLock().unlock();
+		}
+	}
+
+	/**
+	 * Saca del índice todos los nombres del tipo dado.
+	 */
+	public void clear(Type type) {
+		lock.writeLock().lock();
+		try {
+			index.put(type, new Names());
+		} finally {
+			lock.writeLock().unlock();
+		}
+	}
+
+	/**
+	 * Busca los nombres que empiezan por el prefijo dado.
+	 *
+	 * @param type   El tipo de nombres a buscar
+	 * @param prefix El prefijo, sin importar mayúsculas ni tildes
+	 * @param limit  El número máximo de resultados
+	 * @return Los nombres encontrados
+	 */
+	public List<Suggestion> suggest(Type type, String prefix, int limit) {
+		String from = String.join(" ", normalize(prefix));
+		if (from.isEmpty())
+			return List.of();
+		String to = from + Character.MAX_VALUE;
+
+		lock.readLock().lock();
+		try {
+			Names names = index.get(type);
+			Map<Long, Suggestion> found = new LinkedHashMap<>();
+			collect(names.names.subMap(from, true, to, false), found, limit);
+			collect(names.words.subMap(from, true, to, false), found, limit);
+			return new ArrayList<>(found.values());
+		} finally {
+			lock.readLock().unlock();
+		}
+	}
+
+	/**
+	 * Devuelve el número de nombres indexados del tipo dado.
+	 */
+	public int size(Type type) {
+		lock.readLock().lock();
+		try {
+			return index.get(type).keys.size();
+		} finally {
+			lock.readLock().unlock();
+		}
+	}
+
+	/**
+	 * Devuelve las palabras de un texto, sin tildes y en minúsculas.
+	 */
+	public static List<String> normalize(String text) {
+		List<String> words = new ArrayList<>();
+		if (text == null)
+			return words;
+		for (String word : BookSearchIndex.words(text)) {
+			if (!word.isEmpty())
+				words.add(word);
+		}
+		return words;
+	}
+
+	private static void collect(Map<String, Suggestion> range, Map<Long, Suggestion> found, int limit) {
+		for (Suggestion suggestion : range.values()) {
+			if (found.size() >= limit)
+				return;
+			found.putIfAbsent(suggestion.getId(), suggestion);
+		}
+	}
+
+	private static void removeEntry(Names names, Long id) {
+		List<String> keys = names.keys.remove(id);
+		if (keys == null)
+			return;
+		names.names.remove(keys.get(0));
+		for (String key : keys.subList(1, keys.size()))
+			names.words.remove(key);
+	}
+}
@@ -26,13 +26,21 @@ package co.edu.uniandes.dse.bookstore.services;
 
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Collectors;
+
+import javax.persistence.EntityManager;
+import javax.persistence.LockModeType;
+import javax.persistence.PersistenceContext;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import co.edu.uniandes.dse.bookstore.entities.AuthorEntity;
 import co.edu.uniandes.dse.bookstore.entities.BookEntity;
+import co.edu.uniandes.dse.bookstore.events.BookChangedEvent;
 import co.edu.uniandes.dse.bookstore.exceptions.EntityNotFoundException;
 import co.edu.uniandes.dse.bookstore.exceptions.ErrorMessage;
 import co.edu.uniandes.dse.bookstore.exceptions.IllegalOperationException;
@@ -57,6 +65,12 @@ public class AuthorBookService {
 	@Autowired
 	private AuthorRepository authorRepository;
 
+	@Autowired
+	private ApplicationEventPublisher eventPublisher;
+
+	@PersistenceContext
+	private EntityManager entityManager;
+
 	/**
 	 * Asocia un Book existente a un Author
 	 *
@@ -78,6 +92,7 @@ public class AuthorBookService {
 			throw new EntityNotFoundException(ErrorMessage.BOOK_NOT_FOUND);
 
 		bookEntity.get().getAuthors().add(authorEntity.get());
+		eventPublisher.publishEvent(new BookChangedEvent(bookId));
 		log.info("Termina proceso de asociarle un libro al autor con id = {0}", authorId);
 		return bookEntity.get();
 	}
@@ -137,11 +152,36 @@ public class AuthorBookService {
 	 */
 	@Transactional
 	public List<BookEntity> addBooks(Long authorId, List<BookEntity> books) throws EntityNotFoundException {
+		return addBooks(authorId, books, null);
+	}
+
+	/**
+	 * Remplaza las instancias de Book asociadas a una instancia de Author, si la
+	 * versión del autor es la que el cliente leyó. La versión del autor se
+	 * incrementa al hacer commit; si otra transacción la cambió mientras tanto,
+	 * se lanza una {@link ObjectOptimisticLockingFailureException}.
+	 *
+	 * @param authorId Identificador de la instancia de Author
+	 * @param books    Colección de instancias de BookEntity a asociar a instancia
+	 *                 de Author
+	 * @param version  La versión del autor que el cliente leyó, o null para no
+	 *                 verificarla
+	 * @return Nueva colección de BookEntity asociada a la instancia de Author
+	 * @throws ObjectOptimisticLockingFailureException Si la versión del autor no
+	 *                                                 es la recibida
+	 */
+	@Transactional
+	public List<BookEntity> addBooks(Long authorId, List<BookEntity> books, Long version)
+			throws EntityNotFoundException {
 		log.info("Inicia proceso de reemplazar los libros asociados al author con id = {0}", authorId);
 		Optional<AuthorEntity> authorEntity = authorRepository.findById(authorId);
 		if (authorEntity.isEmpty())
 			throw new EntityNotFoundException(ErrorMessage.AUTHOR_NOT_FOUND);
 
+		if (version != null && !version.equals(authorEntity.get().getVersion()))
+			throw new ObjectOptimisticLockingFailureException(AuthorEntity.class, authorId);
+		entityManager.lock(authorEntity.get(), LockModeType.OPTIMISTIC_FORCE_INCREMENT);
+
 		for (BookEntity book : books) {
 			Optional<BookEntity> bookEntity = bookRepository.findById(book.getId());
 			if (bookEntity.isEmpty())
@@ -150,6 +190,8 @@ public class AuthorBookService {
 			if (!bookEntity.get().getAuthors().contains(authorEntity.get()))
 				bookEntity.get().getAuthors().add(authorEntity.get());
 		}
+		eventPublisher.publishEvent(
+				new BookChangedEvent(books.stream().map(BookEntity::getId).collect(Collectors.toList())));
 		log.info("Finaliza proceso de reemplazar los libros asociados al author con id = {0}", authorId);
 		authorEntity.get().setBooks(books);
 		return authorEntity.get().getBooks();
@@ -174,6 +216,7 @@ public class AuthorBookService {
 
 		bookEntity.get().getAuthors().remove(authorEntity.get());
 		authorEntity.get().getBooks().remove(bookEntity.get());
+		eventPublisher.publishEvent(new BookChangedEvent(bookId));
 		log.info("Finaliza proceso de borrar un libro del author con id = {0}", authorId);
 	}
 }
@@ -26,15 +26,26 @@ package co.edu.uniandes.dse.bookstore.services;
 
 import java.util.Calendar;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import co.edu.uniandes.dse.bookstore.dto.Fields;
+import co.edu.uniandes.dse.bookstore.dto.Include;
 import co.edu.uniandes.dse.bookstore.entities.AuthorEntity;
 import co.edu.uniandes.dse.bookstore.entities.BookEntity;
 import co.edu.uniandes.dse.bookstore.entities.PrizeEntity;
+import co.edu.uniandes.dse.bookstore.events.AuthorChangedEvent;
+import co.edu.uniandes.dse.bookstore.events.BookChangedEvent;
 import co.edu.uniandes.dse.bookstore.exceptions.EntityNotFoundException;
 import co.edu.uniandes.dse.bookstore.exceptions.ErrorMessage;
 import co.edu.uniandes.dse.bookstore.exceptions.IllegalOperationException;
@@ -52,8 +63,13 @@ import lombok.extern.slf4j.Slf4j;
 @Service
 public class AuthorService {
 
+	private static final Set<String> SORT_FIELDS = Set.of("id", "name", "birthDate");
+
 	@Autowired
 	AuthorRepository authorRepository;
+
+	@Autowired
+	ApplicationEventPublisher eventPublisher;
 	
 	/**
 	 * Se encarga de crear un Author en la base de datos.
@@ -70,7 +86,9 @@ public class AuthorService {
 			throw new IllegalOperationException("Birth date if ater current date");
 	    }
 		
-		return authorRepository.save(author);
+		AuthorEntity saved = authorRepository.save(author);
+		eventPublisher.publishEvent(new AuthorChangedEvent(saved.getId()));
+		return saved;
 	}
 
 	/**
@@ -84,6 +102,83 @@ public class AuthorService {
 		return authorRepository.findAll();
 	}
 
+	/**
+	 * Obtiene la lista de los registros de Author cargando solo las colecciones
+	 * pedidas, una consulta por colección.
+	 *
+	 * @param include Las asociaciones a cargar
+	 * @return Colección de objetos de AuthorEntity.
+	 */
+	@Transactional
+	public List<AuthorEntity> getAuthors(Include include) {
+		log.info("Inicia proceso de consultar todos los autores con include = {0}", include);
+		List<AuthorEntity> authors = authorRepository.findAll();
+		fetchDetails(authors, include);
+		return authors;
+	}
+
+	/**
+	 * Obtiene una página de los registros de Author.
+	 *
+	 * @param pageable La página solicitada. Solo se permite ordenar por id, name y
+	 *                 birthDate.
+	 * @return Página de objetos de AuthorEntity.
+	 * @throws IllegalOperationException Si la página solicitada es inválida
+	 */
+	@Transactional
+	public Page<AuthorEntity> getAuthors(Pageable pageable) throws IllegalOperationException {
+		log.info("Inicia proceso de consultar una página de autores");
+		PageableValidator.validate(pageable, SORT_FIELDS);
+		return authorRepository.findAll(pageable);
+	}
+
+	/**
+	 * Obtiene una página de los registros de Author cargando solo las colecciones
+	 * pedidas.
+	 *
+	 * @param pageable La página solicitada. Solo se permite ordenar por id, name y
+	 *                 birthDate.
+	 * @param include  Las asociaciones a cargar
+	 * @return Página de objetos de AuthorEntity.
+	 * @throws IllegalOperationException Si la página solicitada es inválida
+	 */
+	@Transactional
+	public Page<AuthorEntity> getAuthors(Pageable pageable, Include include) throws IllegalOperationException {
+		Page<AuthorEntity> authors = getAuthors(pageable);
+		fetchDetails(authors.getContent(), include);
+		return authors;
+	}
+
+	/**
+	 * Obtiene solo los campos pedidos de todos los Author. La consulta lee
+	 * únicamente esas columnas, sin crear las entidades.
+	 *
+	 * @param fields Los campos a devolver
+	 * @return Un mapa por autor, del nombre del campo a su valor
+	 */
+	@Transactional(readOnly = true)
+	public List<Map<String, Object>> getAuthorFields(Fields fields) {
+		log.info("Inicia proceso de consultar los campos {0} de los autores", fields);
+		return authorRepository.findFields(AuthorEntity.class, fields.names(), null, Sort.unsorted());
+	}
+
+	/**
+	 * Obtiene una página con solo los campos pedidos de los Author.
+	 *
+	 * @param pageable La página solicitada. Solo se permite ordenar por id, name y
+	 *                 birthDate.
+	 * @param fields   Los campos a devolver
+	 * @return La página, con un mapa por autor
+	 * @throws IllegalOperationException Si la página solicitada es inválida
+	 */
+	@Transactional(readOnly = true)
+	public Page<Map<String, Object>> getAuthorFields(Pageable pageable, Fields fields)
+			throws IllegalOperationException {
+		log.info("Inicia proceso de consultar una página de los campos {0} de los autores", fields);
+		PageableValidator.validate(pageable, SORT_FIELDS);
+		return authorRepository.findFields(AuthorEntity.class, fields.names(), null, pageable);
+	}
+
 	/**
 	 * Obtiene los datos de una instancia de Author a partir de su ID.
 	 *
@@ -100,6 +195,41 @@ public class AuthorService {
 		return authorEntity.get();
 	}
 
+	/**
+	 * Obtiene los datos de una instancia de Author cargando solo las colecciones
+	 * pedidas.
+	 *
+	 * @param authorId Identificador de la instancia a consultar
+	 * @param include  Las asociaciones a cargar
+	 * @return Instancia de AuthorEntity con los datos del Author consultado.
+	 */
+	@Transactional
+	public AuthorEntity getAuthor(Long authorId, Include include) throws EntityNotFoundException {
+		AuthorEntity author = getAuthor(authorId);
+		fetchDetails(List.of(author), include);
+		return author;
+	}
+
+	private void fetchDetails(List<AuthorEntity> authors, Include include) {
+		authorRepository.fetchDetails(authors, include.has("books"), include.has("prizes"));
+	}
+
+	/**
+	 * Obtiene los autores con los ids dados con una sola consulta IN. Sus libros
+	 * y premios se cargan por lotes al recorrerlos.
+	 *
+	 * @param ids Los ids de los autores, máximo {@value IdBatch#MAX_IDS}
+	 * @return Los autores encontrados en el orden de los ids, sin repetir. Los
+	 *         ids que no existen se omiten.
+	 * @throws IllegalOperationException Si la lista de ids es inválida
+	 */
+	@Transactional
+	public List<AuthorEntity> getAuthorsById(List<Long> ids) throws IllegalOperationException {
+		List<Long> distinct = IdBatch.distinct(ids);
+		log.info("Inicia proceso de consultar {0} autores por id", distinct.size());
+		return IdBatch.inOrder(distinct, authorRepository.findAllById(distinct), AuthorEntity::getId);
+	}
+
 	/**
 	 * Actualiza la información de una instancia de Author.
 	 *
@@ -115,7 +245,12 @@ public class AuthorService {
 			throw new EntityNotFoundException(ErrorMessage.AUTHOR_NOT_FOUND);
 		log.info("Termina proceso de actualizar el autor con id = {0}", authorId);
 		author.setId(authorId);
-		return authorRepository.save(author);
+		if (author.getVersion() == null)
+			author.setVersion(authorEntity.get().getVersion());
+		eventPublisher.publishEvent(new BookChangedEvent(
+				authorEntity.get().getBooks().stream().map(BookEntity::getId).collect(Collectors.toList())));
+		eventPublisher.publishEvent(new AuthorChangedEvent(authorId));
+		return authorRepository.saveAndFlush(author);
 	}
 
 	/**
@@ -140,6 +275,7 @@ public class AuthorService {
 			throw new IllegalOperationException("Unable to delete the author because he/she has associated prizes");
 
 		authorRepository.deleteById(authorId);
+		eventPublisher.publishEvent(new AuthorChangedEvent(authorId));
 		log.info("Termina proceso de borrar el autor con id = {0}", authorId);
 	}
 }
@@ -24,15 +24,29 @@ SOFTWARE.
 
 package co.edu.uniandes.dse.bookstore.services;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
+import javax.persistence.EntityManager;
+import javax.persistence.LockModeType;
+import javax.persistence.PersistenceContext;
+
+import org.hibernate.Hibernate;
+import org.hibernate.query.NativeQuery;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import co.edu.uniandes.dse.bookstore.entities.AuthorEntity;
 import co.edu.uniandes.dse.bookstore.entities.BookEntity;
+import co.edu.uniandes.dse.bookstore.events.BookChangedEvent;
 import co.edu.uniandes.dse.bookstore.exceptions.EntityNotFoundException;
 import co.edu.uniandes.dse.bookstore.exceptions.ErrorMessage;
 import co.edu.uniandes.dse.bookstore.exceptions.IllegalOperationException;
@@ -44,11 +58,25 @@ import lombok.extern.slf4j.Slf4j;
 @Service
 public class BookAuthorService {
 
+	private static final String AUTHOR_LINKS = "book_entity_authors";
+
+	private static final String DELETE_AUTHOR_LINKS = "delete from " + AUTHOR_LINKS
+			+ " where books_id = :bookId and authors_id in (:authorIds)";
+
+	private static final String INSERT_AUTHOR_LINKS = "insert into " + AUTHOR_LINKS
+			+ " (books_id, authors_id) select cast(:bookId as bigint), a.id from author_entity a where a.id in (:authorIds)";
+
 	@Autowired
 	private BookRepository bookRepository;
 
 	@Autowired
 	private AuthorRepository authorRepository;
+
+	@Autowired
+	private ApplicationEventPublisher eventPublisher;
+
+	@PersistenceContext
+	private EntityManager entityManager;
 	
 	/**
 	 * Asocia un Author existente a un Book
@@ -69,6 +97,7 @@ public class BookAuthorService {
 			throw new EntityNotFoundException(ErrorMessage.BOOK_NOT_FOUND);
 
 		bookEntity.get().getAuthors().add(authorEntity.get());
+		eventPublisher.publishEvent(new BookChangedEvent(bookId));
 		log.info("Termina proceso de asociarle un autor al libro con id = {0}", bookId);
 		return authorEntity.get();
 	}
@@ -117,31 +146,101 @@ public class BookAuthorService {
 		return authorEntity.get();
 	}
 
-	@Transactional
 	/**
-	 * Remplaza las instancias de Author asociadas a una instancia de Book
+	 * Remplaza las instancias de Author asociadas a una instancia de Book. Los
+	 * autores se leen con una sola consulta y se comparan por id con los actuales;
+	 * en la tabla de asociación solo se borran las filas que sobran y se insertan
+	 * las nuevas, cada grupo con una sola sentencia. Hibernate, en cambio, borra y
+	 * vuelve a insertar todas las filas de una lista many-to-many cuando se le
+	 * quita un elemento. Como las sentencias no pasan por Hibernate, la versión
+	 * del libro se incrementa explícitamente al hacer commit; si otra transacción
+	 * la cambió mientras tanto, se lanza una
+	 * {@link ObjectOptimisticLockingFailureException}.
 	 *
 	 * @param bookId Identificador de la instancia de Book
 	 * @param list    Colección de instancias de AuthorEntity a asociar a instancia
 	 *                de Book
-	 * @return Nueva colección de AuthorEntity asociada a la instancia de Book
+	 * @return Nueva colección de AuthorEntity asociada a la instancia de Book, en
+	 *         el orden de la lista recibida
 	 */
+	@Transactional
 	public List<AuthorEntity> replaceAuthors(Long bookId, List<AuthorEntity> list) throws EntityNotFoundException {
+		return replaceAuthors(bookId, list, null);
+	}
+
+	/**
+	 * Remplaza las instancias de Author asociadas a una instancia de Book, si la
+	 * versión del libro es la que el cliente leyó.
+	 *
+	 * @param bookId  Identificador de la instancia de Book
+	 * @param list    Colección de instancias de AuthorEntity a asociar a instancia
+	 *                de Book
+	 * @param version La versión del libro que el cliente leyó, o null para no
+	 *                verificarla
+	 * @return Nueva colección de AuthorEntity asociada a la instancia de Book, en
+	 *         el orden de la lista recibida
+	 * @throws ObjectOptimisticLockingFailureException Si la versión del libro no
+	 *                                                 es la recibida
+	 */
+	@Transactional
+	public List<AuthorEntity> replaceAuthors(Long bookId, List<AuthorEntity> list, Long version)
+			throws EntityNotFoundException {
 		log.info("Inicia proceso de reemplazar los autores del libro con id = {0}", bookId);
 		Optional<BookEntity> bookEntity = bookRepository.findById(bookId);
 		if (bookEntity.isEmpty())
 			throw new EntityNotFoundException(ErrorMessage.BOOK_NOT_FOUND);
 
-		for (AuthorEntity author : list) {
-			Optional<AuthorEntity> authorEntity = authorRepository.findById(author.getId());
-			if (authorEntity.isEmpty())
-				throw new EntityNotFoundException(ErrorMessage.AUTHOR_NOT_FOUND);
+		Long readVersion = bookEntity.get().getVersion();
+		if (version != null && !version.equals(readVersion))
+			throw new ObjectOptimisticLockingFailureException(BookEntity.class, bookId);
+		entityManager.lock(bookEntity.get(), LockModeType.OPTIMISTIC_FORCE_INCREMENT);
+
+		Set<Long> ids = new LinkedHashSet<>();
+		list.forEach(author -> ids.add(author.getId()));
+		if (ids.contains(null))
+			throw new EntityNotFoundException(ErrorMessage.AUTHOR_NOT_FOUND);
+
+		List<AuthorEntity> authors = ids.isEmpty() ? new ArrayList<>() : authorRepository.findAllById(ids);
+		if (authors.size() != ids.size())
+			throw new EntityNotFoundException(ErrorMessage.AUTHOR_NOT_FOUND);
 
-			if (!bookEntity.get().getAuthors().contains(authorEntity.get()))
-				bookEntity.get().getAuthors().add(authorEntity.get());
+		List<AuthorEntity> current = bookEntity.get().getAuthors();
+		boolean loaded = Hibernate.isInitialized(current);
+		Set<Long> currentIds = new HashSet<>();
+		if (loaded)
+			current.forEach(author -> currentIds.add(author.getId()));
+		else
+			currentIds.addAll(bookRepository.findAuthorIds(bookId));
+
+		Set<Long> removed = new HashSet<>(currentIds);
+		removed.removeAll(ids);
+		Set<Long> added = new HashSet<>(ids);
+		added.removeAll(currentIds);
+		if (!removed.isEmpty())
+			updateAuthorLinks(DELETE_AUTHOR_LINKS, bookId, removed);
+		if (!added.isEmpty())
+			updateAuthorLinks(INSERT_AUTHOR_LINKS, bookId, added);
+
+		if (!removed.isEmpty() || !added.isEmpty()) {
+			if (loaded) {
+				entityManager.refresh(bookEntity.get());
+				if (!readVersion.equals(bookEntity.get().getVersion()))
+					throw new ObjectOptimisticLockingFailureException(BookEntity.class, bookId);
+			}
+			eventPublisher.publishEvent(new BookChangedEvent(bookId));
 		}
 		log.info("Termina proceso de reemplazar los autores del libro con id = {0}", bookId);
-		return getAuthors(bookId);
+		return IdBatch.inOrder(new ArrayList<>(ids), authors, AuthorEntity::getId);
+	}
+
+	/**
+	 * Ejecuta una sentencia sobre la tabla de asociación. Se declara la tabla
+	 * como espacio de la consulta para que Hibernate no descarte el caché de
+	 * segundo nivel de las demás entidades.
+	 */
+	private void updateAuthorLinks(String sql, Long bookId, Collection<Long> authorIds) {
+		entityManager.createNativeQuery(sql).unwrap(NativeQuery.class).addSynchronizedQuerySpace(AUTHOR_LINKS)
+				.setParameter("bookId", bookId).setParameterList("authorIds", authorIds).executeUpdate();
 	}
 
 	@Transactional
@@ -163,6 +262,7 @@ public class BookAuthorService {
 			throw new EntityNotFoundException(ErrorMessage.BOOK_NOT_FOUND);
 
 		bookEntity.get().getAuthors().remove(authorEntity.get());
+		eventPublisher.publishEvent(new BookChangedEvent(bookId));
 
 		log.info("Termina proceso de borrar un autor del libro con id = {0}", bookId);
 	}
@@ -0,0 +1,60 @@
+/*
+MIT License
+
+Copyright (c) 2021 Universidad de los Andes - ISIS2603
+
+Permission is hereby granted, free of charge, to any person obtaining a copy
+of this software and associated documentation files (the "Software"), to deal
+in the Software without restriction, including without limitation the rights
+to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+copies of the Software, and to permit persons to whom the Software is
+furnished to do so, subject to the following conditions:
+
+The above copyright notice and this permission notice shall be included in all
+copies or substantial portions of the Software.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+SOFTWARE.
+*/
+package co.edu.uniandes.dse.bookstore.services;
+
+import lombok.Value;
+
+/**
+ * El detalle de un libro serializado en JSON por {@link BookDocumentService}.
+ *
+ * @author ISIS2603
+ */
+@Value
+public class BookDocument {
+
+	/**
+	 * La versión agregada del libro con la que se generó el documento.
+	 */
+	String version;
+
+	/**
+	 * El documento en JSON.
+	 */
+	byte[] json;
+
+	/**
+	 * El documento comprimido con gzip, o null si es muy pequeño para
+	 * comprimirlo.
+	 */
+	byte[] gzip;
+
+	/**
+	 * Devuelve el número de bytes que ocupa el documento en el caché.
+	 *
+	 * @return El tamaño del JSON más el de su versión comprimida
+	 */
+	public int getSize() {
+		return json.length + (gzip == null ? 0 : gzip.length);
+	}
+}
@@ -0,0 +1,156 @@
+/*
+MIT License
+
+Copyright (c) 2021 Universidad de los Andes - ISIS2603
+
+Permission is hereby granted, free of charge, to any person obtaining a copy
+of this software and associated documentation files (the "Software"), to deal
+in the Software without restriction, including without limitation the rights
+to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+copies of the Software, and to permit persons to whom the Software is
+furnished to do so, subject to the following conditions:
+
+The above copyright notice and this permission notice shall be included in all
+copies or substantial portions of the Software.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+SOFTWARE.
+*/
+package co.edu.uniandes.dse.bookstore.services;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Collection;
+import java.util.zip.GZIPOutputStream;
+
+import javax.annotation.PostConstruct;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.util.unit.DataSize;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import co.edu.uniandes.dse.bookstore.dto.BookDetailDTO;
+import co.edu.uniandes.dse.bookstore.exceptions.EntityNotFoundException;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Guarda el detalle de los libros ya serializado en JSON, listo para escribirlo
+ * en la respuesta sin volver a pasar por Jackson. Los documentos desde el
+ * tamaño mínimo de compresión se guardan también comprimidos con gzip. Cada
+ * entrada lleva la versión agregada del libro con la que se generó, así que un
+ * cambio en el libro, su editorial, sus autores o sus reseñas nunca devuelve un
+ * documento anterior; además los documentos se sacan del caché con cada
+ * {@link co.edu.uniandes.dse.bookstore.events.BookChangedEvent}. El tamaño del
+ * caché se limita por el total de bytes guardados, no por el número de libros.
+ * <p>
+ * Un documento nuevo se genera leyendo el libro de la base de datos, no del
+ * caché de DTOs, que se actualiza solo después del commit de cada cambio.
+ * Después se vuelve a leer la versión del libro: si cambió mientras se generaba
+ * el documento, este se devuelve pero no se guarda, porque podría tener datos
+ * de una versión distinta a la de su etiqueta.
+ *
+ * @author ISIS2603
+ */
+@Slf4j
+@Service
+public class BookDocumentService {
+
+	@Autowired
+	private BookService bookService;
+
+	@Autowired
+	private ResourceVersionService resourceVersionService;
+
+	@Autowired
+	private ObjectMapper objectMapper;
+
+	@Value("${bookstore.book-documents.maximum-size:32MB}")
+	private DataSize maximumSize;
+
+	@Value("${server.compression.min-response-size:2KB}")
+	private DataSize gzipMinSize;
+
+	private ObjectWriter writer;
+
+	private Cache<Long, BookDocument> documents;
+
+	@PostConstruct
+	void init() {
+		writer = objectMapper.writerFor(BookDetailDTO.class);
+		documents = Caffeine.newBuilder().maximumWeight(maximumSize.toBytes())
+				.weigher((Long bookId, BookDocument document) -> document.getSize()).recordStats().build();
+	}
+
+	/**
+	 * Obtiene el detalle de un libro serializado en JSON. Si el caché no tiene el
+	 * documento de esa versión, se genera a partir de
+	 * {@link BookService#readBookDetail(Long)}.
+	 *
+	 * @param bookId  El id del libro
+	 * @param version La versión agregada del libro, leída antes de llamar a este
+	 *                método
+	 * @return El documento del libro
+	 * @throws EntityNotFoundException Si el libro no existe
+	 */
+	public BookDocument getBookDocument(Long bookId, String version) throws EntityNotFoundException {
+		BookDocument document = documents.getIfPresent(bookId);
+		if (document != null && document.getVersion().equals(version))
+			return document;
+
+		log.debug("Se serializa el libro {} en la versión {}", bookId, version);
+		document = serialize(version, bookService.readBookDetail(bookId));
+		if (version.equals(resourceVersionService.getBookVersion(bookId)))
+			documents.put(bookId, document);
+		else
+			log.debug("El libro {} cambió mientras se serializaba, no se guarda en el caché", bookId);
+		return document;
+	}
+
+	/**
+	 * Saca del caché los documentos de los libros.
+	 *
+	 * @param bookIds Los ids de los libros que cambiaron
+	 */
+	public void evict(Collection<Long> bookIds) {
+		documents.invalidateAll(bookIds);
+	}
+
+	/**
+	 * Devuelve el total de bytes guardados en el caché.
+	 *
+	 * @return La suma del tamaño de los documentos
+	 */
+	public long getCachedBytes() {
+		documents.cleanUp();
+		return documents.policy().eviction().map(eviction -> eviction.weightedSize().orElse(0L)).orElse(0L);
+	}
+
+	private BookDocument serialize(String version, BookDetailDTO book) {
+		try {
+			byte[] json = writer.writeValueAsBytes(book);
+			return new BookDocument(version, json, json.length >= gzipMinSize.toBytes() ? gzip(json) : null);
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+	}
+
+	private static byte[] gzip(byte[] json) throws IOException {
+		ByteArrayOutputStream bytes = new ByteArrayOutputStream(json.length / 4);
+		try (GZIPOutputStream out = new GZIPOutputStream(bytes)) {
+			out.write(json);
+		}
+		return bytes.toByteArray();
+	}
+}
@@ -27,11 +27,13 @@ package co.edu.uniandes.dse.bookstore.services;
 import java.util.Optional;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import co.edu.uniandes.dse.bookstore.entities.BookEntity;
 import co.edu.uniandes.dse.bookstore.entities.EditorialEntity;
+import co.edu.uniandes.dse.bookstore.events.BookChangedEvent;
 import co.edu.uniandes.dse.bookstore.exceptions.EntityNotFoundException;
 import co.edu.uniandes.dse.bookstore.exceptions.ErrorMessage;
 import co.edu.uniandes.dse.bookstore.repositories.BookRepository;
@@ -47,6 +49,9 @@ public class BookEditorialService {
 
 	@Autowired
 	private EditorialRepository editorialRepository;
+
+	@Autowired
+	private ApplicationEventPublisher eventPublisher;
 	
 	/**
 	 * Remplazar la editorial de un book.
@@ -68,6 +73,7 @@ public class BookEditorialService {
 			throw new EntityNotFoundException(ErrorMessage.EDITORIAL_NOT_FOUND);
 
 		bookEntity.get().setEditorial(editorialEntity.get());
+		eventPublisher.publishEvent(new BookChangedEvent(bookId));
 		log.info("Termina proceso de actualizar libro con id = {0}", bookId);
 
 		return bookEntity.get();
@@ -91,6 +97,7 @@ public class BookEditorialService {
 		editorialEntity.ifPresent(editorial -> editorial.getBooks().remove(bookEntity.get()));
 
 		bookEntity.get().setEditorial(null);
+		eventPublisher.publishEvent(new BookChangedEvent(bookId));
 		log.info("Termina proceso de borrar la Editorial del libro con id = {0}", bookId);
 	}
 }
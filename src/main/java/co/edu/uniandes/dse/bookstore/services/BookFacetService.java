@@ -0,0 +1,117 @@
+/*
+MIT License
+
+Copyright (c) 2021 Universidad de los Andes - ISIS2603
+
+Permission is hereby granted, free of charge, to any person obtaining a copy
+of this software and associated documentation files (the "Software"), to deal
+in the Software without restriction, including without limitation the rights
+to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+copies of the Software, and to permit persons to whom the Software is
+furnished to do so, subject to the following conditions:
+
+The above copyright notice and this permission notice shall be included in all
+copies or substantial portions of the Software.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+SOFTWARE.
+*/
+package co.edu.uniandes.dse.bookstore.services;
+
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import co.edu.uniandes.dse.bookstore.config.CacheConfig;
+import co.edu.uniandes.dse.bookstore.dto.BookFacetsDTO;
+import co.edu.uniandes.dse.bookstore.dto.FacetCountDTO;
+import co.edu.uniandes.dse.bookstore.repositories.AuthorRepository;
+import co.edu.uniandes.dse.bookstore.repositories.BookRepository;
+import co.edu.uniandes.dse.bookstore.repositories.EditorialRepository;
+import co.edu.uniandes.dse.bookstore.repositories.FacetCountView;
+import co.edu.uniandes.dse.bookstore.repositories.NameView;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Clase que calcula los conteos de libros del catálogo por editorial, año de
+ * publicación y autor.
+ *
+ * @author ISIS2603
+ */
+@Slf4j
+@Service
+public class BookFacetService {
+
+	private static final Comparator<FacetCountDTO> BY_COUNT = Comparator.comparingLong(FacetCountDTO::getCount)
+			.reversed().thenComparing(FacetCountDTO::getName, Comparator.nullsLast(Comparator.naturalOrder()));
+
+	@Autowired
+	BookRepository bookRepository;
+
+	@Autowired
+	AuthorRepository authorRepository;
+
+	@Autowired
+	EditorialRepository editorialRepository;
+
+	/**
+	 * Cuenta los libros por editorial, por año de publicación y por autor. Cada
+	 * faceta se calcula con una consulta agregada y los nombres se cargan solo
+	 * para los ids que aparecen en ella. El resultado queda en el caché
+	 * {@link CacheConfig#BOOK_FACETS} con la versión de las listas de libros como
+	 * llave, así que un conteo calculado antes de un cambio nunca se devuelve para
+	 * la versión posterior, aunque se guarde después del commit.
+	 *
+	 * @param booksVersion La versión de las listas de libros, leída con
+	 *                     {@link ResourceVersionService#getBooksVersion()} antes
+	 *                     de llamar a este método
+	 * @return Los conteos de cada faceta. Las editoriales y los autores van de
+	 *         mayor a menor número de libros; los años, en orden ascendente.
+	 */
+	@Transactional(readOnly = true)
+	@Cacheable(cacheNames = CacheConfig.BOOK_FACETS, sync = true)
+	public BookFacetsDTO getFacets(String booksVersion) {
+		log.info("Inicia proceso de contar los libros por faceta");
+		BookFacetsDTO facets = new BookFacetsDTO();
+
+		List<FacetCountView> editorials = bookRepository.countByEditorial();
+		if (!editorials.isEmpty())
+			facets.setEditorials(withNames(editorials, editorialRepository.findNamesByIdIn(keys(editorials))));
+
+		List<FacetCountView> authors = bookRepository.countByAuthor();
+		if (!authors.isEmpty())
+			facets.setAuthors(withNames(authors, authorRepository.findNamesByIdIn(keys(authors))));
+
+		facets.setYears(bookRepository.countByPublishingYear().stream()
+				.map(count -> new FacetCountDTO(count.getKey().longValue(), count.getKey().toString(),
+						count.getCount()))
+				.sorted(Comparator.comparing(FacetCountDTO::getId)).collect(Collectors.toList()));
+		log.info("Termina proceso de contar los libros por faceta");
+		return facets;
+	}
+
+	private static List<Long> keys(List<FacetCountView> counts) {
+		return counts.stream().map(count -> count.getKey().longValue()).collect(Collectors.toList());
+	}
+
+	private static List<FacetCountDTO> withNames(List<FacetCountView> counts, List<NameView> names) {
+		Map<Long, String> byId = new HashMap<>();
+		names.forEach(name -> byId.put(name.getId(), name.getName()));
+		return counts.stream().map(count -> {
+			Long id = count.getKey().longValue();
+			return new FacetCountDTO(id, byId.get(id), count.getCount());
+		}).sorted(BY_COUNT).collect(Collectors.toList());
+	}
+}
@@ -0,0 +1,114 @@
+/*
+MIT License
+
+Copyright (c) 2021 Universidad de los Andes - ISIS2603
+
+Permission is hereby granted, free of charge, to any person obtaining a copy
+of this software and associated documentation files (the "Software"), to deal
+in the Software without restriction, including without limitation the rights
+to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+copies of the Software, and to permit persons to whom the Software is
+furnished to do so, subject to the following conditions:
+
+The above copyright notice and this permission notice shall be included in all
+copies or substantial portions of the Software.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+SOFTWARE.
+*/
+package co.edu.uniandes.dse.bookstore.services;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import co.edu.uniandes.dse.bookstore.dto.BookOverviewDTO;
+import co.edu.uniandes.dse.bookstore.entities.AuthorEntity;
+import co.edu.uniandes.dse.bookstore.entities.BookEntity;
+import co.edu.uniandes.dse.bookstore.entities.ReviewEntity;
+import co.edu.uniandes.dse.bookstore.exceptions.EntityNotFoundException;
+import co.edu.uniandes.dse.bookstore.exceptions.ErrorMessage;
+import co.edu.uniandes.dse.bookstore.exceptions.IllegalOperationException;
+import co.edu.uniandes.dse.bookstore.mappers.BookMapper;
+import co.edu.uniandes.dse.bookstore.repositories.AuthorRepository;
+import co.edu.uniandes.dse.bookstore.repositories.BookRepository;
+import co.edu.uniandes.dse.bookstore.repositories.ReviewRepository;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Arma la página de un libro con un número fijo de consultas, sin importar
+ * cuántos autores, premios o reseñas tenga: el libro con su editorial, sus
+ * autores, los premios de los autores con su organización, la página de
+ * reseñas (más el conteo si hace falta) y los otros libros de los autores.
+ *
+ * @author ISIS2603
+ */
+@Slf4j
+@Service
+public class BookOverviewService {
+
+	/**
+	 * Número máximo de otros libros de los autores que se incluyen.
+	 */
+	static final int RELATED_BOOKS = 10;
+
+	private static final Set<String> REVIEW_SORT_FIELDS = Set.of("id", "name", "source");
+
+	@Autowired
+	private BookRepository bookRepository;
+
+	@Autowired
+	private AuthorRepository authorRepository;
+
+	@Autowired
+	private ReviewRepository reviewRepository;
+
+	/**
+	 * Devuelve la página de un libro.
+	 *
+	 * @param bookId  El id del libro
+	 * @param reviews La página de reseñas solicitada. Solo se permite ordenar por
+	 *                id, name y source; si no se pide orden se ordena por id
+	 * @return El libro con su editorial, reseñas, autores con premios y otros
+	 *         libros de los autores
+	 * @throws EntityNotFoundException   Si el libro no existe
+	 * @throws IllegalOperationException Si la página de reseñas es inválida
+	 */
+	@Transactional(readOnly = true)
+	public BookOverviewDTO getBookOverview(Long bookId, Pageable reviews)
+			throws EntityNotFoundException, IllegalOperationException {
+		log.info("Inicia proceso de consultar la página del libro con id = {0}", bookId);
+		PageableValidator.validate(reviews, REVIEW_SORT_FIELDS);
+		Optional<BookEntity> bookEntity = bookRepository.findWithEditorialById(bookId);
+		if (bookEntity.isEmpty())
+			throw new EntityNotFoundException(ErrorMessage.BOOK_NOT_FOUND);
+
+		BookEntity book = bookEntity.get();
+		bookRepository.fetchDetails(List.of(book), true, false);
+		List<AuthorEntity> authors = book.getAuthors();
+		authorRepository.fetchDetails(authors, false, true);
+
+		if (reviews.getSort().isUnsorted())
+			reviews = PageRequest.of(reviews.getPageNumber(), reviews.getPageSize(), Sort.by("id"));
+		Page<ReviewEntity> reviewPage = reviewRepository.findByBookId(bookId, reviews);
+
+		List<BookEntity> relatedBooks = authors.isEmpty() ? List.of()
+				: bookRepository.findByAuthorsExcluding(bookId, authors, PageRequest.of(0, RELATED_BOOKS));
+
+		log.info("Termina proceso de consultar la página del libro con id = {0}", bookId);
+		return BookMapper.toOverviewDTO(book, reviewPage, relatedBooks);
+	}
+}
@@ -0,0 +1,162 @@
+/*
+MIT License
+
+Copyright (c) 2021 Universidad de los Andes - ISIS2603
+
+Permission is hereby granted, free of charge, to any person obtaining a copy
+of this software and associated documentation files (the "Software"), to deal
+in the Software without restriction, including without limitation the rights
+to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+copies of the Software, and to permit persons to whom the Software is
+furnished to do so, subject to the following conditions:
+
+The above copyright notice and this permission notice shall be included in all
+copies or substantial portions of the Software.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+SOFTWARE.
+*/
+package co.edu.uniandes.dse.bookstore.services;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import javax.persistence.EntityManager;
+import javax.persistence.PersistenceContext;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import co.edu.uniandes.dse.bookstore.entities.AuthorEntity;
+import co.edu.uniandes.dse.bookstore.entities.BookEntity;
+import co.edu.uniandes.dse.bookstore.exceptions.IllegalOperationException;
+import co.edu.uniandes.dse.bookstore.repositories.BookRepository;
+import co.edu.uniandes.dse.bookstore.search.BookSearchIndex;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Clase que implementa la búsqueda de libros por texto sobre
+ * {@link BookSearchIndex}.
+ *
+ * @author ISIS2603
+ */
+@Slf4j
+@Service
+public class BookSearchService {
+
+	/**
+	 * Número de libros que se cargan con sus autores a la vez al indexar.
+	 */
+	private static final int INDEX_CHUNK_SIZE = 500;
+
+	@Autowired
+	BookRepository bookRepository;
+
+	@Autowired
+	BookSearchIndex bookSearchIndex;
+
+	@PersistenceContext
+	EntityManager entityManager;
+
+	/**
+	 * Busca los libros cuyo nombre, descripción o autores contienen las palabras
+	 * de la consulta, del más al menos relevante.
+	 *
+	 * @param query    El texto de la consulta
+	 * @param pageable La página solicitada. No se permite ordenar, los resultados
+	 *                 siempre van por relevancia
+	 * @return La página de libros encontrados, con su editorial
+	 * @throws IllegalOperationException Si la consulta no tiene palabras o la
+	 *                                   página es inválida
+	 */
+	@Transactional(readOnly = true)
+	public Page<BookEntity> searchBooks(String query, Pageable pageable) throws IllegalOperationException {
+		log.info("Inicia proceso de buscar libros con la consulta {0}", query);
+		PageableValidator.validate(pageable, Set.of());
+		if (BookSearchIndex.tokenize(query).isEmpty())
+			throw new IllegalOperationException("Query is not valid");
+
+		List<Long> ranked = bookSearchIndex.search(query);
+		int from = (int) Math.min(pageable.getOffset(), ranked.size());
+		int to = Math.min(from + pageable.getPageSize(), ranked.size());
+		List<Long> ids = ranked.subList(from, to);
+
+		Map<Long, BookEntity> books = bookRepository.findWithEditorialByIdIn(ids).stream()
+				.collect(Collectors.toMap(BookEntity::getId, Function.identity()));
+		List<BookEntity> content = ids.stream().map(books::get).filter(Objects::nonNull)
+				.collect(Collectors.toList());
+		log.info("Termina proceso de buscar libros con la consulta {0}", query);
+		return new PageImpl<>(content, pageable, ranked.size());
+	}
+
+	/**
+	 * Vuelve a construir el índice con todos los libros de la base de datos.
+	 */
+	@Transactional(readOnly = true)
+	public void rebuildIndex() {
+		log.info("Inicia proceso de construir el índice de búsqueda de libros");
+		bookSearchIndex.clear();
+		try (Stream<BookEntity> books = bookRepository.streamAllWithEditorial()) {
+			Iterator<BookEntity> iterator = books.iterator();
+			List<BookEntity> chunk = new ArrayList<>(INDEX_CHUNK_SIZE);
+			while (iterator.hasNext()) {
+				chunk.add(iterator.next());
+				if (chunk.size() == INDEX_CHUNK_SIZE || !iterator.hasNext()) {
+					indexBooks(chunk);
+					chunk.clear();
+					entityManager.clear();
+				}
+			}
+		}
+		log.info("Termina proceso de construir el índice de búsqueda con {0} libros", bookSearchIndex.size());
+	}
+
+	/**
+	 * Actualiza en el índice los libros dados. Los que ya no existen se sacan del
+	 * índice.
+	 *
+	 * @param bookIds Los ids de los libros que cambiaron
+	 */
+	@Transactional(readOnly = true)
+	public void reindexBooks(Collection<Long> bookIds) {
+		List<Long> pending = new ArrayList<>(bookIds);
+		for (int from = 0; from < pending.size(); from += INDEX_CHUNK_SIZE) {
+			List<Long> ids = pending.subList(from, Math.min(from + INDEX_CHUNK_SIZE, pending.size()));
+			List<BookEntity> books = bookRepository.findAllById(ids);
+			indexBooks(books);
+
+			Set<Long> removed = new HashSet<>(ids);
+			books.forEach(book -> removed.remove(book.getId()));
+			removed.forEach(bookSearchIndex::remove);
+		}
+	}
+
+	private void indexBooks(List<BookEntity> books) {
+		if (books.isEmpty())
+			return;
+		bookRepository.fetchAuthors(books);
+		for (BookEntity book : books) {
+			List<String> authorNames = book.getAuthors().stream().map(AuthorEntity::getName)
+					.collect(Collectors.toList());
+			bookSearchIndex.index(book.getId(), book.getName(), book.getDescription(), authorNames);
+		}
+	}
+}
@@ -24,20 +24,47 @@ SOFTWARE.
 
 package co.edu.uniandes.dse.bookstore.services;
 
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import javax.persistence.EntityManager;
+import javax.persistence.PersistenceContext;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import co.edu.uniandes.dse.bookstore.config.CacheConfig;
+import co.edu.uniandes.dse.bookstore.dto.BookDetailDTO;
+import co.edu.uniandes.dse.bookstore.dto.BookFilter;
+import co.edu.uniandes.dse.bookstore.dto.Fields;
+import co.edu.uniandes.dse.bookstore.dto.Include;
 import co.edu.uniandes.dse.bookstore.entities.AuthorEntity;
 import co.edu.uniandes.dse.bookstore.entities.BookEntity;
 import co.edu.uniandes.dse.bookstore.entities.EditorialEntity;
+import co.edu.uniandes.dse.bookstore.events.BookChangedEvent;
 import co.edu.uniandes.dse.bookstore.exceptions.EntityNotFoundException;
 import co.edu.uniandes.dse.bookstore.exceptions.ErrorMessage;
 import co.edu.uniandes.dse.bookstore.exceptions.IllegalOperationException;
+import co.edu.uniandes.dse.bookstore.mappers.BookMapper;
 import co.edu.uniandes.dse.bookstore.repositories.BookRepository;
+import co.edu.uniandes.dse.bookstore.repositories.BookSpecifications;
 import co.edu.uniandes.dse.bookstore.repositories.EditorialRepository;
 import lombok.extern.slf4j.Slf4j;
 
@@ -45,11 +72,41 @@ import lombok.extern.slf4j.Slf4j;
 @Service
 public class BookService {
 
+	/**
+	 * Número máximo de libros en una carga masiva.
+	 */
+	public static final int MAX_BATCH_SIZE = 5000;
+
+	/**
+	 * Cada cuántos libros se envían los INSERT pendientes y se limpia el contexto
+	 * de persistencia durante una carga masiva.
+	 */
+	private static final int BATCH_FLUSH_SIZE = 500;
+
+	/**
+	 * Número máximo de ISBN por consulta IN.
+	 */
+	private static final int ISBN_QUERY_SIZE = 1000;
+
+	/**
+	 * Número de libros que se cargan con sus asociaciones antes de limpiar el
+	 * contexto de persistencia durante una exportación.
+	 */
+	private static final int EXPORT_CHUNK_SIZE = 500;
+
+	private static final Set<String> SORT_FIELDS = Set.of("id", "name", "isbn", "publishingDate");
+
 	@Autowired
 	BookRepository bookRepository;
 
 	@Autowired
 	EditorialRepository editorialRepository;
+
+	@Autowired
+	ApplicationEventPublisher eventPublisher;
+
+	@PersistenceContext
+	EntityManager entityManager;
 	
 	/**
 	 * Guardar un nuevo libro
@@ -73,23 +130,326 @@ public class BookService {
 		if (!validateISBN(bookEntity.getIsbn()))
 			throw new IllegalOperationException("ISBN is not valid");
 
-		if (!bookRepository.findByIsbn(bookEntity.getIsbn()).isEmpty())
+		if (bookRepository.existsByIsbn(bookEntity.getIsbn()))
 			throw new IllegalOperationException("ISBN already exists");
 
 		bookEntity.setEditorial(editorialEntity.get());
+		BookEntity saved = bookRepository.save(bookEntity);
+		eventPublisher.publishEvent(new BookChangedEvent(saved.getId()));
 		log.info("Termina proceso de creación del libro");
-		return bookRepository.save(bookEntity);
+		return saved;
 	}
 
 	/**
-	 * Devuelve todos los libros que hay en la base de datos.
+	 * Guarda varios libros nuevos. Cada libro se valida con las mismas reglas de
+	 * {@link #createBook(BookEntity)}, pero los ISBN y las editoriales se consultan
+	 * una sola vez para toda la carga, y los INSERT se envían en lotes. Un libro
+	 * inválido no impide que se guarden los demás.
+	 *
+	 * @param books Las entidades de los libros a persistir
+	 * @return Para cada libro, en el mismo orden, null si se guardó o el motivo
+	 *         por el que se rechazó. Los libros guardados quedan con su id.
+	 * @throws IllegalOperationException Si la carga está vacía o tiene más de
+	 *                                   {@value #MAX_BATCH_SIZE} libros
+	 */
+	@Transactional
+	public List<String> createBooks(List<BookEntity> books) throws IllegalOperationException {
+		log.info("Inicia proceso de creación de {0} libros", books.size());
+		if (books.isEmpty() || books.size() > MAX_BATCH_SIZE)
+			throw new IllegalOperationException("Batch size is not valid");
+
+		Set<Long> editorialIds = new HashSet<>();
+		Set<String> isbns = new HashSet<>();
+		for (BookEntity book : books) {
+			if (book == null)
+				continue;
+			if (book.getEditorial() != null && book.getEditorial().getId() != null)
+				editorialIds.add(book.getEditorial().getId());
+			if (validateISBN(book.getIsbn()))
+				isbns.add(book.getIsbn());
+		}
+		Map<Long, EditorialEntity> editorials = editorialRepository.findAllById(editorialIds).stream()
+				.collect(Collectors.toMap(EditorialEntity::getId, Function.identity()));
+		Set<String> storedIsbns = findStoredIsbns(isbns);
+
+		Set<String> batchIsbns = new HashSet<>();
+		List<String> errors = new ArrayList<>(books.size());
+		List<Long> created = new ArrayList<>();
+		for (BookEntity book : books) {
+			String error = validateBatchBook(book, editorials, storedIsbns, batchIsbns);
+			errors.add(error);
+			if (error != null)
+				continue;
+
+			book.setId(null);
+			book.setEditorial(editorials.get(book.getEditorial().getId()));
+			entityManager.persist(book);
+			created.add(book.getId());
+			if (created.size() % BATCH_FLUSH_SIZE == 0) {
+				entityManager.flush();
+				entityManager.clear();
+			}
+		}
+		entityManager.flush();
+		entityManager.clear();
+
+		if (!created.isEmpty())
+			eventPublisher.publishEvent(new BookChangedEvent(created));
+		log.info("Termina proceso de creación de {0} libros", created.size());
+		return errors;
+	}
+
+	/**
+	 * Valida un libro de una carga masiva y, si es válido, reserva su ISBN dentro
+	 * de la carga.
+	 *
+	 * @return null si el libro es válido, o el motivo por el que no lo es
+	 */
+	private String validateBatchBook(BookEntity book, Map<Long, EditorialEntity> editorials, Set<String> storedIsbns,
+			Set<String> batchIsbns) {
+		if (book == null)
+			return "Book is not valid";
+		if (book.getEditorial() == null || !editorials.containsKey(book.getEditorial().getId()))
+			return "Editorial is not valid";
+		if (!validateISBN(book.getIsbn()))
+			return "ISBN is not valid";
+		if (storedIsbns.contains(book.getIsbn()))
+			return "ISBN already exists";
+		if (!batchIsbns.add(book.getIsbn()))
+			return "ISBN is repeated in the batch";
+		return null;
+	}
+
+	/**
+	 * Devuelve cuáles de los ISBN dados ya están en la base de datos.
+	 */
+	private Set<String> findStoredIsbns(Set<String> isbns) {
+		Set<String> stored = new HashSet<>();
+		List<String> pending = new ArrayList<>(isbns);
+		for (int from = 0; from < pending.size(); from += ISBN_QUERY_SIZE) {
+			int to = Math.min(from + ISBN_QUERY_SIZE, pending.size());
+			stored.addAll(bookRepository.findIsbnsIn(pending.subList(from, to)));
+		}
+		return stored;
+	}
+
+	/**
+	 * Devuelve todos los libros que hay en la base de datos, con su editorial,
+	 * autores y reseñas ya cargados.
 	 *
 	 * @return Lista de entidades de tipo libro.
 	 */
 	@Transactional
 	public List<BookEntity> getBooks() {
 		log.info("Inicia proceso de consultar todos los libros");
-		return bookRepository.findAll();
+		return bookRepository.findAllWithDetails();
+	}
+
+	/**
+	 * Devuelve los libros con los ids dados, con su editorial, autores y reseñas
+	 * ya cargados. Todos los libros se leen con una sola consulta IN.
+	 *
+	 * @param ids Los ids de los libros, máximo {@value IdBatch#MAX_IDS}
+	 * @return Los libros encontrados en el orden de los ids, sin repetir. Los
+	 *         ids que no existen se omiten.
+	 * @throws IllegalOperationException Si la lista de ids es inválida
+	 */
+	@Transactional
+	public List<BookEntity> getBooksById(List<Long> ids) throws IllegalOperationException {
+		List<Long> distinct = IdBatch.distinct(ids);
+		log.info("Inicia proceso de consultar {0} libros por id", distinct.size());
+		List<BookEntity> books = bookRepository.findWithEditorialByIdIn(distinct);
+		bookRepository.fetchDetails(books);
+		return IdBatch.inOrder(distinct, books, BookEntity::getId);
+	}
+
+	/**
+	 * Devuelve los libros que cumplen los filtros dados, con su editorial, autores
+	 * y reseñas ya cargados. Los filtros se traducen a una sola consulta.
+	 *
+	 * @param filter Los filtros a aplicar
+	 * @param sort   El orden de los libros. Solo se permite ordenar por id, name,
+	 *               isbn y publishingDate
+	 * @return Lista de entidades de tipo libro.
+	 * @throws IllegalOperationException Si el orden o el rango de fechas es
+	 *                                   inválido
+	 */
+	@Transactional
+	public List<BookEntity> getBooks(BookFilter filter, Sort sort) throws IllegalOperationException {
+		return getBooks(filter, sort, Include.ALL);
+	}
+
+	/**
+	 * Devuelve los libros que cumplen los filtros dados, cargando solo las
+	 * colecciones pedidas.
+	 *
+	 * @param filter  Los filtros a aplicar
+	 * @param sort    El orden de los libros. Solo se permite ordenar por id, name,
+	 *                isbn y publishingDate
+	 * @param include Las asociaciones a cargar
+	 * @return Lista de entidades de tipo libro.
+	 * @throws IllegalOperationException Si el orden o el rango de fechas es
+	 *                                   inválido
+	 */
+	@Transactional
+	public List<BookEntity> getBooks(BookFilter filter, Sort sort, Include include)
+			throws IllegalOperationException {
+		log.info("Inicia proceso de consultar los libros con filtros {0}", filter);
+		validateFilter(filter);
+		validateSort(sort);
+		List<BookEntity> books = bookRepository.findAll(BookSpecifications.matching(filter), sort);
+		fetchDetails(books, include);
+		return books;
+	}
+
+	/**
+	 * Devuelve una página de los libros que cumplen los filtros dados, con su
+	 * editorial, autores y reseñas ya cargados.
+	 *
+	 * @param filter   Los filtros a aplicar
+	 * @param pageable La página solicitada. Solo se permite ordenar por id, name,
+	 *                 isbn y publishingDate
+	 * @return La página de libros
+	 * @throws IllegalOperationException Si la página o el rango de fechas es
+	 *                                   inválido
+	 */
+	@Transactional
+	public Page<BookEntity> getBooks(BookFilter filter, Pageable pageable) throws IllegalOperationException {
+		return getBooks(filter, pageable, Include.ALL);
+	}
+
+	/**
+	 * Devuelve una página de los libros que cumplen los filtros dados, cargando
+	 * solo las colecciones pedidas.
+	 *
+	 * @param filter   Los filtros a aplicar
+	 * @param pageable La página solicitada. Solo se permite ordenar por id, name,
+	 *                 isbn y publishingDate
+	 * @param include  Las asociaciones a cargar
+	 * @return La página de libros
+	 * @throws IllegalOperationException Si la página o el rango de fechas es
+	 *                                   inválido
+	 */
+	@Transactional
+	public Page<BookEntity> getBooks(BookFilter filter, Pageable pageable, Include include)
+			throws IllegalOperationException {
+		log.info("Inicia proceso de consultar una página de libros con filtros {0}", filter);
+		validateFilter(filter);
+		PageableValidator.validate(pageable, SORT_FIELDS);
+		Page<BookEntity> books = bookRepository.findAll(BookSpecifications.matching(filter), pageable);
+		fetchDetails(books.getContent(), include);
+		return books;
+	}
+
+	/**
+	 * Devuelve solo los campos pedidos de los libros que cumplen los filtros
+	 * dados. La consulta lee únicamente esas columnas, sin crear las entidades.
+	 *
+	 * @param filter Los filtros a aplicar
+	 * @param sort   El orden de los libros. Solo se permite ordenar por id, name,
+	 *               isbn y publishingDate
+	 * @param fields Los campos a devolver
+	 * @return Un mapa por libro, del nombre del campo a su valor
+	 * @throws IllegalOperationException Si el orden o el rango de fechas es
+	 *                                   inválido
+	 */
+	@Transactional(readOnly = true)
+	public List<Map<String, Object>> getBookFields(BookFilter filter, Sort sort, Fields fields)
+			throws IllegalOperationException {
+		log.info("Inicia proceso de consultar los campos {0} de los libros con filtros {1}", fields, filter);
+		validateFilter(filter);
+		validateSort(sort);
+		return bookRepository.findFields(BookEntity.class, fields.names(), BookSpecifications.matching(filter), sort);
+	}
+
+	/**
+	 * Devuelve una página con solo los campos pedidos de los libros que cumplen
+	 * los filtros dados.
+	 *
+	 * @param filter   Los filtros a aplicar
+	 * @param pageable La página solicitada. Solo se permite ordenar por id, name,
+	 *                 isbn y publishingDate
+	 * @param fields   Los campos a devolver
+	 * @return La página, con un mapa por libro
+	 * @throws IllegalOperationException Si la página o el rango de fechas es
+	 *                                   inválido
+	 */
+	@Transactional(readOnly = true)
+	public Page<Map<String, Object>> getBookFields(BookFilter filter, Pageable pageable, Fields fields)
+			throws IllegalOperationException {
+		log.info("Inicia proceso de consultar una página de los campos {0} de los libros", fields);
+		validateFilter(filter);
+		PageableValidator.validate(pageable, SORT_FIELDS);
+		return bookRepository.findFields(BookEntity.class, fields.names(), BookSpecifications.matching(filter),
+				pageable);
+	}
+
+	private void fetchDetails(List<BookEntity> books, Include include) {
+		bookRepository.fetchDetails(books, include.has("authors"), include.has("reviews"));
+	}
+
+	private void validateSort(Sort sort) throws IllegalOperationException {
+		for (Sort.Order order : sort) {
+			if (!SORT_FIELDS.contains(order.getProperty()))
+				throw new IllegalOperationException("Sort field " + order.getProperty() + " is not valid");
+		}
+	}
+
+	private void validateFilter(BookFilter filter) throws IllegalOperationException {
+		if (filter.getPublishedFrom() != null && filter.getPublishedTo() != null
+				&& filter.getPublishedFrom().after(filter.getPublishedTo()))
+			throw new IllegalOperationException("Publishing date range is not valid");
+	}
+
+	/**
+	 * Recorre todos los libros en orden de id y entrega cada uno, ya convertido a
+	 * DTO con su editorial, autores y reseñas, a la acción dada. Los libros se leen
+	 * con un cursor y se procesan por bloques de {@value #EXPORT_CHUNK_SIZE}; al
+	 * terminar cada bloque se limpia el contexto de persistencia, de modo que la
+	 * memoria usada no depende del tamaño del catálogo.
+	 *
+	 * @param action La acción que recibe cada libro
+	 */
+	@Transactional(readOnly = true)
+	public void exportBooks(Consumer<BookDetailDTO> action) {
+		log.info("Inicia proceso de exportar los libros");
+		try (Stream<BookEntity> books = bookRepository.streamAllWithEditorial()) {
+			Iterator<BookEntity> iterator = books.iterator();
+			List<BookEntity> chunk = new ArrayList<>(EXPORT_CHUNK_SIZE);
+			while (iterator.hasNext()) {
+				chunk.add(iterator.next());
+				if (chunk.size() == EXPORT_CHUNK_SIZE || !iterator.hasNext()) {
+					bookRepository.fetchDetails(chunk);
+					chunk.forEach(book -> action.accept(BookMapper.toDetailDTO(book)));
+					chunk.clear();
+					entityManager.clear();
+				}
+			}
+		}
+		log.info("Termina proceso de exportar los libros");
+	}
+
+	/**
+	 * Devuelve una página de libros ordenados por id, empezando después del libro
+	 * con el id dado. La consulta usa la llave primaria como llave de paginación,
+	 * por lo que su costo no depende de qué tan profunda sea la página.
+	 *
+	 * @param after El id del último libro de la página anterior, o null para la
+	 *              primera página
+	 * @param limit El número máximo de libros de la página
+	 * @return La página de libros
+	 * @throws IllegalOperationException Si el tamaño de la página es inválido
+	 */
+	@Transactional
+	public Slice<BookEntity> getBooks(Long after, int limit) throws IllegalOperationException {
+		log.info("Inicia proceso de consultar una página de libros después del id = {0}", after);
+		if (limit < 1 || limit > PageableValidator.MAX_PAGE_SIZE)
+			throw new IllegalOperationException("Page size is not valid");
+
+		Long lastId = after == null ? Long.MIN_VALUE : after;
+		Slice<BookEntity> books = bookRepository.findByIdGreaterThan(lastId, PageRequest.of(0, limit, Sort.by("id")));
+		bookRepository.fetchDetails(books.getContent());
+		return books;
 	}
 
 	/**
@@ -102,13 +462,81 @@ public class BookService {
 	@Transactional
 	public BookEntity getBook(Long bookId) throws EntityNotFoundException {
 		log.info("Inicia proceso de consultar el libro con id = {0}", bookId);
-		Optional<BookEntity> bookEntity = bookRepository.findById(bookId);
+		Optional<BookEntity> bookEntity = bookRepository.findByIdWithDetails(bookId);
 		if (bookEntity.isEmpty())
 			throw new EntityNotFoundException(ErrorMessage.BOOK_NOT_FOUND);
 		log.info("Termina proceso de consultar el libro con id = {0}", bookId);
 		return bookEntity.get();
 	}
 
+	/**
+	 * Busca un libro por ID cargando solo las colecciones pedidas.
+	 *
+	 * @param bookId  El id del libro a buscar
+	 * @param include Las asociaciones a cargar
+	 * @return El libro encontrado
+	 * @throws EntityNotFoundException Si el libro no se encuentra
+	 */
+	@Transactional
+	public BookEntity getBook(Long bookId, Include include) throws EntityNotFoundException {
+		log.info("Inicia proceso de consultar el libro con id = {0} e include = {1}", bookId, include);
+		Optional<BookEntity> bookEntity = bookRepository.findWithEditorialById(bookId);
+		if (bookEntity.isEmpty())
+			throw new EntityNotFoundException(ErrorMessage.BOOK_NOT_FOUND);
+		fetchDetails(List.of(bookEntity.get()), include);
+		return bookEntity.get();
+	}
+
+	/**
+	 * Busca un libro por ISBN. La consulta usa el índice único sobre el ISBN.
+	 *
+	 * @param isbn El ISBN del libro a buscar
+	 * @return El libro encontrado, con su editorial, autores y reseñas
+	 * @throws EntityNotFoundException Si no hay un libro con ese ISBN
+	 */
+	@Transactional
+	public BookEntity getBookByIsbn(String isbn) throws EntityNotFoundException {
+		log.info("Inicia proceso de consultar el libro con isbn = {0}", isbn);
+		Optional<BookEntity> bookEntity = bookRepository.findByIsbnWithDetails(isbn);
+		if (bookEntity.isEmpty())
+			throw new EntityNotFoundException(ErrorMessage.BOOK_ISBN_NOT_FOUND);
+		log.info("Termina proceso de consultar el libro con isbn = {0}", isbn);
+		return bookEntity.get();
+	}
+
+	/**
+	 * Busca un libro por ID y lo devuelve ya convertido a DTO con su editorial,
+	 * autores y reseñas. El resultado queda en el caché {@link CacheConfig#BOOKS}
+	 * con la versión agregada del libro como parte de la llave, así que después de
+	 * un cambio ninguna consulta vuelve a encontrar el detalle anterior, aunque
+	 * una lectura concurrente lo guarde después del commit.
+	 *
+	 * @param bookId  El id del libro a buscar
+	 * @param version La versión agregada del libro, leída con
+	 *                {@link ResourceVersionService#getBookVersion(Long)} antes de
+	 *                llamar a este método
+	 * @return El detalle del libro encontrado
+	 * @throws EntityNotFoundException Si el libro no se encuentra
+	 */
+	@Transactional
+	@Cacheable(cacheNames = CacheConfig.BOOKS, sync = true)
+	public BookDetailDTO getBookDetail(Long bookId, String version) throws EntityNotFoundException {
+		return BookMapper.toDetailDTO(getBook(bookId));
+	}
+
+	/**
+	 * Busca un libro por ID y lo devuelve convertido a DTO, leyéndolo siempre de
+	 * la base de datos sin pasar por el caché {@link CacheConfig#BOOKS}.
+	 *
+	 * @param bookId El id del libro a buscar
+	 * @return El detalle del libro encontrado
+	 * @throws EntityNotFoundException Si el libro no se encuentra
+	 */
+	@Transactional(readOnly = true)
+	public BookDetailDTO readBookDetail(Long bookId) throws EntityNotFoundException {
+		return BookMapper.toDetailDTO(getBook(bookId));
+	}
+
 	/**
 	 * Actualizar un libro por ID
 	 *
@@ -116,6 +544,7 @@ public class BookService {
 	 * @param book La entidad del libro con los cambios deseados
 	 * @return La entidad del libro luego de actualizarla
 	 * @throws IllegalOperationException Si el ISBN de la actualización es inválido
+	 *                                   o ya lo tiene otro libro
 	 * @throws EntityNotFoundException Si libro no es encontrado
 	 */
 	@Transactional
@@ -129,9 +558,22 @@ public class BookService {
 		if (!validateISBN(book.getIsbn()))
 			throw new IllegalOperationException("ISBN is not valid");
 
+		if (bookRepository.existsByIsbnAndIdNot(book.getIsbn(), bookId))
+			throw new IllegalOperationException("ISBN already exists");
+
+		if (book.getEditorial() != null) {
+			Optional<EditorialEntity> editorialEntity = editorialRepository.findById(book.getEditorial().getId());
+			if (editorialEntity.isEmpty())
+				throw new IllegalOperationException("Editorial is not valid");
+			book.setEditorial(editorialEntity.get());
+		}
+
 		book.setId(bookId);
+		if (book.getVersion() == null)
+			book.setVersion(bookEntity.get().getVersion());
+		eventPublisher.publishEvent(new BookChangedEvent(bookId));
 		log.info("Termina proceso de actualizar el libro con id = {0}", bookId);
-		return bookRepository.save(book);
+		return bookRepository.saveAndFlush(book);
 	}
 
 	/**
@@ -154,6 +596,7 @@ public class BookService {
 			throw new IllegalOperationException("Unable to delete book because it has associated authors");
 
 		bookRepository.deleteById(bookId);
+		eventPublisher.publishEvent(new BookChangedEvent(bookId));
 		log.info("Termina proceso de borrar el libro con id = {0}", bookId);
 	}
 
@@ -24,16 +24,22 @@ SOFTWARE.
 
 package co.edu.uniandes.dse.bookstore.services;
 
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
 import javax.transaction.Transactional;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
 import org.springframework.stereotype.Service;
 
 import co.edu.uniandes.dse.bookstore.entities.BookEntity;
 import co.edu.uniandes.dse.bookstore.entities.EditorialEntity;
+import co.edu.uniandes.dse.bookstore.events.BookChangedEvent;
 import co.edu.uniandes.dse.bookstore.exceptions.EntityNotFoundException;
 import co.edu.uniandes.dse.bookstore.exceptions.ErrorMessage;
 import co.edu.uniandes.dse.bookstore.exceptions.IllegalOperationException;
@@ -51,11 +57,19 @@ import lombok.extern.slf4j.Slf4j;
 @Service
 public class EditorialBookService {
 
+	/**
+	 * Número máximo de ids por consulta IN al mover libros de editorial.
+	 */
+	private static final int UPDATE_CHUNK_SIZE = 1000;
+
 	@Autowired
 	private BookRepository bookRepository;
 
 	@Autowired
 	private EditorialRepository editorialRepository;
+
+	@Autowired
+	private ApplicationEventPublisher eventPublisher;
 	
 	/**
 	 * Agregar un book a la editorial
@@ -79,6 +93,7 @@ public class EditorialBookService {
 			throw new EntityNotFoundException(ErrorMessage.EDITORIAL_NOT_FOUND);
 		
 		bookEntity.get().setEditorial(editorialEntity.get());
+		eventPublisher.publishEvent(new BookChangedEvent(bookId));
 		log.info("Termina proceso de agregarle un libro a la editorial con id = {0}", editorialId);
 		return bookEntity.get();
 	}
@@ -130,27 +145,74 @@ public class EditorialBookService {
 	}
 
 	/**
-	 * Remplazar books de una editorial
+	 * Remplazar books de una editorial. Todos los ids se validan antes de hacer
+	 * cambios y los libros se mueven con un UPDATE masivo por cada bloque de
+	 * {@value #UPDATE_CHUNK_SIZE} ids, sin cargar los libros. Al terminar el
+	 * contexto de persistencia queda limpio.
 	 *
 	 * @param books        Lista de libros que serán los de la editorial.
 	 * @param editorialId El id de la editorial que se quiere actualizar.
-	 * @return La lista de libros actualizada.
+	 * @return La lista de libros recibida, ya asociada a la editorial.
 	 * @throws EntityNotFoundException Si la editorial o un libro de la lista no se encuentran
 	 */
 	@Transactional
 	public List<BookEntity> replaceBooks(Long editorialId, List<BookEntity> books) throws EntityNotFoundException {
+		return replaceBooks(editorialId, books, null);
+	}
+
+	/**
+	 * Remplaza los libros de una editorial, si la versión de la editorial es la
+	 * que el cliente leyó. La versión de la editorial se incrementa con una
+	 * sentencia condicionada a la versión leída al comienzo; si otra transacción
+	 * la cambió mientras tanto, se lanza una
+	 * {@link ObjectOptimisticLockingFailureException}.
+	 *
+	 * @param editorialId El id de la editorial que se quiere actualizar.
+	 * @param books       Lista de libros que serán los de la editorial.
+	 * @param version     La versión de la editorial que el cliente leyó, o null
+	 *                    para no verificarla.
+	 * @return La lista de libros recibida, ya asociada a la editorial.
+	 * @throws EntityNotFoundException                 Si la editorial o un libro
+	 *                                                 de la lista no se
+	 *                                                 encuentran
+	 * @throws ObjectOptimisticLockingFailureException Si la versión de la
+	 *                                                 editorial no es la
+	 *                                                 recibida
+	 */
+	@Transactional
+	public List<BookEntity> replaceBooks(Long editorialId, List<BookEntity> books, Long version)
+			throws EntityNotFoundException {
 		log.info("Inicia proceso de actualizar la editorial con id = {0}", editorialId);
 		Optional<EditorialEntity> editorialEntity = editorialRepository.findById(editorialId);
 		if(editorialEntity.isEmpty())
 			throw new EntityNotFoundException(ErrorMessage.EDITORIAL_NOT_FOUND);
-		
-		for(BookEntity book : books) {
-			Optional<BookEntity> b = bookRepository.findById(book.getId());
-			if(b.isEmpty())
+
+		Long readVersion = editorialEntity.get().getVersion();
+		if (version != null && !version.equals(readVersion))
+			throw new ObjectOptimisticLockingFailureException(EditorialEntity.class, editorialId);
+
+		Set<Long> distinct = new LinkedHashSet<>();
+		books.forEach(book -> distinct.add(book.getId()));
+		if (distinct.contains(null))
+			throw new EntityNotFoundException(ErrorMessage.BOOK_NOT_FOUND);
+
+		List<Long> ids = new ArrayList<>(distinct);
+		for (int from = 0; from < ids.size(); from += UPDATE_CHUNK_SIZE) {
+			List<Long> chunk = ids.subList(from, Math.min(from + UPDATE_CHUNK_SIZE, ids.size()));
+			if (bookRepository.findIdsByIdIn(chunk).size() != chunk.size())
 				throw new EntityNotFoundException(ErrorMessage.BOOK_NOT_FOUND);
-			
-			b.get().setEditorial(editorialEntity.get());
-		}		
+		}
+
+		for (int from = 0; from < ids.size(); from += UPDATE_CHUNK_SIZE)
+			bookRepository.updateEditorial(editorialEntity.get(),
+					ids.subList(from, Math.min(from + UPDATE_CHUNK_SIZE, ids.size())));
+
+		if (editorialRepository.incrementVersion(editorialId, readVersion) == 0)
+			throw new ObjectOptimisticLockingFailureException(EditorialEntity.class, editorialId);
+
+		books.forEach(book -> book.setEditorial(editorialEntity.get()));
+		eventPublisher.publishEvent(new BookChangedEvent(ids));
+		log.info("Termina proceso de actualizar la editorial con id = {0}", editorialId);
 		return books;
 	}
-}
\ No newline at end of file
+}
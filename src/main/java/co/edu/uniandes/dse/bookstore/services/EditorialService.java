@@ -26,13 +26,20 @@ package co.edu.uniandes.dse.bookstore.services;
 
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import co.edu.uniandes.dse.bookstore.entities.BookEntity;
 import co.edu.uniandes.dse.bookstore.entities.EditorialEntity;
+import co.edu.uniandes.dse.bookstore.events.BookChangedEvent;
+import co.edu.uniandes.dse.bookstore.events.EditorialChangedEvent;
 import co.edu.uniandes.dse.bookstore.exceptions.EntityNotFoundException;
 import co.edu.uniandes.dse.bookstore.exceptions.ErrorMessage;
 import co.edu.uniandes.dse.bookstore.exceptions.IllegalOperationException;
@@ -50,9 +57,14 @@ import lombok.extern.slf4j.Slf4j;
 @Service
 public class EditorialService {
 
+	private static final Set<String> SORT_FIELDS = Set.of("id", "name");
+
 	@Autowired
 	EditorialRepository editorialRepository;
 
+	@Autowired
+	ApplicationEventPublisher eventPublisher;
+
 	/**
 	 * Crea una editorial en la persistencia.
 	 *
@@ -66,8 +78,10 @@ public class EditorialService {
 		if (!editorialRepository.findByName(editorialEntity.getName()).isEmpty()) {
 			throw new IllegalOperationException("Editorial name already exists");
 		}
+		EditorialEntity saved = editorialRepository.save(editorialEntity);
+		eventPublisher.publishEvent(new EditorialChangedEvent(saved.getId()));
 		log.info("Termina proceso de creación de la editorial");
-		return editorialRepository.save(editorialEntity);
+		return saved;
 	}
 
 	/**
@@ -82,6 +96,21 @@ public class EditorialService {
 		return editorialRepository.findAll();
 	}
 
+	/**
+	 *
+	 * Obtener una página de las editoriales existentes en la base de datos.
+	 *
+	 * @param pageable La página solicitada. Solo se permite ordenar por id y name.
+	 * @return una página de editoriales.
+	 * @throws IllegalOperationException Si la página solicitada es inválida
+	 */
+	@Transactional
+	public Page<EditorialEntity> getEditorials(Pageable pageable) throws IllegalOperationException {
+		log.info("Inicia proceso de consultar una página de editoriales");
+		PageableValidator.validate(pageable, SORT_FIELDS);
+		return editorialRepository.findAll(pageable);
+	}
+
 	/**
 	 *
 	 * Obtener una editorial por medio de su id.
@@ -115,8 +144,13 @@ public class EditorialService {
 			throw new EntityNotFoundException(ErrorMessage.EDITORIAL_NOT_FOUND);
 
 		editorial.setId(editorialId);
+		if (editorial.getVersion() == null)
+			editorial.setVersion(editorialEntity.get().getVersion());
+		eventPublisher.publishEvent(new BookChangedEvent(
+				editorialEntity.get().getBooks().stream().map(BookEntity::getId).collect(Collectors.toList())));
+		eventPublisher.publishEvent(new EditorialChangedEvent(editorialId));
 		log.info("Termina proceso de actualizar la editorial con id = {0}", editorialId);
-		return editorialRepository.save(editorial);
+		return editorialRepository.saveAndFlush(editorial);
 	}
 
 	/**
@@ -140,6 +174,7 @@ public class EditorialService {
 		}
 
 		editorialRepository.deleteById(editorialId);
+		eventPublisher.publishEvent(new EditorialChangedEvent(editorialId));
 		log.info("Termina proceso de borrar la editorial con id = {0}", editorialId);
 	}
 }
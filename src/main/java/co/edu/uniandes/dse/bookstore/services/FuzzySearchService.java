@@ -0,0 +1,137 @@
+/*
+MIT License
+
+Copyright (c) 2021 Universidad de los Andes - ISIS2603
+
+Permission is hereby granted, free of charge, to any person obtaining a copy
+of this software and associated documentation files (the "Software"), to deal
+in the Software without restriction, including without limitation the rights
+to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+copies of the Software, and to permit persons to whom the Software is
+furnished to do so, subject to the following conditions:
+
+The above copyright notice and this permission notice shall be included in all
+copies or substantial portions of the Software.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+SOFTWARE.
+*/
+package co.edu.uniandes.dse.bookstore.services;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Function;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import co.edu.uniandes.dse.bookstore.exceptions.IllegalOperationException;
+import co.edu.uniandes.dse.bookstore.repositories.AuthorRepository;
+import co.edu.uniandes.dse.bookstore.repositories.BookRepository;
+import co.edu.uniandes.dse.bookstore.repositories.NameView;
+import co.edu.uniandes.dse.bookstore.search.FuzzyNameIndex;
+import co.edu.uniandes.dse.bookstore.search.FuzzyNameIndex.Type;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Clase que implementa la búsqueda aproximada de libros y autores por nombre
+ * sobre {@link FuzzyNameIndex}.
+ *
+ * @author ISIS2603
+ */
+@Slf4j
+@Service
+public class FuzzySearchService {
+
+	/**
+	 * Número de ids que se consultan a la vez al actualizar el índice.
+	 */
+	private static final int INDEX_CHUNK_SIZE = 500;
+
+	@Autowired
+	BookRepository bookRepository;
+
+	@Autowired
+	AuthorRepository authorRepository;
+
+	@Autowired
+	FuzzyNameIndex fuzzyNameIndex;
+
+	/**
+	 * Busca los libros y autores cuyo nombre se parece a la consulta. La búsqueda
+	 * se hace solo en memoria, sin consultar la base de datos.
+	 *
+	 * @param query El texto de la consulta
+	 * @param limit El número máximo de resultados
+	 * @return Los nombres encontrados, del más al menos parecido
+	 * @throws IllegalOperationException Si la consulta no tiene letras ni dígitos
+	 *                                   o el límite es inválido
+	 */
+	public List<FuzzyNameIndex.Match> search(String query, int limit) throws IllegalOperationException {
+		log.info("Inicia proceso de búsqueda aproximada con la consulta {0}", query);
+		if (limit < 1 || limit > PageableValidator.MAX_PAGE_SIZE)
+			throw new IllegalOperationException("Limit is not valid");
+		if (FuzzyNameIndex.trigrams(query).isEmpty())
+			throw new IllegalOperationException("Query is not valid");
+		return fuzzyNameIndex.search(query, limit);
+	}
+
+	/**
+	 * Vuelve a construir el índice con los nombres de todos los libros y autores
+	 * de la base de datos.
+	 */
+	@Transactional(readOnly = true)
+	public void rebuildIndex() {
+		log.info("Inicia proceso de construir el índice de nombres");
+		fuzzyNameIndex.clear(Type.BOOK);
+		bookRepository.findAllNames().forEach(book -> fuzzyNameIndex.index(Type.BOOK, book.getId(), book.getName()));
+		fuzzyNameIndex.clear(Type.AUTHOR);
+		authorRepository.findAllNames()
+				.forEach(author -> fuzzyNameIndex.index(Type.AUTHOR, author.getId(), author.getName()));
+		log.info("Termina proceso de construir el índice de nombres con {0} nombres", fuzzyNameIndex.size());
+	}
+
+	/**
+	 * Actualiza en el índice los nombres de los libros dados. Los que ya no
+	 * existen se sacan del índice.
+	 *
+	 * @param bookIds Los ids de los libros que cambiaron
+	 */
+	@Transactional(readOnly = true)
+	public void reindexBooks(Collection<Long> bookIds) {
+		reindex(Type.BOOK, bookIds, bookRepository::findNamesByIdIn);
+	}
+
+	/**
+	 * Actualiza en el índice los nombres de los autores dados. Los que ya no
+	 * existen se sacan del índice.
+	 *
+	 * @param authorIds Los ids de los autores que cambiaron
+	 */
+	@Transactional(readOnly = true)
+	public void reindexAuthors(Collection<Long> authorIds) {
+		reindex(Type.AUTHOR, authorIds, authorRepository::findNamesByIdIn);
+	}
+
+	private void reindex(Type type, Collection<Long> ids, Function<List<Long>, List<NameView>> finder) {
+		List<Long> pending = new ArrayList<>(ids);
+		for (int from = 0; from < pending.size(); from += INDEX_CHUNK_SIZE) {
+			List<Long> chunk = pending.subList(from, Math.min(from + INDEX_CHUNK_SIZE, pending.size()));
+			Set<Long> removed = new HashSet<>(chunk);
+			for (NameView found : finder.apply(chunk)) {
+				fuzzyNameIndex.index(type, found.getId(), found.getName());
+				removed.remove(found.getId());
+			}
+			removed.forEach(id -> fuzzyNameIndex.remove(type, id));
+		}
+	}
+}
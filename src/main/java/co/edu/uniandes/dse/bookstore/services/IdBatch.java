@@ -0,0 +1,90 @@
+/*
+MIT License
+
+Copyright (c) 2021 Universidad de los Andes - ISIS2603
+
+Permission is hereby granted, free of charge, to any person obtaining a copy
+of this software and associated documentation files (the "Software"), to deal
+in the Software without restriction, including without limitation the rights
+to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+copies of the Software, and to permit persons to whom the Software is
+furnished to do so, subject to the following conditions:
+
+The above copyright notice and this permission notice shall be included in all
+copies or substantial portions of the Software.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+SOFTWARE.
+*/
+package co.edu.uniandes.dse.bookstore.services;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+import co.edu.uniandes.dse.bookstore.exceptions.IllegalOperationException;
+
+/**
+ * Utilidades para las consultas de varias entidades por una lista de ids: la
+ * lista está acotada y el resultado sigue el orden en que se pidieron los ids.
+ *
+ * @author ISIS2603
+ */
+final class IdBatch {
+
+	static final int MAX_IDS = 100;
+
+	private IdBatch() {
+		throw new IllegalStateException("Utility class");
+	}
+
+	/**
+	 * Verifica la lista de ids y quita los repetidos.
+	 *
+	 * @param ids Los ids solicitados
+	 * @return Los ids sin repetir, en el orden en que aparecen por primera vez
+	 * @throws IllegalOperationException Si la lista está vacía, tiene algún id
+	 *                                   nulo o supera {@link #MAX_IDS}
+	 */
+	static List<Long> distinct(List<Long> ids) throws IllegalOperationException {
+		if (ids == null || ids.isEmpty())
+			throw new IllegalOperationException("Ids are not valid");
+		LinkedHashSet<Long> distinct = new LinkedHashSet<>(ids);
+		if (distinct.contains(null))
+			throw new IllegalOperationException("Ids are not valid");
+		if (distinct.size() > MAX_IDS)
+			throw new IllegalOperationException("Batch size is not valid");
+		return new ArrayList<>(distinct);
+	}
+
+	/**
+	 * Ordena las entidades encontradas según la lista de ids. Los ids que no
+	 * se encontraron no aparecen en el resultado.
+	 *
+	 * @param <T>   Tipo de las entidades
+	 * @param ids   Los ids en el orden solicitado
+	 * @param found Las entidades encontradas, en cualquier orden
+	 * @param id    Función que devuelve el id de una entidad
+	 * @return Las entidades encontradas en el orden de los ids
+	 */
+	static <T> List<T> inOrder(List<Long> ids, Collection<T> found, Function<T, Long> id) {
+		Map<Long, T> byId = new HashMap<>();
+		found.forEach(entity -> byId.put(id.apply(entity), entity));
+		List<T> ordered = new ArrayList<>(found.size());
+		for (Long key : ids) {
+			T entity = byId.get(key);
+			if (entity != null)
+				ordered.add(entity);
+		}
+		return ordered;
+	}
+}
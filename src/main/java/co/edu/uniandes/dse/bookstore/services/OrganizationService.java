@@ -26,8 +26,11 @@ package co.edu.uniandes.dse.bookstore.services;
 
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -49,6 +52,8 @@ import lombok.extern.slf4j.Slf4j;
 @Service
 public class OrganizationService {
 
+	private static final Set<String> SORT_FIELDS = Set.of("id", "name", "tipo");
+
 	@Autowired
 	OrganizationRepository organizationRepository;
 	
@@ -82,6 +87,21 @@ public class OrganizationService {
 		return organizationRepository.findAll();
 	}
 
+	/**
+	 * Obtener una página de las organizaciones existentes en la base de datos.
+	 *
+	 * @param pageable La página solicitada. Solo se permite ordenar por id, name y
+	 *                 tipo.
+	 * @return una página de organizaciones.
+	 * @throws IllegalOperationException Si la página solicitada es inválida
+	 */
+	@Transactional
+	public Page<OrganizationEntity> getOrganizations(Pageable pageable) throws IllegalOperationException {
+		log.info("Inicia proceso de consultar una página de organizaciones");
+		PageableValidator.validate(pageable, SORT_FIELDS);
+		return organizationRepository.findAll(pageable);
+	}
+
 	/**
 	 * Obtener una organizacion por medio de su id.
 	 *
@@ -118,8 +138,10 @@ public class OrganizationService {
 			throw new EntityNotFoundException(ErrorMessage.ORGANIZATION_NOT_FOUND);
 
 		organization.setId(organizationId);
+		if (organization.getVersion() == null)
+			organization.setVersion(organizationEntity.get().getVersion());
 		log.info("Termina proceso de actualizar organizacion con id={0}", organizationId);
-		return organizationRepository.save(organization);
+		return organizationRepository.saveAndFlush(organization);
 	}
 
 	/**
@@ -0,0 +1,68 @@
+/*
+MIT License
+
+Copyright (c) 2021 Universidad de los Andes - ISIS2603
+
+Permission is hereby granted, free of charge, to any person obtaining a copy
+of this software and associated documentation files (the "Software"), to deal
+in the Software without restriction, including without limitation the rights
+to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+copies of the Software, and to permit persons to whom the Software is
+furnished to do so, subject to the following conditions:
+
+The above copyright notice and this permission notice shall be included in all
+copies or substantial portions of the Software.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+SOFTWARE.
+*/
+package co.edu.uniandes.dse.bookstore.services;
+
+import java.util.Set;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+
+import co.edu.uniandes.dse.bookstore.exceptions.IllegalOperationException;
+
+/**
+ * Valida las solicitudes de paginación que reciben los servicios: el tamaño de
+ * la página está acotado y solo se permite ordenar por los campos autorizados
+ * de cada entidad.
+ *
+ * @author ISIS2603
+ */
+final class PageableValidator {
+
+	static final int MAX_PAGE_SIZE = 100;
+
+	private PageableValidator() {
+		throw new IllegalStateException("Utility class");
+	}
+
+	/**
+	 * Verifica que la página solicitada sea válida.
+	 *
+	 * @param pageable   La página solicitada
+	 * @param sortFields Los campos por los que se permite ordenar
+	 * @throws IllegalOperationException Si el tamaño de la página es inválido o se
+	 *                                   ordena por un campo no autorizado
+	 */
+	static void validate(Pageable pageable, Set<String> sortFields) throws IllegalOperationException {
+		if (pageable.isUnpaged())
+			throw new IllegalOperationException("Page is not valid");
+
+		if (pageable.getPageSize() < 1 || pageable.getPageSize() > MAX_PAGE_SIZE)
+			throw new IllegalOperationException("Page size is not valid");
+
+		for (Sort.Order order : pageable.getSort()) {
+			if (!sortFields.contains(order.getProperty()))
+				throw new IllegalOperationException("Sort field " + order.getProperty() + " is not valid");
+		}
+	}
+}
@@ -25,12 +25,18 @@ SOFTWARE.
 package co.edu.uniandes.dse.bookstore.services;
 
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import co.edu.uniandes.dse.bookstore.dto.Fields;
 import co.edu.uniandes.dse.bookstore.entities.OrganizationEntity;
 import co.edu.uniandes.dse.bookstore.entities.PrizeEntity;
 import co.edu.uniandes.dse.bookstore.exceptions.EntityNotFoundException;
@@ -50,6 +56,8 @@ import lombok.extern.slf4j.Slf4j;
 @Service
 public class PrizeService {
 
+	private static final Set<String> SORT_FIELDS = Set.of("id", "name", "premiationDate");
+
 	@Autowired
 	PrizeRepository prizeRepository;
 
@@ -79,6 +87,7 @@ public class PrizeService {
 		if (organizationEntity.get().getPrize() != null)
 			throw new IllegalOperationException("Organization already holds a prize");
 
+		prizeEntity.setOrganization(organizationEntity.get());
 		log.info("Termina proceso de creación de premio");
 		return prizeRepository.save(prizeEntity);
 	}
@@ -94,6 +103,51 @@ public class PrizeService {
 		return prizeRepository.findAll();
 	}
 
+	/**
+	 * Devuelve una página de los premios que hay en la base de datos.
+	 *
+	 * @param pageable La página solicitada. Solo se permite ordenar por id, name y
+	 *                 premiationDate.
+	 * @return Página de entidades de tipo premio.
+	 * @throws IllegalOperationException Si la página solicitada es inválida
+	 */
+	@Transactional
+	public Page<PrizeEntity> getPrizes(Pageable pageable) throws IllegalOperationException {
+		log.info("Inicia proceso de consultar una página de premios");
+		PageableValidator.validate(pageable, SORT_FIELDS);
+		return prizeRepository.findAll(pageable);
+	}
+
+	/**
+	 * Devuelve solo los campos pedidos de todos los premios. La consulta lee
+	 * únicamente esas columnas, sin crear las entidades.
+	 *
+	 * @param fields Los campos a devolver
+	 * @return Un mapa por premio, del nombre del campo a su valor
+	 */
+	@Transactional(readOnly = true)
+	public List<Map<String, Object>> getPrizeFields(Fields fields) {
+		log.info("Inicia proceso de consultar los campos {0} de los premios", fields);
+		return prizeRepository.findFields(PrizeEntity.class, fields.names(), null, Sort.unsorted());
+	}
+
+	/**
+	 * Devuelve una página con solo los campos pedidos de los premios.
+	 *
+	 * @param pageable La página solicitada. Solo se permite ordenar por id, name y
+	 *                 premiationDate.
+	 * @param fields   Los campos a devolver
+	 * @return La página, con un mapa por premio
+	 * @throws IllegalOperationException Si la página solicitada es inválida
+	 */
+	@Transactional(readOnly = true)
+	public Page<Map<String, Object>> getPrizeFields(Pageable pageable, Fields fields)
+			throws IllegalOperationException {
+		log.info("Inicia proceso de consultar una página de los campos {0} de los premios", fields);
+		PageableValidator.validate(pageable, SORT_FIELDS);
+		return prizeRepository.findFields(PrizeEntity.class, fields.names(), null, pageable);
+	}
+
 	/**
 	 * Busca un premio por ID
 	 *
@@ -126,10 +180,20 @@ public class PrizeService {
 		if (prizeEntity.isEmpty())
 			throw new EntityNotFoundException(ErrorMessage.PRIZE_NOT_FOUND);
 
+		if (prize.getOrganization() != null) {
+			Optional<OrganizationEntity> organizationEntity = organizationRepository
+					.findById(prize.getOrganization().getId());
+			if (organizationEntity.isEmpty())
+				throw new EntityNotFoundException(ErrorMessage.ORGANIZATION_NOT_FOUND);
+			prize.setOrganization(organizationEntity.get());
+		}
+
 		prize.setId(prizeId);
+		if (prize.getVersion() == null)
+			prize.setVersion(prizeEntity.get().getVersion());
 
 		log.info("Termina proceso de actualizar premio con id = {0}", prizeId);
-		return prizeRepository.save(prize);
+		return prizeRepository.saveAndFlush(prize);
 	}
 
 	/**
@@ -0,0 +1,139 @@
+/*
+MIT License
+
+Copyright (c) 2021 Universidad de los Andes - ISIS2603
+
+Permission is hereby granted, free of charge, to any person obtaining a copy
+of this software and associated documentation files (the "Software"), to deal
+in the Software without restriction, including without limitation the rights
+to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+copies of the Software, and to permit persons to whom the Software is
+furnished to do so, subject to the following conditions:
+
+The above copyright notice and this permission notice shall be included in all
+copies or substantial portions of the Software.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+SOFTWARE.
+*/
+package co.edu.uniandes.dse.bookstore.services;
+
+import java.util.Optional;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import co.edu.uniandes.dse.bookstore.exceptions.EntityNotFoundException;
+import co.edu.uniandes.dse.bookstore.exceptions.ErrorMessage;
+import co.edu.uniandes.dse.bookstore.repositories.AuthorRepository;
+import co.edu.uniandes.dse.bookstore.repositories.BookRepository;
+import co.edu.uniandes.dse.bookstore.repositories.EditorialRepository;
+import co.edu.uniandes.dse.bookstore.repositories.OrganizationRepository;
+import co.edu.uniandes.dse.bookstore.repositories.PrizeRepository;
+import co.edu.uniandes.dse.bookstore.repositories.ReviewRepository;
+import co.edu.uniandes.dse.bookstore.repositories.VersionView;
+
+/**
+ * Clase que calcula la versión agregada de los recursos de libros y autores,
+ * usada como ETag. Solo se consultan ids y versiones, sin cargar las entidades,
+ * para que responder 304 sea más barato que construir la respuesta.
+ *
+ * @author ISIS2603
+ */
+@Service
+public class ResourceVersionService {
+
+	@Autowired
+	BookRepository bookRepository;
+
+	@Autowired
+	AuthorRepository authorRepository;
+
+	@Autowired
+	ReviewRepository reviewRepository;
+
+	@Autowired
+	EditorialRepository editorialRepository;
+
+	@Autowired
+	PrizeRepository prizeRepository;
+
+	@Autowired
+	OrganizationRepository organizationRepository;
+
+	/**
+	 * Calcula la versión agregada de un libro: su versión, seguida de un resumen
+	 * de las versiones de su editorial, sus autores y sus reseñas.
+	 *
+	 * @param bookId El id del libro
+	 * @return La versión agregada, por ejemplo 3-9f86d081884c7d65
+	 * @throws EntityNotFoundException Si el libro no existe
+	 */
+	@Transactional(readOnly = true)
+	public String getBookVersion(Long bookId) throws EntityNotFoundException {
+		Optional<VersionView> book = bookRepository.findVersionById(bookId);
+		if (book.isEmpty())
+			throw new EntityNotFoundException(ErrorMessage.BOOK_NOT_FOUND);
+
+		String digest = new VersionDigest().add(bookRepository.findEditorialVersions(bookId))
+				.add(bookRepository.findAuthorVersions(bookId)).add(reviewRepository.findVersionsByBookId(bookId))
+				.toHex();
+		return book.get().getVersion() + "-" + digest;
+	}
+
+	/**
+	 * Calcula la versión agregada de un autor: su versión, seguida de un resumen
+	 * de las versiones de sus libros con sus editoriales y de sus premios con sus
+	 * organizaciones.
+	 *
+	 * @param authorId El id del autor
+	 * @return La versión agregada, por ejemplo 3-9f86d081884c7d65
+	 * @throws EntityNotFoundException Si el autor no existe
+	 */
+	@Transactional(readOnly = true)
+	public String getAuthorVersion(Long authorId) throws EntityNotFoundException {
+		Optional<VersionView> author = authorRepository.findVersionById(authorId);
+		if (author.isEmpty())
+			throw new EntityNotFoundException(ErrorMessage.AUTHOR_NOT_FOUND);
+
+		String digest = new VersionDigest().add(authorRepository.findBookVersions(authorId))
+				.add(authorRepository.findEditorialVersions(authorId))
+				.add(prizeRepository.findVersionsByAuthorId(authorId))
+				.add(prizeRepository.findOrganizationVersionsByAuthorId(authorId)).toHex();
+		return author.get().getVersion() + "-" + digest;
+	}
+
+	/**
+	 * Calcula la versión de las listas de libros a partir del resumen de cada
+	 * tabla que aparece en ellas. Cambiar los autores de un libro incrementa la
+	 * versión del libro, así que la tabla de asociación no se consulta.
+	 *
+	 * @return La versión de todas las listas de libros
+	 */
+	@Transactional(readOnly = true)
+	public String getBooksVersion() {
+		return new VersionDigest().add(bookRepository.summarizeVersions())
+				.add(editorialRepository.summarizeVersions()).add(authorRepository.summarizeVersions())
+				.add(reviewRepository.summarizeVersions()).toHex();
+	}
+
+	/**
+	 * Calcula la versión de las listas de autores a partir del resumen de cada
+	 * tabla que aparece en ellas.
+	 *
+	 * @return La versión de todas las listas de autores
+	 */
+	@Transactional(readOnly = true)
+	public String getAuthorsVersion() {
+		return new VersionDigest().add(authorRepository.summarizeVersions())
+				.add(bookRepository.summarizeVersions()).add(editorialRepository.summarizeVersions())
+				.add(prizeRepository.summarizeVersions()).add(organizationRepository.summarizeVersions())
+				.toHex();
+	}
+}
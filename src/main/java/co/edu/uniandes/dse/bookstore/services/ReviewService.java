@@ -28,13 +28,16 @@ import java.util.List;
 import java.util.Optional;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import co.edu.uniandes.dse.bookstore.entities.BookEntity;
 import co.edu.uniandes.dse.bookstore.entities.ReviewEntity;
+import co.edu.uniandes.dse.bookstore.events.BookChangedEvent;
 import co.edu.uniandes.dse.bookstore.exceptions.EntityNotFoundException;
 import co.edu.uniandes.dse.bookstore.exceptions.ErrorMessage;
+import co.edu.uniandes.dse.bookstore.exceptions.IllegalOperationException;
 import co.edu.uniandes.dse.bookstore.repositories.BookRepository;
 import co.edu.uniandes.dse.bookstore.repositories.ReviewRepository;
 import lombok.extern.slf4j.Slf4j;
@@ -54,6 +57,9 @@ public class ReviewService {
 
 	@Autowired
 	BookRepository bookRepository;
+
+	@Autowired
+	ApplicationEventPublisher eventPublisher;
 	
 	
 	/**
@@ -74,6 +80,7 @@ public class ReviewService {
 
 		reviewEntity.setBook(bookEntity.get());
 
+		eventPublisher.publishEvent(new BookChangedEvent(bookId));
 		log.info("Termina proceso de creación del review");
 		return reviewRepository.save(reviewEntity);
 	}
@@ -96,6 +103,27 @@ public class ReviewService {
 		return bookEntity.get().getReviews();
 	}
 
+	/**
+	 * Obtiene las reseñas de un libro con los ids dados con una sola consulta IN.
+	 *
+	 * @param bookId El id del libro
+	 * @param ids    Los ids de las reseñas, máximo {@value IdBatch#MAX_IDS}
+	 * @return Las reseñas del libro encontradas en el orden de los ids, sin
+	 *         repetir. Los ids que no existen o son de otro libro se omiten.
+	 * @throws EntityNotFoundException   Si el libro no existe
+	 * @throws IllegalOperationException Si la lista de ids es inválida
+	 */
+	@Transactional
+	public List<ReviewEntity> getReviewsById(Long bookId, List<Long> ids)
+			throws EntityNotFoundException, IllegalOperationException {
+		List<Long> distinct = IdBatch.distinct(ids);
+		log.info("Inicia proceso de consultar {0} reviews del libro con id = {1}", distinct.size(), bookId);
+		if (!bookRepository.existsById(bookId))
+			throw new EntityNotFoundException(ErrorMessage.BOOK_NOT_FOUND);
+		return IdBatch.inOrder(distinct, reviewRepository.findByBookIdAndIdIn(bookId, distinct),
+				ReviewEntity::getId);
+	}
+
 	/**
 	 * Obtiene los datos de una instancia de Review a partir de su ID. La existencia
 	 * del elemento padre Book se debe garantizar.
@@ -143,11 +171,15 @@ public class ReviewService {
 		if (reviewEntity.isEmpty())
 			throw new EntityNotFoundException(ErrorMessage.REVIEW_NOT_FOUND);
 
+		Long previousBookId = reviewEntity.get().getBook() == null ? bookId : reviewEntity.get().getBook().getId();
 		review.setId(reviewId);
+		if (review.getVersion() == null)
+			review.setVersion(reviewEntity.get().getVersion());
 		review.setBook(bookEntity.get());
+		eventPublisher.publishEvent(new BookChangedEvent(List.of(bookId, previousBookId)));
 		log.info("Termina proceso de actualizar el review con id = {0} del libro con id = " + bookId,
 				reviewId);
-		return reviewRepository.save(review);
+		return reviewRepository.saveAndFlush(review);
 	}
 
 	/**
@@ -171,6 +203,7 @@ public class ReviewService {
 			throw new EntityNotFoundException(ErrorMessage.REVIEW_NOT_FOUND);
 		}
 		reviewRepository.deleteById(reviewId);
+		eventPublisher.publishEvent(new BookChangedEvent(bookId));
 		log.info("Termina proceso de borrar el review con id = {0} del libro con id = " + bookId,
 				reviewId);
 	}
@@ -0,0 +1,146 @@
+/*
+MIT License
+
+Copyright (c) 2021 Universidad de los Andes - ISIS2603
+
+Permission is hereby granted, free of charge, to any person obtaining a copy
+of this software and associated documentation files (the "Software"), to deal
+in the Software without restriction, including without limitation the rights
+to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+copies of the Software, and to permit persons to whom the Software is
+furnished to do so, subject to the following conditions:
+
+The above copyright notice and this permission notice shall be included in all
+copies or substantial portions of the Software.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+SOFTWARE.
+*/
+package co.edu.uniandes.dse.bookstore.services;
+
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import co.edu.uniandes.dse.bookstore.exceptions.IllegalOperationException;
+import co.edu.uniandes.dse.bookstore.repositories.AuthorRepository;
+import co.edu.uniandes.dse.bookstore.repositories.EditorialRepository;
+import co.edu.uniandes.dse.bookstore.repositories.NameView;
+import co.edu.uniandes.dse.bookstore.search.NameSuggestionIndex;
+import co.edu.uniandes.dse.bookstore.search.NameSuggestionIndex.Suggestion;
+import co.edu.uniandes.dse.bookstore.search.NameSuggestionIndex.Type;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Clase que implementa el autocompletado de nombres de autores y editoriales
+ * sobre {@link NameSuggestionIndex}.
+ *
+ * @author ISIS2603
+ */
+@Slf4j
+@Service
+public class SuggestionService {
+
+	@Autowired
+	AuthorRepository authorRepository;
+
+	@Autowired
+	EditorialRepository editorialRepository;
+
+	@Autowired
+	NameSuggestionIndex nameSuggestionIndex;
+
+	/**
+	 * Busca los autores cuyo nombre, o alguna de sus palabras, empieza por el
+	 * prefijo dado. La búsqueda se hace solo en memoria.
+	 *
+	 * @param prefix El prefijo
+	 * @param limit  El número máximo de resultados
+	 * @return Los autores encontrados
+	 * @throws IllegalOperationException Si el prefijo no tiene letras ni dígitos
+	 *                                   o el límite es inválido
+	 */
+	public List<Suggestion> suggestAuthors(String prefix, int limit) throws IllegalOperationException {
+		return suggest(Type.AUTHOR, prefix, limit);
+	}
+
+	/**
+	 * Busca las editoriales cuyo nombre, o alguna de sus palabras, empieza por el
+	 * prefijo dado. La búsqueda se hace solo en memoria.
+	 *
+	 * @param prefix El prefijo
+	 * @param limit  El número máximo de resultados
+	 * @return Las editoriales encontradas
+	 * @throws IllegalOperationException Si el prefijo no tiene letras ni dígitos
+	 *                                   o el límite es inválido
+	 */
+	public List<Suggestion> suggestEditorials(String prefix, int limit) throws IllegalOperationException {
+		return suggest(Type.EDITORIAL, prefix, limit);
+	}
+
+	private List<Suggestion> suggest(Type type, String prefix, int limit) throws IllegalOperationException {
+		if (limit < 1 || limit > PageableValidator.MAX_PAGE_SIZE)
+			throw new IllegalOperationException("Limit is not valid");
+		if (NameSuggestionIndex.normalize(prefix).isEmpty())
+			throw new IllegalOperationException("Prefix is not valid");
+		return nameSuggestionIndex.suggest(type, prefix, limit);
+	}
+
+	/**
+	 * Vuelve a construir el índice con los nombres de todos los autores y
+	 * editoriales de la base de datos.
+	 */
+	@Transactional(readOnly = true)
+	public void rebuildIndex() {
+		log.info("Inicia proceso de construir el índice de autocompletado");
+		rebuild(Type.AUTHOR, authorRepository.findAllNames());
+		rebuild(Type.EDITORIAL, editorialRepository.findAllNames());
+		log.info("Termina proceso de construir el índice de autocompletado");
+	}
+
+	/**
+	 * Actualiza en el índice los nombres de los autores dados. Los que ya no
+	 * existen se sacan del índice.
+	 *
+	 * @param authorIds Los ids de los autores que cambiaron
+	 */
+	@Transactional(readOnly = true)
+	public void reindexAuthors(Collection<Long> authorIds) {
+		reindex(Type.AUTHOR, authorIds, authorRepository.findNamesByIdIn(authorIds));
+	}
+
+	/**
+	 * Actualiza en el índice los nombres de las editoriales dadas. Las que ya no
+	 * existen se sacan del índice.
+	 *
+	 * @param editorialIds Los ids de las editoriales que cambiaron
+	 */
+	@Transactional(readOnly = true)
+	public void reindexEditorials(Collection<Long> editorialIds) {
+		reindex(Type.EDITORIAL, editorialIds, editorialRepository.findNamesByIdIn(editorialIds));
+	}
+
+	private void rebuild(Type type, List<NameView> names) {
+		nameSuggestionIndex.clear(type);
+		names.forEach(name -> nameSuggestionIndex.index(type, name.getId(), name.getName()));
+	}
+
+	private void reindex(Type type, Collection<Long> ids, List<NameView> found) {
+		Set<Long> removed = new HashSet<>(ids);
+		for (NameView name : found) {
+			nameSuggestionIndex.index(type, name.getId(), name.getName());
+			removed.remove(name.getId());
+		}
+		removed.forEach(id -> nameSuggestionIndex.remove(type, id));
+	}
+}
@@ -0,0 +1,94 @@
+/*
+MIT License
+
+Copyright (c) 2021 Universidad de los Andes - ISIS2603
+
+Permission is hereby granted, free of charge, to any person obtaining a copy
+of this software and associated documentation files (the "Software"), to deal
+in the Software without restriction, including without limitation the rights
+to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+copies of the Software, and to permit persons to whom the Software is
+furnished to do so, subject to the following conditions:
+
+The above copyright notice and this permission notice shall be included in all
+copies or substantial portions of the Software.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+SOFTWARE.
+*/
+package co.edu.uniandes.dse.bookstore.services;
+
+import java.nio.ByteBuffer;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.List;
+
+import co.edu.uniandes.dse.bookstore.repositories.VersionSummaryView;
+import co.edu.uniandes.dse.bookstore.repositories.VersionView;
+
+/**
+ * Resume en un texto corto las versiones de todas las entidades que aparecen
+ * en una respuesta. Si cambia alguna de ellas, o el conjunto de entidades,
+ * cambia el resumen.
+ *
+ * @author ISIS2603
+ */
+final class VersionDigest {
+
+	private static final int LENGTH = 8;
+
+	private final MessageDigest digest;
+
+	private final ByteBuffer buffer = ByteBuffer.allocate(Long.BYTES);
+
+	VersionDigest() {
+		try {
+			digest = MessageDigest.getInstance("SHA-256");
+		} catch (NoSuchAlgorithmException e) {
+			throw new IllegalStateException(e);
+		}
+	}
+
+	/**
+	 * Agrega un número al resumen. Los valores nulos se distinguen del cero.
+	 */
+	VersionDigest add(Long value) {
+		buffer.clear();
+		buffer.putLong(value == null ? Long.MIN_VALUE : value);
+		digest.update(buffer.array());
+		return this;
+	}
+
+	/**
+	 * Agrega una lista de ids con sus versiones, precedida por su tamaño para que
+	 * dos listas seguidas no se confundan.
+	 */
+	VersionDigest add(List<VersionView> versions) {
+		add((long) versions.size());
+		versions.forEach(version -> add(version.getId()).add(version.getVersion()));
+		return this;
+	}
+
+	/**
+	 * Agrega el resumen de versiones de una tabla.
+	 */
+	VersionDigest add(VersionSummaryView summary) {
+		return add(summary.getCount()).add(summary.getMaxId()).add(summary.getVersionSum());
+	}
+
+	/**
+	 * @return Los primeros bytes del resumen en hexadecimal
+	 */
+	String toHex() {
+		byte[] hash = digest.digest();
+		StringBuilder hex = new StringBuilder(LENGTH * 2);
+		for (int i = 0; i < LENGTH; i++)
+			hex.append(Character.forDigit((hash[i] >> 4) & 0xF, 16)).append(Character.forDigit(hash[i] & 0xF, 16));
+		return hex.toString();
+	}
+}
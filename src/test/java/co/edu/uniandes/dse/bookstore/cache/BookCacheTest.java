@@ -0,0 +1,220 @@
+/*
+MIT License
+
+Copyright (c) 2021 Universidad de los Andes - ISIS2603
+
+Permission is hereby granted, free of charge, to any person obtaining a copy
+of this software and associated documentation files (the "Software"), to deal
+in the Software without restriction, including without limitation the rights
+to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+copies of the Software, and to permit persons to whom the Software is
+furnished to do so, subject to the following conditions:
+
+The above copyright notice and this permission notice shall be included in all
+copies or substantial portions of the Software.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+SOFTWARE.
+*/
+package co.edu.uniandes.dse.bookstore.cache;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.interceptor.SimpleKey;
+
+import co.edu.uniandes.dse.bookstore.config.CacheConfig;
+import co.edu.uniandes.dse.bookstore.dto.BookDetailDTO;
+import co.edu.uniandes.dse.bookstore.dto.BookFacetsDTO;
+import co.edu.uniandes.dse.bookstore.dto.FacetCountDTO;
+import co.edu.uniandes.dse.bookstore.entities.BookEntity;
+import co.edu.uniandes.dse.bookstore.entities.EditorialEntity;
+import co.edu.uniandes.dse.bookstore.exceptions.EntityNotFoundException;
+import co.edu.uniandes.dse.bookstore.exceptions.IllegalOperationException;
+import co.edu.uniandes.dse.bookstore.repositories.BookRepository;
+import co.edu.uniandes.dse.bookstore.repositories.EditorialRepository;
+import co.edu.uniandes.dse.bookstore.services.BookFacetService;
+import co.edu.uniandes.dse.bookstore.services.BookService;
+import co.edu.uniandes.dse.bookstore.services.ResourceVersionService;
+import uk.co.jemos.podam.api.PodamFactory;
+import uk.co.jemos.podam.api.PodamFactoryImpl;
+
+/**
+ * Pruebas de los cachés de libros. Las pruebas no son transaccionales, porque
+ * los cachés se actualizan después del commit de cada cambio.
+ *
+ * @author ISIS2603
+ */
+@SpringBootTest
+class BookCacheTest {
+
+	@Autowired
+	private BookService bookService;
+
+	@Autowired
+	private BookFacetService bookFacetService;
+
+	@Autowired
+	private ResourceVersionService resourceVersionService;
+
+	@Autowired
+	private BookRepository bookRepository;
+
+	@Autowired
+	private EditorialRepository editorialRepository;
+
+	@Autowired
+	private CacheManager cacheManager;
+
+	private PodamFactory factory = new PodamFactoryImpl();
+
+	private EditorialEntity editorial;
+	private BookEntity book;
+
+	/**
+	 * Configuración inicial de la prueba.
+	 */
+	@BeforeEach
+	void setUp() {
+		editorial = editorialRepository.save(factory.manufacturePojo(EditorialEntity.class));
+
+		book = factory.manufacturePojo(BookEntity.class);
+		book.setEditorial(editorial);
+		book = bookRepository.save(book);
+	}
+
+	private void rename(String name) throws EntityNotFoundException, IllegalOperationException {
+		update(name, editorial);
+	}
+
+	private void update(String name, EditorialEntity editorial)
+			throws EntityNotFoundException, IllegalOperationException {
+		BookEntity changes = new BookEntity();
+		changes.setName(name);
+		changes.setIsbn(book.getIsbn());
+		changes.setEditorial(editorial);
+		bookService.updateBook(book.getId(), changes);
+	}
+
+	private BookFacetsDTO facets() {
+		return bookFacetService.getFacets(resourceVersionService.getBooksVersion());
+	}
+
+	/**
+	 * Número de libros de una editorial en los conteos por faceta, 0 si no
+	 * aparece.
+	 */
+	private static long count(BookFacetsDTO facets, EditorialEntity editorial) {
+		return facets.getEditorials().stream().filter(facet -> facet.getId().equals(editorial.getId()))
+				.mapToLong(FacetCountDTO::getCount).sum();
+	}
+
+	/**
+	 * Prueba para consultar dos veces el detalle de un libro sin cambios.
+	 */
+	@Test
+	void testGetBookDetailCached() throws EntityNotFoundException {
+		String version = resourceVersionService.getBookVersion(book.getId());
+		BookDetailDTO detail = bookService.getBookDetail(book.getId(), version);
+		assertSame(detail, bookService.getBookDetail(book.getId(), version));
+	}
+
+	/**
+	 * Prueba para consultar el detalle de un libro después de cambiarlo.
+	 */
+	@Test
+	void testGetBookDetailAfterUpdate() throws EntityNotFoundException, IllegalOperationException {
+		String version = resourceVersionService.getBookVersion(book.getId());
+		assertEquals(book.getName(), bookService.getBookDetail(book.getId(), version).getName());
+
+		rename("Nuevo nombre");
+		String newVersion = resourceVersionService.getBookVersion(book.getId());
+		assertNotEquals(version, newVersion);
+		assertEquals("Nuevo nombre", bookService.getBookDetail(book.getId(), newVersion).getName());
+	}
+
+	/**
+	 * Prueba para consultar el detalle de un libro después de que una consulta
+	 * concurrente, que lo leyó antes del cambio, lo guarda en el caché después
+	 * del commit.
+	 */
+	@Test
+	void testGetBookDetailAfterConcurrentRead() throws EntityNotFoundException, IllegalOperationException {
+		String version = resourceVersionService.getBookVersion(book.getId());
+		BookDetailDTO stale = bookService.readBookDetail(book.getId());
+
+		rename("Nuevo nombre");
+		cacheManager.getCache(CacheConfig.BOOKS).put(new SimpleKey(book.getId(), version), stale);
+
+		String newVersion = resourceVersionService.getBookVersion(book.getId());
+		assertEquals("Nuevo nombre", bookService.getBookDetail(book.getId(), newVersion).getName());
+	}
+
+	/**
+	 * Prueba para consultar dos veces los conteos por faceta sin cambios.
+	 */
+	@Test
+	void testGetFacetsCached() {
+		String version = resourceVersionService.getBooksVersion();
+		BookFacetsDTO facets = bookFacetService.getFacets(version);
+		assertSame(facets, bookFacetService.getFacets(version));
+	}
+
+	/**
+	 * Prueba para consultar los conteos por faceta después de crear un libro.
+	 */
+	@Test
+	void testGetFacetsAfterCreate() {
+		assertEquals(1, count(facets(), editorial));
+
+		BookEntity other = factory.manufacturePojo(BookEntity.class);
+		other.setEditorial(editorial);
+		bookRepository.save(other);
+		assertEquals(2, count(facets(), editorial));
+	}
+
+	/**
+	 * Prueba para consultar los conteos por faceta después de cambiar un libro
+	 * de editorial.
+	 */
+	@Test
+	void testGetFacetsAfterMove() throws EntityNotFoundException, IllegalOperationException {
+		EditorialEntity other = editorialRepository.save(factory.manufacturePojo(EditorialEntity.class));
+		BookFacetsDTO facets = facets();
+		assertEquals(1, count(facets, editorial));
+		assertEquals(0, count(facets, other));
+
+		update(book.getName(), other);
+		facets = facets();
+		assertEquals(0, count(facets, editorial));
+		assertEquals(1, count(facets, other));
+	}
+
+	/**
+	 * Prueba para consultar los conteos por faceta después de que un cálculo
+	 * concurrente, que empezó antes de cambiar un libro de editorial, los guarda
+	 * en el caché después del commit.
+	 */
+	@Test
+	void testGetFacetsAfterConcurrentRead() throws EntityNotFoundException, IllegalOperationException {
+		EditorialEntity other = editorialRepository.save(factory.manufacturePojo(EditorialEntity.class));
+		String version = resourceVersionService.getBooksVersion();
+		BookFacetsDTO stale = bookFacetService.getFacets(version);
+
+		update(book.getName(), other);
+		cacheManager.getCache(CacheConfig.BOOK_FACETS).put(version, stale);
+
+		assertEquals(1, count(facets(), other));
+	}
+}
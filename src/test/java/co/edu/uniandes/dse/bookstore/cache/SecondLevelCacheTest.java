@@ -0,0 +1,151 @@
+/*
+MIT License
+
+Copyright (c) 2021 Universidad de los Andes - ISIS2603
+
+Permission is hereby granted, free of charge, to any person obtaining a copy
+of this software and associated documentation files (the "Software"), to deal
+in the Software without restriction, including without limitation the rights
+to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+copies of the Software, and to permit persons to whom the Software is
+furnished to do so, subject to the following conditions:
+
+The above copyright notice and this permission notice shall be included in all
+copies or substantial portions of the Software.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+SOFTWARE.
+*/
+package co.edu.uniandes.dse.bookstore.cache;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+import javax.persistence.EntityManagerFactory;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import co.edu.uniandes.dse.bookstore.entities.EditorialEntity;
+import co.edu.uniandes.dse.bookstore.entities.OrganizationEntity;
+import co.edu.uniandes.dse.bookstore.exceptions.EntityNotFoundException;
+import co.edu.uniandes.dse.bookstore.repositories.EditorialRepository;
+import co.edu.uniandes.dse.bookstore.services.EditorialService;
+import uk.co.jemos.podam.api.PodamFactory;
+import uk.co.jemos.podam.api.PodamFactoryImpl;
+
+/**
+ * Pruebas del caché de segundo nivel y del caché de consultas de Hibernate con
+ * las regiones de ehcache.xml. Es el único contexto de prueba que los activa.
+ * Las pruebas no son transaccionales, porque cada consulta debe abrir su propia
+ * sesión para leer del caché.
+ *
+ * @author ISIS2603
+ */
+@SpringBootTest(properties = { "spring.jpa.properties.hibernate.cache.use_second_level_cache=true",
+		"spring.jpa.properties.hibernate.cache.use_query_cache=true",
+		"spring.jpa.properties.hibernate.generate_statistics=true" })
+class SecondLevelCacheTest {
+
+	@Autowired
+	private EditorialService editorialService;
+
+	@Autowired
+	private EditorialRepository editorialRepository;
+
+	@Autowired
+	private EntityManagerFactory entityManagerFactory;
+
+	private PodamFactory factory = new PodamFactoryImpl();
+
+	private Statistics statistics;
+
+	private EditorialEntity editorial;
+
+	/**
+	 * Configuración inicial de la prueba.
+	 */
+	@BeforeEach
+	void setUp() {
+		editorial = editorialRepository.save(factory.manufacturePojo(EditorialEntity.class));
+		statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+		statistics.clear();
+	}
+
+	private void rename(String name) throws EntityNotFoundException {
+		EditorialEntity changes = new EditorialEntity();
+		changes.setName(name);
+		editorialService.updateEditorial(editorial.getId(), changes);
+	}
+
+	/**
+	 * Prueba que las regiones de las entidades son las configuradas en
+	 * ehcache.xml.
+	 */
+	@Test
+	void testRegions() {
+		List<String> regions = List.of(statistics.getSecondLevelCacheRegionNames());
+		assertTrue(regions.contains(EditorialEntity.class.getName()));
+		assertTrue(regions.contains(OrganizationEntity.class.getName()));
+	}
+
+	/**
+	 * Prueba para consultar una editorial que ya está en el caché de segundo
+	 * nivel.
+	 */
+	@Test
+	void testGetEditorialCached() throws EntityNotFoundException {
+		editorialService.getEditorial(editorial.getId());
+		editorialService.getEditorial(editorial.getId());
+
+		assertEquals(2, statistics.getDomainDataRegionStatistics(EditorialEntity.class.getName()).getHitCount());
+		assertEquals(0, statistics.getEntityStatistics(EditorialEntity.class.getName()).getLoadCount());
+	}
+
+	/**
+	 * Prueba para consultar una editorial del caché de segundo nivel después de
+	 * cambiarla.
+	 */
+	@Test
+	void testGetEditorialAfterUpdate() throws EntityNotFoundException {
+		editorialService.getEditorial(editorial.getId());
+		rename("Nuevo nombre");
+		statistics.clear();
+
+		assertEquals("Nuevo nombre", editorialService.getEditorial(editorial.getId()).getName());
+		assertEquals(1, statistics.getDomainDataRegionStatistics(EditorialEntity.class.getName()).getHitCount());
+	}
+
+	/**
+	 * Prueba para repetir una consulta que está en el caché de consultas, antes
+	 * y después de cambiar la tabla de editoriales.
+	 */
+	@Test
+	void testFindByNameCached() throws EntityNotFoundException {
+		assertEquals(List.of(editorial.getId()), ids(editorialRepository.findByName(editorial.getName())));
+		assertEquals(List.of(editorial.getId()), ids(editorialRepository.findByName(editorial.getName())));
+		assertEquals(1, statistics.getQueryCacheHitCount());
+
+		String name = editorial.getName();
+		rename("Nuevo nombre");
+		assertEquals(List.of(), ids(editorialRepository.findByName(name)));
+		assertEquals(1, statistics.getQueryCacheHitCount());
+		assertEquals(2, statistics.getQueryCacheMissCount());
+	}
+
+	private static List<Long> ids(List<EditorialEntity> editorials) {
+		return editorials.stream().map(EditorialEntity::getId).collect(Collectors.toList());
+	}
+}
@@ -0,0 +1,95 @@
+/*
+MIT License
+
+Copyright (c) 2021 Universidad de los Andes - ISIS2603
+
+Permission is hereby granted, free of charge, to any person obtaining a copy
+of this software and associated documentation files (the "Software"), to deal
+in the Software without restriction, including without limitation the rights
+to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+copies of the Software, and to permit persons to whom the Software is
+furnished to do so, subject to the following conditions:
+
+The above copyright notice and this permission notice shall be included in all
+copies or substantial portions of the Software.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+SOFTWARE.
+*/
+package co.edu.uniandes.dse.bookstore.controllers;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Pruebas de la lectura del encabezado Accept-Encoding.
+ *
+ * @author ISIS2603
+ */
+class AcceptEncodingTest {
+
+	/**
+	 * Prueba para aceptar gzip, solo o entre otras codificaciones.
+	 */
+	@Test
+	void testAcceptsGzip() {
+		assertTrue(AcceptEncoding.acceptsGzip("gzip"));
+		assertTrue(AcceptEncoding.acceptsGzip("gzip, deflate, br"));
+		assertTrue(AcceptEncoding.acceptsGzip("br;q=1.0, gzip;q=0.8, *;q=0.1"));
+		assertTrue(AcceptEncoding.acceptsGzip("gzip;q=0.001"));
+		assertTrue(AcceptEncoding.acceptsGzip("x-gzip"));
+	}
+
+	/**
+	 * Prueba para leer el encabezado sin distinguir mayúsculas y con espacios.
+	 */
+	@Test
+	void testAcceptsGzipCaseAndWhitespace() {
+		assertTrue(AcceptEncoding.acceptsGzip("GZip"));
+		assertTrue(AcceptEncoding.acceptsGzip("  deflate ,  gzip ; Q = 0.5 "));
+		assertFalse(AcceptEncoding.acceptsGzip(" GZIP ; q = 0 "));
+	}
+
+	/**
+	 * Prueba para rechazar gzip con calidad cero.
+	 */
+	@Test
+	void testRejectsGzip() {
+		assertFalse(AcceptEncoding.acceptsGzip("gzip;q=0"));
+		assertFalse(AcceptEncoding.acceptsGzip("gzip;q=0.000"));
+		assertFalse(AcceptEncoding.acceptsGzip("gzip;q=0, *"));
+		assertFalse(AcceptEncoding.acceptsGzip("*;q=0"));
+	}
+
+	/**
+	 * Prueba para aceptar gzip con el comodín, salvo que gzip se nombre
+	 * explícitamente.
+	 */
+	@Test
+	void testAcceptsGzipWildcard() {
+		assertTrue(AcceptEncoding.acceptsGzip("*"));
+		assertTrue(AcceptEncoding.acceptsGzip("identity, *;q=0.5"));
+		assertTrue(AcceptEncoding.acceptsGzip("*;q=0, gzip"));
+	}
+
+	/**
+	 * Prueba para no comprimir cuando el encabezado no incluye gzip, no se envía
+	 * o es inválido.
+	 */
+	@Test
+	void testNoGzip() {
+		assertFalse(AcceptEncoding.acceptsGzip(null));
+		assertFalse(AcceptEncoding.acceptsGzip(""));
+		assertFalse(AcceptEncoding.acceptsGzip("identity"));
+		assertFalse(AcceptEncoding.acceptsGzip("deflate, br"));
+		assertFalse(AcceptEncoding.acceptsGzip("gzip;q=abc"));
+		assertFalse(AcceptEncoding.acceptsGzip("gzip;q=2"));
+		assertFalse(AcceptEncoding.acceptsGzip("gzipped"));
+	}
+}
@@ -0,0 +1,155 @@
+/*
+MIT License
+
+Copyright (c) 2021 Universidad de los Andes - ISIS2603
+
+Permission is hereby granted, free of charge, to any person obtaining a copy
+of this software and associated documentation files (the "Software"), to deal
+in the Software without restriction, including without limitation the rights
+to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+copies of the Software, and to permit persons to whom the Software is
+furnished to do so, subject to the following conditions:
+
+The above copyright notice and this permission notice shall be included in all
+copies or substantial portions of the Software.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+SOFTWARE.
+*/
+package co.edu.uniandes.dse.bookstore.controllers;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.util.Map;
+
+import javax.transaction.Transactional;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.AutoConfigureTestEntityManager;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.ResultActions;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import co.edu.uniandes.dse.bookstore.entities.AuthorEntity;
+import co.edu.uniandes.dse.bookstore.exceptions.ErrorMessage;
+import uk.co.jemos.podam.api.PodamFactory;
+import uk.co.jemos.podam.api.PodamFactoryImpl;
+
+/**
+ * Pruebas de las peticiones HTTP al recurso "authors": qué consulta atiende
+ * cada combinación de parámetros y los encabezados condicionales.
+ *
+ * @author ISIS2603
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@AutoConfigureTestEntityManager
+@Transactional
+class AuthorControllerTest {
+
+	@Autowired
+	private MockMvc mockMvc;
+
+	@Autowired
+	private TestEntityManager entityManager;
+
+	@Autowired
+	private ObjectMapper objectMapper;
+
+	private PodamFactory factory = new PodamFactoryImpl();
+
+	private AuthorEntity author;
+
+	/**
+	 * Configuración inicial de la prueba.
+	 */
+	@BeforeEach
+	void setUp() {
+		author = factory.manufacturePojo(AuthorEntity.class);
+		entityManager.persist(author);
+		entityManager.flush();
+	}
+
+	/**
+	 * Prueba para listar los autores con ids y page: se buscan los ids.
+	 */
+	@Test
+	void testGetAuthorsIdsAndPage() throws Exception {
+		mockMvc.perform(get("/authors").param("ids", author.getId().toString()).param("page", "0"))
+				.andExpect(status().isOk()).andExpect(jsonPath("$.items[0].id").value(author.getId()))
+				.andExpect(jsonPath("$.missing").isEmpty());
+	}
+
+	/**
+	 * Prueba para listar los autores con ids, fields y page: se buscan los ids.
+	 */
+	@Test
+	void testGetAuthorsIdsAndFields() throws Exception {
+		mockMvc.perform(get("/authors").param("ids", author.getId().toString()).param("fields", "name")
+				.param("page", "0")).andExpect(status().isOk())
+				.andExpect(jsonPath("$.items[0].description").value(author.getDescription()))
+				.andExpect(jsonPath("$.missing").isEmpty());
+	}
+
+	/**
+	 * Prueba para listar una página con solo algunos campos de los autores.
+	 */
+	@Test
+	void testGetAuthorsFieldsAndPage() throws Exception {
+		mockMvc.perform(get("/authors").param("fields", "name").param("page", "0")).andExpect(status().isOk())
+				.andExpect(jsonPath("$.page").value(0)).andExpect(jsonPath("$.items[0].name").exists())
+				.andExpect(jsonPath("$.items[0].description").doesNotExist());
+	}
+
+	private String getAuthorETag(String ifNoneMatch, int status) throws Exception {
+		return mockMvc.perform(get("/authors/{id}", author.getId()).header(HttpHeaders.IF_NONE_MATCH, ifNoneMatch))
+				.andExpect(status().is(status)).andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+	}
+
+	private ResultActions updateAuthor(String ifMatch) throws Exception {
+		String body = objectMapper.writeValueAsString(Map.of("name", "Nuevo nombre"));
+		return mockMvc.perform(put("/authors/{id}", author.getId()).contentType(MediaType.APPLICATION_JSON)
+				.content(body).header(HttpHeaders.IF_MATCH, ifMatch));
+	}
+
+	/**
+	 * Prueba para consultar y actualizar un autor con los encabezados
+	 * condicionales: If-None-Match responde 304 mientras el autor no cambie, y
+	 * el mismo ETag sirve en If-Match para actualizarlo una sola vez.
+	 */
+	@Test
+	void testConditionalRequests() throws Exception {
+		Long version = author.getVersion();
+		String etag = getAuthorETag("W/\"0\"", 200);
+		assertTrue(etag.startsWith("W/\"" + version + "-"));
+		getAuthorETag(etag, 304);
+
+		updateAuthor(etag).andExpect(status().isOk())
+				.andExpect(header().string(HttpHeaders.ETAG, ETags.of(version + 1)));
+		String updated = getAuthorETag(etag, 200);
+		assertTrue(updated.startsWith("W/\"" + (version + 1) + "-"));
+		getAuthorETag(updated, 304);
+
+		updateAuthor(etag).andExpect(status().isPreconditionFailed())
+				.andExpect(jsonPath("$.apierror.message").value(ErrorMessage.VERSION_CONFLICT));
+		updateAuthor(updated).andExpect(status().isOk());
+	}
+}
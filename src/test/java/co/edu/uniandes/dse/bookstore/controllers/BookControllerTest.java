@@ -0,0 +1,368 @@
+/*
+MIT License
+
+Copyright (c) 2021 Universidad de los Andes - ISIS2603
+
+Permission is hereby granted, free of charge, to any person obtaining a copy
+of this software and associated documentation files (the "Software"), to deal
+in the Software without restriction, including without limitation the rights
+to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+copies of the Software, and to permit persons to whom the Software is
+furnished to do so, subject to the following conditions:
+
+The above copyright notice and this permission notice shall be included in all
+copies or substantial portions of the Software.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+SOFTWARE.
+*/
+package co.edu.uniandes.dse.bookstore.controllers;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.GZIPInputStream;
+
+import javax.transaction.Transactional;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.AutoConfigureTestEntityManager;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.ResultActions;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import co.edu.uniandes.dse.bookstore.config.ResponseFormatConfig;
+import co.edu.uniandes.dse.bookstore.dto.BookDetailDTO;
+import co.edu.uniandes.dse.bookstore.entities.AuthorEntity;
+import co.edu.uniandes.dse.bookstore.entities.BookEntity;
+import co.edu.uniandes.dse.bookstore.entities.EditorialEntity;
+import co.edu.uniandes.dse.bookstore.entities.ReviewEntity;
+import co.edu.uniandes.dse.bookstore.exceptions.ErrorMessage;
+import uk.co.jemos.podam.api.PodamFactory;
+import uk.co.jemos.podam.api.PodamFactoryImpl;
+
+/**
+ * Pruebas de las peticiones HTTP al recurso "books": encabezados
+ * condicionales, negociación del formato y la compresión del detalle de un
+ * libro y respuestas de error.
+ *
+ * @author ISIS2603
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@AutoConfigureTestEntityManager
+@Transactional
+class BookControllerTest {
+
+	@Autowired
+	private MockMvc mockMvc;
+
+	@Autowired
+	private TestEntityManager entityManager;
+
+	@Autowired
+	private ObjectMapper objectMapper;
+
+	private PodamFactory factory = new PodamFactoryImpl();
+
+	private EditorialEntity editorial;
+	private BookEntity book;
+	private AuthorEntity author;
+
+	/**
+	 * Configuración inicial de la prueba.
+	 */
+	@BeforeEach
+	void setUp() {
+		editorial = factory.manufacturePojo(EditorialEntity.class);
+		entityManager.persist(editorial);
+
+		book = factory.manufacturePojo(BookEntity.class);
+		book.setEditorial(editorial);
+		entityManager.persist(book);
+
+		author = factory.manufacturePojo(AuthorEntity.class);
+		entityManager.persist(author);
+		entityManager.flush();
+	}
+
+	/**
+	 * El ETag fuerte que el cliente envía en If-Match con la versión que leyó.
+	 */
+	private static String versionTag(Long version) {
+		return "\"" + version + "\"";
+	}
+
+	private ResultActions updateBook(String ifMatch) throws Exception {
+		String body = objectMapper.writeValueAsString(
+				Map.of("name", "Nuevo nombre", "isbn", book.getIsbn(), "editorial", Map.of("id", editorial.getId())));
+		return mockMvc.perform(put("/books/{id}", book.getId()).contentType(MediaType.APPLICATION_JSON).content(body)
+				.header(HttpHeaders.IF_MATCH, ifMatch));
+	}
+
+	/**
+	 * Prueba para actualizar un libro con el ETag de su versión actual.
+	 */
+	@Test
+	void testUpdateBookIfMatch() throws Exception {
+		Long version = book.getVersion();
+		updateBook(versionTag(version)).andExpect(status().isOk())
+				.andExpect(header().string(HttpHeaders.ETAG, ETags.of(version + 1)))
+				.andExpect(jsonPath("$.name").value("Nuevo nombre"));
+	}
+
+	/**
+	 * Prueba para actualizar un libro con el ETag de una versión vieja.
+	 */
+	@Test
+	void testUpdateBookStaleIfMatch() throws Exception {
+		updateBook(versionTag(book.getVersion() + 1)).andExpect(status().isPreconditionFailed())
+				.andExpect(jsonPath("$.apierror.message").value(ErrorMessage.VERSION_CONFLICT));
+	}
+
+	/**
+	 * Prueba para actualizar un libro con If-Match: *, que no verifica la
+	 * versión.
+	 */
+	@Test
+	void testUpdateBookIfMatchAny() throws Exception {
+		updateBook("*").andExpect(status().isOk());
+	}
+
+	/**
+	 * Prueba para actualizar un libro con un If-Match mal formado o con un ETag
+	 * débil.
+	 */
+	@Test
+	void testUpdateBookInvalidIfMatch() throws Exception {
+		Long version = book.getVersion();
+		updateBook("abc").andExpect(status().isPreconditionFailed());
+		updateBook(versionTag(version) + ", " + versionTag(version + 1)).andExpect(status().isPreconditionFailed());
+	}
+
+	/**
+	 * Prueba para actualizar un libro con el ETag que devuelven la consulta y
+	 * la actualización anterior, y luego con uno que ya no es el actual.
+	 */
+	@Test
+	void testUpdateBookRoundTrip() throws Exception {
+		String etag = mockMvc.perform(get("/books/{id}", book.getId())).andExpect(status().isOk()).andReturn()
+				.getResponse().getHeader(HttpHeaders.ETAG);
+		String updated = updateBook(etag).andExpect(status().isOk()).andReturn().getResponse()
+				.getHeader(HttpHeaders.ETAG);
+		updateBook(etag).andExpect(status().isPreconditionFailed())
+				.andExpect(jsonPath("$.apierror.message").value(ErrorMessage.VERSION_CONFLICT));
+		updateBook(updated).andExpect(status().isOk());
+	}
+
+	/**
+	 * Prueba que la consulta de un libro responde con un ETag débil, con el que
+	 * se puede validar la respuesta aunque llegue comprimida o en otro formato.
+	 */
+	@Test
+	void testGetBookWeakETag() throws Exception {
+		String etag = mockMvc.perform(get("/books/{id}", book.getId())).andExpect(status().isOk())
+				.andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+		assertTrue(etag.startsWith("W/\"" + book.getVersion() + "-"));
+		mockMvc.perform(get("/books/{id}", book.getId()).header(HttpHeaders.IF_NONE_MATCH, etag))
+				.andExpect(status().isNotModified());
+		mockMvc.perform(get("/books/{id}", book.getId()).header(HttpHeaders.IF_NONE_MATCH, etag.substring(2)))
+				.andExpect(status().isNotModified());
+	}
+
+	/**
+	 * Prueba para reemplazar los autores de un libro con If-Match.
+	 */
+	@Test
+	void testReplaceAuthorsIfMatch() throws Exception {
+		Long version = book.getVersion();
+		String body = objectMapper.writeValueAsString(List.of(Map.of("id", author.getId())));
+		mockMvc.perform(put("/books/{id}/authors", book.getId()).contentType(MediaType.APPLICATION_JSON).content(body)
+				.header(HttpHeaders.IF_MATCH, versionTag(version + 1)))
+				.andExpect(status().isPreconditionFailed());
+		mockMvc.perform(put("/books/{id}/authors", book.getId()).contentType(MediaType.APPLICATION_JSON).content(body)
+				.header(HttpHeaders.IF_MATCH, versionTag(version)))
+				.andExpect(status().isOk()).andExpect(jsonPath("$[0].id").value(author.getId()));
+	}
+
+	/**
+	 * Agrega reseñas al libro para que su documento supere el tamaño mínimo de
+	 * compresión.
+	 */
+	private void addReviews(int count) {
+		for (int i = 0; i < count; i++) {
+			ReviewEntity review = factory.manufacturePojo(ReviewEntity.class);
+			review.setBook(book);
+			entityManager.persist(review);
+			book.getReviews().add(review);
+		}
+		entityManager.flush();
+	}
+
+	private MockHttpServletResponse getBook(String acceptEncoding) throws Exception {
+		return mockMvc.perform(get("/books/{id}", book.getId()).header(HttpHeaders.ACCEPT_ENCODING, acceptEncoding))
+				.andExpect(status().isOk()).andReturn().getResponse();
+	}
+
+	private static boolean variesBy(MockHttpServletResponse response, String header) {
+		return response.getHeaders(HttpHeaders.VARY).stream().anyMatch(value -> value.contains(header));
+	}
+
+	private static byte[] gunzip(byte[] body) throws IOException {
+		try (InputStream in = new GZIPInputStream(new ByteArrayInputStream(body))) {
+			return in.readAllBytes();
+		}
+	}
+
+	/**
+	 * Prueba que el detalle de un libro grande se envía comprimido con gzip a un
+	 * cliente que lo acepta, con el mismo ETag débil que sin comprimir.
+	 */
+	@Test
+	void testGetBookGzip() throws Exception {
+		addReviews(30);
+		MockHttpServletResponse gzip = getBook("gzip, deflate");
+		assertEquals("gzip", gzip.getHeader(HttpHeaders.CONTENT_ENCODING));
+		assertTrue(MediaType.APPLICATION_JSON.isCompatibleWith(MediaType.valueOf(gzip.getContentType())));
+		assertTrue(variesBy(gzip, HttpHeaders.ACCEPT_ENCODING));
+		assertTrue(variesBy(gzip, HttpHeaders.ACCEPT));
+		BookDetailDTO detail = objectMapper.readValue(gunzip(gzip.getContentAsByteArray()), BookDetailDTO.class);
+		assertEquals(book.getId(), detail.getId());
+		assertEquals(30, detail.getReviews().size());
+
+		MockHttpServletResponse identity = getBook("identity");
+		assertNull(identity.getHeader(HttpHeaders.CONTENT_ENCODING));
+		assertTrue(variesBy(identity, HttpHeaders.ACCEPT_ENCODING));
+		assertEquals(book.getId(), objectMapper.readValue(identity.getContentAsByteArray(), BookDetailDTO.class).getId());
+
+		assertTrue(gzip.getHeader(HttpHeaders.ETAG).startsWith("W/"));
+		assertEquals(gzip.getHeader(HttpHeaders.ETAG), identity.getHeader(HttpHeaders.ETAG));
+	}
+
+	/**
+	 * Prueba que el detalle no se comprime si el cliente rechaza gzip.
+	 */
+	@Test
+	void testGetBookGzipRejected() throws Exception {
+		addReviews(30);
+		assertNull(getBook("gzip;q=0, *").getHeader(HttpHeaders.CONTENT_ENCODING));
+		assertNull(getBook("*;q=0").getHeader(HttpHeaders.CONTENT_ENCODING));
+	}
+
+	/**
+	 * Prueba que el detalle de un libro pequeño no se comprime aunque el cliente
+	 * acepte gzip.
+	 */
+	@Test
+	void testGetSmallBookGzip() throws Exception {
+		MockHttpServletResponse response = getBook("gzip");
+		assertNull(response.getHeader(HttpHeaders.CONTENT_ENCODING));
+		assertEquals(book.getName(), objectMapper.readValue(response.getContentAsByteArray(), BookDetailDTO.class).getName());
+	}
+
+	/**
+	 * Prueba que el detalle en Smile o CBOR se serializa como antes, sin el
+	 * documento JSON del caché.
+	 */
+	@Test
+	void testGetBookSmileAndCbor() throws Exception {
+		addReviews(30);
+		mockMvc.perform(get("/books/{id}", book.getId()).accept(ResponseFormatConfig.APPLICATION_SMILE)
+				.header(HttpHeaders.ACCEPT_ENCODING, "gzip")).andExpect(status().isOk())
+				.andExpect(header().string(HttpHeaders.CONTENT_TYPE, ResponseFormatConfig.APPLICATION_SMILE_VALUE))
+				.andExpect(header().doesNotExist(HttpHeaders.CONTENT_ENCODING));
+		mockMvc.perform(get("/books/{id}", book.getId()).accept(MediaType.APPLICATION_CBOR)
+				.header(HttpHeaders.ACCEPT_ENCODING, "gzip")).andExpect(status().isOk())
+				.andExpect(header().string(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_CBOR_VALUE))
+				.andExpect(header().doesNotExist(HttpHeaders.CONTENT_ENCODING));
+	}
+
+	/**
+	 * Prueba que el detalle con solo algunas asociaciones se serializa como
+	 * antes, sin el documento JSON del caché.
+	 */
+	@Test
+	void testGetBookInclude() throws Exception {
+		addReviews(30);
+		mockMvc.perform(get("/books/{id}", book.getId()).param("include", "editorial")
+				.header(HttpHeaders.ACCEPT_ENCODING, "gzip")).andExpect(status().isOk())
+				.andExpect(header().doesNotExist(HttpHeaders.CONTENT_ENCODING))
+				.andExpect(jsonPath("$.editorial.id").value(editorial.getId()))
+				.andExpect(jsonPath("$.reviews").doesNotExist());
+	}
+
+	/**
+	 * Prueba que el detalle de un libro no se envía en un formato que el cliente
+	 * no acepta.
+	 */
+	@Test
+	void testGetBookNotAcceptable() throws Exception {
+		mockMvc.perform(get("/books/{id}", book.getId()).accept(MediaType.TEXT_HTML))
+				.andExpect(status().isNotAcceptable());
+	}
+
+	/**
+	 * Prueba para listar los libros con page y limit: se usa la paginación por
+	 * cursor.
+	 */
+	@Test
+	void testGetBooksPageAndLimit() throws Exception {
+		mockMvc.perform(get("/books").param("page", "0").param("limit", "10")).andExpect(status().isOk())
+				.andExpect(jsonPath("$.size").value(10)).andExpect(jsonPath("$.page").doesNotExist());
+	}
+
+	/**
+	 * Prueba para listar los libros con ids y limit: se buscan los ids.
+	 */
+	@Test
+	void testGetBooksIdsAndLimit() throws Exception {
+		mockMvc.perform(get("/books").param("ids", book.getId().toString()).param("limit", "5"))
+				.andExpect(status().isOk()).andExpect(jsonPath("$.items[0].id").value(book.getId()))
+				.andExpect(jsonPath("$.missing").isEmpty());
+	}
+
+	/**
+	 * Prueba para listar los libros con ids, fields y page: se buscan los ids.
+	 */
+	@Test
+	void testGetBooksIdsAndFields() throws Exception {
+		mockMvc.perform(get("/books").param("ids", book.getId().toString()).param("fields", "name").param("page", "0"))
+				.andExpect(status().isOk()).andExpect(jsonPath("$.items[0].isbn").value(book.getIsbn()))
+				.andExpect(jsonPath("$.missing").isEmpty());
+	}
+
+	/**
+	 * Prueba para listar una página con solo algunos campos de los libros.
+	 */
+	@Test
+	void testGetBooksFieldsAndPage() throws Exception {
+		mockMvc.perform(get("/books").param("fields", "name").param("page", "0")).andExpect(status().isOk())
+				.andExpect(jsonPath("$.page").value(0)).andExpect(jsonPath("$.items[0].name").exists())
+				.andExpect(jsonPath("$.items[0].isbn").doesNotExist());
+	}
+}
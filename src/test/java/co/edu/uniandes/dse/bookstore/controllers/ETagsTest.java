@@ -0,0 +1,91 @@
+/*
+MIT License
+
+Copyright (c) 2021 Universidad de los Andes - ISIS2603
+
+Permission is hereby granted, free of charge, to any person obtaining a copy
+of this software and associated documentation files (the "Software"), to deal
+in the Software without restriction, including without limitation the rights
+to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+copies of the Software, and to permit persons to whom the Software is
+furnished to do so, subject to the following conditions:
+
+The above copyright notice and this permission notice shall be included in all
+copies or substantial portions of the Software.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+SOFTWARE.
+*/
+package co.edu.uniandes.dse.bookstore.controllers;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import org.junit.jupiter.api.Test;
+
+import co.edu.uniandes.dse.bookstore.exceptions.IllegalOperationException;
+
+/**
+ * Pruebas de la conversión entre versiones y ETags.
+ *
+ * @author ISIS2603
+ */
+class ETagsTest {
+
+	/**
+	 * Prueba para generar el ETag débil de una versión.
+	 */
+	@Test
+	void testOf() {
+		assertEquals("W/\"3\"", ETags.of(3L));
+		assertEquals("W/\"3-9f86d081884c7d65\"", ETags.of("3-9f86d081884c7d65"));
+	}
+
+	/**
+	 * Prueba para leer la versión de un If-Match con un ETag fuerte.
+	 */
+	@Test
+	void testIfMatch() throws IllegalOperationException {
+		assertEquals(3L, ETags.ifMatch("\"3\""));
+		assertEquals(3L, ETags.ifMatch(" \"3\" "));
+		assertEquals(3L, ETags.ifMatch("\"3-9f86d081884c7d65\""));
+	}
+
+	/**
+	 * Prueba para leer la versión de un If-Match con el ETag débil que genera
+	 * {@link ETags#of(Object)}.
+	 */
+	@Test
+	void testIfMatchWeak() throws IllegalOperationException {
+		assertEquals(3L, ETags.ifMatch(ETags.of(3L)));
+		assertEquals(3L, ETags.ifMatch(ETags.of("3-9f86d081884c7d65")));
+	}
+
+	/**
+	 * Prueba para leer un If-Match vacío o con comodín: no se verifica la
+	 * versión.
+	 */
+	@Test
+	void testIfMatchAny() throws IllegalOperationException {
+		assertNull(ETags.ifMatch(null));
+		assertNull(ETags.ifMatch(""));
+		assertNull(ETags.ifMatch("*"));
+	}
+
+	/**
+	 * Prueba para leer un If-Match mal formado.
+	 */
+	@Test
+	void testIfMatchInvalid() {
+		assertThrows(IllegalOperationException.class, () -> ETags.ifMatch("3"));
+		assertThrows(IllegalOperationException.class, () -> ETags.ifMatch("\"\""));
+		assertThrows(IllegalOperationException.class, () -> ETags.ifMatch("\"abc\""));
+		assertThrows(IllegalOperationException.class, () -> ETags.ifMatch("W/3"));
+		assertThrows(IllegalOperationException.class, () -> ETags.ifMatch("W/\"abc\""));
+		assertThrows(IllegalOperationException.class, () -> ETags.ifMatch("\"3\", \"4\""));
+	}
+}
@@ -29,6 +29,7 @@ import static org.junit.jupiter.api.Assertions.*;
 import java.util.ArrayList;
 import java.util.List;
 
+import javax.persistence.LockModeType;
 import javax.transaction.Transactional;
 
 import org.junit.jupiter.api.BeforeEach;
@@ -38,6 +39,7 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
 import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
 import org.springframework.context.annotation.Import;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
 import org.springframework.test.context.junit.jupiter.SpringExtension;
 
 import co.edu.uniandes.dse.bookstore.entities.AuthorEntity;
@@ -279,6 +281,28 @@ class AuthorBookServiceTest {
 		}
 	}
 	
+	/**
+	 * Prueba para actualizar los libros de un autor con la versión que el
+	 * cliente leyó. La versión del autor se incrementa al hacer commit.
+	 */
+	@Test
+	void testReplaceBooksWithVersion() throws EntityNotFoundException {
+		entityManager.flush();
+		authorBookService.addBooks(author.getId(), List.of(bookList.get(0)), author.getVersion());
+		AuthorEntity stored = entityManager.find(AuthorEntity.class, author.getId());
+		assertEquals(LockModeType.OPTIMISTIC_FORCE_INCREMENT, entityManager.getEntityManager().getLockMode(stored));
+	}
+
+	/**
+	 * Prueba para actualizar los libros de un autor con una versión vieja.
+	 */
+	@Test
+	void testReplaceBooksWithStaleVersion() {
+		entityManager.flush();
+		assertThrows(ObjectOptimisticLockingFailureException.class,
+				() -> authorBookService.addBooks(author.getId(), List.of(bookList.get(0)), author.getVersion() + 1));
+	}
+
 	/**
 	 * Prueba para actualizar los libros de un autor que no existe.
 	 *
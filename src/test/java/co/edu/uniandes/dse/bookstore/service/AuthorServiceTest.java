@@ -30,9 +30,11 @@ import java.util.ArrayList;
 import java.util.Calendar;
 import java.util.Date;
 import java.util.List;
+import java.util.Map;
 
 import javax.transaction.Transactional;
 
+import org.hibernate.Hibernate;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -41,13 +43,25 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
 import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
 import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+import org.springframework.test.context.event.ApplicationEvents;
+import org.springframework.test.context.event.RecordApplicationEvents;
 import org.springframework.test.context.junit.jupiter.SpringExtension;
 
+import co.edu.uniandes.dse.bookstore.dto.AuthorDTO;
+import co.edu.uniandes.dse.bookstore.dto.AuthorDetailDTO;
+import co.edu.uniandes.dse.bookstore.dto.Fields;
+import co.edu.uniandes.dse.bookstore.dto.Include;
 import co.edu.uniandes.dse.bookstore.entities.AuthorEntity;
 import co.edu.uniandes.dse.bookstore.entities.BookEntity;
 import co.edu.uniandes.dse.bookstore.entities.PrizeEntity;
+import co.edu.uniandes.dse.bookstore.events.AuthorChangedEvent;
 import co.edu.uniandes.dse.bookstore.exceptions.EntityNotFoundException;
 import co.edu.uniandes.dse.bookstore.exceptions.IllegalOperationException;
+import co.edu.uniandes.dse.bookstore.mappers.AuthorMapper;
 import co.edu.uniandes.dse.bookstore.services.AuthorService;
 import uk.co.jemos.podam.api.PodamFactory;
 import uk.co.jemos.podam.api.PodamFactoryImpl;
@@ -61,11 +75,15 @@ import uk.co.jemos.podam.api.PodamFactoryImpl;
 @DataJpaTest
 @Transactional
 @Import(AuthorService.class)
+@RecordApplicationEvents
 class AuthorServiceTest {
 
 	@Autowired
 	private AuthorService authorService;
 
+	@Autowired
+	private ApplicationEvents applicationEvents;
+
 	@Autowired
 	private TestEntityManager entityManager;
 
@@ -123,6 +141,8 @@ class AuthorServiceTest {
 		assertEquals(newEntity.getName(), entity.getName());
 		assertEquals(newEntity.getBirthDate(), entity.getBirthDate());
 		assertEquals(newEntity.getDescription(), entity.getDescription());
+		assertTrue(applicationEvents.stream(AuthorChangedEvent.class)
+				.anyMatch(event -> event.getAuthorId().equals(result.getId())));
 	}
 	
 	/**
@@ -160,6 +180,45 @@ class AuthorServiceTest {
 		}
 	}
 
+	/**
+	 * Prueba para consultar una página de Authors.
+	 */
+	@Test
+	void testGetAuthorsPage() throws IllegalOperationException {
+		Page<AuthorEntity> page = authorService.getAuthors(PageRequest.of(0, 2, Sort.by("id")));
+		assertEquals(2, page.getNumberOfElements());
+		assertEquals(authorList.size(), page.getTotalElements());
+		assertEquals(authorList.get(0).getId(), page.getContent().get(0).getId());
+		assertEquals(authorList.get(1).getId(), page.getContent().get(1).getId());
+	}
+
+	/**
+	 * Prueba para consultar solo algunos campos de los Authors.
+	 */
+	@Test
+	void testGetAuthorFields() throws IllegalOperationException {
+		Fields fields = Fields.parse(List.of("name", "birthDate"), AuthorDTO.FIELDS);
+		List<Map<String, Object>> rows = authorService.getAuthorFields(fields);
+		assertEquals(authorList.size(), rows.size());
+
+		Page<Map<String, Object>> page = authorService.getAuthorFields(PageRequest.of(0, 2, Sort.by("id")), fields);
+		assertEquals(authorList.size(), page.getTotalElements());
+		Map<String, Object> row = page.getContent().get(0);
+		assertEquals(List.of("id", "name", "birthDate"), new ArrayList<>(row.keySet()));
+		assertEquals(authorList.get(0).getId(), row.get("id"));
+		assertEquals(authorList.get(0).getName(), row.get("name"));
+	}
+
+	/**
+	 * Prueba para consultar una página de Authors ordenada por un campo no permitido.
+	 */
+	@Test
+	void testGetAuthorsPageInvalidSort() {
+		assertThrows(IllegalOperationException.class, () -> {
+			authorService.getAuthors(PageRequest.of(0, 2, Sort.by("description")));
+		});
+	}
+
 	/**
 	 * Prueba para consultar un Author.
 	 */
@@ -176,6 +235,38 @@ class AuthorServiceTest {
 		assertEquals(authorEntity.getDescription(), resultEntity.getDescription());
 	}
 
+	/**
+	 * Prueba para consultar un Author cargando solo las asociaciones pedidas.
+	 */
+	@Test
+	void testGetAuthorInclude() throws EntityNotFoundException, IllegalOperationException {
+		AuthorEntity authorEntity = authorList.get(0);
+		entityManager.flush();
+		entityManager.clear();
+		Include include = Include.parse(List.of("prizes"), AuthorDetailDTO.ASSOCIATIONS);
+		AuthorEntity resultEntity = authorService.getAuthor(authorEntity.getId(), include);
+		assertTrue(Hibernate.isInitialized(resultEntity.getPrizes()));
+		assertFalse(Hibernate.isInitialized(resultEntity.getBooks()));
+
+		AuthorDetailDTO detail = AuthorMapper.toDetailDTO(resultEntity, include);
+		assertNotNull(detail.getPrizes());
+		assertNull(detail.getBooks());
+	}
+
+	/**
+	 * Prueba para consultar varios Authors por id en el orden pedido.
+	 */
+	@Test
+	void testGetAuthorsById() throws IllegalOperationException {
+		Long first = authorList.get(0).getId();
+		Long second = authorList.get(1).getId();
+		List<AuthorEntity> list = authorService.getAuthorsById(List.of(second, 0L, first));
+		assertEquals(2, list.size());
+		assertEquals(second, list.get(0).getId());
+		assertEquals(first, list.get(1).getId());
+		assertThrows(IllegalOperationException.class, () -> authorService.getAuthorsById(List.of()));
+	}
+
 	/**
 	 * Prueba para consultar un Author que no existe.
 	 */
@@ -205,7 +296,42 @@ class AuthorServiceTest {
 		assertEquals(pojoEntity.getBirthDate(), response.getBirthDate());
 		assertEquals(pojoEntity.getDescription(), response.getDescription());
 	}
-	
+
+	/**
+	 * Prueba para actualizar un Author con la versión que se leyó y luego con una
+	 * versión vieja.
+	 */
+	@Test
+	void testUpdateAuthorVersion() throws EntityNotFoundException {
+		AuthorEntity authorEntity = authorList.get(0);
+		Long version = authorEntity.getVersion();
+
+		AuthorEntity pojoEntity = factory.manufacturePojo(AuthorEntity.class);
+		pojoEntity.setVersion(version);
+		AuthorEntity result = authorService.updateAuthor(authorEntity.getId(), pojoEntity);
+		assertEquals(version + 1, result.getVersion());
+
+		AuthorEntity staleEntity = factory.manufacturePojo(AuthorEntity.class);
+		staleEntity.setVersion(version);
+		assertThrows(ObjectOptimisticLockingFailureException.class, () -> {
+			authorService.updateAuthor(authorEntity.getId(), staleEntity);
+		});
+	}
+
+	/**
+	 * Prueba para actualizar un Author sin enviar la versión.
+	 */
+	@Test
+	void testUpdateAuthorWithoutVersion() throws EntityNotFoundException {
+		AuthorEntity authorEntity = authorList.get(0);
+		Long version = authorEntity.getVersion();
+
+		authorService.updateAuthor(authorEntity.getId(), factory.manufacturePojo(AuthorEntity.class));
+		AuthorEntity result = authorService.updateAuthor(authorEntity.getId(),
+				factory.manufacturePojo(AuthorEntity.class));
+		assertEquals(version + 2, result.getVersion());
+	}
+
 	/**
 	 * Prueba para actualizar un Author que no existe.
 	 */
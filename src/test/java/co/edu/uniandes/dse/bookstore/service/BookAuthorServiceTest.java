@@ -27,7 +27,10 @@ import static org.junit.jupiter.api.Assertions.*;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
 
+import javax.persistence.LockModeType;
 import javax.transaction.Transactional;
 
 import org.junit.jupiter.api.BeforeEach;
@@ -37,6 +40,7 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
 import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
 import org.springframework.context.annotation.Import;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
 import org.springframework.test.context.junit.jupiter.SpringExtension;
 
 import co.edu.uniandes.dse.bookstore.entities.AuthorEntity;
@@ -54,7 +58,7 @@ import uk.co.jemos.podam.api.PodamFactoryImpl;
  * @author ISIS2603
  */
 @ExtendWith(SpringExtension.class)
-@DataJpaTest
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.session_factory.statement_inspector=co.edu.uniandes.dse.bookstore.service.SqlRecorder")
 @Transactional
 @Import(BookAuthorService.class)
 class BookAuthorServiceTest {
@@ -283,6 +287,83 @@ class BookAuthorServiceTest {
 	}
 	
 	
+	/**
+	 * Prueba que reemplazar los autores de un libro quita los que no están en la
+	 * lista, agrega los nuevos y solo escribe las filas que cambian en la tabla
+	 * de asociación.
+	 */
+	@Test
+	void testReplaceAuthorsDiff() throws EntityNotFoundException {
+		AuthorEntity newAuthor = factory.manufacturePojo(AuthorEntity.class);
+		entityManager.persist(newAuthor);
+		entityManager.flush();
+		entityManager.clear();
+
+		Long version = entityManager.find(BookEntity.class, book.getId()).getVersion();
+		List<AuthorEntity> nuevaLista = List.of(authorList.get(1), newAuthor, authorList.get(2));
+		SqlRecorder.clear();
+		List<AuthorEntity> result = bookAuthorService.replaceAuthors(book.getId(), nuevaLista);
+		entityManager.flush();
+		List<String> writes = SqlRecorder.statements().stream().filter(sql -> !sql.startsWith("select"))
+				.collect(Collectors.toList());
+
+		assertEquals(List.of(authorList.get(1).getId(), newAuthor.getId(), authorList.get(2).getId()),
+				result.stream().map(AuthorEntity::getId).collect(Collectors.toList()));
+		assertEquals(2, writes.size());
+		assertTrue(writes.get(0).startsWith("delete from book_entity_authors where books_id = ? and authors_id in (?)"));
+		assertTrue(writes.get(1).startsWith("insert into book_entity_authors"));
+		assertTrue(writes.get(1).endsWith("in (?)"));
+		assertTrue(SqlRecorder.statements().stream().noneMatch(sql -> sql.contains("for update")));
+
+		BookEntity stored = entityManager.find(BookEntity.class, book.getId());
+		assertEquals(Set.of(authorList.get(1).getId(), authorList.get(2).getId(), newAuthor.getId()),
+				stored.getAuthors().stream().map(AuthorEntity::getId).collect(Collectors.toSet()));
+		assertEquals(version, stored.getVersion());
+		assertEquals(LockModeType.OPTIMISTIC_FORCE_INCREMENT, entityManager.getEntityManager().getLockMode(stored));
+	}
+
+	/**
+	 * Prueba para actualizar los autores de un libro con la versión que el
+	 * cliente leyó.
+	 */
+	@Test
+	void testReplaceAuthorsWithVersion() throws EntityNotFoundException {
+		entityManager.flush();
+		List<AuthorEntity> result = bookAuthorService.replaceAuthors(book.getId(), List.of(authorList.get(0)),
+				book.getVersion());
+		assertEquals(1, result.size());
+		assertEquals(LockModeType.OPTIMISTIC_FORCE_INCREMENT, entityManager.getEntityManager().getLockMode(book));
+	}
+
+	/**
+	 * Prueba para actualizar los autores de un libro con una versión vieja. No
+	 * se cambia ningún autor.
+	 */
+	@Test
+	void testReplaceAuthorsWithStaleVersion() {
+		entityManager.flush();
+		assertThrows(ObjectOptimisticLockingFailureException.class,
+				() -> bookAuthorService.replaceAuthors(book.getId(), new ArrayList<>(), book.getVersion() + 1));
+		entityManager.clear();
+		assertEquals(authorList.size(), entityManager.find(BookEntity.class, book.getId()).getAuthors().size());
+	}
+
+	/**
+	 * Prueba que reemplazar los autores de un libro con la misma lista no escribe
+	 * en la base de datos y con una lista vacía los quita todos.
+	 */
+	@Test
+	void testReplaceAuthorsUnchangedAndEmpty() throws EntityNotFoundException {
+		entityManager.flush();
+		SqlRecorder.clear();
+		bookAuthorService.replaceAuthors(book.getId(), authorList);
+		entityManager.flush();
+		assertTrue(SqlRecorder.statements().stream().noneMatch(sql -> sql.contains("book_entity_authors (")));
+
+		bookAuthorService.replaceAuthors(book.getId(), new ArrayList<>());
+		assertTrue(bookAuthorService.getAuthors(book.getId()).isEmpty());
+	}
+
 	/**
 	 * Prueba para actualizar los autores de un libro que no existe.
 	 *
@@ -0,0 +1,238 @@
+/*
+MIT License
+
+Copyright (c) 2021 Universidad de los Andes - ISIS2603
+
+Permission is hereby granted, free of charge, to any person obtaining a copy
+of this software and associated documentation files (the "Software"), to deal
+in the Software without restriction, including without limitation the rights
+to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+copies of the Software, and to permit persons to whom the Software is
+furnished to do so, subject to the following conditions:
+
+The above copyright notice and this permission notice shall be included in all
+copies or substantial portions of the Software.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+SOFTWARE.
+*/
+package co.edu.uniandes.dse.bookstore.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.zip.GZIPInputStream;
+
+import javax.transaction.Transactional;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.json.AutoConfigureJson;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import co.edu.uniandes.dse.bookstore.dto.BookDetailDTO;
+import co.edu.uniandes.dse.bookstore.entities.BookEntity;
+import co.edu.uniandes.dse.bookstore.entities.EditorialEntity;
+import co.edu.uniandes.dse.bookstore.entities.ReviewEntity;
+import co.edu.uniandes.dse.bookstore.exceptions.EntityNotFoundException;
+import co.edu.uniandes.dse.bookstore.services.BookDocument;
+import co.edu.uniandes.dse.bookstore.services.BookDocumentService;
+import co.edu.uniandes.dse.bookstore.services.BookService;
+import co.edu.uniandes.dse.bookstore.services.ResourceVersionService;
+import uk.co.jemos.podam.api.PodamFactory;
+import uk.co.jemos.podam.api.PodamFactoryImpl;
+
+/**
+ * Pruebas del caché de documentos JSON de los libros.
+ *
+ * @author ISIS2603
+ */
+@ExtendWith(SpringExtension.class)
+@DataJpaTest(properties = { "bookstore.book-documents.maximum-size=8KB", "server.compression.min-response-size=1KB" })
+@AutoConfigureJson
+@Transactional
+@Import({ BookDocumentService.class, BookService.class, ResourceVersionService.class })
+class BookDocumentServiceTest {
+
+	@Autowired
+	private BookDocumentService bookDocumentService;
+
+	@Autowired
+	private TestEntityManager entityManager;
+
+	@Autowired
+	private ResourceVersionService resourceVersionService;
+
+	@Autowired
+	private ObjectMapper objectMapper;
+
+	private PodamFactory factory = new PodamFactoryImpl();
+
+	private List<BookEntity> bookList = new ArrayList<>();
+
+	/**
+	 * Configuración inicial de la prueba.
+	 */
+	@BeforeEach
+	void setUp() {
+		clearData();
+		insertData();
+	}
+
+	/**
+	 * Limpia las tablas que están implicadas en la prueba.
+	 */
+	private void clearData() {
+		entityManager.getEntityManager().createQuery("delete from ReviewEntity").executeUpdate();
+		entityManager.getEntityManager().createQuery("delete from BookEntity").executeUpdate();
+		entityManager.getEntityManager().createQuery("delete from EditorialEntity").executeUpdate();
+	}
+
+	/**
+	 * Inserta los datos iniciales para el correcto funcionamiento de las pruebas.
+	 * El primer libro no tiene reseñas y el resto tiene 20 cada uno.
+	 */
+	private void insertData() {
+		EditorialEntity editorialEntity = factory.manufacturePojo(EditorialEntity.class);
+		entityManager.persist(editorialEntity);
+
+		for (int i = 0; i < 6; i++) {
+			BookEntity bookEntity = factory.manufacturePojo(BookEntity.class);
+			bookEntity.setEditorial(editorialEntity);
+			entityManager.persist(bookEntity);
+			bookList.add(bookEntity);
+			for (int j = 0; i > 0 && j < 20; j++) {
+				ReviewEntity reviewEntity = factory.manufacturePojo(ReviewEntity.class);
+				reviewEntity.setBook(bookEntity);
+				entityManager.persist(reviewEntity);
+				bookEntity.getReviews().add(reviewEntity);
+			}
+		}
+	}
+
+	private String version(BookEntity book) throws EntityNotFoundException {
+		return resourceVersionService.getBookVersion(book.getId());
+	}
+
+	/**
+	 * Prueba para obtener el documento JSON de un libro.
+	 */
+	@Test
+	void testGetBookDocument() throws EntityNotFoundException, IOException {
+		BookEntity entity = bookList.get(1);
+		String version = version(entity);
+		BookDocument document = bookDocumentService.getBookDocument(entity.getId(), version);
+		assertEquals(version, document.getVersion());
+
+		BookDetailDTO detail = objectMapper.readValue(document.getJson(), BookDetailDTO.class);
+		assertEquals(entity.getId(), detail.getId());
+		assertEquals(entity.getName(), detail.getName());
+		assertEquals(20, detail.getReviews().size());
+		assertSame(document, bookDocumentService.getBookDocument(entity.getId(), version));
+	}
+
+	/**
+	 * Prueba para obtener el documento de un libro en una versión nueva.
+	 */
+	@Test
+	void testGetBookDocumentNewVersion() throws EntityNotFoundException, IOException {
+		BookEntity entity = bookList.get(0);
+		BookDocument document = bookDocumentService.getBookDocument(entity.getId(), version(entity));
+
+		entity.setName("Nuevo nombre");
+		entityManager.flush();
+		String version = version(entity);
+		BookDocument updated = bookDocumentService.getBookDocument(entity.getId(), version);
+		assertNotSame(document, updated);
+		assertEquals(version, updated.getVersion());
+		assertEquals("Nuevo nombre", objectMapper.readValue(updated.getJson(), BookDetailDTO.class).getName());
+		assertSame(updated, bookDocumentService.getBookDocument(entity.getId(), version));
+	}
+
+	/**
+	 * Prueba que un documento no se guarda en el caché si la versión del libro
+	 * cambió mientras se generaba: la versión recibida ya no es la actual.
+	 */
+	@Test
+	void testGetBookDocumentChangedVersion() throws EntityNotFoundException {
+		BookEntity entity = bookList.get(0);
+		long cachedBytes = bookDocumentService.getCachedBytes();
+
+		BookDocument document = bookDocumentService.getBookDocument(entity.getId(), "0-anterior");
+		assertEquals("0-anterior", document.getVersion());
+		assertEquals(cachedBytes, bookDocumentService.getCachedBytes());
+		assertNotSame(document, bookDocumentService.getBookDocument(entity.getId(), "0-anterior"));
+	}
+
+	/**
+	 * Prueba para comprimir solo los documentos desde el tamaño mínimo.
+	 */
+	@Test
+	void testGetBookDocumentGzip() throws EntityNotFoundException, IOException {
+		BookDocument small = bookDocumentService.getBookDocument(bookList.get(0).getId(), version(bookList.get(0)));
+		assertTrue(small.getJson().length < 1024);
+		assertNull(small.getGzip());
+		assertEquals(small.getJson().length, small.getSize());
+
+		BookDocument large = bookDocumentService.getBookDocument(bookList.get(1).getId(), version(bookList.get(1)));
+		assertTrue(large.getJson().length >= 1024);
+		assertNotNull(large.getGzip());
+		assertTrue(large.getGzip().length < large.getJson().length);
+		try (InputStream in = new GZIPInputStream(new ByteArrayInputStream(large.getGzip()))) {
+			assertArrayEquals(large.getJson(), in.readAllBytes());
+		}
+	}
+
+	/**
+	 * Prueba para obtener el documento de un libro que no existe.
+	 */
+	@Test
+	void testGetInvalidBookDocument() {
+		assertThrows(EntityNotFoundException.class, () -> {
+			bookDocumentService.getBookDocument(0L, "0-a");
+		});
+	}
+
+	/**
+	 * Prueba para sacar del caché los documentos de los libros que cambiaron.
+	 */
+	@Test
+	void testEvict() throws EntityNotFoundException {
+		BookDocument document = bookDocumentService.getBookDocument(bookList.get(0).getId(), version(bookList.get(0)));
+		long cachedBytes = bookDocumentService.getCachedBytes();
+
+		bookDocumentService.evict(Set.of(bookList.get(0).getId()));
+		assertEquals(cachedBytes - document.getSize(), bookDocumentService.getCachedBytes());
+		assertNotSame(document, bookDocumentService.getBookDocument(bookList.get(0).getId(), version(bookList.get(0))));
+	}
+
+	/**
+	 * Prueba para limitar el caché por el total de bytes guardados.
+	 */
+	@Test
+	void testMaximumSize() throws EntityNotFoundException {
+		long total = 0;
+		for (BookEntity book : bookList)
+			total += bookDocumentService.getBookDocument(book.getId(), version(book)).getSize();
+		assertTrue(total > 8 * 1024);
+		assertTrue(bookDocumentService.getCachedBytes() <= 8 * 1024);
+		assertTrue(bookDocumentService.getCachedBytes() > 0);
+	}
+}
@@ -38,9 +38,12 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
 import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
 import org.springframework.context.annotation.Import;
+import org.springframework.test.context.event.ApplicationEvents;
+import org.springframework.test.context.event.RecordApplicationEvents;
 import org.springframework.test.context.junit.jupiter.SpringExtension;
 
 import co.edu.uniandes.dse.bookstore.entities.BookEntity;
+import co.edu.uniandes.dse.bookstore.events.BookChangedEvent;
 import co.edu.uniandes.dse.bookstore.entities.EditorialEntity;
 import co.edu.uniandes.dse.bookstore.exceptions.EntityNotFoundException;
 import co.edu.uniandes.dse.bookstore.services.BookEditorialService;
@@ -57,12 +60,16 @@ import uk.co.jemos.podam.api.PodamFactoryImpl;
 @DataJpaTest
 @Transactional
 @Import({ BookService.class, BookEditorialService.class })
+@RecordApplicationEvents
 
 class BookEditorialServiceTest {
 
 	@Autowired
 	private TestEntityManager entityManager;
 
+	@Autowired
+	private ApplicationEvents applicationEvents;
+
 	@Autowired
 	private BookEditorialService bookEditorialService;
 
@@ -124,6 +131,17 @@ class BookEditorialServiceTest {
 		assertEquals(entity.getEditorial(), editorialsList.get(1));
 	}
 	
+	/**
+	 * Prueba que remplazar la Editorial de un Book publique el evento de cambio.
+	 */
+	@Test
+	void testReplaceEditorialPublishesEvent() throws EntityNotFoundException {
+		BookEntity entity = booksList.get(0);
+		bookEditorialService.replaceEditorial(entity.getId(), editorialsList.get(1).getId());
+		assertEquals(1, applicationEvents.stream(BookChangedEvent.class)
+				.filter(event -> event.getBookIds().contains(entity.getId())).count());
+	}
+
 	/**
 	 * Prueba para remplazar las instancias de Books asociadas a una instancia de
 	 * Editorial con un libro que no existe
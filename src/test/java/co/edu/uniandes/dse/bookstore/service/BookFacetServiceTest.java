@@ -0,0 +1,187 @@
+/*
+MIT License
+
+Copyright (c) 2021 Universidad de los Andes - ISIS2603
+
+Permission is hereby granted, free of charge, to any person obtaining a copy
+of this software and associated documentation files (the "Software"), to deal
+in the Software without restriction, including without limitation the rights
+to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+copies of the Software, and to permit persons to whom the Software is
+furnished to do so, subject to the following conditions:
+
+The above copyright notice and this permission notice shall be included in all
+copies or substantial portions of the Software.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+SOFTWARE.
+*/
+package co.edu.uniandes.dse.bookstore.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.Date;
+import java.util.GregorianCalendar;
+import java.util.List;
+
+import javax.transaction.Transactional;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+
+import co.edu.uniandes.dse.bookstore.dto.BookFacetsDTO;
+import co.edu.uniandes.dse.bookstore.dto.FacetCountDTO;
+import co.edu.uniandes.dse.bookstore.entities.AuthorEntity;
+import co.edu.uniandes.dse.bookstore.entities.BookEntity;
+import co.edu.uniandes.dse.bookstore.entities.EditorialEntity;
+import co.edu.uniandes.dse.bookstore.services.BookFacetService;
+import co.edu.uniandes.dse.bookstore.services.ResourceVersionService;
+import uk.co.jemos.podam.api.PodamFactory;
+import uk.co.jemos.podam.api.PodamFactoryImpl;
+
+/**
+ * Pruebas de los conteos de libros por faceta
+ *
+ * @author ISIS2603
+ */
+@ExtendWith(SpringExtension.class)
+@DataJpaTest
+@Transactional
+@Import({ BookFacetService.class, ResourceVersionService.class })
+class BookFacetServiceTest {
+
+	@Autowired
+	private BookFacetService bookFacetService;
+
+	@Autowired
+	private ResourceVersionService resourceVersionService;
+
+	@Autowired
+	private TestEntityManager entityManager;
+
+	private PodamFactory factory = new PodamFactoryImpl();
+
+	private EditorialEntity planeta;
+	private EditorialEntity norma;
+	private AuthorEntity garcia;
+	private AuthorEntity mistral;
+
+	/**
+	 * Configuración inicial de la prueba.
+	 */
+	@BeforeEach
+	void setUp() {
+		planeta = createEditorial("Planeta");
+		norma = createEditorial("Norma");
+		garcia = createAuthor("Gabriel García Márquez");
+		mistral = createAuthor("Gabriela Mistral");
+
+		createBook(planeta, 1967, garcia);
+		createBook(planeta, 1985, garcia, mistral);
+		createBook(planeta, 1985);
+		createBook(norma, 1922, mistral);
+	}
+
+	private EditorialEntity createEditorial(String name) {
+		EditorialEntity editorial = factory.manufacturePojo(EditorialEntity.class);
+		editorial.setName(name);
+		entityManager.persist(editorial);
+		return editorial;
+	}
+
+	private AuthorEntity createAuthor(String name) {
+		AuthorEntity author = factory.manufacturePojo(AuthorEntity.class);
+		author.setName(name);
+		entityManager.persist(author);
+		return author;
+	}
+
+	private BookEntity createBook(EditorialEntity editorial, int year, AuthorEntity... authors) {
+		BookEntity book = factory.manufacturePojo(BookEntity.class);
+		book.setEditorial(editorial);
+		book.setPublishingDate(date(year));
+		book.setAuthors(List.of(authors));
+		entityManager.persist(book);
+		return book;
+	}
+
+	private BookFacetsDTO facets() {
+		return bookFacetService.getFacets(resourceVersionService.getBooksVersion());
+	}
+
+	private static Date date(int year) {
+		return new GregorianCalendar(year, 5, 15).getTime();
+	}
+
+	/**
+	 * Prueba para contar los libros por editorial.
+	 */
+	@Test
+	void testEditorialFacet() {
+		BookFacetsDTO facets = facets();
+		assertEquals(List.of(new FacetCountDTO(planeta.getId(), "Planeta", 3),
+				new FacetCountDTO(norma.getId(), "Norma", 1)), facets.getEditorials());
+	}
+
+	/**
+	 * Prueba para contar los libros por año de publicación.
+	 */
+	@Test
+	void testYearFacet() {
+		BookFacetsDTO facets = facets();
+		assertEquals(List.of(new FacetCountDTO(1922L, "1922", 1), new FacetCountDTO(1967L, "1967", 1),
+				new FacetCountDTO(1985L, "1985", 2)), facets.getYears());
+	}
+
+	/**
+	 * Prueba para contar los libros por autor. Los libros sin autores no se
+	 * cuentan y los autores con el mismo número de libros van por nombre.
+	 */
+	@Test
+	void testAuthorFacet() {
+		BookFacetsDTO facets = facets();
+		assertEquals(List.of(new FacetCountDTO(garcia.getId(), "Gabriel García Márquez", 2),
+				new FacetCountDTO(mistral.getId(), "Gabriela Mistral", 2)), facets.getAuthors());
+	}
+
+	/**
+	 * Prueba para contar los libros de un catálogo vacío.
+	 */
+	@Test
+	void testFacetsOfEmptyCatalog() {
+		entityManager.getEntityManager().createQuery("delete from ReviewEntity").executeUpdate();
+		entityManager.getEntityManager().createNativeQuery("delete from BOOK_ENTITY_AUTHORS").executeUpdate();
+		entityManager.getEntityManager().createQuery("delete from BookEntity").executeUpdate();
+		BookFacetsDTO facets = facets();
+		assertTrue(facets.getEditorials().isEmpty());
+		assertTrue(facets.getYears().isEmpty());
+		assertTrue(facets.getAuthors().isEmpty());
+	}
+
+	/**
+	 * Prueba para que los conteos reflejen un libro que cambia de editorial.
+	 */
+	@Test
+	void testFacetsAfterChange() {
+		BookEntity book = createBook(norma, 2001);
+		entityManager.flush();
+		assertEquals(2, facets().getEditorials().get(1).getCount());
+
+		book.setEditorial(planeta);
+		entityManager.flush();
+		List<FacetCountDTO> editorials = facets().getEditorials();
+		assertEquals(4, editorials.get(0).getCount());
+		assertEquals(1, editorials.get(1).getCount());
+	}
+}
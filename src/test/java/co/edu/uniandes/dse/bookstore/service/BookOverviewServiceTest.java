@@ -0,0 +1,233 @@
+/*
+MIT License
+
+Copyright (c) 2021 Universidad de los Andes - ISIS2603
+
+Permission is hereby granted, free of charge, to any person obtaining a copy
+of this software and associated documentation files (the "Software"), to deal
+in the Software without restriction, including without limitation the rights
+to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+copies of the Software, and to permit persons to whom the Software is
+furnished to do so, subject to the following conditions:
+
+The above copyright notice and this permission notice shall be included in all
+copies or substantial portions of the Software.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+SOFTWARE.
+*/
+package co.edu.uniandes.dse.bookstore.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import javax.transaction.Transactional;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+
+import co.edu.uniandes.dse.bookstore.dto.AuthorDetailDTO;
+import co.edu.uniandes.dse.bookstore.dto.BookDTO;
+import co.edu.uniandes.dse.bookstore.dto.BookOverviewDTO;
+import co.edu.uniandes.dse.bookstore.entities.AuthorEntity;
+import co.edu.uniandes.dse.bookstore.entities.BookEntity;
+import co.edu.uniandes.dse.bookstore.entities.EditorialEntity;
+import co.edu.uniandes.dse.bookstore.entities.OrganizationEntity;
+import co.edu.uniandes.dse.bookstore.entities.PrizeEntity;
+import co.edu.uniandes.dse.bookstore.entities.ReviewEntity;
+import co.edu.uniandes.dse.bookstore.exceptions.EntityNotFoundException;
+import co.edu.uniandes.dse.bookstore.exceptions.IllegalOperationException;
+import co.edu.uniandes.dse.bookstore.services.BookOverviewService;
+import uk.co.jemos.podam.api.PodamFactory;
+import uk.co.jemos.podam.api.PodamFactoryImpl;
+
+/**
+ * Pruebas de lógica de la página de un libro.
+ *
+ * @author ISIS2603
+ */
+@ExtendWith(SpringExtension.class)
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.session_factory.statement_inspector=co.edu.uniandes.dse.bookstore.service.SqlRecorder")
+@Transactional
+@Import(BookOverviewService.class)
+class BookOverviewServiceTest {
+
+	@Autowired
+	private BookOverviewService bookOverviewService;
+
+	@Autowired
+	private TestEntityManager entityManager;
+
+	private static final long DAY = 24L * 60 * 60 * 1000;
+
+	private PodamFactory factory = new PodamFactoryImpl();
+
+	private EditorialEntity editorial;
+
+	private BookEntity book;
+
+	private List<AuthorEntity> authorList = new ArrayList<>();
+
+	private List<BookEntity> otherBooks = new ArrayList<>();
+
+	@BeforeEach
+	void setUp() {
+		clearData();
+		insertData();
+	}
+
+	/**
+	 * Limpia las tablas que están implicadas en la prueba.
+	 */
+	private void clearData() {
+		entityManager.getEntityManager().createQuery("delete from PrizeEntity").executeUpdate();
+		entityManager.getEntityManager().createQuery("delete from OrganizationEntity").executeUpdate();
+		entityManager.getEntityManager().createQuery("delete from ReviewEntity").executeUpdate();
+		entityManager.getEntityManager().createQuery("delete from BookEntity").executeUpdate();
+		entityManager.getEntityManager().createQuery("delete from AuthorEntity").executeUpdate();
+		entityManager.getEntityManager().createQuery("delete from EditorialEntity").executeUpdate();
+	}
+
+	/**
+	 * Inserta un libro con dos autores premiados, tres reseñas y tres libros más
+	 * de sus autores.
+	 */
+	private void insertData() {
+		editorial = factory.manufacturePojo(EditorialEntity.class);
+		entityManager.persist(editorial);
+
+		book = newBook(new Date(0));
+		for (int i = 0; i < 2; i++)
+			addAuthor();
+
+		for (int i = 0; i < 3; i++) {
+			ReviewEntity review = factory.manufacturePojo(ReviewEntity.class);
+			review.setBook(book);
+			entityManager.persist(review);
+		}
+
+		for (int i = 0; i < 3; i++) {
+			BookEntity other = newBook(new Date(DAY * (i + 1)));
+			other.getAuthors().add(authorList.get(i % authorList.size()));
+			otherBooks.add(other);
+		}
+		BookEntity unrelated = newBook(new Date(0));
+		unrelated.getAuthors().add(factory.manufacturePojo(AuthorEntity.class));
+		entityManager.persist(unrelated.getAuthors().get(0));
+	}
+
+	private BookEntity newBook(Date publishingDate) {
+		BookEntity entity = factory.manufacturePojo(BookEntity.class);
+		entity.setEditorial(editorial);
+		entity.setPublishingDate(publishingDate);
+		entityManager.persist(entity);
+		return entity;
+	}
+
+	/**
+	 * Agrega al libro un autor con dos premios.
+	 */
+	private AuthorEntity addAuthor() {
+		AuthorEntity author = factory.manufacturePojo(AuthorEntity.class);
+		entityManager.persist(author);
+		for (int i = 0; i < 2; i++) {
+			OrganizationEntity organization = factory.manufacturePojo(OrganizationEntity.class);
+			entityManager.persist(organization);
+			PrizeEntity prize = factory.manufacturePojo(PrizeEntity.class);
+			prize.setAuthor(author);
+			prize.setOrganization(organization);
+			entityManager.persist(prize);
+		}
+		book.getAuthors().add(author);
+		authorList.add(author);
+		return author;
+	}
+
+	private List<String> loadOverview() throws EntityNotFoundException, IllegalOperationException {
+		entityManager.flush();
+		entityManager.clear();
+		SqlRecorder.clear();
+		bookOverviewService.getBookOverview(book.getId(), PageRequest.of(0, 2));
+		return SqlRecorder.statements();
+	}
+
+	/**
+	 * Prueba para consultar la página de un libro.
+	 */
+	@Test
+	void testGetBookOverview() throws EntityNotFoundException, IllegalOperationException {
+		entityManager.flush();
+		entityManager.clear();
+		BookOverviewDTO overview = bookOverviewService.getBookOverview(book.getId(), PageRequest.of(0, 2));
+
+		assertEquals(book.getId(), overview.getId());
+		assertEquals(book.getName(), overview.getName());
+		assertEquals(editorial.getId(), overview.getEditorial().getId());
+
+		assertEquals(2, overview.getReviews().getItems().size());
+		assertEquals(3L, overview.getReviews().getTotal());
+
+		assertEquals(2, overview.getAuthors().size());
+		for (AuthorDetailDTO author : overview.getAuthors()) {
+			assertNull(author.getBooks());
+			assertEquals(2, author.getPrizes().size());
+			assertNotNull(author.getPrizes().get(0).getOrganization().getName());
+		}
+
+		List<Long> related = overview.getRelatedBooks().stream().map(BookDTO::getId).collect(Collectors.toList());
+		assertEquals(List.of(otherBooks.get(2).getId(), otherBooks.get(1).getId(), otherBooks.get(0).getId()),
+				related);
+	}
+
+	/**
+	 * Prueba que la página de un libro se arma con el mismo número de sentencias
+	 * SQL sin importar cuántos autores y premios tenga.
+	 */
+	@Test
+	void testGetBookOverviewStatementCount() throws EntityNotFoundException, IllegalOperationException {
+		assertEquals(6, loadOverview().size());
+
+		book = entityManager.find(BookEntity.class, book.getId());
+		for (int i = 0; i < 5; i++)
+			addAuthor();
+		assertEquals(6, loadOverview().size());
+	}
+
+	/**
+	 * Prueba para consultar la página de un libro que no existe.
+	 */
+	@Test
+	void testGetInvalidBookOverview() {
+		assertThrows(EntityNotFoundException.class, () -> {
+			bookOverviewService.getBookOverview(0L, PageRequest.of(0, 2));
+		});
+	}
+
+	/**
+	 * Prueba para consultar la página de un libro ordenando las reseñas por un
+	 * campo no permitido.
+	 */
+	@Test
+	void testGetBookOverviewInvalidSort() {
+		assertThrows(IllegalOperationException.class, () -> {
+			bookOverviewService.getBookOverview(book.getId(), PageRequest.of(0, 2, Sort.by("description")));
+		});
+	}
+}
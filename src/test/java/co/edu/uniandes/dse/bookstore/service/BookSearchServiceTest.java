@@ -0,0 +1,182 @@
+/*
+MIT License
+
+Copyright (c) 2021 Universidad de los Andes - ISIS2603
+
+Permission is hereby granted, free of charge, to any person obtaining a copy
+of this software and associated documentation files (the "Software"), to deal
+in the Software without restriction, including without limitation the rights
+to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+copies of the Software, and to permit persons to whom the Software is
+furnished to do so, subject to the following conditions:
+
+The above copyright notice and this permission notice shall be included in all
+copies or substantial portions of the Software.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+SOFTWARE.
+*/
+package co.edu.uniandes.dse.bookstore.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+import javax.transaction.Transactional;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+
+import co.edu.uniandes.dse.bookstore.entities.AuthorEntity;
+import co.edu.uniandes.dse.bookstore.entities.BookEntity;
+import co.edu.uniandes.dse.bookstore.entities.EditorialEntity;
+import co.edu.uniandes.dse.bookstore.exceptions.IllegalOperationException;
+import co.edu.uniandes.dse.bookstore.search.BookSearchIndex;
+import co.edu.uniandes.dse.bookstore.services.BookSearchService;
+import uk.co.jemos.podam.api.PodamFactory;
+import uk.co.jemos.podam.api.PodamFactoryImpl;
+
+/**
+ * Pruebas de la búsqueda de Books
+ *
+ * @author ISIS2603
+ */
+@ExtendWith(SpringExtension.class)
+@DataJpaTest
+@Transactional
+@Import({ BookSearchService.class, BookSearchIndex.class })
+class BookSearchServiceTest {
+
+	@Autowired
+	private BookSearchService bookSearchService;
+
+	@Autowired
+	private TestEntityManager entityManager;
+
+	private PodamFactory factory = new PodamFactoryImpl();
+
+	private EditorialEntity editorialEntity;
+	private BookEntity dragons;
+	private BookEntity castle;
+	private BookEntity garden;
+
+	/**
+	 * Configuración inicial de la prueba.
+	 */
+	@BeforeEach
+	void setUp() {
+		editorialEntity = factory.manufacturePojo(EditorialEntity.class);
+		entityManager.persist(editorialEntity);
+
+		dragons = createBook("The Dragon Reborn", "A young shepherd learns he is the prophesied hero.");
+		castle = createBook("The Castle", "A land surveyor fights the bureaucracy of a castle full of dragons.");
+		garden = createBook("El jardín secreto", "Una niña descubre un jardín abandonado.");
+
+		AuthorEntity author = factory.manufacturePojo(AuthorEntity.class);
+		author.setName("Robert Jordan");
+		entityManager.persist(author);
+		dragons.getAuthors().add(author);
+		author.getBooks().add(dragons);
+
+		bookSearchService.rebuildIndex();
+	}
+
+	private BookEntity createBook(String name, String description) {
+		BookEntity book = factory.manufacturePojo(BookEntity.class);
+		book.setName(name);
+		book.setDescription(description);
+		book.setEditorial(editorialEntity);
+		entityManager.persist(book);
+		return book;
+	}
+
+	private List<Long> search(String query) throws IllegalOperationException {
+		return bookSearchService.searchBooks(query, PageRequest.of(0, 10)).getContent().stream()
+				.map(BookEntity::getId).collect(Collectors.toList());
+	}
+
+	/**
+	 * Prueba que un término en el nombre pese más que en la descripción.
+	 */
+	@Test
+	void testSearchRanksNameFirst() throws IllegalOperationException {
+		assertEquals(List.of(dragons.getId(), castle.getId()), search("dragon dragons"));
+		assertEquals(List.of(castle.getId()), search("castle"));
+	}
+
+	/**
+	 * Prueba que la búsqueda no distinga mayúsculas ni tildes.
+	 */
+	@Test
+	void testSearchIgnoresCaseAndAccents() throws IllegalOperationException {
+		assertEquals(List.of(garden.getId()), search("JARDIN"));
+	}
+
+	/**
+	 * Prueba para buscar por el nombre de un autor.
+	 */
+	@Test
+	void testSearchByAuthor() throws IllegalOperationException {
+		assertEquals(List.of(dragons.getId()), search("jordan"));
+	}
+
+	/**
+	 * Prueba para buscar por páginas.
+	 */
+	@Test
+	void testSearchPage() throws IllegalOperationException {
+		Page<BookEntity> page = bookSearchService.searchBooks("dragon dragons", PageRequest.of(1, 1));
+		assertEquals(2, page.getTotalElements());
+		assertEquals(1, page.getContent().size());
+		assertEquals(castle.getId(), page.getContent().get(0).getId());
+		assertNotNull(page.getContent().get(0).getEditorial());
+	}
+
+	/**
+	 * Prueba que el índice se actualice cuando cambia o se borra un libro.
+	 */
+	@Test
+	void testReindexBooks() throws IllegalOperationException {
+		BookEntity updated = entityManager.find(BookEntity.class, garden.getId());
+		updated.setName("Castle garden");
+		entityManager.remove(entityManager.find(BookEntity.class, castle.getId()));
+		entityManager.flush();
+		bookSearchService.reindexBooks(List.of(garden.getId(), castle.getId()));
+		assertEquals(List.of(garden.getId()), search("castle"));
+	}
+
+	/**
+	 * Prueba para buscar con una consulta sin palabras.
+	 */
+	@Test
+	void testSearchInvalidQuery() {
+		assertThrows(IllegalOperationException.class, () -> {
+			bookSearchService.searchBooks(" the - ", PageRequest.of(0, 10));
+		});
+	}
+
+	/**
+	 * Prueba para buscar ordenando por un campo.
+	 */
+	@Test
+	void testSearchWithSort() {
+		assertThrows(IllegalOperationException.class, () -> {
+			bookSearchService.searchBooks("castle", PageRequest.of(0, 10, Sort.by("name")));
+		});
+	}
+}
@@ -26,11 +26,21 @@ package co.edu.uniandes.dse.bookstore.service;
 
 import static org.junit.jupiter.api.Assertions.*;
 
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
 import java.util.ArrayList;
+import java.util.Date;
 import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
 
 import javax.transaction.Transactional;
 
+import org.hibernate.Hibernate;
+import org.hibernate.Session;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -38,13 +48,28 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
 import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
 import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+import org.springframework.test.context.event.ApplicationEvents;
+import org.springframework.test.context.event.RecordApplicationEvents;
 import org.springframework.test.context.junit.jupiter.SpringExtension;
 
+import co.edu.uniandes.dse.bookstore.dto.BookDTO;
+import co.edu.uniandes.dse.bookstore.dto.BookDetailDTO;
+import co.edu.uniandes.dse.bookstore.dto.BookFilter;
+import co.edu.uniandes.dse.bookstore.dto.Fields;
+import co.edu.uniandes.dse.bookstore.dto.Include;
 import co.edu.uniandes.dse.bookstore.entities.AuthorEntity;
 import co.edu.uniandes.dse.bookstore.entities.BookEntity;
+import co.edu.uniandes.dse.bookstore.events.BookChangedEvent;
 import co.edu.uniandes.dse.bookstore.entities.EditorialEntity;
+import co.edu.uniandes.dse.bookstore.entities.ReviewEntity;
 import co.edu.uniandes.dse.bookstore.exceptions.EntityNotFoundException;
 import co.edu.uniandes.dse.bookstore.exceptions.IllegalOperationException;
+import co.edu.uniandes.dse.bookstore.mappers.BookMapper;
 import co.edu.uniandes.dse.bookstore.services.BookService;
 import uk.co.jemos.podam.api.PodamFactory;
 import uk.co.jemos.podam.api.PodamFactoryImpl;
@@ -55,9 +80,11 @@ import uk.co.jemos.podam.api.PodamFactoryImpl;
  * @author ISIS2603
  */
 @ExtendWith(SpringExtension.class)
-@DataJpaTest
+@DataJpaTest(properties = { "spring.jpa.properties.hibernate.generate_statistics=true",
+		"spring.jpa.properties.hibernate.session_factory.statement_inspector=co.edu.uniandes.dse.bookstore.service.SqlRecorder" })
 @Transactional
 @Import(BookService.class)
+@RecordApplicationEvents
 class BookServiceTest {
 
 	@Autowired
@@ -66,6 +93,9 @@ class BookServiceTest {
 	@Autowired
 	private TestEntityManager entityManager;
 
+	@Autowired
+	private ApplicationEvents applicationEvents;
+
 	private PodamFactory factory = new PodamFactoryImpl();
 
 	private List<BookEntity> bookList = new ArrayList<>();
@@ -196,6 +226,77 @@ class BookServiceTest {
 		});
 	}
 
+	/**
+	 * Prueba para crear varios Books en una carga masiva.
+	 */
+	@Test
+	void testCreateBooks() throws IllegalOperationException {
+		BookEntity valid = factory.manufacturePojo(BookEntity.class);
+		valid.setEditorial(editorialEntity);
+
+		BookEntity stored = factory.manufacturePojo(BookEntity.class);
+		stored.setEditorial(editorialEntity);
+		stored.setIsbn(bookList.get(0).getIsbn());
+
+		BookEntity repeated = factory.manufacturePojo(BookEntity.class);
+		repeated.setEditorial(editorialEntity);
+		repeated.setIsbn(valid.getIsbn());
+
+		BookEntity invalidEditorial = factory.manufacturePojo(BookEntity.class);
+		EditorialEntity editorial = new EditorialEntity();
+		editorial.setId(0L);
+		invalidEditorial.setEditorial(editorial);
+
+		BookEntity invalidIsbn = factory.manufacturePojo(BookEntity.class);
+		invalidIsbn.setEditorial(editorialEntity);
+		invalidIsbn.setIsbn("");
+
+		List<String> errors = bookService
+				.createBooks(List.of(valid, stored, repeated, invalidEditorial, invalidIsbn));
+		assertNull(errors.get(0));
+		assertEquals("ISBN already exists", errors.get(1));
+		assertEquals("ISBN is repeated in the batch", errors.get(2));
+		assertEquals("Editorial is not valid", errors.get(3));
+		assertEquals("ISBN is not valid", errors.get(4));
+
+		BookEntity entity = entityManager.find(BookEntity.class, valid.getId());
+		assertEquals(valid.getName(), entity.getName());
+		assertEquals(valid.getIsbn(), entity.getIsbn());
+		assertEquals(editorialEntity.getId(), entity.getEditorial().getId());
+	}
+
+	/**
+	 * Prueba que una carga masiva envía los INSERT en lotes.
+	 */
+	@Test
+	void testCreateBooksStatementCount() throws IllegalOperationException {
+		List<BookEntity> books = new ArrayList<>();
+		for (int i = 0; i < 120; i++) {
+			BookEntity book = factory.manufacturePojo(BookEntity.class);
+			book.setEditorial(editorialEntity);
+			books.add(book);
+		}
+		entityManager.flush();
+		Statistics statistics = entityManager.getEntityManager().getEntityManagerFactory()
+				.unwrap(SessionFactory.class).getStatistics();
+		statistics.clear();
+
+		List<String> errors = bookService.createBooks(books);
+		assertTrue(errors.stream().allMatch(error -> error == null));
+		assertEquals(books.size(), statistics.getEntityInsertCount());
+		assertTrue(statistics.getPrepareStatementCount() < 12);
+	}
+
+	/**
+	 * Prueba para crear una carga masiva vacía.
+	 */
+	@Test
+	void testCreateBooksEmpty() {
+		assertThrows(IllegalOperationException.class, () -> {
+			bookService.createBooks(List.of());
+		});
+	}
+
 	/**
 	 * Prueba para consultar la lista de Books.
 	 */
@@ -214,6 +315,332 @@ class BookServiceTest {
 		}
 	}
 
+	/**
+	 * Prueba que la consulta de la lista de Books carga la editorial, los autores
+	 * y las reseñas con un número fijo de sentencias SQL.
+	 */
+	@Test
+	void testGetBooksStatementCount() {
+		for (BookEntity book : bookList) {
+			ReviewEntity review = factory.manufacturePojo(ReviewEntity.class);
+			review.setBook(book);
+			entityManager.persist(review);
+		}
+		entityManager.flush();
+		entityManager.clear();
+
+		Statistics statistics = entityManager.getEntityManager().getEntityManagerFactory()
+				.unwrap(SessionFactory.class).getStatistics();
+		statistics.clear();
+
+		List<BookEntity> list = bookService.getBooks();
+		for (BookEntity book : list) {
+			assertNotNull(book.getEditorial().getName());
+			assertEquals(1, book.getReviews().size());
+			book.getAuthors().forEach(author -> assertNotNull(author.getName()));
+		}
+		assertEquals(bookList.size(), list.size());
+		assertEquals(3, statistics.getPrepareStatementCount());
+	}
+
+	/**
+	 * Prueba que la consulta de un Book carga la editorial, los autores y las
+	 * reseñas con un número fijo de sentencias SQL.
+	 */
+	@Test
+	void testGetBookStatementCount() throws EntityNotFoundException {
+		entityManager.flush();
+		entityManager.clear();
+
+		Statistics statistics = entityManager.getEntityManager().getEntityManagerFactory()
+				.unwrap(SessionFactory.class).getStatistics();
+		statistics.clear();
+
+		BookEntity book = bookService.getBook(bookList.get(0).getId());
+		assertNotNull(book.getEditorial().getName());
+		assertEquals(1, book.getAuthors().size());
+		assertTrue(book.getReviews().isEmpty());
+		assertEquals(3, statistics.getPrepareStatementCount());
+	}
+
+	/**
+	 * Prueba para consultar varios Books por id en el orden pedido. Los ids
+	 * repetidos se devuelven una vez y los que no existen se omiten; todos los
+	 * libros se cargan con un número fijo de sentencias SQL.
+	 */
+	@Test
+	void testGetBooksById() throws IllegalOperationException {
+		entityManager.flush();
+		entityManager.clear();
+
+		Statistics statistics = entityManager.getEntityManager().getEntityManagerFactory()
+				.unwrap(SessionFactory.class).getStatistics();
+		statistics.clear();
+
+		Long first = bookList.get(0).getId();
+		Long last = bookList.get(2).getId();
+		List<BookEntity> list = bookService.getBooksById(List.of(last, 0L, first, last));
+		assertEquals(List.of(last, first), list.stream().map(BookEntity::getId).collect(Collectors.toList()));
+		assertNotNull(list.get(1).getEditorial().getName());
+		assertEquals(1, list.get(1).getAuthors().size());
+		assertEquals(3, statistics.getPrepareStatementCount());
+	}
+
+	/**
+	 * Prueba para consultar Books con una lista de ids vacía o demasiado larga.
+	 */
+	@Test
+	void testGetBooksByIdInvalid() {
+		assertThrows(IllegalOperationException.class, () -> bookService.getBooksById(List.of()));
+		List<Long> ids = LongStream.rangeClosed(1, 101).boxed().collect(Collectors.toList());
+		assertThrows(IllegalOperationException.class, () -> bookService.getBooksById(ids));
+	}
+
+	/**
+	 * Prueba para exportar todos los Books en orden de id.
+	 */
+	@Test
+	void testExportBooks() {
+		List<BookDetailDTO> exported = new ArrayList<>();
+		bookService.exportBooks(exported::add);
+		assertEquals(bookList.size(), exported.size());
+		for (int i = 0; i < bookList.size(); i++) {
+			assertEquals(bookList.get(i).getId(), exported.get(i).getId());
+			assertEquals(bookList.get(i).getName(), exported.get(i).getName());
+			assertEquals(editorialEntity.getId(), exported.get(i).getEditorial().getId());
+		}
+		assertEquals(1, exported.get(0).getAuthors().size());
+	}
+
+	/**
+	 * Prueba para consultar la lista de Books por páginas.
+	 */
+	@Test
+	void testGetBooksPage() throws IllegalOperationException {
+		Slice<BookEntity> first = bookService.getBooks(null, 2);
+		assertEquals(2, first.getNumberOfElements());
+		assertTrue(first.hasNext());
+		assertEquals(bookList.get(0).getId(), first.getContent().get(0).getId());
+		assertEquals(bookList.get(1).getId(), first.getContent().get(1).getId());
+
+		Slice<BookEntity> second = bookService.getBooks(first.getContent().get(1).getId(), 2);
+		assertEquals(1, second.getNumberOfElements());
+		assertFalse(second.hasNext());
+		assertEquals(bookList.get(2).getId(), second.getContent().get(0).getId());
+	}
+
+	/**
+	 * Prueba para consultar una página de Books con un tamaño inválido.
+	 */
+	@Test
+	void testGetBooksPageInvalidSize() {
+		assertThrows(IllegalOperationException.class, () -> {
+			bookService.getBooks(null, 0);
+		});
+	}
+
+	/**
+	 * Prueba para consultar los Books de una editorial y un autor.
+	 */
+	@Test
+	void testGetBooksByEditorialAndAuthor() throws IllegalOperationException {
+		BookFilter filter = new BookFilter();
+		filter.setEditorialId(editorialEntity.getId());
+		assertEquals(3, bookService.getBooks(filter, Sort.unsorted()).size());
+
+		filter.setAuthorId(bookList.get(0).getAuthors().get(0).getId());
+		List<BookEntity> books = bookService.getBooks(filter, Sort.unsorted());
+		assertEquals(1, books.size());
+		assertEquals(bookList.get(0).getId(), books.get(0).getId());
+		assertEquals(editorialEntity.getName(), books.get(0).getEditorial().getName());
+	}
+
+	/**
+	 * Prueba para consultar solo algunos campos de los Books. La consulta no crea
+	 * entidades y se hace con una sola sentencia SQL.
+	 */
+	@Test
+	void testGetBookFields() throws IllegalOperationException {
+		entityManager.flush();
+		entityManager.clear();
+		Statistics statistics = entityManager.getEntityManager().getEntityManagerFactory()
+				.unwrap(SessionFactory.class).getStatistics();
+		statistics.clear();
+
+		Fields fields = Fields.parse(List.of("isbn", "name", "isbn"), BookDTO.FIELDS);
+		List<Map<String, Object>> rows = bookService.getBookFields(new BookFilter(), Sort.by("id"), fields);
+		assertEquals(bookList.size(), rows.size());
+		for (int i = 0; i < rows.size(); i++) {
+			assertEquals(List.of("id", "isbn", "name"), new ArrayList<>(rows.get(i).keySet()));
+			assertEquals(bookList.get(i).getId(), rows.get(i).get("id"));
+			assertEquals(bookList.get(i).getName(), rows.get(i).get("name"));
+			assertEquals(bookList.get(i).getIsbn(), rows.get(i).get("isbn"));
+		}
+		assertEquals(0, statistics.getEntityLoadCount());
+		assertEquals(1, statistics.getPrepareStatementCount());
+
+		BookFilter filter = new BookFilter();
+		filter.setAuthorId(bookList.get(0).getAuthors().get(0).getId());
+		rows = bookService.getBookFields(filter, Sort.unsorted(), fields);
+		assertEquals(1, rows.size());
+		assertEquals(bookList.get(0).getId(), rows.get(0).get("id"));
+	}
+
+	/**
+	 * Prueba para consultar una página con solo algunos campos de los Books.
+	 */
+	@Test
+	void testGetBookFieldsPage() throws IllegalOperationException {
+		Fields fields = Fields.parse(List.of("name"), BookDTO.FIELDS);
+		Page<Map<String, Object>> page = bookService.getBookFields(new BookFilter(),
+				PageRequest.of(1, 2, Sort.by("id")), fields);
+		assertEquals(bookList.size(), page.getTotalElements());
+		assertEquals(1, page.getNumberOfElements());
+		assertEquals(bookList.get(2).getName(), page.getContent().get(0).get("name"));
+	}
+
+	/**
+	 * Prueba para consultar campos de los Books que no se pueden pedir.
+	 */
+	@Test
+	void testGetBookFieldsInvalid() {
+		assertThrows(IllegalOperationException.class, () -> {
+			Fields.parse(List.of("editorial"), BookDTO.FIELDS);
+		});
+		assertThrows(IllegalOperationException.class, () -> {
+			Fields fields = Fields.parse(List.of("name"), BookDTO.FIELDS);
+			bookService.getBookFields(new BookFilter(), Sort.by("description"), fields);
+		});
+	}
+
+	/**
+	 * Prueba para consultar los Books publicados en un rango de fechas, ordenados
+	 * por fecha de publicación.
+	 */
+	@Test
+	void testGetBooksByPublishingDate() throws IllegalOperationException {
+		for (int i = 0; i < bookList.size(); i++)
+			bookList.get(i).setPublishingDate(new Date(1_000_000_000_000L + i * 86_400_000L));
+		entityManager.flush();
+
+		BookFilter filter = new BookFilter();
+		filter.setPublishedFrom(bookList.get(1).getPublishingDate());
+		List<BookEntity> books = bookService.getBooks(filter, Sort.by(Sort.Direction.DESC, "publishingDate"));
+		assertEquals(List.of(bookList.get(2).getId(), bookList.get(1).getId()),
+				books.stream().map(BookEntity::getId).collect(Collectors.toList()));
+
+		filter.setPublishedTo(bookList.get(1).getPublishingDate());
+		assertEquals(1, bookService.getBooks(filter, Sort.unsorted()).size());
+	}
+
+	/**
+	 * Prueba para consultar los Books por el inicio de su nombre o por ISBN.
+	 */
+	@Test
+	void testGetBooksByNamePrefixAndIsbn() throws IllegalOperationException {
+		bookList.get(0).setName("100% Cotton");
+		bookList.get(1).setName("100 years");
+		entityManager.flush();
+
+		BookFilter filter = new BookFilter();
+		filter.setNamePrefix("100%");
+		List<BookEntity> books = bookService.getBooks(filter, Sort.unsorted());
+		assertEquals(1, books.size());
+		assertEquals(bookList.get(0).getId(), books.get(0).getId());
+
+		filter = new BookFilter();
+		filter.setIsbn(bookList.get(2).getIsbn());
+		assertEquals(bookList.get(2).getId(), bookService.getBooks(filter, Sort.unsorted()).get(0).getId());
+	}
+
+	/**
+	 * Prueba para consultar una página de los Books que cumplen un filtro.
+	 */
+	@Test
+	void testGetBooksPageByFilter() throws IllegalOperationException {
+		BookFilter filter = new BookFilter();
+		filter.setEditorialId(editorialEntity.getId());
+		Page<BookEntity> page = bookService.getBooks(filter, PageRequest.of(0, 2, Sort.by("id")));
+		assertEquals(3, page.getTotalElements());
+		assertEquals(List.of(bookList.get(0).getId(), bookList.get(1).getId()),
+				page.getContent().stream().map(BookEntity::getId).collect(Collectors.toList()));
+	}
+
+	/**
+	 * Prueba para consultar los Books con un rango de fechas inválido.
+	 */
+	@Test
+	void testGetBooksInvalidDateRange() {
+		BookFilter filter = new BookFilter();
+		filter.setPublishedFrom(new Date(1_000_000_000_000L));
+		filter.setPublishedTo(new Date(900_000_000_000L));
+		assertThrows(IllegalOperationException.class, () -> {
+			bookService.getBooks(filter, Sort.unsorted());
+		});
+	}
+
+	/**
+	 * Prueba para consultar los Books ordenados por un campo no autorizado.
+	 */
+	@Test
+	void testGetBooksInvalidSort() {
+		assertThrows(IllegalOperationException.class, () -> {
+			bookService.getBooks(new BookFilter(), Sort.by("description"));
+		});
+	}
+
+	/**
+	 * Prueba que las consultas con filtros usen los índices de BOOK_ENTITY y
+	 * BOOK_ENTITY_AUTHORS. Se revisa con EXPLAIN el plan de la sentencia que
+	 * genera Hibernate.
+	 */
+	@Test
+	void testGetBooksByFilterUsesIndexes() throws IllegalOperationException {
+		Date date = new Date(1_000_000_000_000L);
+
+		BookFilter filter = new BookFilter();
+		filter.setEditorialId(editorialEntity.getId());
+		filter.setPublishedFrom(date);
+		assertTrue(explainFilter(filter, editorialEntity.getId(), date).contains("IX_BOOK_ENTITY_EDITORIAL_DATE"));
+
+		filter = new BookFilter();
+		filter.setAuthorId(bookList.get(0).getAuthors().get(0).getId());
+		assertTrue(explainFilter(filter, filter.getAuthorId()).contains("IX_BOOK_ENTITY_AUTHORS_AUTHOR"));
+
+		filter = new BookFilter();
+		filter.setPublishedFrom(date);
+		assertTrue(explainFilter(filter, date).contains("IX_BOOK_ENTITY_DATE"));
+
+		filter = new BookFilter();
+		filter.setNamePrefix("Harry");
+		assertTrue(explainFilter(filter, "Harry", "Harry" + Character.MAX_VALUE).contains("IX_BOOK_ENTITY_NAME"));
+
+		filter = new BookFilter();
+		filter.setIsbn("9786073193894");
+		assertTrue(explainFilter(filter, filter.getIsbn()).contains("UK_BOOK_ENTITY_ISBN"));
+	}
+
+	/**
+	 * Ejecuta la consulta del filtro y devuelve el plan de H2 para la sentencia
+	 * que generó Hibernate, con los parámetros dados en orden.
+	 */
+	private String explainFilter(BookFilter filter, Object... parameters) throws IllegalOperationException {
+		entityManager.flush();
+		SqlRecorder.clear();
+		bookService.getBooks(filter, Sort.unsorted());
+		String sql = SqlRecorder.statements().get(0);
+		return entityManager.getEntityManager().unwrap(Session.class).doReturningWork(connection -> {
+			try (PreparedStatement statement = connection.prepareStatement("EXPLAIN " + sql)) {
+				for (int i = 0; i < parameters.length; i++)
+					statement.setObject(i + 1, parameters[i]);
+				try (ResultSet result = statement.executeQuery()) {
+					result.next();
+					return result.getString(1).toUpperCase();
+				}
+			}
+		});
+	}
+
 	/**
 	 * Prueba para consultar un Book.
 	 */
@@ -229,6 +656,71 @@ class BookServiceTest {
 		assertEquals(entity.getImage(), resultEntity.getImage());
 	}
 	
+	/**
+	 * Prueba para consultar un Book cargando solo las asociaciones pedidas.
+	 */
+	@Test
+	void testGetBookInclude() throws EntityNotFoundException, IllegalOperationException {
+		BookEntity entity = bookList.get(0);
+		entityManager.flush();
+		entityManager.clear();
+		Include include = Include.parse(List.of("authors"), BookDetailDTO.ASSOCIATIONS);
+		BookEntity resultEntity = bookService.getBook(entity.getId(), include);
+		assertTrue(Hibernate.isInitialized(resultEntity.getAuthors()));
+		assertFalse(Hibernate.isInitialized(resultEntity.getReviews()));
+
+		BookDetailDTO detail = BookMapper.toDetailDTO(resultEntity, include);
+		assertNotNull(detail.getAuthors());
+		assertNull(detail.getReviews());
+		assertNull(detail.getEditorial());
+	}
+
+	/**
+	 * Prueba para consultar Books con una asociación que no existe.
+	 */
+	@Test
+	void testGetBooksInvalidInclude() {
+		assertThrows(IllegalOperationException.class, () -> {
+			Include.parse(List.of("authors", "prizes"), BookDetailDTO.ASSOCIATIONS);
+		});
+	}
+
+	/**
+	 * Prueba para consultar el detalle de un Book.
+	 */
+	@Test
+	void testGetBookDetail() throws EntityNotFoundException {
+		BookEntity entity = bookList.get(0);
+		BookDetailDTO detail = bookService.getBookDetail(entity.getId(), "0");
+		assertEquals(entity.getId(), detail.getId());
+		assertEquals(entity.getName(), detail.getName());
+		assertEquals(editorialEntity.getId(), detail.getEditorial().getId());
+		assertEquals(1, detail.getAuthors().size());
+		assertEquals(entity.getAuthors().get(0).getId(), detail.getAuthors().get(0).getId());
+	}
+
+	/**
+	 * Prueba para consultar un Book por su ISBN.
+	 */
+	@Test
+	void testGetBookByIsbn() throws EntityNotFoundException {
+		BookEntity entity = bookList.get(1);
+		BookEntity resultEntity = bookService.getBookByIsbn(entity.getIsbn());
+		assertEquals(entity.getId(), resultEntity.getId());
+		assertEquals(entity.getName(), resultEntity.getName());
+		assertEquals(editorialEntity.getId(), resultEntity.getEditorial().getId());
+	}
+
+	/**
+	 * Prueba para consultar un Book con un ISBN que no existe.
+	 */
+	@Test
+	void testGetBookByInvalidIsbn() {
+		assertThrows(EntityNotFoundException.class, () -> {
+			bookService.getBookByIsbn("");
+		});
+	}
+
 	/**
 	 * Prueba para consultar un Book que no existe.
 	 */
@@ -259,6 +751,36 @@ class BookServiceTest {
 		assertEquals(pojoEntity.getPublishingDate(), resp.getPublishingDate());
 	}
 	
+	/**
+	 * Prueba para actualizar un Book con una versión vieja.
+	 */
+	@Test
+	void testUpdateBookStaleVersion() throws EntityNotFoundException, IllegalOperationException {
+		BookEntity entity = bookList.get(0);
+		Long version = entity.getVersion();
+		BookEntity pojoEntity = factory.manufacturePojo(BookEntity.class);
+		BookEntity result = bookService.updateBook(entity.getId(), pojoEntity);
+		assertEquals(version + 1, result.getVersion());
+
+		BookEntity staleEntity = factory.manufacturePojo(BookEntity.class);
+		staleEntity.setVersion(version);
+		assertThrows(ObjectOptimisticLockingFailureException.class, () -> {
+			bookService.updateBook(entity.getId(), staleEntity);
+		});
+	}
+
+	/**
+	 * Prueba que actualizar un Book publique el evento de cambio.
+	 */
+	@Test
+	void testUpdateBookPublishesEvent() throws EntityNotFoundException, IllegalOperationException {
+		BookEntity entity = bookList.get(0);
+		BookEntity pojoEntity = factory.manufacturePojo(BookEntity.class);
+		bookService.updateBook(entity.getId(), pojoEntity);
+		assertTrue(applicationEvents.stream(BookChangedEvent.class)
+				.anyMatch(event -> event.getBookIds().contains(entity.getId())));
+	}
+
 	/**
 	 * Prueba para actualizar un Book inválido.
 	 */
@@ -299,6 +821,32 @@ class BookServiceTest {
 		});
 	}
 
+	/**
+	 * Prueba para actualizar un Book con el ISBN de otro Book.
+	 */
+	@Test
+	void testUpdateBookWithStoredISBN() {
+		assertThrows(IllegalOperationException.class, () -> {
+			BookEntity entity = bookList.get(0);
+			BookEntity pojoEntity = factory.manufacturePojo(BookEntity.class);
+			pojoEntity.setIsbn(bookList.get(1).getIsbn());
+			bookService.updateBook(entity.getId(), pojoEntity);
+		});
+	}
+
+	/**
+	 * Prueba para actualizar un Book conservando su ISBN.
+	 */
+	@Test
+	void testUpdateBookWithSameISBN() throws EntityNotFoundException, IllegalOperationException {
+		BookEntity entity = bookList.get(0);
+		BookEntity pojoEntity = factory.manufacturePojo(BookEntity.class);
+		pojoEntity.setIsbn(entity.getIsbn());
+		pojoEntity.setEditorial(editorialEntity);
+		bookService.updateBook(entity.getId(), pojoEntity);
+		assertEquals(pojoEntity.getName(), entityManager.find(BookEntity.class, entity.getId()).getName());
+	}
+
 	/**
 	 * Prueba para eliminar un Book.
 	 */
@@ -27,6 +27,7 @@ import static org.junit.jupiter.api.Assertions.*;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.stream.Collectors;
 
 import javax.transaction.Transactional;
 
@@ -37,6 +38,7 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
 import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
 import org.springframework.context.annotation.Import;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
 import org.springframework.test.context.junit.jupiter.SpringExtension;
 
 import co.edu.uniandes.dse.bookstore.entities.BookEntity;
@@ -54,7 +56,7 @@ import uk.co.jemos.podam.api.PodamFactoryImpl;
  * @author ISIS2603
  */
 @ExtendWith(SpringExtension.class)
-@DataJpaTest
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.session_factory.statement_inspector=co.edu.uniandes.dse.bookstore.service.SqlRecorder")
 @Transactional
 @Import({ EditorialService.class, EditorialBookService.class })
 class EditorialBookServiceTest {
@@ -252,10 +254,99 @@ class EditorialBookServiceTest {
 
 		for (BookEntity book : list) {
 			BookEntity b = entityManager.find(BookEntity.class, book.getId());
-			assertTrue(b.getEditorial().equals(entity));
+			assertEquals(entity.getId(), b.getEditorial().getId());
 		}
 	}
 	
+	/**
+	 * Prueba que mover muchos libros a una editorial usa un UPDATE masivo por
+	 * cada bloque de 1000 ids, más uno para la versión de la editorial, y deja
+	 * el contexto de persistencia sin datos viejos.
+	 */
+	@Test
+	void testReplaceBooksBulkUpdate() throws EntityNotFoundException {
+		EditorialEntity source = editorialsList.get(1);
+		EditorialEntity target = editorialsList.get(2);
+		List<BookEntity> books = createBooks(source, 1500);
+		assertEquals(1500, source.getBooks().size());
+		entityManager.flush();
+
+		SqlRecorder.clear();
+		editorialBookService.replaceBooks(target.getId(), books);
+		List<String> updates = SqlRecorder.statements().stream().filter(sql -> sql.startsWith("update"))
+				.collect(Collectors.toList());
+		assertEquals(3, updates.size());
+		assertTrue(updates.get(2).startsWith("update editorial_entity set version"));
+
+		assertTrue(entityManager.find(EditorialEntity.class, source.getId()).getBooks().isEmpty());
+		assertEquals(1500, entityManager.find(EditorialEntity.class, target.getId()).getBooks().size());
+	}
+
+	/**
+	 * Prueba que si un libro de la lista no existe no se mueve ningún libro,
+	 * aunque esté en otro bloque de ids.
+	 */
+	@Test
+	void testReplaceBooksBulkUpdateWithInvalidBook() {
+		EditorialEntity source = editorialsList.get(1);
+		List<BookEntity> books = new ArrayList<>(createBooks(source, 1200));
+		BookEntity missing = new BookEntity();
+		missing.setId(0L);
+		books.add(missing);
+		entityManager.flush();
+
+		assertThrows(EntityNotFoundException.class,
+				() -> editorialBookService.replaceBooks(editorialsList.get(2).getId(), books));
+		entityManager.clear();
+		assertEquals(1200, entityManager.find(EditorialEntity.class, source.getId()).getBooks().size());
+	}
+
+	/**
+	 * Prueba para remplazar los libros de una editorial con la versión que el
+	 * cliente leyó. La versión de la editorial se incrementa.
+	 */
+	@Test
+	void testReplaceBooksWithVersion() throws EntityNotFoundException {
+		EditorialEntity target = editorialsList.get(2);
+		List<BookEntity> books = createBooks(editorialsList.get(1), 2);
+		entityManager.flush();
+		Long version = target.getVersion();
+
+		editorialBookService.replaceBooks(target.getId(), books, version);
+		EditorialEntity stored = entityManager.find(EditorialEntity.class, target.getId());
+		assertEquals(version + 1, stored.getVersion());
+		assertEquals(2, stored.getBooks().size());
+	}
+
+	/**
+	 * Prueba para remplazar los libros de una editorial con una versión vieja.
+	 * No se mueve ningún libro.
+	 */
+	@Test
+	void testReplaceBooksWithStaleVersion() {
+		EditorialEntity source = editorialsList.get(1);
+		EditorialEntity target = editorialsList.get(2);
+		List<BookEntity> books = createBooks(source, 2);
+		entityManager.flush();
+
+		assertThrows(ObjectOptimisticLockingFailureException.class,
+				() -> editorialBookService.replaceBooks(target.getId(), books, target.getVersion() + 1));
+		entityManager.clear();
+		assertEquals(2, entityManager.find(EditorialEntity.class, source.getId()).getBooks().size());
+	}
+
+	private List<BookEntity> createBooks(EditorialEntity editorial, int count) {
+		List<BookEntity> books = new ArrayList<>();
+		for (int i = 0; i < count; i++) {
+			BookEntity book = factory.manufacturePojo(BookEntity.class);
+			book.setEditorial(editorial);
+			entityManager.persist(book);
+			editorial.getBooks().add(book);
+			books.add(book);
+		}
+		return books;
+	}
+
 	/**
 	 * Prueba para remplazar las instancias de Books que no existen asociadas a una instancia de
 	 * Editorial.
@@ -38,6 +38,9 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
 import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
 import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
 import org.springframework.test.context.junit.jupiter.SpringExtension;
 
 import co.edu.uniandes.dse.bookstore.entities.BookEntity;
@@ -147,6 +150,28 @@ class EditorialServiceTest {
 		}
 	}
 
+	/**
+	 * Prueba para consultar una página de Editorials.
+	 */
+	@Test
+	void testGetEditorialsPage() throws IllegalOperationException {
+		Page<EditorialEntity> page = editorialService.getEditorials(PageRequest.of(0, 2, Sort.by("id")));
+		assertEquals(2, page.getNumberOfElements());
+		assertEquals(editorialList.size(), page.getTotalElements());
+		assertEquals(editorialList.get(0).getId(), page.getContent().get(0).getId());
+		assertEquals(editorialList.get(1).getId(), page.getContent().get(1).getId());
+	}
+
+	/**
+	 * Prueba para consultar una página de Editorials ordenada por un campo no permitido.
+	 */
+	@Test
+	void testGetEditorialsPageInvalidSort() {
+		assertThrows(IllegalOperationException.class, () -> {
+			editorialService.getEditorials(PageRequest.of(0, 2, Sort.by("description")));
+		});
+	}
+
 	/**
 	 * Prueba para consultar un Editorial.
 	 * 
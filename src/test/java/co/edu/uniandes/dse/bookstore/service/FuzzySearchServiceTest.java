@@ -0,0 +1,185 @@
+/*
+MIT License
+
+Copyright (c) 2021 Universidad de los Andes - ISIS2603
+
+Permission is hereby granted, free of charge, to any person obtaining a copy
+of this software and associated documentation files (the "Software"), to deal
+in the Software without restriction, including without limitation the rights
+to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+copies of the Software, and to permit persons to whom the Software is
+furnished to do so, subject to the following conditions:
+
+The above copyright notice and this permission notice shall be included in all
+copies or substantial portions of the Software.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+SOFTWARE.
+*/
+package co.edu.uniandes.dse.bookstore.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.List;
+import java.util.Set;
+
+import javax.transaction.Transactional;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+
+import co.edu.uniandes.dse.bookstore.entities.AuthorEntity;
+import co.edu.uniandes.dse.bookstore.entities.BookEntity;
+import co.edu.uniandes.dse.bookstore.entities.EditorialEntity;
+import co.edu.uniandes.dse.bookstore.exceptions.IllegalOperationException;
+import co.edu.uniandes.dse.bookstore.search.FuzzyNameIndex;
+import co.edu.uniandes.dse.bookstore.search.FuzzyNameIndex.Match;
+import co.edu.uniandes.dse.bookstore.search.FuzzyNameIndex.Type;
+import co.edu.uniandes.dse.bookstore.services.FuzzySearchService;
+import uk.co.jemos.podam.api.PodamFactory;
+import uk.co.jemos.podam.api.PodamFactoryImpl;
+
+/**
+ * Pruebas de la búsqueda aproximada de libros y autores
+ *
+ * @author ISIS2603
+ */
+@ExtendWith(SpringExtension.class)
+@DataJpaTest
+@Transactional
+@Import({ FuzzySearchService.class, FuzzyNameIndex.class })
+class FuzzySearchServiceTest {
+
+	@Autowired
+	private FuzzySearchService fuzzySearchService;
+
+	@Autowired
+	private TestEntityManager entityManager;
+
+	private PodamFactory factory = new PodamFactoryImpl();
+
+	private BookEntity harryPotter;
+	private BookEntity shining;
+	private AuthorEntity king;
+
+	/**
+	 * Configuración inicial de la prueba.
+	 */
+	@BeforeEach
+	void setUp() {
+		EditorialEntity editorial = factory.manufacturePojo(EditorialEntity.class);
+		entityManager.persist(editorial);
+		harryPotter = createBook("Harry Potter and the Philosophers stone", editorial);
+		shining = createBook("The Shinning", editorial);
+		createBook("A clockwork orange", editorial);
+
+		king = factory.manufacturePojo(AuthorEntity.class);
+		king.setName("Stephen King");
+		entityManager.persist(king);
+
+		fuzzySearchService.rebuildIndex();
+	}
+
+	private BookEntity createBook(String name, EditorialEntity editorial) {
+		BookEntity book = factory.manufacturePojo(BookEntity.class);
+		book.setName(name);
+		book.setEditorial(editorial);
+		entityManager.persist(book);
+		return book;
+	}
+
+	/**
+	 * Prueba para encontrar un libro con el nombre mal escrito.
+	 */
+	@Test
+	void testSearchMisspelledBook() throws IllegalOperationException {
+		List<Match> matches = fuzzySearchService.search("Harry Poter", 10);
+		assertEquals(1, matches.size());
+		assertEquals(Type.BOOK, matches.get(0).getType());
+		assertEquals(harryPotter.getId(), matches.get(0).getId());
+		assertTrue(matches.get(0).getSimilarity() > FuzzyNameIndex.MIN_SIMILARITY);
+
+		matches = fuzzySearchService.search("shining", 10);
+		assertEquals(shining.getId(), matches.get(0).getId());
+	}
+
+	/**
+	 * Prueba para encontrar un autor con el nombre mal escrito.
+	 */
+	@Test
+	void testSearchMisspelledAuthor() throws IllegalOperationException {
+		List<Match> matches = fuzzySearchService.search("stefen kíng", 10);
+		assertEquals(Type.AUTHOR, matches.get(0).getType());
+		assertEquals(king.getId(), matches.get(0).getId());
+		assertEquals("Stephen King", matches.get(0).getName());
+	}
+
+	/**
+	 * Prueba que un nombre exacto quede antes que uno que lo contiene.
+	 */
+	@Test
+	void testSearchRanksCloserNameFirst() throws IllegalOperationException {
+		BookEntity exact = createBook("The Shining", shining.getEditorial());
+		fuzzySearchService.reindexBooks(Set.of(exact.getId()));
+		List<Match> matches = fuzzySearchService.search("the shining", 1);
+		assertEquals(1, matches.size());
+		assertEquals(exact.getId(), matches.get(0).getId());
+		assertEquals(1.0, matches.get(0).getSimilarity());
+	}
+
+	/**
+	 * Prueba que no se devuelvan nombres poco parecidos.
+	 */
+	@Test
+	void testSearchWithoutMatches() throws IllegalOperationException {
+		assertTrue(fuzzySearchService.search("Dune", 10).isEmpty());
+	}
+
+	/**
+	 * Prueba que el índice se actualice cuando cambia o se borra un autor.
+	 */
+	@Test
+	void testReindexAuthors() throws IllegalOperationException {
+		AuthorEntity renamed = entityManager.find(AuthorEntity.class, king.getId());
+		renamed.setName("Stephen Edwin King");
+		entityManager.flush();
+		fuzzySearchService.reindexAuthors(Set.of(king.getId()));
+		assertEquals("Stephen Edwin King", fuzzySearchService.search("stephen king", 10).get(0).getName());
+
+		entityManager.remove(renamed);
+		entityManager.flush();
+		fuzzySearchService.reindexAuthors(Set.of(king.getId()));
+		assertTrue(fuzzySearchService.search("stephen king", 10).isEmpty());
+	}
+
+	/**
+	 * Prueba para buscar con una consulta sin letras.
+	 */
+	@Test
+	void testSearchInvalidQuery() {
+		assertThrows(IllegalOperationException.class, () -> {
+			fuzzySearchService.search(" - ", 10);
+		});
+	}
+
+	/**
+	 * Prueba para buscar con un límite inválido.
+	 */
+	@Test
+	void testSearchInvalidLimit() {
+		assertThrows(IllegalOperationException.class, () -> {
+			fuzzySearchService.search("king", 0);
+		});
+	}
+}
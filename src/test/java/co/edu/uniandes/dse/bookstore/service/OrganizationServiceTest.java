@@ -38,6 +38,9 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
 import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
 import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
 import org.springframework.test.context.junit.jupiter.SpringExtension;
 
 import co.edu.uniandes.dse.bookstore.entities.OrganizationEntity;
@@ -147,6 +150,28 @@ class OrganizationServiceTest {
 		}
 	}
 
+	/**
+	 * Prueba para consultar una página de Organizations.
+	 */
+	@Test
+	void testGetOrganizationsPage() throws IllegalOperationException {
+		Page<OrganizationEntity> page = organizationService.getOrganizations(PageRequest.of(0, 2, Sort.by("id")));
+		assertEquals(2, page.getNumberOfElements());
+		assertEquals(organizationList.size(), page.getTotalElements());
+		assertEquals(organizationList.get(0).getId(), page.getContent().get(0).getId());
+		assertEquals(organizationList.get(1).getId(), page.getContent().get(1).getId());
+	}
+
+	/**
+	 * Prueba para consultar una página de Organizations ordenada por un campo no permitido.
+	 */
+	@Test
+	void testGetOrganizationsPageInvalidSort() {
+		assertThrows(IllegalOperationException.class, () -> {
+			organizationService.getOrganizations(PageRequest.of(0, 2, Sort.by("description")));
+		});
+	}
+
 	/**
 	 * Prueba para consultar una Organization.
 	 */
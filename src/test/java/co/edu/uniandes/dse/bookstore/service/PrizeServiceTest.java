@@ -27,6 +27,7 @@ import static org.junit.jupiter.api.Assertions.*;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 
 import javax.transaction.Transactional;
 
@@ -37,8 +38,13 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
 import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
 import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
 import org.springframework.test.context.junit.jupiter.SpringExtension;
 
+import co.edu.uniandes.dse.bookstore.dto.Fields;
+import co.edu.uniandes.dse.bookstore.dto.PrizeDTO;
 import co.edu.uniandes.dse.bookstore.entities.AuthorEntity;
 import co.edu.uniandes.dse.bookstore.entities.OrganizationEntity;
 import co.edu.uniandes.dse.bookstore.entities.PrizeEntity;
@@ -190,6 +196,46 @@ class PrizeServiceTest {
 		}
 	}
 
+	/**
+	 * Prueba para consultar una página de Prizes.
+	 */
+	@Test
+	void testGetPrizesPage() throws IllegalOperationException {
+		Page<PrizeEntity> page = prizeService.getPrizes(PageRequest.of(0, 2, Sort.by("id")));
+		assertEquals(2, page.getNumberOfElements());
+		assertEquals(prizeList.size(), page.getTotalElements());
+		assertEquals(prizeList.get(0).getId(), page.getContent().get(0).getId());
+		assertEquals(prizeList.get(1).getId(), page.getContent().get(1).getId());
+	}
+
+	/**
+	 * Prueba para consultar solo algunos campos de los Prizes.
+	 */
+	@Test
+	void testGetPrizeFields() throws IllegalOperationException {
+		Fields fields = Fields.parse(List.of("name"), PrizeDTO.FIELDS);
+		List<Map<String, Object>> rows = prizeService.getPrizeFields(fields);
+		assertEquals(prizeList.size(), rows.size());
+
+		Page<Map<String, Object>> page = prizeService.getPrizeFields(PageRequest.of(0, 2, Sort.by("id")), fields);
+		assertEquals(prizeList.size(), page.getTotalElements());
+		assertEquals(Map.of("id", prizeList.get(0).getId(), "name", prizeList.get(0).getName()),
+				page.getContent().get(0));
+		assertThrows(IllegalOperationException.class, () -> {
+			Fields.parse(List.of("organization"), PrizeDTO.FIELDS);
+		});
+	}
+
+	/**
+	 * Prueba para consultar una página de Prizes ordenada por un campo no permitido.
+	 */
+	@Test
+	void testGetPrizesPageInvalidSort() {
+		assertThrows(IllegalOperationException.class, () -> {
+			prizeService.getPrizes(PageRequest.of(0, 2, Sort.by("description")));
+		});
+	}
+
 	/**
 	 * Prueba para consultar un Prize.
 	 */
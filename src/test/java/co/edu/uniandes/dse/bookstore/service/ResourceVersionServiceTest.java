@@ -0,0 +1,241 @@
+/*
+MIT License
+
+Copyright (c) 2021 Universidad de los Andes - ISIS2603
+
+Permission is hereby granted, free of charge, to any person obtaining a copy
+of this software and associated documentation files (the "Software"), to deal
+in the Software without restriction, including without limitation the rights
+to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+copies of the Software, and to permit persons to whom the Software is
+furnished to do so, subject to the following conditions:
+
+The above copyright notice and this permission notice shall be included in all
+copies or substantial portions of the Software.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+SOFTWARE.
+*/
+package co.edu.uniandes.dse.bookstore.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import javax.transaction.Transactional;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+
+import co.edu.uniandes.dse.bookstore.entities.AuthorEntity;
+import co.edu.uniandes.dse.bookstore.entities.BookEntity;
+import co.edu.uniandes.dse.bookstore.entities.EditorialEntity;
+import co.edu.uniandes.dse.bookstore.entities.OrganizationEntity;
+import co.edu.uniandes.dse.bookstore.entities.PrizeEntity;
+import co.edu.uniandes.dse.bookstore.entities.ReviewEntity;
+import co.edu.uniandes.dse.bookstore.exceptions.EntityNotFoundException;
+import co.edu.uniandes.dse.bookstore.services.ResourceVersionService;
+import uk.co.jemos.podam.api.PodamFactory;
+import uk.co.jemos.podam.api.PodamFactoryImpl;
+
+/**
+ * Pruebas de las versiones agregadas de libros y autores
+ *
+ * @author ISIS2603
+ */
+@ExtendWith(SpringExtension.class)
+@DataJpaTest
+@Transactional
+@Import(ResourceVersionService.class)
+class ResourceVersionServiceTest {
+
+	@Autowired
+	private ResourceVersionService resourceVersionService;
+
+	@Autowired
+	private TestEntityManager entityManager;
+
+	private PodamFactory factory = new PodamFactoryImpl();
+
+	private EditorialEntity editorial;
+	private AuthorEntity author;
+	private BookEntity book;
+
+	/**
+	 * Configuración inicial de la prueba.
+	 */
+	@BeforeEach
+	void setUp() {
+		editorial = factory.manufacturePojo(EditorialEntity.class);
+		entityManager.persist(editorial);
+		author = factory.manufacturePojo(AuthorEntity.class);
+		entityManager.persist(author);
+		book = factory.manufacturePojo(BookEntity.class);
+		book.setEditorial(editorial);
+		book.setAuthors(new ArrayList<>(List.of(author)));
+		entityManager.persist(book);
+		entityManager.flush();
+	}
+
+	private ReviewEntity createReview() {
+		ReviewEntity review = factory.manufacturePojo(ReviewEntity.class);
+		review.setBook(book);
+		entityManager.persist(review);
+		entityManager.flush();
+		return review;
+	}
+
+	/**
+	 * Prueba que la versión de un libro empieza por la versión de la entidad y no
+	 * cambia mientras no cambien los datos.
+	 */
+	@Test
+	void testGetBookVersion() throws EntityNotFoundException {
+		String version = resourceVersionService.getBookVersion(book.getId());
+		assertTrue(version.startsWith(book.getVersion() + "-"));
+		assertEquals(version, resourceVersionService.getBookVersion(book.getId()));
+	}
+
+	/**
+	 * Prueba que la versión de un libro cambia con sus reseñas, sus autores y su
+	 * editorial.
+	 */
+	@Test
+	void testGetBookVersionWithRelations() throws EntityNotFoundException {
+		List<String> versions = new ArrayList<>();
+		versions.add(resourceVersionService.getBookVersion(book.getId()));
+
+		ReviewEntity review = createReview();
+		versions.add(resourceVersionService.getBookVersion(book.getId()));
+
+		review.setName(review.getName() + "!");
+		entityManager.flush();
+		versions.add(resourceVersionService.getBookVersion(book.getId()));
+
+		author.setName(author.getName() + "!");
+		entityManager.flush();
+		versions.add(resourceVersionService.getBookVersion(book.getId()));
+
+		editorial.setName(editorial.getName() + "!");
+		entityManager.flush();
+		versions.add(resourceVersionService.getBookVersion(book.getId()));
+
+		entityManager.remove(review);
+		entityManager.flush();
+		versions.add(resourceVersionService.getBookVersion(book.getId()));
+
+		assertEquals(versions.size(), versions.stream().distinct().count());
+	}
+
+	/**
+	 * Prueba para consultar la versión de un libro que no existe.
+	 */
+	@Test
+	void testGetInvalidBookVersion() {
+		assertThrows(EntityNotFoundException.class, () -> {
+			resourceVersionService.getBookVersion(0L);
+		});
+	}
+
+	/**
+	 * Prueba que la versión de un autor cambia con sus libros, sus premios y las
+	 * organizaciones de los premios.
+	 */
+	@Test
+	void testGetAuthorVersionWithRelations() throws EntityNotFoundException {
+		List<String> versions = new ArrayList<>();
+		versions.add(resourceVersionService.getAuthorVersion(author.getId()));
+
+		book.setName(book.getName() + "!");
+		entityManager.flush();
+		versions.add(resourceVersionService.getAuthorVersion(author.getId()));
+
+		OrganizationEntity organization = factory.manufacturePojo(OrganizationEntity.class);
+		entityManager.persist(organization);
+		PrizeEntity prize = factory.manufacturePojo(PrizeEntity.class);
+		prize.setOrganization(organization);
+		prize.setAuthor(author);
+		entityManager.persist(prize);
+		entityManager.flush();
+		versions.add(resourceVersionService.getAuthorVersion(author.getId()));
+
+		organization.setName(organization.getName() + "!");
+		entityManager.flush();
+		versions.add(resourceVersionService.getAuthorVersion(author.getId()));
+
+		book.getAuthors().remove(author);
+		entityManager.flush();
+		versions.add(resourceVersionService.getAuthorVersion(author.getId()));
+
+		assertEquals(versions.size(), versions.stream().distinct().count());
+	}
+
+	/**
+	 * Prueba para consultar la versión de un autor que no existe.
+	 */
+	@Test
+	void testGetInvalidAuthorVersion() {
+		assertThrows(EntityNotFoundException.class, () -> {
+			resourceVersionService.getAuthorVersion(0L);
+		});
+	}
+
+	/**
+	 * Prueba que la versión de las listas de libros cambia al crear, modificar o
+	 * borrar un libro o sus relaciones, incluida la tabla de asociación con los
+	 * autores.
+	 */
+	@Test
+	void testGetBooksVersion() {
+		List<String> versions = new ArrayList<>();
+		versions.add(resourceVersionService.getBooksVersion());
+		assertEquals(versions.get(0), resourceVersionService.getBooksVersion());
+
+		BookEntity other = factory.manufacturePojo(BookEntity.class);
+		other.setEditorial(editorial);
+		entityManager.persist(other);
+		entityManager.flush();
+		versions.add(resourceVersionService.getBooksVersion());
+
+		book.getAuthors().remove(author);
+		entityManager.flush();
+		versions.add(resourceVersionService.getBooksVersion());
+
+		createReview();
+		versions.add(resourceVersionService.getBooksVersion());
+
+		entityManager.remove(other);
+		entityManager.flush();
+		versions.add(resourceVersionService.getBooksVersion());
+
+		assertEquals(versions.size(), versions.stream().distinct().count());
+	}
+
+	/**
+	 * Prueba que la versión de las listas de autores cambia al modificar un autor
+	 * o uno de sus libros.
+	 */
+	@Test
+	void testGetAuthorsVersion() {
+		String version = resourceVersionService.getAuthorsVersion();
+		author.setName(author.getName() + "!");
+		entityManager.flush();
+		String updated = resourceVersionService.getAuthorsVersion();
+		book.setName(book.getName() + "!");
+		entityManager.flush();
+		assertNotEquals(version, updated);
+		assertNotEquals(updated, resourceVersionService.getAuthorsVersion());
+	}
+}
@@ -37,11 +37,15 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
 import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
 import org.springframework.context.annotation.Import;
+import org.springframework.test.context.event.ApplicationEvents;
+import org.springframework.test.context.event.RecordApplicationEvents;
 import org.springframework.test.context.junit.jupiter.SpringExtension;
 
 import co.edu.uniandes.dse.bookstore.entities.BookEntity;
+import co.edu.uniandes.dse.bookstore.events.BookChangedEvent;
 import co.edu.uniandes.dse.bookstore.entities.ReviewEntity;
 import co.edu.uniandes.dse.bookstore.exceptions.EntityNotFoundException;
+import co.edu.uniandes.dse.bookstore.exceptions.IllegalOperationException;
 import co.edu.uniandes.dse.bookstore.services.ReviewService;
 import uk.co.jemos.podam.api.PodamFactory;
 import uk.co.jemos.podam.api.PodamFactoryImpl;
@@ -55,6 +59,7 @@ import uk.co.jemos.podam.api.PodamFactoryImpl;
 @DataJpaTest
 @Transactional
 @Import(ReviewService.class)
+@RecordApplicationEvents
 class ReviewServiceTest {
 
 	@Autowired
@@ -63,6 +68,9 @@ class ReviewServiceTest {
 	@Autowired
 	private TestEntityManager entityManager;
 
+	@Autowired
+	private ApplicationEvents applicationEvents;
+
 	private PodamFactory factory = new PodamFactoryImpl();
 
 	private List<ReviewEntity> reviewList = new ArrayList<>();
@@ -158,6 +166,28 @@ class ReviewServiceTest {
 		});
 	}
 
+	/**
+	 * Prueba para consultar varios Reviews de un libro por id. Las reseñas de
+	 * otro libro no se devuelven.
+	 */
+	@Test
+	void testGetReviewsById() throws EntityNotFoundException, IllegalOperationException {
+		BookEntity otherBook = factory.manufacturePojo(BookEntity.class);
+		entityManager.persist(otherBook);
+		ReviewEntity otherReview = factory.manufacturePojo(ReviewEntity.class);
+		otherReview.setBook(otherBook);
+		entityManager.persist(otherReview);
+
+		Long first = reviewList.get(0).getId();
+		Long last = reviewList.get(2).getId();
+		List<ReviewEntity> list = reviewService.getReviewsById(bookEntity.getId(),
+				List.of(last, otherReview.getId(), first));
+		assertEquals(2, list.size());
+		assertEquals(last, list.get(0).getId());
+		assertEquals(first, list.get(1).getId());
+		assertThrows(EntityNotFoundException.class, () -> reviewService.getReviewsById(0L, List.of(first)));
+	}
+
 	/**
 	 * Prueba para consultar un Review.
 	 */
@@ -249,6 +279,16 @@ class ReviewServiceTest {
 		assertNull(deleted);
 	}
 	
+	/**
+	 * Prueba que eliminar un Review publique el evento de cambio de su Book.
+	 */
+	@Test
+	void testDeleteReviewPublishesEvent() throws EntityNotFoundException {
+		reviewService.deleteReview(bookEntity.getId(), reviewList.get(0).getId());
+		assertTrue(applicationEvents.stream(BookChangedEvent.class)
+				.anyMatch(event -> event.getBookIds().contains(bookEntity.getId())));
+	}
+
 	/**
      * Prueba para eliminar un Review de un libro que no existe.
      */
@@ -0,0 +1,194 @@
+/*
+MIT License
+
+Copyright (c) 2021 Universidad de los Andes - ISIS2603
+
+Permission is hereby granted, free of charge, to any person obtaining a copy
+of this software and associated documentation files (the "Software"), to deal
+in the Software without restriction, including without limitation the rights
+to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+copies of the Software, and to permit persons to whom the Software is
+furnished to do so, subject to the following conditions:
+
+The above copyright notice and this permission notice shall be included in all
+copies or substantial portions of the Software.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+SOFTWARE.
+*/
+package co.edu.uniandes.dse.bookstore.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import javax.transaction.Transactional;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+
+import co.edu.uniandes.dse.bookstore.entities.AuthorEntity;
+import co.edu.uniandes.dse.bookstore.entities.EditorialEntity;
+import co.edu.uniandes.dse.bookstore.exceptions.IllegalOperationException;
+import co.edu.uniandes.dse.bookstore.search.NameSuggestionIndex;
+import co.edu.uniandes.dse.bookstore.search.NameSuggestionIndex.Suggestion;
+import co.edu.uniandes.dse.bookstore.services.SuggestionService;
+import uk.co.jemos.podam.api.PodamFactory;
+import uk.co.jemos.podam.api.PodamFactoryImpl;
+
+/**
+ * Pruebas del autocompletado de autores y editoriales
+ *
+ * @author ISIS2603
+ */
+@ExtendWith(SpringExtension.class)
+@DataJpaTest
+@Transactional
+@Import({ SuggestionService.class, NameSuggestionIndex.class })
+class SuggestionServiceTest {
+
+	@Autowired
+	private SuggestionService suggestionService;
+
+	@Autowired
+	private TestEntityManager entityManager;
+
+	private PodamFactory factory = new PodamFactoryImpl();
+
+	private AuthorEntity garcia;
+	private AuthorEntity gabriela;
+	private AuthorEntity king;
+	private EditorialEntity planeta;
+
+	/**
+	 * Configuración inicial de la prueba.
+	 */
+	@BeforeEach
+	void setUp() {
+		garcia = createAuthor("Gabriel García Márquez");
+		gabriela = createAuthor("Gabriela Mistral");
+		king = createAuthor("Stephen King");
+
+		planeta = factory.manufacturePojo(EditorialEntity.class);
+		planeta.setName("Planeta");
+		entityManager.persist(planeta);
+
+		suggestionService.rebuildIndex();
+	}
+
+	private AuthorEntity createAuthor(String name) {
+		AuthorEntity author = factory.manufacturePojo(AuthorEntity.class);
+		author.setName(name);
+		entityManager.persist(author);
+		return author;
+	}
+
+	private List<Long> ids(List<Suggestion> suggestions) {
+		return suggestions.stream().map(Suggestion::getId).collect(Collectors.toList());
+	}
+
+	/**
+	 * Prueba para sugerir autores por el inicio de su nombre.
+	 */
+	@Test
+	void testSuggestAuthors() throws IllegalOperationException {
+		assertEquals(List.of(garcia.getId(), gabriela.getId()), ids(suggestionService.suggestAuthors("GAB", 10)));
+		assertEquals(List.of(gabriela.getId()), ids(suggestionService.suggestAuthors("gabriela", 10)));
+		assertEquals("Stephen King", suggestionService.suggestAuthors("ste", 10).get(0).getName());
+	}
+
+	/**
+	 * Prueba para sugerir autores por el inicio de otra palabra del nombre, sin
+	 * tildes.
+	 */
+	@Test
+	void testSuggestAuthorsByWord() throws IllegalOperationException {
+		assertEquals(List.of(garcia.getId()), ids(suggestionService.suggestAuthors("marq", 10)));
+		assertEquals(List.of(garcia.getId()), ids(suggestionService.suggestAuthors("garcia m", 10)));
+	}
+
+	/**
+	 * Prueba que los nombres que empiezan por el prefijo vayan antes que los que
+	 * lo tienen en otra palabra.
+	 */
+	@Test
+	void testSuggestAuthorsOrder() throws IllegalOperationException {
+		AuthorEntity kingsley = createAuthor("Kingsley Amis");
+		suggestionService.reindexAuthors(Set.of(kingsley.getId()));
+		assertEquals(List.of(kingsley.getId(), king.getId()), ids(suggestionService.suggestAuthors("king", 10)));
+		assertEquals(List.of(kingsley.getId()), ids(suggestionService.suggestAuthors("king", 1)));
+	}
+
+	/**
+	 * Prueba para sugerir editoriales.
+	 */
+	@Test
+	void testSuggestEditorials() throws IllegalOperationException {
+		assertEquals(List.of(planeta.getId()), ids(suggestionService.suggestEditorials("pla", 10)));
+		assertTrue(suggestionService.suggestEditorials("gab", 10).isEmpty());
+	}
+
+	/**
+	 * Prueba que el índice se actualice cuando cambia o se borra un autor.
+	 */
+	@Test
+	void testReindexAuthors() throws IllegalOperationException {
+		AuthorEntity renamed = entityManager.find(AuthorEntity.class, king.getId());
+		renamed.setName("Richard Bachman");
+		entityManager.flush();
+		suggestionService.reindexAuthors(Set.of(king.getId()));
+		assertTrue(suggestionService.suggestAuthors("stephen", 10).isEmpty());
+		assertEquals(List.of(king.getId()), ids(suggestionService.suggestAuthors("bach", 10)));
+
+		entityManager.remove(renamed);
+		entityManager.flush();
+		suggestionService.reindexAuthors(Set.of(king.getId()));
+		assertTrue(suggestionService.suggestAuthors("bach", 10).isEmpty());
+	}
+
+	/**
+	 * Prueba que el índice se actualice cuando cambia una editorial.
+	 */
+	@Test
+	void testReindexEditorials() throws IllegalOperationException {
+		EditorialEntity renamed = entityManager.find(EditorialEntity.class, planeta.getId());
+		renamed.setName("Alfaguara");
+		entityManager.flush();
+		suggestionService.reindexEditorials(Set.of(planeta.getId()));
+		assertTrue(suggestionService.suggestEditorials("pla", 10).isEmpty());
+		assertEquals(List.of(planeta.getId()), ids(suggestionService.suggestEditorials("alfa", 10)));
+	}
+
+	/**
+	 * Prueba para sugerir con un prefijo sin letras.
+	 */
+	@Test
+	void testSuggestInvalidPrefix() {
+		assertThrows(IllegalOperationException.class, () -> {
+			suggestionService.suggestAuthors("  ", 10);
+		});
+	}
+
+	/**
+	 * Prueba para sugerir con un límite inválido.
+	 */
+	@Test
+	void testSuggestInvalidLimit() {
+		assertThrows(IllegalOperationException.class, () -> {
+			suggestionService.suggestEditorials("pla", 101);
+		});
+	}
+}